@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (Duration.java) is part of project Time4J.
  *
@@ -21,6 +21,7 @@
 
 package net.time4j;
 
+import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
 import net.time4j.engine.AbstractDuration;
 import net.time4j.engine.AbstractMetric;
@@ -51,7 +52,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 import static net.time4j.CalendarUnit.*;
 import static net.time4j.ClockUnit.*;
@@ -150,6 +150,26 @@ public final class Duration<U extends IsoUnit>
     private static final long MRD = 1000000000L;
     private static final long MIO = 1000000L;
 
+    // kompakte Darstellung: Slots für alle Kalendereinheiten (nach Ordinalzahl) und HOURS, MINUTES, SECONDS, NANOS
+    static final int SLOT_HOURS = 8;
+    static final int SLOT_MINUTES = 9;
+    static final int SLOT_SECONDS = 10;
+    static final int SLOT_NANOS = 11;
+    static final int SLOT_COUNT = 12;
+    private static final IsoUnit[] SLOT_UNITS;
+
+    static {
+        IsoUnit[] units = new IsoUnit[SLOT_COUNT];
+        for (CalendarUnit unit : CalendarUnit.values()) {
+            units[unit.ordinal()] = unit;
+        }
+        units[SLOT_HOURS] = HOURS;
+        units[SLOT_MINUTES] = MINUTES;
+        units[SLOT_SECONDS] = SECONDS;
+        units[SLOT_NANOS] = NANOS;
+        SLOT_UNITS = units;
+    }
+
     @SuppressWarnings("rawtypes")
     private static final Duration ZERO = new Duration();
 
@@ -260,10 +280,16 @@ public final class Duration<U extends IsoUnit>
     private static final int PRINT_STYLE_XML = 2;
     private static final long serialVersionUID = -6321211763598951499L;
 
+    private static final int YMD_METRIC_TYPE = 0;
+    private static final int CLOCK_METRIC_TYPE = 1;
+    private static final int DAYS_METRIC_TYPE = 2;
+
     private static final TimeMetric<CalendarUnit, Duration<CalendarUnit>> YMD_METRIC =
-        Duration.in(YEARS, MONTHS, DAYS);
+        new FastMetric<>(YMD_METRIC_TYPE, Arrays.asList(YEARS, MONTHS, DAYS));
     private static final TimeMetric<ClockUnit, Duration<ClockUnit>> CLOCK_METRIC =
-        Duration.in(HOURS, MINUTES, SECONDS, NANOS);
+        new FastMetric<>(CLOCK_METRIC_TYPE, Arrays.asList(HOURS, MINUTES, SECONDS, NANOS));
+    private static final TimeMetric<CalendarUnit, Duration<CalendarUnit>> DAYS_METRIC =
+        new FastMetric<>(DAYS_METRIC_TYPE, Collections.singletonList(DAYS));
     private static final TimeMetric<IsoDateUnit, Duration<IsoDateUnit>> WEEK_BASED_METRIC =
         Duration.in(CalendarUnit.weekBasedYears(), WEEKS, DAYS);
 
@@ -274,7 +300,10 @@ public final class Duration<U extends IsoUnit>
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private transient final List<Item<U>> items;
+    // nur bei kompakter Darstellung vorhanden, sonst null (Betrag 0 = Einheit nicht enthalten)
+    private transient final long[] slots;
+    // bei kompakter Darstellung erst bei Bedarf erzeugt
+    private transient volatile List<Item<U>> items;
     private transient final boolean negative;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -296,15 +325,35 @@ public final class Duration<U extends IsoUnit>
 
         if (empty) {
             this.items = Collections.emptyList();
+            this.slots = null;
         } else {
             items.sort(ITEM_COMPARATOR);
             this.items = Collections.unmodifiableList(items);
+            this.slots = toSlots(items);
         }
 
         this.negative = (!empty && negative);
 
     }
 
+    /**
+     * Konstruktor f&uuml;r die kompakte Darstellung.
+     *
+     * @param   slots           amounts indexed by slot (at least one amount must be positive)
+     * @param   negative        negative duration indicated?
+     */
+    private Duration(
+        long[] slots,
+        boolean negative
+    ) {
+        super();
+
+        this.slots = slots;
+        this.items = null;
+        this.negative = negative;
+
+    }
+
     // Kopiekonstruktor (siehe inverse())
     private Duration(
         Duration<U> duration,
@@ -312,6 +361,7 @@ public final class Duration<U extends IsoUnit>
     ) {
         super();
 
+        this.slots = duration.slots;
         this.items = duration.items;
         this.negative = (inverse != duration.negative);
 
@@ -321,6 +371,7 @@ public final class Duration<U extends IsoUnit>
     private Duration() {
         super();
 
+        this.slots = null;
         this.items = Collections.emptyList();
         this.negative = false;
 
@@ -825,6 +876,10 @@ public final class Duration<U extends IsoUnit>
     @SafeVarargs
     public static <U extends IsoUnit> TimeMetric<U, Duration<U>> in(U... units) {
 
+        if ((units.length == 1) && (units[0] == DAYS)) {
+            return cast(DAYS_METRIC);
+        }
+
         return new Metric<>(units);
 
     }
@@ -853,6 +908,10 @@ public final class Duration<U extends IsoUnit>
      */
     public static <U extends IsoUnit> TimeMetric<U, Duration<U>> in(Collection<? extends U> units) {
 
+        if ((units.size() == 1) && units.contains(DAYS)) {
+            return cast(DAYS_METRIC);
+        }
+
         return new Metric<>(units);
 
     }
@@ -1019,7 +1078,21 @@ public final class Duration<U extends IsoUnit>
     @Override
     public List<Item<U>> getTotalLength() {
 
-        return this.items;
+        List<Item<U>> list = this.items;
+
+        if (list == null) {
+            list = toItems(this.slots);
+            this.items = list;
+        }
+
+        return list;
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return ((this.slots == null) && super.isEmpty());
 
     }
 
@@ -1062,8 +1135,15 @@ public final class Duration<U extends IsoUnit>
 
         boolean fractional = isFractionUnit(unit);
 
-        for (int i = 0, n = this.items.size(); i < n; i++) {
-            Item<U> item = this.items.get(i);
+        if (this.slots != null) {
+            int index = (fractional ? SLOT_NANOS : slotIndex(unit));
+            return ((index >= 0) && (this.slots[index] > 0));
+        }
+
+        List<Item<U>> list = this.getTotalLength();
+
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Item<U> item = list.get(i);
             U u = item.getUnit();
 
             if (
@@ -1114,8 +1194,18 @@ public final class Duration<U extends IsoUnit>
 
         boolean fractional = isFractionUnit(unit);
 
-        for (int i = 0, n = this.items.size(); i < n; i++) {
-            Item<U> item = this.items.get(i);
+        if (this.slots != null) {
+            if (fractional) {
+                return convertFraction(this.slots[SLOT_NANOS], NANOS, unit);
+            }
+            int index = slotIndex(unit);
+            return ((index >= 0) ? this.slots[index] : 0);
+        }
+
+        List<Item<U>> list = this.getTotalLength();
+
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Item<U> item = list.get(i);
             U u = item.getUnit();
 
             if (u.equals(unit)) {
@@ -1124,19 +1214,7 @@ public final class Duration<U extends IsoUnit>
                 fractional
                 && isFractionUnit(u)
             ) {
-                int d1 = u.getSymbol() - '0';
-                int d2 = unit.getSymbol() - '0';
-                int factor = 1;
-
-                for (int j = 0, m = Math.abs(d1 - d2); j < m; j++) {
-                    factor *= 10;
-                }
-
-                if (d1 >= d2) {
-                    return item.getAmount() / factor;
-                } else {
-                    return item.getAmount() * factor;
-                }
+                return convertFraction(item.getAmount(), u, unit);
             }
         }
 
@@ -1320,7 +1398,6 @@ public final class Duration<U extends IsoUnit>
         }
 
         // Millis und Micros ersetzen
-        List<Item<U>> temp = new ArrayList<>(this.getTotalLength());
         Item<U> item = replaceFraction(amount, unit);
 
         if (item != null) {
@@ -1328,6 +1405,39 @@ public final class Duration<U extends IsoUnit>
             unit = item.getUnit();
         }
 
+        if (this.slots != null) {
+            int index = slotIndex(unit);
+
+            if (index >= 0) {
+                long[] copy = this.slots.clone();
+                long current = copy[index];
+
+                if (current == 0) {
+                    if (this.negative == negatedValue) {
+                        copy[index] = amount;
+                        return new Duration<>(copy, this.negative);
+                    }
+                } else {
+                    long sum =
+                        MathUtils.safeAdd(
+                            (this.negative ? -current : current),
+                            (negatedValue ? -amount : amount));
+
+                    if (sum == 0) {
+                        copy[index] = 0;
+                        return ofSlots(copy, this.negative);
+                    } else if ((this.count() == 1) || (this.negative == (sum < 0))) {
+                        copy[index] = ((sum < 0) ? MathUtils.safeNegate(sum) : sum);
+                        return new Duration<>(copy, (sum < 0));
+                    }
+                }
+
+                return this.plus(Duration.of(originalAmount, originalUnit)); // mixed signs possible => last try
+            }
+        }
+
+        List<Item<U>> temp = new ArrayList<>(this.getTotalLength());
+
         if (this.isEmpty()) {
             temp.add((item == null) ? Item.of(amount, unit) : item);
             return new Duration<>(temp, negatedValue);
@@ -1698,8 +1808,18 @@ public final class Duration<U extends IsoUnit>
             return new Duration<>(this, true);
         }
 
-        List<Item<U>> newItems = new ArrayList<>(this.count());
         int scalar = Math.abs(factor);
+        boolean neg = ((factor < 0) != this.isNegative());
+
+        if (this.slots != null) {
+            long[] products = new long[SLOT_COUNT];
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                products[i] = MathUtils.safeMultiply(this.slots[i], scalar);
+            }
+            return new Duration<>(products, neg);
+        }
+
+        List<Item<U>> newItems = new ArrayList<>(this.count());
 
         for (int i = 0, n = this.count(); i < n; i++) {
             Item<U> item = this.getTotalLength().get(i);
@@ -1711,10 +1831,7 @@ public final class Duration<U extends IsoUnit>
             );
         }
 
-        return new Duration<>(
-            newItems,
-            ((factor < 0) != this.isNegative())
-        );
+        return new Duration<>(newItems, neg);
 
     }
 
@@ -1866,7 +1983,7 @@ public final class Duration<U extends IsoUnit>
 
         List<Item<CalendarUnit>> calItems = new ArrayList<>();
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (item.getUnit() instanceof CalendarUnit) {
                 calItems.add(Item.of(item.getAmount(), CalendarUnit.class.cast(item.getUnit())));
             }
@@ -1911,7 +2028,7 @@ public final class Duration<U extends IsoUnit>
 
         List<Item<ClockUnit>> clockItems = new ArrayList<>();
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (item.getUnit() instanceof ClockUnit) {
                 clockItems.add(Item.of(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
             }
@@ -1957,7 +2074,7 @@ public final class Duration<U extends IsoUnit>
         List<Item<ClockUnit>> clockItems = new ArrayList<>();
         long extraHours = 0L;
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (item.getUnit() instanceof ClockUnit) {
                 clockItems.add(Item.of(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
             } else if (item.getUnit().equals(CalendarUnit.DAYS)) {
@@ -2135,7 +2252,7 @@ public final class Duration<U extends IsoUnit>
         double min = unit.getLength();
         List<Item<U>> newItems = new ArrayList<>();
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (Double.compare(item.getUnit().getLength(), min) >= 0) {
                 newItems.add(item);
             } else {
@@ -2349,7 +2466,10 @@ public final class Duration<U extends IsoUnit>
     /**
      * <p>Helps to sum up durations of a stream. </p>
      *
-     * <p>Note: A normalization of the result is not yet done. </p>
+     * <p>Note: A normalization of the result is not yet done. Durations with calendar units or
+     * the clock units hours, minutes, seconds and nanoseconds are summed up in a primitive
+     * accumulator without intermediate objects (the result is the same as sequentially applying
+     * {@link #plus(TimeSpan)}). </p>
      *
      * <p>Example for summing up a list of durations and final normalization: </p>
      *
@@ -2373,7 +2493,10 @@ public final class Duration<U extends IsoUnit>
     /*[deutsch]
      * <p>Hilft, Dauer-Objekte in einem {@code Stream} aufzusummieren. </p>
      *
-     * <p>Hinweis: Eine Normalisierung des Ergebnis wird noch nicht gemacht. </p>
+     * <p>Hinweis: Eine Normalisierung des Ergebnis wird noch nicht gemacht. Dauern mit
+     * Kalendereinheiten oder den Uhrzeiteinheiten Stunden, Minuten, Sekunden und Nanosekunden
+     * werden in einem primitiven Akkumulator ohne Zwischenobjekte aufsummiert (das Ergebnis ist
+     * dasselbe wie bei sequentieller Anwendung von {@link #plus(TimeSpan)}). </p>
      *
      * <p>Beispiel f&uuml;r die Aufsummierung einer Dauerliste und abschlie&szlig;enden Normalisierung: </p>
      *
@@ -2396,7 +2519,12 @@ public final class Duration<U extends IsoUnit>
      */
     public static <U extends IsoUnit> Collector<Duration<U>, ?, Duration<U>> summingUp() {
 
-        return Collectors.reducing(Duration.ofZero(), Duration::plus);
+        return Collector.<Duration<U>, Summation<U>, Duration<U>>of(
+            Summation::new,
+            Summation::add,
+            Summation::combine,
+            Summation::result
+        );
 
     }
 
@@ -2426,10 +2554,12 @@ public final class Duration<U extends IsoUnit>
             return true;
         } else if (obj instanceof Duration) {
             Duration<?> that = Duration.class.cast(obj);
-            return (
-                (this.negative == that.negative)
-                && this.getTotalLength().equals(that.getTotalLength())
-            );
+            if (this.negative != that.negative) {
+                return false;
+            } else if ((this.slots != null) && (that.slots != null)) {
+                return Arrays.equals(this.slots, that.slots);
+            }
+            return this.getTotalLength().equals(that.getTotalLength());
         } else {
             return false;
         }
@@ -2446,7 +2576,20 @@ public final class Duration<U extends IsoUnit>
     @Override
     public int hashCode() {
 
-        int hash = this.getTotalLength().hashCode();
+        int hash;
+
+        if (this.slots == null) {
+            hash = this.getTotalLength().hashCode();
+        } else { // dasselbe Ergebnis wie List.hashCode() der Elemente
+            hash = 1;
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                long amount = this.slots[i];
+                if (amount != 0) {
+                    int h = 29 * SLOT_UNITS[i].hashCode() + (int) (amount ^ (amount >>> 32));
+                    hash = 31 * hash + h;
+                }
+            }
+        }
 
         if (this.negative) {
             hash ^= hash;
@@ -3072,8 +3215,134 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    // Umrechnung zwischen Sekundenbruchteilen
+    private static long convertFraction(
+        long amount,
+        IsoUnit u,
+        IsoUnit unit
+    ) {
+
+        int d1 = u.getSymbol() - '0';
+        int d2 = unit.getSymbol() - '0';
+        int factor = 1;
+
+        for (int j = 0, m = Math.abs(d1 - d2); j < m; j++) {
+            factor *= 10;
+        }
+
+        if (d1 >= d2) {
+            return amount / factor;
+        } else {
+            return amount * factor;
+        }
+
+    }
+
+    /**
+     * <p>Erzeugt eine Dauer in kompakter Darstellung. </p>
+     *
+     * @param   slots       amounts indexed by slot (will not be copied)
+     * @param   negative    negative duration indicated?
+     * @return  new duration (or zero if all amounts are zero)
+     */
+    static <U extends IsoUnit> Duration<U> ofSlots(
+        long[] slots,
+        boolean negative
+    ) {
+
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if (slots[i] != 0) {
+                return new Duration<>(slots, negative);
+            }
+        }
+
+        return ofZero();
+
+    }
+
+    /**
+     * <p>Liefert die Betr&auml;ge der kompakten Darstellung, falls vorhanden. </p>
+     *
+     * @return  array of amounts indexed by slot or {@code null} (must not be modified)
+     */
+    long[] getSlots() {
+
+        return this.slots;
+
+    }
+
+    /**
+     * <p>Bestimmt die Position einer Zeiteinheit in der kompakten Darstellung. </p>
+     *
+     * @param   unit        time unit
+     * @return  slot index or {@code -1} if given unit has no slot
+     */
+    static int slotIndex(ChronoUnit unit) {
+
+        if (unit instanceof CalendarUnit) {
+            return CalendarUnit.class.cast(unit).ordinal();
+        } else if (unit == HOURS) {
+            return SLOT_HOURS;
+        } else if (unit == MINUTES) {
+            return SLOT_MINUTES;
+        } else if (unit == SECONDS) {
+            return SLOT_SECONDS;
+        } else if (unit == NANOS) {
+            return SLOT_NANOS;
+        } else {
+            return -1;
+        }
+
+    }
+
+    // null, wenn keine kompakte Darstellung möglich ist
+    private static <U extends IsoUnit> long[] toSlots(List<Item<U>> items) {
+
+        long[] slots = new long[SLOT_COUNT];
+
+        for (int i = 0, n = items.size(); i < n; i++) {
+            Item<U> item = items.get(i);
+            int index = slotIndex(item.getUnit());
+
+            if ((index < 0) || (item.getAmount() == 0) || (slots[index] != 0)) {
+                return null;
+            }
+
+            slots[index] = item.getAmount();
+        }
+
+        return slots;
+
+    }
+
+    // Slot-Reihenfolge = absteigende Länge der Einheiten
+    @SuppressWarnings("unchecked")
+    private static <U extends IsoUnit> List<Item<U>> toItems(long[] slots) {
+
+        List<Item<U>> list = new ArrayList<>(4);
+
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if (slots[i] != 0) {
+                list.add(Item.of(slots[i], (U) SLOT_UNITS[i]));
+            }
+        }
+
+        return Collections.unmodifiableList(list);
+
+    }
+
     private int count() {
 
+        if (this.slots != null) {
+            int n = 0;
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                if (this.slots[i] != 0) {
+                    n++;
+                }
+            }
+            return n;
+        }
+
         return this.getTotalLength().size();
 
     }
@@ -3207,6 +3476,18 @@ public final class Duration<U extends IsoUnit>
             }
         }
 
+        if ((duration.slots != null) && (timespan instanceof Duration)) {
+            Duration<?> other = Duration.class.cast(timespan);
+
+            if ((other.slots != null) && (duration.negative == other.negative)) {
+                long[] sums = new long[SLOT_COUNT];
+                for (int i = 0; i < SLOT_COUNT; i++) {
+                    sums[i] = MathUtils.safeAdd(duration.slots[i], other.slots[i]);
+                }
+                return new Duration<>(sums, duration.negative);
+            }
+        }
+
         Map<U, Long> map = new HashMap<>();
 
         for (int i = 0, n = duration.count(); i < n; i++) {
@@ -4990,6 +5271,260 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    /**
+     * <p>Spezialisierte Metrik f&uuml;r die h&auml;ufigen Standardmetriken in Jahren, Monaten und Tagen,
+     * in Uhrzeiteinheiten oder nur in Tagen. </p>
+     *
+     * <p>Angewandt auf {@code PlainDate}, {@code PlainTime} oder {@code PlainTimestamp} wird das Ergebnis
+     * direkt aus Epochentagen und Tageszeiten berechnet, ohne Zwischenzeitpunkte zu erzeugen. Das Ergebnis
+     * ist dasselbe wie das der allgemeinen Metrik, auf die in allen anderen F&auml;llen zur&uuml;ckgegriffen
+     * wird. </p>
+     */
+    private static class FastMetric<U extends IsoUnit>
+        extends Metric<U> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int type;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private FastMetric(
+            int type,
+            List<U> units
+        ) {
+            super(units);
+
+            this.type = type;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public <T extends TimePoint<? super U, T>> Duration<U> between(
+            T start,
+            T end
+        ) {
+
+            if ((start instanceof PlainTimestamp) && (end instanceof PlainTimestamp)) {
+                PlainTimestamp t1 = PlainTimestamp.class.cast(start);
+                PlainTimestamp t2 = PlainTimestamp.class.cast(end);
+                return this.between(
+                    t1.getCalendarDate(), nanoOfDay(t1.getWallTime()),
+                    t2.getCalendarDate(), nanoOfDay(t2.getWallTime()));
+            } else if (this.type == CLOCK_METRIC_TYPE) {
+                if ((start instanceof PlainTime) && (end instanceof PlainTime)) {
+                    return this.between(
+                        null, nanoOfDay(PlainTime.class.cast(start)),
+                        null, nanoOfDay(PlainTime.class.cast(end)));
+                }
+            } else if ((start instanceof PlainDate) && (end instanceof PlainDate)) {
+                return this.between(PlainDate.class.cast(start), 0L, PlainDate.class.cast(end), 0L);
+            }
+
+            return super.between(start, end);
+
+        }
+
+        // date is null for pure clock times
+        private Duration<U> between(
+            PlainDate date1,
+            long nanoOfDay1,
+            PlainDate date2,
+            long nanoOfDay2
+        ) {
+
+            int c = ((date1 == null) ? 0 : date1.compareTo(date2));
+
+            if (c == 0) {
+                c = Long.compare(nanoOfDay1, nanoOfDay2);
+            }
+
+            if (c == 0) {
+                return this.createEmptyTimeSpan();
+            }
+
+            boolean negative = (c > 0);
+
+            if (negative) {
+                PlainDate d = date1;
+                date1 = date2;
+                date2 = d;
+                long n = nanoOfDay1;
+                nanoOfDay1 = nanoOfDay2;
+                nanoOfDay2 = n;
+            }
+
+            long[] slots = new long[SLOT_COUNT];
+            boolean timeAfter = (nanoOfDay1 > nanoOfDay2);
+
+            switch (this.type) {
+                case YMD_METRIC_TYPE: {
+                    long em1 = date1.getEpochMonths();
+                    int dom1 = date1.getDayOfMonth();
+                    long months = date2.getEpochMonths() - em1;
+                    if ((months > 0) && (date2.getDayOfMonth() < dom1)) {
+                        months--;
+                    }
+                    long mjd = mjdAfterMonths(em1, dom1, months);
+                    long mjd2 = GregorianMath.toMJD(date2);
+                    if ((months > 0) && (mjd == mjd2) && timeAfter) {
+                        months--;
+                        mjd = mjdAfterMonths(em1, dom1, months);
+                    }
+                    long days = mjd2 - mjd;
+                    if ((days > 0) && timeAfter) {
+                        days--;
+                    }
+                    add(slots, YEARS.ordinal(), months / 12);
+                    add(slots, MONTHS.ordinal(), months % 12);
+                    add(slots, DAYS.ordinal(), days);
+                    break;
+                }
+                case DAYS_METRIC_TYPE: {
+                    long days = GregorianMath.toMJD(date2) - GregorianMath.toMJD(date1);
+                    if ((days > 0) && timeAfter) {
+                        days--;
+                    }
+                    add(slots, DAYS.ordinal(), days);
+                    break;
+                }
+                default: {
+                    long secs = Math.floorDiv(nanoOfDay2, MRD) - Math.floorDiv(nanoOfDay1, MRD);
+                    if (date1 != null) {
+                        long days = GregorianMath.toMJD(date2) - GregorianMath.toMJD(date1);
+                        secs = Math.addExact(Math.multiplyExact(days, 86400L), secs);
+                    }
+                    int nano1 = (int) Math.floorMod(nanoOfDay1, MRD);
+                    int nano2 = (int) Math.floorMod(nanoOfDay2, MRD);
+                    if (nano1 > nano2) {
+                        secs--;
+                        nano2 += MRD;
+                    }
+                    add(slots, SLOT_HOURS, secs / 3600);
+                    add(slots, SLOT_MINUTES, (secs / 60) % 60);
+                    add(slots, SLOT_SECONDS, secs % 60);
+                    add(slots, SLOT_NANOS, nano2 - nano1);
+                }
+            }
+
+            return ofSlots(slots, negative);
+
+        }
+
+        private static void add(
+            long[] slots,
+            int index,
+            long amount
+        ) {
+
+            if (amount > 0) {
+                slots[index] = amount;
+            }
+
+        }
+
+        private static long mjdAfterMonths(
+            long epochMonths,
+            int dayOfMonth,
+            long months
+        ) {
+
+            long em = epochMonths + months;
+            int year = MathUtils.safeCast(Math.floorDiv(em, 12) + 1970);
+            int month = (int) Math.floorMod(em, 12) + 1;
+            int dom = Math.min(dayOfMonth, GregorianMath.getLengthOfMonth(year, month));
+            return GregorianMath.toMJD(year, month, dom);
+
+        }
+
+        private static long nanoOfDay(PlainTime time) {
+
+            return (
+                (time.getHour() * 3600L + time.getMinute() * 60 + time.getSecond()) * MRD
+                + time.getNanosecond());
+
+        }
+
+    }
+
+    /**
+     * <p>Ver&auml;nderlicher Akkumulator f&uuml;r {@code summingUp()}. </p>
+     *
+     * <p>Solange nur Dauern in kompakter Darstellung mit gleichem Vorzeichen anfallen, werden die
+     * Betr&auml;ge direkt addiert. Sonst wird auf die allgemeine Addition umgeschaltet. </p>
+     */
+    private static class Summation<U extends IsoUnit> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long[] sums = new long[SLOT_COUNT];
+        private boolean empty = true;
+        private boolean negative = false;
+        private Duration<U> generic = null; // null = kompakter Modus
+
+        //~ Methoden ------------------------------------------------------
+
+        void add(Duration<U> duration) {
+
+            if (this.generic == null) {
+                long[] slots = duration.slots;
+
+                if (slots == null) {
+                    if (duration.isEmpty()) {
+                        return;
+                    }
+                } else if (this.empty || (duration.negative == this.negative)) {
+                    for (int i = 0; i < SLOT_COUNT; i++) {
+                        this.sums[i] = MathUtils.safeAdd(this.sums[i], slots[i]);
+                    }
+                    this.empty = false;
+                    this.negative = duration.negative;
+                    return;
+                }
+
+                this.generic = this.result();
+            }
+
+            this.generic = this.generic.plus(duration);
+
+        }
+
+        Summation<U> combine(Summation<U> other) {
+
+            if ((this.generic == null) && (other.generic == null)) {
+                if (other.empty) {
+                    return this;
+                } else if (this.empty) {
+                    return other;
+                } else if (this.negative == other.negative) {
+                    for (int i = 0; i < SLOT_COUNT; i++) {
+                        this.sums[i] = MathUtils.safeAdd(this.sums[i], other.sums[i]);
+                    }
+                    return this;
+                }
+            }
+
+            this.generic = this.result().plus(other.result());
+            return this;
+
+        }
+
+        Duration<U> result() {
+
+            if (this.generic != null) {
+                return this.generic;
+            } else if (this.empty) {
+                return ofZero();
+            } else {
+                return new Duration<>(this.sums, this.negative);
+            }
+
+        }
+
+    }
+
     private static class LengthComparator<U extends IsoUnit, T extends TimePoint<U, T>>
         implements Comparator<Duration<? extends U>> {
 
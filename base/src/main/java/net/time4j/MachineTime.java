@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (MachineTime.java) is part of project Time4J.
  *
@@ -44,7 +44,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 import static net.time4j.scale.TimeScale.POSIX;
 import static net.time4j.scale.TimeScale.UTC;
@@ -944,9 +943,12 @@ public final class MachineTime<U>
     /**
      * <p>Helps to sum up durations of a stream. </p>
      *
-     * <p>A final normalization is automatically done. </p>
+     * <p>A final normalization is automatically done. Since v5.10 the collector sums up
+     * seconds and nanoseconds in primitive accumulators and only checks for numerical
+     * overflow when finishing. </p>
      *
      * @return  Collector for summing up durations in a stream
+     * @throws  ArithmeticException in case of numerical overflow (when the collector finishes)
      * @see     Duration#summingUp()
      * @see     #summingUpReal()
      * @since   5.0
@@ -954,25 +956,31 @@ public final class MachineTime<U>
     /*[deutsch]
      * <p>Hilft, Dauer-Objekte in einem {@code Stream} aufzusummieren. </p>
      *
-     * <p>Eine abschlie&szlig;ende Normalisierung wird automatisch gemacht. </p>
+     * <p>Eine abschlie&szlig;ende Normalisierung wird automatisch gemacht. Seit v5.10 summiert
+     * der Kollektor Sekunden und Nanosekunden in primitiven Akkumulatoren und pr&uuml;ft erst
+     * zum Abschluss auf einen numerischen &Uuml;berlauf. </p>
      *
      * @return  Collector for summing up durations in a stream
+     * @throws  ArithmeticException in case of numerical overflow (when the collector finishes)
      * @see     Duration#summingUp()
      * @see     #summingUpReal()
      * @since   5.0
      */
     public static Collector<MachineTime<TimeUnit>, ?, MachineTime<TimeUnit>> summingUpPosix() {
 
-        return Collectors.reducing(MachineTime.of(0, TimeUnit.SECONDS), MachineTime::plus);
+        return Collector.of(Sum::new, Sum::add, Sum::combine, sum -> sum.toMachineTime(POSIX));
 
     }
 
     /**
      * <p>Helps to sum up durations of a stream. </p>
      *
-     * <p>A final normalization is automatically done. </p>
+     * <p>A final normalization is automatically done. Since v5.10 the collector sums up
+     * seconds and nanoseconds in primitive accumulators and only checks for numerical
+     * overflow when finishing. </p>
      *
      * @return  Collector for summing up durations in a stream
+     * @throws  ArithmeticException in case of numerical overflow (when the collector finishes)
      * @see     Duration#summingUp()
      * @see     #summingUpPosix()
      * @since   5.0
@@ -980,16 +988,79 @@ public final class MachineTime<U>
     /*[deutsch]
      * <p>Hilft, Dauer-Objekte in einem {@code Stream} aufzusummieren. </p>
      *
-     * <p>Eine abschlie&szlig;ende Normalisierung wird automatisch gemacht. </p>
+     * <p>Eine abschlie&szlig;ende Normalisierung wird automatisch gemacht. Seit v5.10 summiert
+     * der Kollektor Sekunden und Nanosekunden in primitiven Akkumulatoren und pr&uuml;ft erst
+     * zum Abschluss auf einen numerischen &Uuml;berlauf. </p>
      *
      * @return  Collector for summing up durations in a stream
+     * @throws  ArithmeticException in case of numerical overflow (when the collector finishes)
      * @see     Duration#summingUp()
      * @see     #summingUpPosix()
      * @since   5.0
      */
     public static Collector<MachineTime<SI>, ?, MachineTime<SI>> summingUpReal() {
 
-        return Collectors.reducing(MachineTime.of(0, SI.SECONDS), MachineTime::plus);
+        return Collector.of(Sum::new, Sum::add, Sum::combine, sum -> sum.toMachineTime(UTC));
+
+    }
+
+    /**
+     * <p>Helps to collect statistical data of durations in a stream (count, sum, minimum, maximum,
+     * mean, variance and approximate percentiles). </p>
+     *
+     * <p>The collector works on primitive accumulators without creating any intermediate objects
+     * per stream element and can efficiently combine partial results of parallel streams. </p>
+     *
+     * @return  Collector for gathering statistics about durations in a stream
+     * @see     #summingUpPosix()
+     * @see     #summarizingReal()
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Hilft, statistische Daten zu Dauer-Objekten in einem {@code Stream} zu sammeln (Anzahl, Summe,
+     * Minimum, Maximum, Mittelwert, Varianz und N&auml;herungswerte f&uuml;r Perzentile). </p>
+     *
+     * <p>Der Kollektor arbeitet mit primitiven Akkumulatoren, ohne pro Stream-Element Zwischenobjekte
+     * zu erzeugen, und kann Teilergebnisse paralleler Streams effizient zusammenf&uuml;hren. </p>
+     *
+     * @return  Collector for gathering statistics about durations in a stream
+     * @see     #summingUpPosix()
+     * @see     #summarizingReal()
+     * @since   5.10
+     */
+    public static Collector<MachineTime<TimeUnit>, ?, MachineTimeStatistics<TimeUnit>> summarizingPosix() {
+
+        return MachineTimeStatistics.collector(POSIX);
+
+    }
+
+    /**
+     * <p>Helps to collect statistical data of durations in a stream (count, sum, minimum, maximum,
+     * mean, variance and approximate percentiles). </p>
+     *
+     * <p>The collector works on primitive accumulators without creating any intermediate objects
+     * per stream element and can efficiently combine partial results of parallel streams. </p>
+     *
+     * @return  Collector for gathering statistics about durations in a stream
+     * @see     #summingUpReal()
+     * @see     #summarizingPosix()
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Hilft, statistische Daten zu Dauer-Objekten in einem {@code Stream} zu sammeln (Anzahl, Summe,
+     * Minimum, Maximum, Mittelwert, Varianz und N&auml;herungswerte f&uuml;r Perzentile). </p>
+     *
+     * <p>Der Kollektor arbeitet mit primitiven Akkumulatoren, ohne pro Stream-Element Zwischenobjekte
+     * zu erzeugen, und kann Teilergebnisse paralleler Streams effizient zusammenf&uuml;hren. </p>
+     *
+     * @return  Collector for gathering statistics about durations in a stream
+     * @see     #summingUpReal()
+     * @see     #summarizingPosix()
+     * @since   5.10
+     */
+    public static Collector<MachineTime<SI>, ?, MachineTimeStatistics<SI>> summarizingReal() {
+
+        return MachineTimeStatistics.collector(UTC);
 
     }
 
@@ -1838,4 +1909,81 @@ public final class MachineTime<U>
 
     }
 
+
+    /**
+     * <p>Ver&auml;nderlicher Akkumulator f&uuml;r die Summe von Sekunden und Nanosekunden. </p>
+     *
+     * <p>&Uuml;berl&auml;ufe der Sekunden werden nur gez&auml;hlt und erst beim Abschluss gepr&uuml;ft,
+     * so da&szlig; vor&uuml;bergehende &Uuml;berl&auml;ufe in Zwischensummen keine Rolle spielen. </p>
+     */
+    static final class Sum {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long seconds = 0;
+        private long nanos = 0;
+        private long wraps = 0; // Anzahl der Überläufe (mit Vorzeichen)
+
+        //~ Methoden ------------------------------------------------------
+
+        void add(MachineTime<?> duration) {
+
+            this.add(duration.seconds, duration.nanos);
+
+        }
+
+        void add(
+            long secs,
+            int fraction
+        ) {
+
+            this.addSeconds(secs);
+            long n = this.nanos + fraction;
+
+            if ((n >= MRD) || (n <= -MRD)) {
+                this.addSeconds(n / MRD);
+                n %= MRD;
+            }
+
+            this.nanos = n;
+
+        }
+
+        Sum combine(Sum other) {
+
+            this.addSeconds(other.seconds);
+            this.wraps += other.wraps;
+            this.add(0, (int) other.nanos);
+            return this;
+
+        }
+
+        @SuppressWarnings("unchecked")
+        <U> MachineTime<U> toMachineTime(TimeScale scale) {
+
+            if (this.wraps != 0) {
+                throw new ArithmeticException("long overflow");
+            } else if (scale == POSIX) {
+                return (MachineTime<U>) ofPosixUnits(this.seconds, (int) this.nanos);
+            } else {
+                return (MachineTime<U>) ofSIUnits(this.seconds, (int) this.nanos);
+            }
+
+        }
+
+        private void addSeconds(long secs) {
+
+            long old = this.seconds;
+            long result = old + secs;
+
+            if (((old ^ result) & (secs ^ result)) < 0) {
+                this.wraps += ((secs < 0) ? -1 : 1);
+            }
+
+            this.seconds = result;
+
+        }
+
+    }
+
 }
@@ -0,0 +1,551 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MachineTimeStatistics.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.stream.Collector;
+
+import static net.time4j.scale.TimeScale.POSIX;
+
+
+/**
+ * <p>Statistical summary of a sample of machine times, usually collected from a stream. </p>
+ *
+ * <p>Count, sum, minimum and maximum are exact. The mean is exact up to nanosecond precision,
+ * and the variance is computed in floating point arithmetic on the base of seconds. Percentiles
+ * are approximated by a logarithmic histogram whose estimations have a relative error of at most
+ * one percent (related to the absolute amounts of the sampled durations). </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *  MachineTimeStatistics&lt;TimeUnit&gt; stats =
+ *      latencies.parallelStream().collect(MachineTime.summarizingPosix());
+ *  System.out.println(stats.getMean());
+ *  System.out.println(stats.getPercentile(99.0));
+ * </pre>
+ *
+ * @param   <U> either {@code TimeUnit} or {@code SI}
+ * @author  Meno Hochschild
+ * @since   5.10
+ * @see     MachineTime#summarizingPosix()
+ * @see     MachineTime#summarizingReal()
+ */
+/*[deutsch]
+ * <p>Statistische Zusammenfassung einer Stichprobe von maschinellen Dauern, in der Regel aus einem
+ * {@code Stream} gesammelt. </p>
+ *
+ * <p>Anzahl, Summe, Minimum und Maximum sind exakt. Der Mittelwert ist bis auf Nanosekunden genau,
+ * und die Varianz wird in Gleitkommaarithmetik auf der Basis von Sekunden berechnet. Perzentile werden
+ * mit Hilfe eines logarithmischen Histogramms gesch&auml;tzt, dessen Sch&auml;tzwerte einen relativen
+ * Fehler von h&ouml;chstens einem Prozent haben (bezogen auf die absoluten Betr&auml;ge der Dauern). </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *  MachineTimeStatistics&lt;TimeUnit&gt; stats =
+ *      latencies.parallelStream().collect(MachineTime.summarizingPosix());
+ *  System.out.println(stats.getMean());
+ *  System.out.println(stats.getPercentile(99.0));
+ * </pre>
+ *
+ * @param   <U> either {@code TimeUnit} or {@code SI}
+ * @author  Meno Hochschild
+ * @since   5.10
+ * @see     MachineTime#summarizingPosix()
+ * @see     MachineTime#summarizingReal()
+ */
+public final class MachineTimeStatistics<U> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final double MRD = 1_000_000_000.0;
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // Beträge bis Long.MAX_VALUE Sekunden (in Nanosekunden < 1E28)
+    private static final int BUCKET_COUNT = (int) Math.ceil(Math.log(1E28) / LOG_GAMMA) + 1;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final TimeScale scale;
+    private final long count;
+    private final MachineTime<U> sum;
+    private final MachineTime<U> min;
+    private final MachineTime<U> max;
+    private final double m2;
+    private final long zeros;
+    private final long[] positive;
+    private final long[] negative;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MachineTimeStatistics(
+        Accumulator<U> acc,
+        TimeScale scale
+    ) {
+        super();
+
+        this.scale = scale;
+        this.count = acc.count;
+        this.sum = acc.sum.toMachineTime(scale);
+        this.min = acc.min;
+        this.max = acc.max;
+        this.m2 = acc.m2;
+        this.zeros = acc.zeros;
+        this.positive = acc.positive;
+        this.negative = acc.negative;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the count of collected durations. </p>
+     *
+     * @return  count of samples ({@code >= 0})
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der gesammelten Dauern. </p>
+     *
+     * @return  count of samples ({@code >= 0})
+     */
+    public long getCount() {
+
+        return this.count;
+
+    }
+
+    /**
+     * <p>Queries if there are no collected durations at all. </p>
+     *
+     * @return  {@code true} if the count is zero else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob gar keine Dauern gesammelt wurden. </p>
+     *
+     * @return  {@code true} if the count is zero else {@code false}
+     */
+    public boolean isEmpty() {
+
+        return (this.count == 0);
+
+    }
+
+    /**
+     * <p>Yields the exact sum of all collected durations. </p>
+     *
+     * @return  sum (zero if there are no samples)
+     */
+    /*[deutsch]
+     * <p>Liefert die exakte Summe aller gesammelten Dauern. </p>
+     *
+     * @return  sum (zero if there are no samples)
+     */
+    public MachineTime<U> getSum() {
+
+        return this.sum;
+
+    }
+
+    /**
+     * <p>Yields the shortest collected duration. </p>
+     *
+     * @return  minimum
+     * @throws  IllegalStateException if there are no samples
+     */
+    /*[deutsch]
+     * <p>Liefert die k&uuml;rzeste gesammelte Dauer. </p>
+     *
+     * @return  minimum
+     * @throws  IllegalStateException if there are no samples
+     */
+    public MachineTime<U> getMinimum() {
+
+        this.checkNotEmpty();
+        return this.min;
+
+    }
+
+    /**
+     * <p>Yields the longest collected duration. </p>
+     *
+     * @return  maximum
+     * @throws  IllegalStateException if there are no samples
+     */
+    /*[deutsch]
+     * <p>Liefert die l&auml;ngste gesammelte Dauer. </p>
+     *
+     * @return  maximum
+     * @throws  IllegalStateException if there are no samples
+     */
+    public MachineTime<U> getMaximum() {
+
+        this.checkNotEmpty();
+        return this.max;
+
+    }
+
+    /**
+     * <p>Yields the arithmetic mean of all collected durations rounded to nanoseconds. </p>
+     *
+     * @return  mean
+     * @throws  IllegalStateException if there are no samples
+     */
+    /*[deutsch]
+     * <p>Liefert den auf Nanosekunden gerundeten arithmetischen Mittelwert aller gesammelten Dauern. </p>
+     *
+     * @return  mean
+     * @throws  IllegalStateException if there are no samples
+     */
+    public MachineTime<U> getMean() {
+
+        this.checkNotEmpty();
+
+        BigDecimal total =
+            BigDecimal.valueOf(this.sum.getSeconds()).add(BigDecimal.valueOf(this.sum.getFraction(), 9));
+        return this.create(total.divide(BigDecimal.valueOf(this.count), 9, RoundingMode.HALF_EVEN));
+
+    }
+
+    /**
+     * <p>Yields the population variance of all collected durations in square seconds. </p>
+     *
+     * @return  variance in square seconds ({@code >= 0.0})
+     * @throws  IllegalStateException if there are no samples
+     */
+    /*[deutsch]
+     * <p>Liefert die Varianz aller gesammelten Dauern in Quadratsekunden (Grundgesamtheit). </p>
+     *
+     * @return  variance in square seconds ({@code >= 0.0})
+     * @throws  IllegalStateException if there are no samples
+     */
+    public double getVariance() {
+
+        this.checkNotEmpty();
+        return Math.max(0.0, this.m2 / this.count);
+
+    }
+
+    /**
+     * <p>Yields the standard deviation of all collected durations as square root of the variance. </p>
+     *
+     * @return  standard deviation
+     * @throws  IllegalStateException if there are no samples
+     * @see     #getVariance()
+     */
+    /*[deutsch]
+     * <p>Liefert die Standardabweichung aller gesammelten Dauern als Quadratwurzel der Varianz. </p>
+     *
+     * @return  standard deviation
+     * @throws  IllegalStateException if there are no samples
+     * @see     #getVariance()
+     */
+    public MachineTime<U> getStandardDeviation() {
+
+        return this.create(BigDecimal.valueOf(Math.sqrt(this.getVariance())).setScale(9, RoundingMode.HALF_EVEN));
+
+    }
+
+    /**
+     * <p>Estimates the percentile of collected durations for given percentage. </p>
+     *
+     * <p>The nearest-rank-method is applied on a logarithmic histogram so the estimated duration
+     * has a relative error of at most one percent. The percentages {@code 0.0} and {@code 100.0}
+     * yield the exact minimum and maximum. </p>
+     *
+     * @param   percentage  value in range {@code 0.0 - 100.0}
+     * @return  approximate percentile
+     * @throws  IllegalArgumentException if the percentage is out of range
+     * @throws  IllegalStateException if there are no samples
+     */
+    /*[deutsch]
+     * <p>Sch&auml;tzt das Perzentil der gesammelten Dauern zum angegebenen Prozentsatz. </p>
+     *
+     * <p>Die Rangmethode wird auf ein logarithmisches Histogramm angewandt, so da&szlig; die
+     * gesch&auml;tzte Dauer einen relativen Fehler von h&ouml;chstens einem Prozent hat. Die
+     * Prozents&auml;tze {@code 0.0} und {@code 100.0} liefern das exakte Minimum und Maximum. </p>
+     *
+     * @param   percentage  value in range {@code 0.0 - 100.0}
+     * @return  approximate percentile
+     * @throws  IllegalArgumentException if the percentage is out of range
+     * @throws  IllegalStateException if there are no samples
+     */
+    public MachineTime<U> getPercentile(double percentage) {
+
+        if (!(percentage >= 0.0 && percentage <= 100.0)) {
+            throw new IllegalArgumentException("Percentage out of range: " + percentage);
+        }
+
+        this.checkNotEmpty();
+
+        long rank = Math.max(1, (long) Math.ceil(percentage / 100 * this.count));
+
+        if (rank == 1) {
+            return this.min;
+        } else if (rank >= this.count) {
+            return this.max;
+        }
+
+        double estimation = 0.0;
+        long n = 0;
+        boolean found = false;
+
+        if (this.negative != null) {
+            for (int i = BUCKET_COUNT - 1; i >= 0; i--) {
+                n += this.negative[i];
+                if (n >= rank) {
+                    estimation = -representative(i);
+                    found = true;
+                    break;
+                }
+            }
+        }
+
+        if (!found) {
+            n += this.zeros;
+            if ((n < rank) && (this.positive != null)) {
+                for (int i = 0; i < BUCKET_COUNT; i++) {
+                    n += this.positive[i];
+                    if (n >= rank) {
+                        estimation = representative(i);
+                        break;
+                    }
+                }
+            }
+        }
+
+        double lower = toNanos(this.min);
+        double upper = toNanos(this.max);
+        estimation = Math.rint(Math.min(Math.max(estimation, lower), upper));
+        return this.create(new BigDecimal(estimation).movePointLeft(9));
+
+    }
+
+    /**
+     * <p>Provides a summary in a format similar to
+     * {@code MachineTimeStatistics[count=3,sum=6s [POSIX],min=1s [POSIX],...]}. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>Liefert eine Zusammenfassung in einem Format &auml;hnlich zu
+     * {@code MachineTimeStatistics[count=3,sum=6s [POSIX],min=1s [POSIX],...]}. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("MachineTimeStatistics[count=");
+        sb.append(this.count);
+        sb.append(",sum=");
+        sb.append(this.sum);
+
+        if (this.count > 0) {
+            sb.append(",min=");
+            sb.append(this.min);
+            sb.append(",max=");
+            sb.append(this.max);
+            sb.append(",mean=");
+            sb.append(this.getMean());
+        }
+
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Creates a collector for statistics of machine times on given time scale. </p>
+     *
+     * @param   scale   either POSIX or UTC
+     * @return  Collector
+     */
+    static <U> Collector<MachineTime<U>, ?, MachineTimeStatistics<U>> collector(TimeScale scale) {
+
+        return Collector.<MachineTime<U>, Accumulator<U>, MachineTimeStatistics<U>>of(
+            Accumulator::new,
+            Accumulator::add,
+            Accumulator::combine,
+            acc -> new MachineTimeStatistics<>(acc, scale)
+        );
+
+    }
+
+    private void checkNotEmpty() {
+
+        if (this.count == 0) {
+            throw new IllegalStateException("No samples available.");
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private MachineTime<U> create(BigDecimal seconds) {
+
+        if (this.scale == POSIX) {
+            return (MachineTime<U>) MachineTime.ofPosixSeconds(seconds);
+        } else {
+            return (MachineTime<U>) MachineTime.ofSISeconds(seconds);
+        }
+
+    }
+
+    private static double toNanos(MachineTime<?> duration) {
+
+        return duration.getSeconds() * MRD + duration.getFraction();
+
+    }
+
+    private static int indexOf(double nanos) {
+
+        int index = (int) Math.ceil(Math.log(nanos) / LOG_GAMMA);
+        return Math.min(Math.max(index, 0), BUCKET_COUNT - 1);
+
+    }
+
+    // Schätzwert mit minimalem relativen Fehler für das Intervall (GAMMA^(i-1), GAMMA^i]
+    private static double representative(int index) {
+
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Ver&auml;nderlicher Akkumulator, der pro Element keine Objekte erzeugt. Die Varianz wird
+     * nach Welford berechnet und beim Zusammenf&uuml;hren nach Chan et al. kombiniert, die
+     * Histogramme werden einfach addiert. </p>
+     */
+    private static final class Accumulator<U> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final MachineTime.Sum sum = new MachineTime.Sum();
+        private long count = 0;
+        private MachineTime<U> min = null;
+        private MachineTime<U> max = null;
+        private double mean = 0.0; // in Sekunden
+        private double m2 = 0.0;
+        private long zeros = 0;
+        private long[] positive = null;
+        private long[] negative = null;
+
+        //~ Methoden ------------------------------------------------------
+
+        void add(MachineTime<U> duration) {
+
+            long secs = duration.getSeconds();
+            int fraction = duration.getFraction();
+
+            this.count++;
+            this.sum.add(secs, fraction);
+
+            if ((this.min == null) || (duration.compareTo(this.min) < 0)) {
+                this.min = duration;
+            }
+
+            if ((this.max == null) || (duration.compareTo(this.max) > 0)) {
+                this.max = duration;
+            }
+
+            double x = secs + fraction / MRD;
+            double delta = x - this.mean;
+            this.mean += delta / this.count;
+            this.m2 += delta * (x - this.mean);
+
+            double nanos = secs * MRD + fraction;
+
+            if (nanos > 0) {
+                if (this.positive == null) {
+                    this.positive = new long[BUCKET_COUNT];
+                }
+                this.positive[indexOf(nanos)]++;
+            } else if (nanos < 0) {
+                if (this.negative == null) {
+                    this.negative = new long[BUCKET_COUNT];
+                }
+                this.negative[indexOf(-nanos)]++;
+            } else {
+                this.zeros++;
+            }
+
+        }
+
+        Accumulator<U> combine(Accumulator<U> other) {
+
+            if (other.count == 0) {
+                return this;
+            } else if (this.count == 0) {
+                return other;
+            }
+
+            long n = this.count + other.count;
+            double delta = other.mean - this.mean;
+            this.mean += delta * other.count / n;
+            this.m2 += other.m2 + delta * delta * ((double) this.count) * other.count / n;
+            this.count = n;
+            this.sum.combine(other.sum);
+
+            if (other.min.compareTo(this.min) < 0) {
+                this.min = other.min;
+            }
+
+            if (other.max.compareTo(this.max) > 0) {
+                this.max = other.max;
+            }
+
+            this.zeros += other.zeros;
+            this.positive = merge(this.positive, other.positive);
+            this.negative = merge(this.negative, other.negative);
+            return this;
+
+        }
+
+        private static long[] merge(
+            long[] buckets,
+            long[] other
+        ) {
+
+            if (buckets == null) {
+                return other;
+            } else if (other != null) {
+                for (int i = 0; i < BUCKET_COUNT; i++) {
+                    buckets[i] += other[i];
+                }
+            }
+
+            return buckets;
+
+        }
+
+    }
+
+}
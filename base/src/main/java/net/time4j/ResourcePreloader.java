@@ -0,0 +1,472 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ResourcePreloader.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j;
+
+import net.time4j.format.CalendarText;
+import net.time4j.format.NumberType;
+import net.time4j.format.OutputContext;
+import net.time4j.format.PluralRules;
+import net.time4j.format.TextAccessor;
+import net.time4j.format.TextWidth;
+import net.time4j.format.internal.SymbolProviderSPI;
+import net.time4j.tz.NameStyle;
+import net.time4j.tz.Timezone;
+
+import java.text.ParsePosition;
+import java.time.format.FormatStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Eagerly initializes the lazily loaded locale and timezone resources of Time4J. </p>
+ *
+ * <p>The first formatting or parsing for a new locale usually loads calendrical names, format patterns,
+ * plural rules, unit patterns, week data and timezone names on demand. Applications which want to
+ * avoid such latency on live requests can run a preloader in advance, for example during a readiness
+ * check: </p>
+ *
+ * <pre>
+ *  Map&lt;String, MachineTime&lt;TimeUnit&gt;&gt; report =
+ *      ResourcePreloader.ofLocales(Locale.GERMANY, Locale.US)
+ *          .withCalendarTypes(CalendarText.ISO_CALENDAR_TYPE, &quot;islamic-umalqura&quot;)
+ *          .withZones(&quot;Europe/Berlin&quot;, &quot;America/New_York&quot;)
+ *          .run();
+ * </pre>
+ *
+ * <p>The resources are loaded in parallel using the common fork-join-pool. All loaded resources
+ * end up in the caches of Time4J which are also used by normal formatting and parsing. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Initialisiert die sonst bei Bedarf geladenen Sprach- und Zeitzonenressourcen von Time4J im voraus. </p>
+ *
+ * <p>Die erste Formatierung oder Interpretation f&uuml;r eine neue Sprache l&auml;dt normalerweise
+ * Kalendernamen, Formatmuster, Pluralregeln, Einheitsmuster, Wochendaten und Zeitzonennamen bei Bedarf.
+ * Anwendungen, die solche Latenzen bei Live-Anfragen vermeiden wollen, k&ouml;nnen vorher einen
+ * Preloader laufen lassen, zum Beispiel w&auml;hrend einer Bereitschaftspr&uuml;fung: </p>
+ *
+ * <pre>
+ *  Map&lt;String, MachineTime&lt;TimeUnit&gt;&gt; report =
+ *      ResourcePreloader.ofLocales(Locale.GERMANY, Locale.US)
+ *          .withCalendarTypes(CalendarText.ISO_CALENDAR_TYPE, &quot;islamic-umalqura&quot;)
+ *          .withZones(&quot;Europe/Berlin&quot;, &quot;America/New_York&quot;)
+ *          .run();
+ * </pre>
+ *
+ * <p>Die Ressourcen werden parallel mit Hilfe des allgemeinen Fork-Join-Pools geladen. Alle geladenen
+ * Ressourcen landen in den Puffern von Time4J, die auch beim normalen Formatieren und Interpretieren
+ * verwendet werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class ResourcePreloader {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Resource key for calendrical names of all configured calendar types.
+     */
+    /*[deutsch]
+     * Ressourcenschl&uuml;ssel f&uuml;r die Kalendernamen aller konfigurierten Kalendertypen.
+     */
+    public static final String CALENDAR_TEXT = "CalendarText";
+
+    /**
+     * Resource key for localized format patterns and number symbols.
+     */
+    /*[deutsch]
+     * Ressourcenschl&uuml;ssel f&uuml;r lokalisierte Formatmuster und Zahlensymbole.
+     */
+    public static final String FORMAT_PATTERNS = "FormatPatterns";
+
+    /**
+     * Resource key for cardinal and ordinal plural rules.
+     */
+    /*[deutsch]
+     * Ressourcenschl&uuml;ssel f&uuml;r Plural-Regeln von Kardinal- und Ordinalzahlen.
+     */
+    public static final String PLURAL_RULES = "PluralRules";
+
+    /**
+     * Resource key for unit patterns used by {@code PrettyTime} and duration formatting.
+     */
+    /*[deutsch]
+     * Ressourcenschl&uuml;ssel f&uuml;r Einheitsmuster, die von {@code PrettyTime} und der
+     * Formatierung von Dauern verwendet werden.
+     */
+    public static final String UNIT_PATTERNS = "UnitPatterns";
+
+    /**
+     * Resource key for week data.
+     */
+    /*[deutsch]
+     * Ressourcenschl&uuml;ssel f&uuml;r Wochendaten.
+     */
+    public static final String WEEKMODEL = "Weekmodel";
+
+    /**
+     * Resource key for the transition data of timezones.
+     */
+    /*[deutsch]
+     * Ressourcenschl&uuml;ssel f&uuml;r die &Uuml;bergangsdaten von Zeitzonen.
+     */
+    public static final String TIMEZONE = "Timezone";
+
+    /**
+     * Resource key for localized timezone names.
+     */
+    /*[deutsch]
+     * Ressourcenschl&uuml;ssel f&uuml;r lokalisierte Zeitzonennamen.
+     */
+    public static final String ZONE_NAMES = "ZoneNames";
+
+    private static final List<String> RESOURCES =
+        Collections.unmodifiableList(
+            Arrays.asList(
+                CALENDAR_TEXT, FORMAT_PATTERNS, PLURAL_RULES, UNIT_PATTERNS, WEEKMODEL, TIMEZONE, ZONE_NAMES));
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final List<Locale> locales;
+    private final List<String> calendarTypes;
+    private final List<String> zones;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ResourcePreloader(
+        List<Locale> locales,
+        List<String> calendarTypes,
+        List<String> zones
+    ) {
+        super();
+
+        this.locales = locales;
+        this.calendarTypes = calendarTypes;
+        this.zones = zones;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new preloader for given locales and the ISO-calendar without any timezones. </p>
+     *
+     * @param   locales     languages and countries to be preloaded
+     * @return  new preloader
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Preloader f&uuml;r die angegebenen Sprachen und den ISO-Kalender
+     * ohne Zeitzonen. </p>
+     *
+     * @param   locales     languages and countries to be preloaded
+     * @return  new preloader
+     */
+    public static ResourcePreloader ofLocales(Locale... locales) {
+
+        return ofLocales(Arrays.asList(locales));
+
+    }
+
+    /**
+     * <p>Creates a new preloader for given locales and the ISO-calendar without any timezones. </p>
+     *
+     * @param   locales     languages and countries to be preloaded
+     * @return  new preloader
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Preloader f&uuml;r die angegebenen Sprachen und den ISO-Kalender
+     * ohne Zeitzonen. </p>
+     *
+     * @param   locales     languages and countries to be preloaded
+     * @return  new preloader
+     */
+    public static ResourcePreloader ofLocales(Collection<Locale> locales) {
+
+        return new ResourcePreloader(
+            copy(locales),
+            Collections.singletonList(CalendarText.ISO_CALENDAR_TYPE),
+            Collections.emptyList());
+
+    }
+
+    /**
+     * <p>Yields a copy of this preloader with given calendar types replacing the ISO-calendar. </p>
+     *
+     * @param   calendarTypes   calendar types like &quot;iso8601&quot; or &quot;islamic-umalqura&quot;
+     * @return  changed copy of this preloader
+     * @see     CalendarText#ISO_CALENDAR_TYPE
+     * @see     net.time4j.format.CalendarType
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Preloaders mit den angegebenen Kalendertypen anstelle des
+     * ISO-Kalenders. </p>
+     *
+     * @param   calendarTypes   calendar types like &quot;iso8601&quot; or &quot;islamic-umalqura&quot;
+     * @return  changed copy of this preloader
+     * @see     CalendarText#ISO_CALENDAR_TYPE
+     * @see     net.time4j.format.CalendarType
+     */
+    public ResourcePreloader withCalendarTypes(String... calendarTypes) {
+
+        return new ResourcePreloader(this.locales, copy(Arrays.asList(calendarTypes)), this.zones);
+
+    }
+
+    /**
+     * <p>Yields a copy of this preloader with given timezone identifiers. </p>
+     *
+     * @param   tzids       timezone identifiers like &quot;Europe/Berlin&quot;
+     * @return  changed copy of this preloader
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Preloaders mit den angegebenen Zeitzonen-IDs. </p>
+     *
+     * @param   tzids       timezone identifiers like &quot;Europe/Berlin&quot;
+     * @return  changed copy of this preloader
+     */
+    public ResourcePreloader withZones(String... tzids) {
+
+        return this.withZones(Arrays.asList(tzids));
+
+    }
+
+    /**
+     * <p>Yields a copy of this preloader with given timezone identifiers. </p>
+     *
+     * @param   tzids       timezone identifiers like &quot;Europe/Berlin&quot;
+     * @return  changed copy of this preloader
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Preloaders mit den angegebenen Zeitzonen-IDs. </p>
+     *
+     * @param   tzids       timezone identifiers like &quot;Europe/Berlin&quot;
+     * @return  changed copy of this preloader
+     */
+    public ResourcePreloader withZones(Collection<String> tzids) {
+
+        return new ResourcePreloader(this.locales, this.calendarTypes, copy(tzids));
+
+    }
+
+    /**
+     * <p>Loads all configured resources in parallel and reports the time spent per resource. </p>
+     *
+     * <p>The keys of the resulting map are the resource constants of this class in declaration
+     * order. Every duration is the sum over all parallel tasks of a resource so the total can
+     * exceed the elapsed wall time. </p>
+     *
+     * @return  unmodifiable map of resource keys to loading times
+     * @throws  IllegalArgumentException if any timezone identifier cannot be resolved
+     */
+    /*[deutsch]
+     * <p>L&auml;dt alle konfigurierten Ressourcen parallel und meldet die pro Ressource verbrauchte
+     * Zeit. </p>
+     *
+     * <p>Die Schl&uuml;ssel des Ergebnisses sind die Ressourcenkonstanten dieser Klasse in der
+     * Reihenfolge ihrer Deklaration. Jede Dauer ist die Summe &uuml;ber alle parallelen Aufgaben
+     * einer Ressource, so da&szlig; die Gesamtsumme die verstrichene Realzeit &uuml;bersteigen
+     * kann. </p>
+     *
+     * @return  unmodifiable map of resource keys to loading times
+     * @throws  IllegalArgumentException if any timezone identifier cannot be resolved
+     */
+    public Map<String, MachineTime<TimeUnit>> run() {
+
+        List<Task> tasks = new ArrayList<>();
+
+        for (Locale locale : this.locales) {
+            for (String calendarType : this.calendarTypes) {
+                tasks.add(new Task(CALENDAR_TEXT, () -> loadCalendarText(calendarType, locale)));
+            }
+            tasks.add(new Task(FORMAT_PATTERNS, () -> loadFormatPatterns(locale)));
+            tasks.add(new Task(PLURAL_RULES, () -> loadPluralRules(locale)));
+            tasks.add(new Task(UNIT_PATTERNS, () -> UnitPatterns.of(locale)));
+            tasks.add(new Task(WEEKMODEL, () -> Weekmodel.of(locale)));
+        }
+
+        for (String tzid : this.zones) {
+            tasks.add(new Task(TIMEZONE, () -> Timezone.of(tzid)));
+            for (Locale locale : this.locales) {
+                tasks.add(new Task(ZONE_NAMES, () -> loadZoneNames(tzid, locale)));
+            }
+        }
+
+        ConcurrentMap<String, Long> nanos = new ConcurrentHashMap<>();
+        tasks.parallelStream().forEach(
+            task -> {
+                long t0 = System.nanoTime();
+                task.action.run();
+                nanos.merge(task.resource, Long.valueOf(System.nanoTime() - t0), Long::sum);
+            }
+        );
+
+        Map<String, MachineTime<TimeUnit>> report = new LinkedHashMap<>();
+
+        for (String resource : RESOURCES) {
+            Long value = nanos.get(resource);
+            if (value != null) {
+                report.put(resource, MachineTime.of(value.longValue(), TimeUnit.NANOSECONDS));
+            }
+        }
+
+        return Collections.unmodifiableMap(report);
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        return "ResourcePreloader[locales=" + this.locales
+            + ",calendar-types=" + this.calendarTypes
+            + ",zones=" + this.zones + ']';
+
+    }
+
+    private static <T> List<T> copy(Collection<T> values) {
+
+        Set<T> set = new LinkedHashSet<>(values.size());
+
+        for (T value : values) {
+            if (value == null) {
+                throw new NullPointerException("Missing element: " + values);
+            }
+            set.add(value);
+        }
+
+        return Collections.unmodifiableList(new ArrayList<>(set));
+
+    }
+
+    private static void loadCalendarText(
+        String calendarType,
+        Locale locale
+    ) {
+
+        CalendarText ct = CalendarText.getInstance(calendarType, locale);
+
+        if (calendarType.equals(CalendarText.ISO_CALENDAR_TYPE)) { // prepares the text lookup in parsing
+            for (TextWidth tw : TextWidth.values()) {
+                for (OutputContext oc : OutputContext.values()) {
+                    prepareParsing(ct.getStdMonths(tw, oc), Month.class);
+                    prepareParsing(ct.getQuarters(tw, oc), Quarter.class);
+                    prepareParsing(ct.getWeekdays(tw, oc), Weekday.class);
+                    prepareParsing(ct.getMeridiems(tw, oc), Meridiem.class);
+                }
+            }
+        }
+
+    }
+
+    private static <V extends Enum<V>> void prepareParsing(
+        TextAccessor accessor,
+        Class<V> type
+    ) {
+
+        accessor.parse("", new ParsePosition(0), type);
+
+    }
+
+    private static void loadFormatPatterns(Locale locale) {
+
+        for (FormatStyle style : FormatStyle.values()) {
+            CalendarText.patternForDate(style, locale);
+            CalendarText.patternForTime(style, locale);
+            CalendarText.patternForTimestamp(style, style, locale);
+        }
+
+        CalendarText.patternForInterval(locale);
+        SymbolProviderSPI.INSTANCE.getDefaultNumberSystem(locale);
+
+    }
+
+    private static void loadPluralRules(Locale locale) {
+
+        for (NumberType numType : NumberType.values()) {
+            PluralRules.of(locale, numType);
+        }
+
+    }
+
+    private static void loadZoneNames(
+        String tzid,
+        Locale locale
+    ) {
+
+        Timezone tz = Timezone.of(tzid);
+
+        for (NameStyle style : NameStyle.values()) {
+            tz.getDisplayName(style, locale);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Task {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String resource;
+        private final Runnable action;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Task(
+            String resource,
+            Runnable action
+        ) {
+            super();
+
+            this.resource = resource;
+            this.action = action;
+
+        }
+
+    }
+
+}
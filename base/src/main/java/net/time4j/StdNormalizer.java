@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (StdNormalizer.java) is part of project Time4J.
  *
@@ -101,94 +101,122 @@ class StdNormalizer<U extends IsoUnit>
     @Override
     public Duration<U> normalize(TimeSpan<? extends U> timespan) {
 
-        int count = timespan.getTotalLength().size();
-        List<TimeSpan.Item<U>> items = new ArrayList<>(count);
+        long[] slots = ((timespan instanceof Duration) ? ((Duration<?>) timespan).getSlots() : null);
+        List<TimeSpan.Item<U>> items = null;
         long years = 0, months = 0, weeks = 0, days = 0;
         long hours = 0, minutes = 0, seconds = 0, nanos = 0;
 
-        for (int i = 0; i < count; i++) {
-            TimeSpan.Item<? extends U> item = timespan.getTotalLength().get(i);
-            long amount = item.getAmount();
-            U unit = item.getUnit();
-
-            if (unit instanceof CalendarUnit) {
-                switch ((CalendarUnit.class.cast(unit))) {
-                    case MILLENNIA:
-                        years =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 1000),
-                                years
-                            );
-                        break;
-                    case CENTURIES:
-                        years =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 100),
-                                years
-                            );
-                        break;
-                    case DECADES:
-                        years =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 10),
-                                years
-                            );
-                        break;
-                    case YEARS:
-                        years = MathUtils.safeAdd(amount, years);
-                        break;
-                    case QUARTERS:
-                        months =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 3),
-                                months
-                            );
-                        break;
-                    case MONTHS:
-                        months = MathUtils.safeAdd(amount, months);
-                        break;
-                    case WEEKS:
-                        weeks = amount;
-                        break;
-                    case DAYS:
-                        days = amount;
-                        break;
-                    default:
-                        throw new UnsupportedOperationException(unit.toString());
-                }
-            } else if (unit instanceof ClockUnit) {
-                switch ((ClockUnit.class.cast(unit))) {
-                    case HOURS:
-                        hours = amount;
-                        break;
-                    case MINUTES:
-                        minutes = amount;
-                        break;
-                    case SECONDS:
-                        seconds = amount;
-                        break;
-                    case MILLIS:
-                        nanos =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, MIO),
-                                nanos
-                            );
-                        break;
-                    case MICROS:
-                        nanos =
-                            MathUtils.safeAdd(
-                                MathUtils.safeMultiply(amount, 1000L),
-                                nanos
-                            );
-                        break;
-                    case NANOS:
-                        nanos = MathUtils.safeAdd(amount, nanos);
-                        break;
-                    default:
-                        throw new UnsupportedOperationException(unit.toString());
+        if (slots != null) { // kompakte Darstellung ohne Zwischenobjekte
+            years =
+                MathUtils.safeAdd(
+                    MathUtils.safeAdd(
+                        MathUtils.safeMultiply(slots[MILLENNIA.ordinal()], 1000),
+                        MathUtils.safeMultiply(slots[CENTURIES.ordinal()], 100)
+                    ),
+                    MathUtils.safeAdd(
+                        MathUtils.safeMultiply(slots[DECADES.ordinal()], 10),
+                        slots[YEARS.ordinal()]
+                    )
+                );
+            months =
+                MathUtils.safeAdd(
+                    MathUtils.safeMultiply(slots[QUARTERS.ordinal()], 3),
+                    slots[MONTHS.ordinal()]
+                );
+            weeks = slots[WEEKS.ordinal()];
+            days = slots[DAYS.ordinal()];
+            hours = slots[Duration.SLOT_HOURS];
+            minutes = slots[Duration.SLOT_MINUTES];
+            seconds = slots[Duration.SLOT_SECONDS];
+            nanos = slots[Duration.SLOT_NANOS];
+        } else {
+            int count = timespan.getTotalLength().size();
+            items = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                TimeSpan.Item<? extends U> item = timespan.getTotalLength().get(i);
+                long amount = item.getAmount();
+                U unit = item.getUnit();
+
+                if (unit instanceof CalendarUnit) {
+                    switch ((CalendarUnit.class.cast(unit))) {
+                        case MILLENNIA:
+                            years =
+                                MathUtils.safeAdd(
+                                    MathUtils.safeMultiply(amount, 1000),
+                                    years
+                                );
+                            break;
+                        case CENTURIES:
+                            years =
+                                MathUtils.safeAdd(
+                                    MathUtils.safeMultiply(amount, 100),
+                                    years
+                                );
+                            break;
+                        case DECADES:
+                            years =
+                                MathUtils.safeAdd(
+                                    MathUtils.safeMultiply(amount, 10),
+                                    years
+                                );
+                            break;
+                        case YEARS:
+                            years = MathUtils.safeAdd(amount, years);
+                            break;
+                        case QUARTERS:
+                            months =
+                                MathUtils.safeAdd(
+                                    MathUtils.safeMultiply(amount, 3),
+                                    months
+                                );
+                            break;
+                        case MONTHS:
+                            months = MathUtils.safeAdd(amount, months);
+                            break;
+                        case WEEKS:
+                            weeks = amount;
+                            break;
+                        case DAYS:
+                            days = amount;
+                            break;
+                        default:
+                            throw new UnsupportedOperationException(unit.toString());
+                    }
+                } else if (unit instanceof ClockUnit) {
+                    switch ((ClockUnit.class.cast(unit))) {
+                        case HOURS:
+                            hours = amount;
+                            break;
+                        case MINUTES:
+                            minutes = amount;
+                            break;
+                        case SECONDS:
+                            seconds = amount;
+                            break;
+                        case MILLIS:
+                            nanos =
+                                MathUtils.safeAdd(
+                                    MathUtils.safeMultiply(amount, MIO),
+                                    nanos
+                                );
+                            break;
+                        case MICROS:
+                            nanos =
+                                MathUtils.safeAdd(
+                                    MathUtils.safeMultiply(amount, 1000L),
+                                    nanos
+                                );
+                            break;
+                        case NANOS:
+                            nanos = MathUtils.safeAdd(amount, nanos);
+                            break;
+                        default:
+                            throw new UnsupportedOperationException(unit.toString());
+                    }
+                } else {
+                    items.add(TimeSpan.Item.of(amount, unit));
                 }
-            } else {
-                items.add(TimeSpan.Item.of(amount, unit));
             }
         }
 
@@ -210,32 +238,53 @@ class StdNormalizer<U extends IsoUnit>
             }
         }
 
-        U unit;
+        long y = 0, m = 0, d = 0, w = 0;
 
         if ((years | months | days) != 0) {
-            long y = MathUtils.safeAdd(years, months / 12);
-            long m = months % 12;
-            long d =
+            y = MathUtils.safeAdd(years, months / 12);
+            m = months % 12;
+            d =
                 MathUtils.safeAdd(
                     MathUtils.safeMultiply(weeks, 7),
                     days
                 );
+        } else {
+            w = weeks;
+        }
 
-            if (y != 0) {
-                unit = (U) YEARS;
-                items.add(TimeSpan.Item.of(y, unit));
-            }
-            if (m != 0) {
-                unit = (U) MONTHS;
-                items.add(TimeSpan.Item.of(m, unit));
-            }
-            if (d != 0) {
-                unit = (U) DAYS;
-                items.add(TimeSpan.Item.of(d, unit));
-            }
-        } else if (weeks != 0) {
+        if ((items == null) || items.isEmpty()) {
+            long[] result = new long[Duration.SLOT_COUNT];
+            result[YEARS.ordinal()] = y;
+            result[MONTHS.ordinal()] = m;
+            result[WEEKS.ordinal()] = w;
+            result[DAYS.ordinal()] = d;
+            result[Duration.SLOT_HOURS] = h;
+            result[Duration.SLOT_MINUTES] = n;
+            result[Duration.SLOT_SECONDS] = s;
+            result[Duration.SLOT_NANOS] = f;
+            return Duration.ofSlots(result, timespan.isNegative());
+        }
+
+        U unit;
+
+        if (y != 0) {
+            unit = (U) YEARS;
+            items.add(TimeSpan.Item.of(y, unit));
+        }
+
+        if (m != 0) {
+            unit = (U) MONTHS;
+            items.add(TimeSpan.Item.of(m, unit));
+        }
+
+        if (w != 0) {
             unit = (U) WEEKS;
-            items.add(TimeSpan.Item.of(weeks, unit));
+            items.add(TimeSpan.Item.of(w, unit));
+        }
+
+        if (d != 0) {
+            unit = (U) DAYS;
+            items.add(TimeSpan.Item.of(d, unit));
         }
 
         if (h != 0) {
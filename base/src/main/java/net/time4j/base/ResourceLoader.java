@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ResourceLoader.java) is part of project Time4J.
  *
@@ -31,6 +31,7 @@ import net.time4j.format.internal.IsoTextProviderSPI;
 import net.time4j.history.internal.HistoricExtension;
 import net.time4j.tz.ZoneModelProvider;
 import net.time4j.tz.ZoneNameProvider;
+import net.time4j.tz.spi.MappedZoneProviderSPI;
 import net.time4j.tz.spi.MilZoneProviderSPI;
 import net.time4j.tz.spi.WinZoneProviderSPI;
 import net.time4j.tz.spi.ZoneNameProviderSPI;
@@ -501,7 +502,11 @@ public abstract class ResourceLoader {
                 Arrays.asList(IsoTextProviderSPI.SINGLETON, new GenericTextProviderSPI()));
             map.put(
                 ZoneModelProvider.class,
-                Arrays.asList(new JdkZoneProviderSPI(), new WinZoneProviderSPI(), new MilZoneProviderSPI()));
+                Arrays.asList(
+                    new MappedZoneProviderSPI(), // wins against JDK on equal versions (location without {java.home})
+                    new JdkZoneProviderSPI(),
+                    new WinZoneProviderSPI(),
+                    new MilZoneProviderSPI()));
             map.put(
                 ZoneNameProvider.class,
                 Collections.singletonList(new ZoneNameProviderSPI()));
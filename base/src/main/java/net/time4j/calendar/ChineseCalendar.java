@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2024 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ChineseCalendar.java) is part of project Time4J.
  *
@@ -1046,6 +1046,8 @@ public final class ChineseCalendar
             ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 8);
         private static final long OFFSET_SWITCH_CHINA = -15705L; // 1929-01-01
 
+        private static final EastAsianTable TABLE = EastAsianTable.load("chinese");
+
         //~ Methoden ------------------------------------------------------
 
         @Override
@@ -1074,6 +1076,11 @@ public final class ChineseCalendar
             return LEAP_MONTHS;
         }
 
+        @Override
+        EastAsianTable getTable() {
+            return TABLE;
+        }
+
     }
 
     private static class EraElement
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (EastAsianCS.java) is part of project Time4J.
  *
@@ -55,6 +55,12 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     @Override
     public final D transform(long utcDays) {
 
+        EastAsianTable table = this.getTable();
+
+        if ((table != null) && table.covers(utcDays)) {
+            return table.transform(this, utcDays);
+        }
+
         long s1 = this.winterOnOrBefore(utcDays);
         long s2 = this.winterOnOrBefore(s1 + 370);
         long m12 = this.newMoonOnOrAfter(s1 + 1);
@@ -128,6 +134,9 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     abstract int[] getLeapMonths();
 
+    // precomputed lunisolar years, maybe null if not available
+    abstract EastAsianTable getTable();
+
     // number of leap month or zero if no leap year
     final int getLeapMonth(
         int cycle,
@@ -199,6 +208,12 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int cycle,
         int yearOfCycle
     ) {
+        EastAsianTable table = this.getTable();
+
+        if ((table != null) && table.covers(cycle, yearOfCycle)) {
+            return table.newYear(cycle, yearOfCycle);
+        }
+
         long midYear =
             (long) Math.floor(EPOCH_CHINESE + ((cycle - 1) * 60 + yearOfCycle - 0.5) * MEAN_TROPICAL_YEAR);
         return this.newYearOnOrBefore(midYear); // starts with new moon on or after winter solstice
@@ -222,6 +237,12 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     // result in utc-days
     final long newMoonOnOrAfter(long utcDays) {
+        EastAsianTable table = this.getTable();
+
+        if ((table != null) && table.covers(utcDays)) {
+            return table.newMoonOnOrAfter(utcDays);
+        }
+
         Moment m = MoonPhase.NEW_MOON.atOrAfter(this.midnight(utcDays));
         return m.toZonalTimestamp(this.getOffset(utcDays)).toDate().getDaysSinceEpochUTC();
     }
@@ -281,6 +302,12 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int yearOfCycle,
         EastAsianMonth month
     ) {
+        EastAsianTable table = this.getTable();
+
+        if ((table != null) && table.covers(cycle, yearOfCycle)) {
+            return table.firstDayOfMonth(cycle, yearOfCycle, month);
+        }
+
         long newYear = this.newYear(cycle, yearOfCycle);
         long approxStartOfMonth = this.newMoonOnOrAfter(newYear + (month.getNumber() - 1) * 29);
 
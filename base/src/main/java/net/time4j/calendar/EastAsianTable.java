@@ -0,0 +1,277 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EastAsianTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.calendar;
+
+import net.time4j.base.ResourceLoader;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+
+/**
+ * <p>Precomputed table of lunisolar years for Chinese, Korean and Vietnamese calendar. </p>
+ *
+ * <p>The resource contains the index of first year (counted as {@code (cycle - 1) * 60 + yearOfCycle}),
+ * the count of years and the start of first year in utc-days. Then every year follows with one byte for
+ * the number of leap month (zero if no leap year) and one short whose bits indicate months with 30 days
+ * in order of their appearance. The table is derived from the astronomical calculations of
+ * {@code EastAsianCS} which still serve as fallback if the resource cannot be found. The resources
+ * can be regenerated by the test utility {@code EastAsianTableGenerator}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class EastAsianTable {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int firstYear;
+    private final long[] startOfYear; // with one additional element for the end of table
+    private final byte[] leapMonths;
+    private final short[] monthLengths; // bit set = month with 30 days
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EastAsianTable(
+        int firstYear,
+        long[] startOfYear,
+        byte[] leapMonths,
+        short[] monthLengths
+    ) {
+        super();
+
+        this.firstYear = firstYear;
+        this.startOfYear = startOfYear;
+        this.leapMonths = leapMonths;
+        this.monthLengths = monthLengths;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Loads the table with given name. </p>
+     *
+     * @param   name    calendar name like &quot;chinese&quot;
+     * @return  table or {@code null} if the resource is not available
+     * @throws  IllegalStateException if the resource is not readable
+     */
+    static EastAsianTable load(String name) {
+
+        String path = "data/" + name + ".data";
+        URI uri = ResourceLoader.getInstance().locate("base", EastAsianTable.class, path);
+        InputStream is = ResourceLoader.getInstance().load(uri, true);
+
+        try {
+            if (is == null) {
+                is = ResourceLoader.getInstance().load(EastAsianTable.class, path, true);
+                if (is == null) {
+                    return null;
+                }
+            }
+
+            DataInputStream in = new DataInputStream(is);
+            int firstYear = in.readInt();
+            int arrlen = in.readInt();
+            long epochDays = in.readLong();
+            long[] startOfYear = new long[arrlen + 1];
+            byte[] leapMonths = new byte[arrlen];
+            short[] monthLengths = new short[arrlen];
+
+            for (int index = 0; index < arrlen; index++) {
+                byte b = in.readByte();
+                short s = in.readShort();
+                leapMonths[index] = b;
+                monthLengths[index] = s;
+                startOfYear[index] = epochDays;
+                epochDays += lengthOfYear(b, s);
+            }
+
+            startOfYear[arrlen] = epochDays;
+            return new EastAsianTable(firstYear, startOfYear, leapMonths, monthLengths);
+        } catch (IOException ioe) {
+            throw new IllegalStateException(ioe);
+        } finally {
+            try {
+                if (is != null) {
+                    is.close();
+                }
+            } catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
+    }
+
+    // is given day within the table?
+    boolean covers(long utcDays) {
+
+        return ((utcDays >= this.startOfYear[0]) && (utcDays < this.startOfYear[this.leapMonths.length]));
+
+    }
+
+    // is given year within the table (including the first year after the table)?
+    boolean covers(
+        int cycle,
+        int yearOfCycle
+    ) {
+
+        int index = index(cycle, yearOfCycle) - this.firstYear;
+        return ((index >= 0) && (index <= this.leapMonths.length));
+
+    }
+
+    // result in utc-days, year must be covered
+    long newYear(
+        int cycle,
+        int yearOfCycle
+    ) {
+
+        return this.startOfYear[index(cycle, yearOfCycle) - this.firstYear];
+
+    }
+
+    // result in utc-days, year must be covered and month must be valid
+    long firstDayOfMonth(
+        int cycle,
+        int yearOfCycle,
+        EastAsianMonth month
+    ) {
+
+        int index = index(cycle, yearOfCycle) - this.firstYear;
+        int lm = this.leapMonths[index];
+        int num = month.getNumber();
+        int ordinal = (((lm != 0) && ((num > lm) || month.isLeap())) ? num : num - 1);
+        long utcDays = this.startOfYear[index];
+        int bits = this.monthLengths[index];
+
+        for (int i = 0; i < ordinal; i++) {
+            utcDays += (29 + ((bits >>> i) & 1));
+        }
+
+        return utcDays;
+
+    }
+
+    // first new moon on or after given day, the day must be covered or the end of table
+    long newMoonOnOrAfter(long utcDays) {
+
+        int index = this.search(utcDays);
+
+        if (index == this.leapMonths.length) {
+            return this.startOfYear[index];
+        }
+
+        long start = this.startOfYear[index];
+        int bits = this.monthLengths[index];
+
+        for (int i = 0, n = ((this.leapMonths[index] == 0) ? 12 : 13); i < n; i++) {
+            if (start >= utcDays) {
+                return start;
+            }
+            start += (29 + ((bits >>> i) & 1));
+        }
+
+        return start;
+
+    }
+
+    // the day must be covered
+    <D extends EastAsianCalendar<?, D>> D transform(
+        EastAsianCS<D> calsys,
+        long utcDays
+    ) {
+
+        int index = this.search(utcDays);
+        int y = this.firstYear + index;
+        int cycle = Math.floorDiv(y - 1, 60) + 1;
+        int yearOfCycle = y - (cycle - 1) * 60;
+        int lm = this.leapMonths[index];
+        int bits = this.monthLengths[index];
+        long start = this.startOfYear[index];
+        int ordinal = 0;
+
+        while (true) {
+            int len = 29 + ((bits >>> ordinal) & 1);
+            if (utcDays < start + len) {
+                break;
+            }
+            start += len;
+            ordinal++;
+        }
+
+        EastAsianMonth eam;
+
+        if ((lm == 0) || (ordinal < lm)) {
+            eam = EastAsianMonth.valueOf(ordinal + 1);
+        } else if (ordinal == lm) {
+            eam = EastAsianMonth.valueOf(lm).withLeap();
+        } else {
+            eam = EastAsianMonth.valueOf(ordinal);
+        }
+
+        return calsys.create(cycle, yearOfCycle, eam, (int) (utcDays - start + 1), utcDays);
+
+    }
+
+    // index of last year starting on or before given day
+    private int search(long utcDays) {
+
+        int low = 0;
+        int high = this.leapMonths.length;
+
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (this.startOfYear[mid] <= utcDays) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    private static int index(
+        int cycle,
+        int yearOfCycle
+    ) {
+
+        return (cycle - 1) * 60 + yearOfCycle;
+
+    }
+
+    private static int lengthOfYear(
+        int leapMonth,
+        int bits
+    ) {
+
+        int n = ((leapMonth == 0) ? 12 : 13);
+        return n * 29 + Integer.bitCount(bits & ((1 << n) - 1));
+
+    }
+
+}
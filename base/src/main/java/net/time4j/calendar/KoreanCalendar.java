@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2022 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (KoreanCalendar.java) is part of project Time4J.
  *
@@ -834,6 +834,8 @@ public final class KoreanCalendar
         private static final long DATE_1954_03_21 = PlainDate.of(1954, 3, 21).getDaysSinceEpochUTC();
         private static final long DATE_1961_08_10 = PlainDate.of(1961, 8, 10).getDaysSinceEpochUTC();
 
+        private static final EastAsianTable TABLE = EastAsianTable.load("korean");
+
         //~ Methoden ------------------------------------------------------
 
         @Override
@@ -872,6 +874,11 @@ public final class KoreanCalendar
             return LEAP_MONTHS;
         }
 
+        @Override
+        EastAsianTable getTable() {
+            return TABLE;
+        }
+
     }
 
     private static class EraRule
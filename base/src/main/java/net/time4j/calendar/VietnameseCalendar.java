@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2022 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (VietnameseCalendar.java) is part of project Time4J.
  *
@@ -761,6 +761,8 @@ public final class VietnameseCalendar
 
         private static final long MIN_LIMIT = PlainDate.of(1813, 2, 1).getDaysSinceEpochUTC(); // new year 1813
 
+        private static final EastAsianTable TABLE = EastAsianTable.load("vietnamese");
+
         //~ Methoden ------------------------------------------------------
 
         @Override
@@ -798,6 +800,11 @@ public final class VietnameseCalendar
             return LEAP_MONTHS;
         }
 
+        @Override
+        EastAsianTable getTable() {
+            return TABLE;
+        }
+
         @Override
         boolean isValid(
             int cycle,
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (BasicElement.java) is part of project Time4J.
  *
@@ -69,6 +69,9 @@ public abstract class BasicElement<V extends Comparable<V>>
      */
     private final int hash;
 
+    // dichter Slot-Index für Regel-Tabellen von Chronologien (0 = kein Slot vergeben)
+    transient int slot;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (Chronology.java) is part of project Time4J.
  *
@@ -24,16 +24,21 @@ package net.time4j.engine;
 import net.time4j.base.TimeSource;
 
 import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.time.format.FormatStyle;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 
@@ -41,6 +46,11 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * <p>Represents a system of chronological elements which form any kind
  * of temporal value. </p>
  *
+ * <p>Rules derived from elements which are not registered are memoized
+ * per chronology in a size-limited cache. Such a rule is softly held
+ * and usually references its element so the element stays reachable
+ * until the garbage collector has cleared the cached rule. </p>
+ *
  * @param   <T> generic type compatible to {@link ChronoEntity}
  * @author  Meno Hochschild
  */
@@ -48,6 +58,12 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * <p>Repr&auml;sentiert ein System von chronologischen Elementen, die
  * zusammen einen zeitlichen Wert formen. </p>
  *
+ * <p>Regeln, die von nicht registrierten Elementen abgeleitet werden,
+ * werden pro Chronologie in einem gr&ouml;&szlig;enbegrenzten Cache
+ * gemerkt. Eine solche Regel wird weich gehalten und referenziert
+ * meistens ihr Element, so da&szlig; das Element erreichbar bleibt,
+ * bis der Garbage Collector die gemerkte Regel freigegeben hat. </p>
+ *
  * @param   <T> generic type compatible to {@link ChronoEntity}
  * @author  Meno Hochschild
  */
@@ -58,6 +74,8 @@ public class Chronology<T>
 
     private static final List<ChronoReference> CHRONOS = new CopyOnWriteArrayList<>();
     private static final ReferenceQueue<Chronology<?>> QUEUE = new ReferenceQueue<>();
+    private static final int MAX_DERIVED_RULES = 256;
+    private static int slotCounter = 0;
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -66,6 +84,11 @@ public class Chronology<T>
     private final Map<ChronoElement<?>, ElementRule<T, ?>> ruleMap;
     private final List<ChronoExtension> extensions;
     private final Map<ChronoElement<?>, IntElementRule<T>> intRules;
+    private final int slotOffset;
+    private final ElementRule<T, ?>[] slotRules;
+    private final IntElementRule<T>[] intSlotRules;
+    private final ConcurrentMap<DerivedKey, SoftReference<ElementRule<T, ?>>> derivedRules;
+    private final ReferenceQueue<ChronoElement<?>> derivedQueue;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -75,6 +98,7 @@ public class Chronology<T>
      * @param   chronoType      chronological type
      * @since   3.24/4.20
      */
+    @SuppressWarnings("unchecked")
     Chronology(Class<T> chronoType) {
         super();
 
@@ -87,6 +111,11 @@ public class Chronology<T>
         this.ruleMap = Collections.emptyMap();
         this.extensions = Collections.emptyList();
         this.intRules = Collections.emptyMap();
+        this.slotOffset = 1;
+        this.slotRules = newSlotRules(0);
+        this.intSlotRules = newIntSlotRules(0);
+        this.derivedRules = new ConcurrentHashMap<>();
+        this.derivedQueue = new ReferenceQueue<>();
 
     }
 
@@ -137,6 +166,45 @@ public class Chronology<T>
         intRules.putAll(tmpRules);
         this.intRules = intRules;
 
+        // Slot-Tabellen für den direkten Array-Zugriff ohne Hash-Berechnung: Die Slot-Indizes werden JVM-weit
+        // vergeben, deshalb wird nur das Fenster mit den meisten Slots bei mindestens halber Belegung genommen,
+        // alle anderen Elemente (z.B. mit anderen Chronologien geteilte Elemente) werden über die Map gefunden
+        int[] slots = new int[this.ruleMap.size()];
+        int n = 0;
+
+        for (ChronoElement<?> element : this.ruleMap.keySet()) {
+            if (element instanceof BasicElement) {
+                slots[n++] = assignSlot(BasicElement.class.cast(element));
+            }
+        }
+
+        int[] window = selectSlotWindow(slots, n);
+        int minSlot = window[0];
+        int maxSlot = window[1];
+
+        if (maxSlot == 0) {
+            this.slotOffset = 1;
+            this.slotRules = newSlotRules(0);
+            this.intSlotRules = newIntSlotRules(0);
+        } else {
+            this.slotOffset = minSlot;
+            this.slotRules = newSlotRules(maxSlot - minSlot + 1);
+            this.intSlotRules = newIntSlotRules(maxSlot - minSlot + 1);
+
+            for (Map.Entry<ChronoElement<?>, ElementRule<T, ?>> entry : this.ruleMap.entrySet()) {
+                ChronoElement<?> element = entry.getKey();
+                if (element instanceof BasicElement) {
+                    int slot = BasicElement.class.cast(element).slot;
+                    if ((slot >= minSlot) && (slot <= maxSlot)) {
+                        this.slotRules[slot - minSlot] = entry.getValue();
+                        this.intSlotRules[slot - minSlot] = tmpRules.get(element);
+                    }
+                }
+            }
+        }
+        this.derivedRules = new ConcurrentHashMap<>();
+        this.derivedQueue = new ReferenceQueue<>();
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -190,7 +258,10 @@ public class Chronology<T>
      */
     public boolean isRegistered(ChronoElement<?> element) {
 
-        return ((element != null) && this.ruleMap.containsKey(element));
+        return (
+            (element != null)
+            && ((this.getSlotRule(element) != null) || this.ruleMap.containsKey(element))
+        );
 
     }
 
@@ -220,6 +291,7 @@ public class Chronology<T>
         } else {
             return (
                 this.isRegistered(element)
+                || (this.getCachedRule(element) != null)
                 || (this.getDerivedRule(element, false) != null)
             );
         }
@@ -475,13 +547,24 @@ public class Chronology<T>
             throw new NullPointerException("Missing chronological element.");
         }
 
-        ElementRule<?, ?> rule = this.ruleMap.get(element);
+        ElementRule<?, ?> rule = this.getSlotRule(element);
 
         if (rule == null) {
-            rule = this.getDerivedRule(element, true);
+            rule = this.ruleMap.get(element);
+        }
+
+        if (rule == null) {
+            rule = this.getCachedRule(element);
 
             if (rule == null) {
-                throw new RuleNotFoundException(this, element);
+                ElementRule<T, ?> derived = this.getDerivedRule(element, true);
+
+                if (derived == null) {
+                    throw new RuleNotFoundException(this, element);
+                }
+
+                this.cacheDerivedRule(element, derived);
+                rule = derived;
             }
         }
 
@@ -498,6 +581,18 @@ public class Chronology<T>
      */
     IntElementRule<T> getIntegerRule(ChronoElement<Integer> element) {
 
+        if (element instanceof BasicElement) {
+            int index = BasicElement.class.cast(element).slot - this.slotOffset;
+
+            if ((index >= 0) && (index < this.intSlotRules.length)) {
+                IntElementRule<T> rule = this.intSlotRules[index];
+
+                if (rule != null) {
+                    return rule;
+                }
+            }
+        }
+
         return this.intRules.get(element);
 
     }
@@ -526,6 +621,108 @@ public class Chronology<T>
 
     }
 
+    // direkter Array-Zugriff für registrierte Elemente mit Slot-Index
+    private ElementRule<T, ?> getSlotRule(ChronoElement<?> element) {
+
+        if (element instanceof BasicElement) {
+            int index = BasicElement.class.cast(element).slot - this.slotOffset;
+
+            if ((index >= 0) && (index < this.slotRules.length)) {
+                return this.slotRules[index];
+            }
+        }
+
+        return null;
+
+    }
+
+    // liefert eine zwischengespeicherte abgeleitete Regel oder null
+    private ElementRule<T, ?> getCachedRule(ChronoElement<?> element) {
+
+        SoftReference<ElementRule<T, ?>> ref = this.derivedRules.get(new LookupKey(element));
+        return ((ref == null) ? null : ref.get());
+
+    }
+
+    // merkt sich eine abgeleitete Regel (nur nach bestandener Veto-Prüfung)
+    private void cacheDerivedRule(
+        ChronoElement<?> element,
+        ElementRule<T, ?> rule
+    ) {
+
+        ElementKey key;
+
+        while ((key = (ElementKey) this.derivedQueue.poll()) != null) {
+            this.derivedRules.remove(key);
+        }
+
+        // Abgeleitete Regeln referenzieren oft ihr Element, deshalb werden sie nur weich gehalten: Erst nach
+        // dem Freigeben einer Regel durch den Garbage Collector kann auch der schwache Schlüssel verschwinden.
+        // Zusätzlich werden bei Erreichen der Größengrenze Einträge verdrängt.
+        if (this.derivedRules.size() >= MAX_DERIVED_RULES) {
+            this.derivedRules.values().removeIf(ref -> (ref.get() == null));
+            Iterator<DerivedKey> iter = this.derivedRules.keySet().iterator();
+            while ((this.derivedRules.size() >= MAX_DERIVED_RULES) && iter.hasNext()) {
+                iter.next();
+                iter.remove();
+            }
+        }
+
+        this.derivedRules.put(new ElementKey(element, this.derivedQueue), new SoftReference<>(rule));
+
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> ElementRule<T, ?>[] newSlotRules(int length) {
+
+        return new ElementRule[length];
+
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> IntElementRule<T>[] newIntSlotRules(int length) {
+
+        return new IntElementRule[length];
+
+    }
+
+    // bestimmt das Slot-Fenster {min, max} mit den meisten Einträgen, dessen Länge höchstens die doppelte
+    // Anzahl der enthaltenen Einträge ist ({0, 0} wenn es keine Slots gibt)
+    private static int[] selectSlotWindow(
+        int[] slots,
+        int n
+    ) {
+
+        Arrays.sort(slots, 0, n);
+        int[] best = new int[] {0, 0};
+        int bestCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            for (int j = i + bestCount; j < n; j++) {
+                int count = j - i + 1;
+                if ((slots[j] - slots[i] + 1 <= 2 * count) && (count > bestCount)) {
+                    best[0] = slots[i];
+                    best[1] = slots[j];
+                    bestCount = count;
+                }
+            }
+        }
+
+        return best;
+
+    }
+
+    // vergibt JVM-weit eindeutige Slot-Indizes in Registrierungsreihenfolge (beginnend mit 1)
+    private static synchronized int assignSlot(BasicElement<?> element) {
+
+        if (element.slot == 0) {
+            element.slot = ++slotCounter;
+        }
+
+        return element.slot;
+
+    }
+
     private static boolean isSingleton(ChronoElement<?> element) {
 
         if (element instanceof BasicElement) {
@@ -780,6 +977,116 @@ public class Chronology<T>
 
     }
 
+    // gemeinsamer Schlüsseltyp für abgeleitete Regeln mit Identitätsvergleich der Elemente
+    private interface DerivedKey {
+
+        //~ Methoden ------------------------------------------------------
+
+        ChronoElement<?> element();
+
+    }
+
+    // Einfacher Suchschlüssel ohne Referenzobjekt, nur für Abfragen
+    private static class LookupKey
+        implements DerivedKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ChronoElement<?> element;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        LookupKey(ChronoElement<?> element) {
+            super();
+
+            this.element = element;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public ChronoElement<?> element() {
+
+            return this.element;
+
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof DerivedKey) {
+                return ((this.element != null) && (this.element == ((DerivedKey) obj).element()));
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return System.identityHashCode(this.element);
+
+        }
+
+    }
+
+    // Schwache Referenz auf ein abgeleitetes Element mit Identitätsvergleich, gespeicherter Schlüssel;
+    // solange die weich gehaltene Regel ihr Element referenziert, ist dieser Schlüssel faktisch stark
+    private static class ElementKey
+        extends WeakReference<ChronoElement<?>>
+        implements DerivedKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int hash;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        ElementKey(
+            ChronoElement<?> element,
+            ReferenceQueue<ChronoElement<?>> queue
+        ) {
+            super(element, queue);
+            this.hash = System.identityHashCode(element);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public ChronoElement<?> element() {
+
+            return this.get();
+
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof DerivedKey) {
+                Object element = this.get();
+                return ((element != null) && (element == ((DerivedKey) obj).element()));
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return this.hash;
+
+        }
+
+    }
+
     // Schwache Referenz auf ein chronologisches System
     private static class ChronoReference
         extends WeakReference<Chronology<?>> {
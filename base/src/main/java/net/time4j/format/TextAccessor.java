@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (TextAccessor.java) is part of project Time4J.
  *
@@ -24,9 +24,12 @@ package net.time4j.format;
 import net.time4j.engine.AttributeQuery;
 
 import java.text.ParsePosition;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 
 /**
@@ -54,6 +57,7 @@ public final class TextAccessor {
     //~ Instanzvariablen --------------------------------------------------
 
     private final List<String> textForms;
+    private volatile Trie trie = null; // lazy
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -296,6 +300,23 @@ public final class TextAccessor {
         int len = this.textForms.size();
         int start = status.getIndex();
         int end = parseable.length();
+
+        if (!partialCompare && (enums.length <= len)) {
+            Trie t = this.getTrie();
+            if (
+                (t != Trie.NONE)
+                && !(smart && t.abbreviatedDot && (start + 3 < end) && (parseable.charAt(start + 3) == '.'))
+            ) {
+                int index = t.lookup(parseable, start, end, enums.length, caseInsensitive, smart);
+                if (index == -1) {
+                    status.setErrorIndex(start);
+                    return null;
+                }
+                status.setIndex(start + this.textForms.get(index).length());
+                return enums[index];
+            }
+        }
+
         String alt = "";
 
         int maxEq = 0;
@@ -330,7 +351,7 @@ public final class TextAccessor {
                     }
 
                     if (caseInsensitive) {
-                        eq = (c == t) || this.compareIgnoreCase(c, t);
+                        eq = (c == t) || compareIgnoreCase(c, t);
                     } else {
                         eq = (c == t);
                     }
@@ -377,7 +398,21 @@ public final class TextAccessor {
 
     }
 
-    private boolean compareIgnoreCase(char c1, char c2) {
+    // the trie is built on first parse and then shared like the accessor itself
+    private Trie getTrie() {
+
+        Trie t = this.trie;
+
+        if (t == null) {
+            t = Trie.build(this.textForms);
+            this.trie = t;
+        }
+
+        return t;
+
+    }
+
+    private static boolean compareIgnoreCase(char c1, char c2) {
 
         if (c1 >= 'a' && c1 <= 'z') {
             if (c2 >= 'A' && c2 <= 'Z') {
@@ -399,4 +434,231 @@ public final class TextAccessor {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Pr&auml;fixbaum aller Textformen mit gefalteter Gro&szlig;-/Kleinschreibung. </p>
+     *
+     * <p>Ein Durchlauf &uuml;ber den Eingabetext liefert alle Textformen, die als Pr&auml;fix passen
+     * k&ouml;nnten. Diese Kandidaten werden anschlie&szlig;end exakt mit den Regeln der linearen Suche
+     * gepr&uuml;ft, so da&szlig; immer die erste passende Textform in Enum-Reihenfolge gewinnt. Textformen
+     * mit nur einem Zeichen (schmale Namen) werden nicht unterst&uuml;tzt, weil sie nach einem anderen
+     * Verfahren verglichen werden. </p>
+     */
+    private static final class Trie {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final Trie NONE = new Trie(null, null, null, null, null, false);
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String[] forms;
+        private final int[] edgeStart; // node => first edge, length = count of nodes + 1
+        private final char[] labels; // edge => folded char
+        private final int[] targets; // edge => child node
+        private final int[][] terminals; // node => ascending indices of text forms ending here
+        private final boolean abbreviatedDot;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Trie(
+            String[] forms,
+            int[] edgeStart,
+            char[] labels,
+            int[] targets,
+            int[][] terminals,
+            boolean abbreviatedDot
+        ) {
+            super();
+
+            this.forms = forms;
+            this.edgeStart = edgeStart;
+            this.labels = labels;
+            this.targets = targets;
+            this.terminals = terminals;
+            this.abbreviatedDot = abbreviatedDot;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static Trie build(List<String> textForms) {
+
+            int n = textForms.size();
+            String[] forms = textForms.toArray(new String[n]);
+            boolean abbreviatedDot = false;
+
+            for (String s : forms) {
+                if (s.length() == 1) {
+                    return NONE;
+                }
+                for (int j = 0; j < s.length(); j++) {
+                    char c = s.charAt(j);
+                    if ((c != PROTECTED_SPACE) && (Character.toLowerCase(c) != fold(c))) {
+                        return NONE; // case folding would not cover all matches of compareIgnoreCase()
+                    }
+                }
+                if ((s.length() == 5) && (s.charAt(4) == '.')) {
+                    abbreviatedDot = true;
+                }
+            }
+
+            List<Map<Character, Integer>> children = new ArrayList<>();
+            List<List<Integer>> ends = new ArrayList<>();
+            children.add(new TreeMap<>());
+            ends.add(new ArrayList<>());
+            int edges = 0;
+
+            for (int i = 0; i < n; i++) {
+                String s = forms[i];
+                int node = 0;
+                for (int j = 0; j < s.length(); j++) {
+                    Character key = Character.valueOf(fold(s.charAt(j)));
+                    Integer next = children.get(node).get(key);
+                    if (next == null) {
+                        next = Integer.valueOf(children.size());
+                        children.get(node).put(key, next);
+                        children.add(new TreeMap<>());
+                        ends.add(new ArrayList<>());
+                        edges++;
+                    }
+                    node = next.intValue();
+                }
+                ends.get(node).add(Integer.valueOf(i));
+            }
+
+            int count = children.size();
+            int[] edgeStart = new int[count + 1];
+            char[] labels = new char[edges];
+            int[] targets = new int[edges];
+            int[][] terminals = new int[count][];
+            int e = 0;
+
+            for (int node = 0; node < count; node++) {
+                edgeStart[node] = e;
+                for (Map.Entry<Character, Integer> entry : children.get(node).entrySet()) {
+                    labels[e] = entry.getKey().charValue();
+                    targets[e] = entry.getValue().intValue();
+                    e++;
+                }
+                List<Integer> indices = ends.get(node);
+                if (!indices.isEmpty()) {
+                    int[] arr = new int[indices.size()];
+                    for (int k = 0; k < arr.length; k++) {
+                        arr[k] = indices.get(k).intValue();
+                    }
+                    terminals[node] = arr;
+                }
+            }
+
+            edgeStart[count] = e;
+            return new Trie(forms, edgeStart, labels, targets, terminals, abbreviatedDot);
+
+        }
+
+        /**
+         * <p>Sucht die erste passende Textform in Enum-Reihenfolge. </p>
+         *
+         * @return  index of matching text form or {@code -1}
+         */
+        int lookup(
+            CharSequence parseable,
+            int start,
+            int end,
+            int limit,
+            boolean caseInsensitive,
+            boolean smart
+        ) {
+
+            int best = -1;
+            int node = 0;
+            int pos = start;
+
+            while (true) {
+                int[] indices = this.terminals[node];
+
+                if (indices != null) {
+                    for (int index : indices) {
+                        if ((index >= limit) || ((best != -1) && (index >= best))) {
+                            break;
+                        } else if (matches(this.forms[index], parseable, start, caseInsensitive, smart)) {
+                            best = index;
+                            break;
+                        }
+                    }
+                }
+
+                if (pos >= end) {
+                    break;
+                }
+
+                char c = fold(parseable.charAt(pos));
+                int next = -1;
+
+                for (int e = this.edgeStart[node], max = this.edgeStart[node + 1]; e < max; e++) {
+                    if (this.labels[e] == c) {
+                        next = this.targets[e];
+                        break;
+                    }
+                }
+
+                if (next == -1) {
+                    break;
+                }
+
+                node = next;
+                pos++;
+            }
+
+            return best;
+
+        }
+
+        private static boolean matches(
+            String s,
+            CharSequence parseable,
+            int start,
+            boolean caseInsensitive,
+            boolean smart
+        ) {
+
+            for (int j = 0, n = s.length(); j < n; j++) {
+                char c = parseable.charAt(start + j);
+                char t = s.charAt(j);
+
+                if (smart) {
+                    if (c == PROTECTED_SPACE) {
+                        c = ' ';
+                    }
+                    if (t == PROTECTED_SPACE) {
+                        t = ' ';
+                    }
+                }
+
+                if ((c != t) && !(caseInsensitive && compareIgnoreCase(c, t))) {
+                    return false;
+                }
+            }
+
+            return true;
+
+        }
+
+        private static char fold(char c) {
+
+            if (c == PROTECTED_SPACE) {
+                return ' ';
+            } else if ((c >= 'A') && (c <= 'Z')) {
+                return (char) (c + 'a' - 'A');
+            } else if (c < 0x80) {
+                return c;
+            }
+
+            return Character.toLowerCase(Character.toUpperCase(c));
+
+        }
+
+    }
+
 }
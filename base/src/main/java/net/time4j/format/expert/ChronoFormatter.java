@@ -252,6 +252,7 @@ public final class ChronoFormatter<T>
     private final Chronology<?> deepestParser;
     private final int stepCount;
     private final boolean singleStepMode;
+    private final FixedLayoutParser<T> fixedLayoutParser;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -322,6 +323,7 @@ public final class ChronoFormatter<T>
         this.stepCount = steps.size();
         this.steps = this.freeze(steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.fixedLayoutParser = this.compileFixedLayout();
 
     }
 
@@ -440,6 +442,7 @@ public final class ChronoFormatter<T>
         this.stepCount = copy.size();
         this.steps = this.freeze(copy);
         this.singleStepMode = this.getSingleStepMode();
+        this.fixedLayoutParser = this.compileFixedLayout();
 
     }
 
@@ -490,6 +493,7 @@ public final class ChronoFormatter<T>
         this.stepCount = formatter.stepCount;
         this.steps = this.freeze(formatter.steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.fixedLayoutParser = this.compileFixedLayout();
 
     }
 
@@ -794,6 +798,18 @@ public final class ChronoFormatter<T>
         boolean withPositions
     ) throws IOException {
 
+        return this.print(formattable, buffer, attributes, withPositions, null);
+
+    }
+
+    private Set<ElementPosition> print(
+        ChronoDisplay formattable,
+        Appendable buffer,
+        AttributeQuery attributes,
+        boolean withPositions,
+        FormatScratch scratch
+    ) throws IOException {
+
         if (buffer == null) {
             throw new NullPointerException("Missing text result buffer.");
         }
@@ -809,8 +825,17 @@ public final class ChronoFormatter<T>
         }
 
         if (this.hasOrMarkers) {
-            Deque<StringBuilder> collectorStack = new LinkedList<>();
-            StringBuilder buf = new StringBuilder(len << 2);
+            Deque<StringBuilder> collectorStack;
+            StringBuilder buf;
+
+            if (scratch == null) {
+                collectorStack = new LinkedList<>();
+                buf = new StringBuilder(len << 2);
+            } else {
+                collectorStack = scratch.getBuilderStack();
+                buf = scratch.pollBuilder();
+            }
+
             collectorStack.push(buf);
 
             Deque<Set<ElementPosition>> positionStack = null;
@@ -829,7 +854,7 @@ public final class ChronoFormatter<T>
 
                 // Start einer optionalen Sektion: Stack erweitern
                 while (level > previous) {
-                    StringBuilder sb = new StringBuilder();
+                    StringBuilder sb = ((scratch == null) ? new StringBuilder() : scratch.pollBuilder());
                     sb.append(collectorStack.peek());
                     collectorStack.push(sb);
                     if (withPositions) {
@@ -843,7 +868,10 @@ public final class ChronoFormatter<T>
                 // Ende einer optionalen Sektion: Werte im Stack sichern
                 while (level < previous) {
                     buf = collectorStack.pop();
-                    collectorStack.pop();
+                    StringBuilder discarded = collectorStack.pop();
+                    if (scratch != null) {
+                        scratch.recycle(discarded);
+                    }
                     collectorStack.push(buf);
                     if (withPositions) {
                         positions = positionStack.pop();
@@ -884,8 +912,12 @@ public final class ChronoFormatter<T>
 
                     if ((last > index) || step.isNewOrBlockStarted()) {
                         // wenn gefunden, zum nächsten oder-Block springen
-                        collectorStack.pop();
-                        StringBuilder sb = new StringBuilder();
+                        StringBuilder sb = collectorStack.pop();
+                        if (scratch == null) {
+                            sb = new StringBuilder();
+                        } else {
+                            sb.setLength(0);
+                        }
                         if (!collectorStack.isEmpty()) {
                             sb.append(collectorStack.peek());
                         }
@@ -915,9 +947,16 @@ public final class ChronoFormatter<T>
 
             // Verbleibende optionale Sektionen auflösen und Ergebnis schreiben
             buf = collectorStack.peek();
-            collectorStack.clear();
             buffer.append(buf);
 
+            if (scratch != null) {
+                while (!collectorStack.isEmpty()) {
+                    scratch.recycle(collectorStack.pop());
+                }
+            }
+
+            collectorStack.clear();
+
             if (withPositions) {
                 positions = positionStack.peek();
                 positionStack.clear();
@@ -947,9 +986,43 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Creates a new session which recycles the internal working structures of this formatter
+     * between successive calls. </p>
+     *
+     * <p>A session is not thread-safe and should be confined to one thread, for example held
+     * in a local variable or a {@code ThreadLocal}. The formatter itself stays immutable. </p>
+     *
+     * @return  new session bound to this formatter
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine neue Sitzung, die die internen Arbeitsstrukturen dieses Formatierers
+     * zwischen aufeinanderfolgenden Aufrufen wiederverwendet. </p>
+     *
+     * <p>Eine Sitzung ist nicht thread-sicher und sollte auf einen Thread beschr&auml;nkt
+     * bleiben, zum Beispiel als lokale Variable oder in einem {@code ThreadLocal}. Der
+     * Formatierer selbst bleibt unver&auml;nderlich. </p>
+     *
+     * @return  new session bound to this formatter
+     * @since   5.10
+     */
+    public Session<T> newSession() {
+
+        return new Session<>(this);
+
+    }
+
     @Override
     public T parse(CharSequence text) throws ParseException {
 
+        if (this.fixedLayoutParser != null) {
+            T result = this.fixedLayoutParser.parse(text);
+            if (result != null) {
+                return result;
+            }
+        }
+
         ParseLog status = new ParseLog();
         T result = this.parse(text, status);
 
@@ -3282,6 +3355,13 @@ public final class ChronoFormatter<T>
 
     }
 
+    // compiled parser for fixed layouts (optional)
+    FixedLayoutParser<T> getFixedLayoutParser() {
+
+        return this.fixedLayoutParser;
+
+    }
+
     // used by MultiFormatParser
     boolean isToleratingTrailingChars() {
 
@@ -3908,12 +3988,16 @@ public final class ChronoFormatter<T>
         int countOfElements
     ) {
 
-        ParsedValues values = new ParsedValues(countOfElements, this.indexable);
+        FormatScratch scratch = status.takeScratch();
+        ParsedValues values = (
+            (scratch == null)
+            ? new ParsedValues(countOfElements, this.indexable)
+            : scratch.pollValues(countOfElements, this.indexable));
         values.setPosition(status.getPosition());
         Deque<ParsedValues> data = null;
 
         if (this.hasOptionals) {
-            data = new LinkedList<>();
+            data = ((scratch == null) ? new LinkedList<>() : scratch.getValueStack());
             data.push(values);
         }
 
@@ -3934,7 +4018,10 @@ public final class ChronoFormatter<T>
 
                 // Start einer optionalen Sektion: Stack erweitern
                 while (level > previous) {
-                    values = new ParsedValues(countOfElements >>> 1, this.indexable);
+                    values = (
+                        (scratch == null)
+                        ? new ParsedValues(countOfElements >>> 1, this.indexable)
+                        : scratch.pollValues(countOfElements >>> 1, this.indexable));
                     values.setPosition(status.getPosition());
                     data.push(values);
                     level--;
@@ -3944,6 +4031,9 @@ public final class ChronoFormatter<T>
                 while (level < previous) {
                     values = data.pop();
                     data.peek().putAll(values);
+                    if (scratch != null) {
+                        scratch.recycle(values);
+                    }
                     level++;
                 }
 
@@ -3999,6 +4089,7 @@ public final class ChronoFormatter<T>
                         values = data.peek();
                     }
                     values.setNoAmbivalentCheck();
+                    status.setScratch(scratch);
                     return values;
                 } else {
                     // Ende des optionalen Abschnitts suchen
@@ -4024,6 +4115,9 @@ public final class ChronoFormatter<T>
                     values = data.pop();
                     status.clearError();
                     status.setPosition(values.getPosition());
+                    if (scratch != null) {
+                        scratch.recycle(values);
+                    }
                 }
             } else if (step.isNewOrBlockStarted()) {
                 index = step.skipTrailingOrBlocks();
@@ -4039,6 +4133,9 @@ public final class ChronoFormatter<T>
             assert (data != null);
             values = data.pop();
             data.peek().putAll(values);
+            if (scratch != null) {
+                scratch.recycle(values);
+            }
             current--;
         }
 
@@ -4048,6 +4145,7 @@ public final class ChronoFormatter<T>
         }
 
         values.setNoAmbivalentCheck();
+        status.setScratch(scratch);
         return values;
 
     }
@@ -4222,6 +4320,22 @@ public final class ChronoFormatter<T>
 
     }
 
+    private FixedLayoutParser<T> compileFixedLayout() {
+
+        if (
+            (this.overrideHandler != null)
+            || !this.defaults.isEmpty()
+            || this.hasOptionals
+            || this.hasOrMarkers
+            || this.needsExtensions
+        ) {
+            return null;
+        }
+
+        return FixedLayoutParser.compile(this.chronology, this.steps, this.globalAttributes);
+
+    }
+
     private boolean hasNoPreparser() {
 
         return ((this.chronology.preparser() == null) && (this.overrideHandler == null));
@@ -7716,6 +7830,340 @@ s         * <p>Definiert ein Textformat f&uuml;r das angegebene Element mit
 
     }
 
+    /**
+     * <p>Reusable formatting and parsing context of a {@code ChronoFormatter}. </p>
+     *
+     * <p>Every parse or print call of a formatter allocates short-lived working structures
+     * like a parse log, the container of parsed raw values and - for optional sections or
+     * or-blocks - some stacks. A session keeps these structures and recycles them such that
+     * high-volume processing on one thread causes less garbage. It also supports parsing of
+     * a text region without copying it. The results are identical to those of the formatter. </p>
+     *
+     * <p>Example: </p>
+     *
+     * <pre>
+     *  ChronoFormatter&lt;PlainTimestamp&gt; f =
+     *      ChronoFormatter.ofTimestampPattern(&quot;uuuu-MM-dd HH:mm&quot;, PatternType.CLDR, Locale.ROOT);
+     *  ChronoFormatter.Session&lt;PlainTimestamp&gt; session = f.newSession();
+     *  String line = &quot;id=17;2026-10-17 14:45;OK&quot;;
+     *  System.out.println(session.parse(line, 6, 22)); // 2026-10-17T14:45
+     * </pre>
+     *
+     * @param   <T> generic type of chronological entity
+     * @author  Meno Hochschild
+     * @see     ChronoFormatter#newSession()
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Wiederverwendbarer Formatierungs- und Interpretierungskontext eines
+     * {@code ChronoFormatter}. </p>
+     *
+     * <p>Jeder Aufruf eines Formatierers erzeugt kurzlebige Arbeitsstrukturen wie ein
+     * Interpretierungs-Log, den Beh&auml;lter der interpretierten Rohdaten und - f&uuml;r
+     * optionale Abschnitte oder oder-Bl&ouml;cke - einige Stapel. Eine Sitzung bewahrt diese
+     * Strukturen auf und verwendet sie wieder, so da&szlig; eine massenhafte Verarbeitung auf
+     * einem Thread weniger Speicherm&uuml;ll erzeugt. Au&szlig;erdem k&ouml;nnen Textbereiche
+     * ohne Kopieren interpretiert werden. Die Ergebnisse sind mit denen des Formatierers
+     * identisch. </p>
+     *
+     * <p>Beispiel: </p>
+     *
+     * <pre>
+     *  ChronoFormatter&lt;PlainTimestamp&gt; f =
+     *      ChronoFormatter.ofTimestampPattern(&quot;uuuu-MM-dd HH:mm&quot;, PatternType.CLDR, Locale.ROOT);
+     *  ChronoFormatter.Session&lt;PlainTimestamp&gt; session = f.newSession();
+     *  String line = &quot;id=17;2026-10-17 14:45;OK&quot;;
+     *  System.out.println(session.parse(line, 6, 22)); // 2026-10-17T14:45
+     * </pre>
+     *
+     * @param   <T> generic type of chronological entity
+     * @author  Meno Hochschild
+     * @see     ChronoFormatter#newSession()
+     * @since   5.10
+     */
+    public static final class Session<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ChronoFormatter<T> formatter;
+        private final FormatScratch scratch;
+        private final ParseLog status;
+        private final Region region;
+        private final StringBuilder buffer;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Session(ChronoFormatter<T> formatter) {
+            super();
+
+            this.formatter = formatter;
+            this.scratch = new FormatScratch();
+            this.status = new ParseLog();
+            this.region = new Region();
+            this.buffer = new StringBuilder(formatter.steps.size() * 8);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the associated formatter. </p>
+         *
+         * @return  ChronoFormatter
+         */
+        /*[deutsch]
+         * <p>Liefert den zugeh&ouml;rigen Formatierer. </p>
+         *
+         * @return  ChronoFormatter
+         */
+        public ChronoFormatter<T> getFormatter() {
+
+            return this.formatter;
+
+        }
+
+        /**
+         * <p>Equivalent to {@link ChronoFormatter#format(Object)} but reuses internal buffers. </p>
+         *
+         * @param   formattable     object to be formatted
+         * @return  formatted text
+         * @throws  IllegalArgumentException if given object is not formattable
+         */
+        /*[deutsch]
+         * <p>&Auml;quivalent zu {@link ChronoFormatter#format(Object)}, verwendet aber interne
+         * Puffer wieder. </p>
+         *
+         * @param   formattable     object to be formatted
+         * @return  formatted text
+         * @throws  IllegalArgumentException if given object is not formattable
+         */
+        public String format(T formattable) {
+
+            StringBuilder sb = this.buffer;
+            sb.setLength(0);
+
+            try {
+                this.print(formattable, sb);
+            } catch (IOException ioe) {
+                throw new AssertionError(ioe);
+            }
+
+            return sb.toString();
+
+        }
+
+        /**
+         * <p>Prints given chronological entity as formatted text into given buffer. </p>
+         *
+         * @param   formattable     object to be formatted
+         * @param   buffer          text output buffer
+         * @throws  IllegalArgumentException if given object is not formattable
+         * @throws  IOException if writing to buffer fails
+         */
+        /*[deutsch]
+         * <p>Formatiert das angegebene Objekt als Text und schreibt ihn in den Puffer. </p>
+         *
+         * @param   formattable     object to be formatted
+         * @param   buffer          text output buffer
+         * @throws  IllegalArgumentException if given object is not formattable
+         * @throws  IOException if writing to buffer fails
+         */
+        public void print(
+            T formattable,
+            Appendable buffer
+        ) throws IOException {
+
+            ChronoFormatter<T> cf = this.formatter;
+            ChronoDisplay display = cf.display(formattable, cf.globalAttributes);
+            cf.print(display, buffer, cf.globalAttributes, false, this.scratch);
+
+        }
+
+        /**
+         * <p>Equivalent to {@link ChronoFormatter#parse(CharSequence)} but reuses internal
+         * working structures. </p>
+         *
+         * @param   text    text to be parsed
+         * @return  parse result
+         * @throws  IndexOutOfBoundsException if the text is empty
+         * @throws  ParseException if the text is not parseable
+         */
+        /*[deutsch]
+         * <p>&Auml;quivalent zu {@link ChronoFormatter#parse(CharSequence)}, verwendet aber
+         * interne Arbeitsstrukturen wieder. </p>
+         *
+         * @param   text    text to be parsed
+         * @return  parse result
+         * @throws  IndexOutOfBoundsException if the text is empty
+         * @throws  ParseException if the text is not parseable
+         */
+        public T parse(CharSequence text) throws ParseException {
+
+            return this.parse(text, 0, text.length());
+
+        }
+
+        /**
+         * <p>Interpretes the text region between given start and end index. </p>
+         *
+         * <p>The region must be consumed completely unless trailing characters are allowed.
+         * Error offsets refer to the whole text. </p>
+         *
+         * @param   text    text to be parsed
+         * @param   start   start index of region (inclusive)
+         * @param   end     end index of region (exclusive)
+         * @return  parse result
+         * @throws  IndexOutOfBoundsException if the region is empty or not within the text
+         * @throws  ParseException if the text region is not parseable
+         */
+        /*[deutsch]
+         * <p>Interpretiert den Textbereich zwischen dem angegebenen Start- und Endindex. </p>
+         *
+         * <p>Der Bereich mu&szlig; vollst&auml;ndig verarbeitet werden, es sei denn, nachlaufende
+         * Zeichen sind erlaubt. Fehlerpositionen beziehen sich auf den ganzen Text. </p>
+         *
+         * @param   text    text to be parsed
+         * @param   start   start index of region (inclusive)
+         * @param   end     end index of region (exclusive)
+         * @return  parse result
+         * @throws  IndexOutOfBoundsException if the region is empty or not within the text
+         * @throws  ParseException if the text region is not parseable
+         */
+        public T parse(
+            CharSequence text,
+            int start,
+            int end
+        ) throws ParseException {
+
+            if ((start < 0) || (start >= end) || (end > text.length())) {
+                throw new IndexOutOfBoundsException(
+                    "Invalid region [" + start + ", " + end + "] of text with length " + text.length());
+            }
+
+            ChronoFormatter<T> cf = this.formatter;
+
+            if (cf.fixedLayoutParser != null) {
+                T result = cf.fixedLayoutParser.parse(text, start, end);
+                if (result != null) {
+                    return result;
+                }
+            }
+
+            CharSequence input = ((end == text.length()) ? text : this.region.bind(text, end));
+            ParseLog plog = this.status;
+            plog.reset();
+            plog.setPosition(start);
+            plog.setScratch(this.scratch);
+            T result;
+
+            try {
+                result = cf.parse(input, plog);
+
+                if (result == null) {
+                    throw new ParseException(plog.getErrorMessage(), plog.getErrorIndex());
+                }
+
+                int index = plog.getPosition();
+
+                if (!cf.trailing && (index < end)) {
+                    throw new ParseException("Unparsed trailing characters: " + sub(index, input), index);
+                }
+            } finally {
+                ChronoEntity<?> rawValues = plog.getRawValues0();
+                if (rawValues instanceof ParsedValues) {
+                    this.scratch.recycle((ParsedValues) rawValues);
+                }
+                plog.reset();
+                plog.setScratch(null);
+                this.region.bind(null, 0);
+            }
+
+            return result;
+
+        }
+
+        /**
+         * <p>For debugging purposes. </p>
+         *
+         * @return  String
+         */
+        /*[deutsch]
+         * <p>F&uuml;r Debugging-Zwecke. </p>
+         *
+         * @return  String
+         */
+        @Override
+        public String toString() {
+
+            return "ChronoFormatter.Session[" + this.formatter.getPattern() + "]";
+
+        }
+
+    }
+
+    // view of a text prefix without copying
+    private static final class Region
+        implements CharSequence {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private CharSequence text;
+        private int end;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int length() {
+
+            return this.end;
+
+        }
+
+        @Override
+        public char charAt(int index) {
+
+            if (index >= this.end) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+
+            return this.text.charAt(index);
+
+        }
+
+        @Override
+        public CharSequence subSequence(
+            int start,
+            int end
+        ) {
+
+            if (end > this.end) {
+                throw new StringIndexOutOfBoundsException(end);
+            }
+
+            return this.text.subSequence(start, end);
+
+        }
+
+        @Override
+        public String toString() {
+
+            return this.text.subSequence(0, this.end).toString();
+
+        }
+
+        private CharSequence bind(
+            CharSequence text,
+            int end
+        ) {
+
+            this.text = text;
+            this.end = end;
+            return this;
+
+        }
+
+    }
+
     /**
      * @serial  exclude
      */
@@ -0,0 +1,412 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FixedLayoutParser.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.AttributeQuery;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.Chronology;
+import net.time4j.format.Attributes;
+import net.time4j.format.NumberSystem;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.TZID;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.List;
+
+
+/**
+ * <p>Compiled parser for formatters which only consist of ASCII digit fields and literals
+ * of calendar dates, timestamps or moments with fixed offset. </p>
+ *
+ * <p>The digits are read by offset and the result is directly constructed without any
+ * intermediate {@code ParsedValues}. If the text does not strictly follow the layout
+ * (for example signed or extra-long years, leap seconds, hour 24 or invalid dates) then
+ * this parser yields {@code null} and the generic engine has to take over which will
+ * either produce the same result or a detailed error message. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class FixedLayoutParser<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int LITERAL = -1;
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY = 2;
+    private static final int HOUR = 3;
+    private static final int MINUTE = 4;
+    private static final int SECOND = 5;
+    private static final int NANO = 6;
+
+    private static final int TYPE_DATE = 0;
+    private static final int TYPE_TIMESTAMP = 1;
+    private static final int TYPE_MOMENT = 2;
+
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int type;
+    private final ZonalOffset offset;
+    private final boolean trailing;
+    private final int[] fields;
+    private final int[] minDigits;
+    private final int[] maxDigits;
+    private final int[] reserved;
+    private final LiteralProcessor[] literals;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private FixedLayoutParser(
+        int type,
+        ZonalOffset offset,
+        boolean trailing,
+        int[] fields,
+        int[] minDigits,
+        int[] maxDigits,
+        int[] reserved,
+        LiteralProcessor[] literals
+    ) {
+        super();
+
+        this.type = type;
+        this.offset = offset;
+        this.trailing = trailing;
+        this.fields = fields;
+        this.minDigits = minDigits;
+        this.maxDigits = maxDigits;
+        this.reserved = reserved;
+        this.literals = literals;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Tries to compile given frozen format steps. </p>
+     *
+     * <p>The caller is responsible for excluding formatters with optional sections, or-blocks,
+     * default values, chronological extensions or calendar overrides. </p>
+     *
+     * @param   chronology  chronology of formatter
+     * @param   steps       format steps after quick path optimization
+     * @param   attributes  global format attributes
+     * @return  compiled parser or {@code null} if the steps are not suitable
+     */
+    static <T> FixedLayoutParser<T> compile(
+        Chronology<T> chronology,
+        List<FormatStep> steps,
+        AttributeQuery attributes
+    ) {
+
+        int type;
+        ZonalOffset offset = null;
+
+        if (chronology == PlainDate.axis()) {
+            type = TYPE_DATE;
+        } else if (chronology == PlainTimestamp.axis()) {
+            type = TYPE_TIMESTAMP;
+        } else if (chronology == Moment.axis()) {
+            TZID tzid = attributes.get(Attributes.TIMEZONE_ID, null);
+            if (
+                !(tzid instanceof ZonalOffset)
+                || (attributes.get(Attributes.TIME_SCALE, TimeScale.UTC) != TimeScale.UTC)
+            ) {
+                return null;
+            }
+            type = TYPE_MOMENT;
+            offset = (ZonalOffset) tzid;
+        } else {
+            return null;
+        }
+
+        int n = steps.size();
+        int[] fields = new int[n];
+        int[] minDigits = new int[n];
+        int[] maxDigits = new int[n];
+        int[] reserved = new int[n];
+        LiteralProcessor[] literals = new LiteralProcessor[n];
+        boolean[] found = new boolean[NANO + 1];
+
+        for (int i = 0; i < n; i++) {
+            FormatStep step = steps.get(i);
+            FormatProcessor<?> processor = step.getProcessor();
+
+            if (step.isPadded() || (step.getQuickPathAttributes() == null)) {
+                return null;
+            } else if (processor instanceof LiteralProcessor) {
+                LiteralProcessor lp = (LiteralProcessor) processor;
+                if (!lp.isFixed()) {
+                    return null;
+                }
+                fields[i] = LITERAL;
+                literals[i] = lp;
+                continue;
+            } else if (!hasAsciiDigits(step.getQuickPathAttributes())) {
+                return null;
+            }
+
+            int field;
+
+            if (processor instanceof NumberProcessor) {
+                NumberProcessor<?> np = (NumberProcessor<?>) processor;
+                field = getField(np.getElement());
+                if ((field == LITERAL) || (field == NANO)) {
+                    return null;
+                }
+                int min = np.getMinDigits();
+                int max = np.getMaxDigits();
+                if (!np.isFixedWidth()) {
+                    switch (np.getSignPolicy()) {
+                        case SHOW_ALWAYS:
+                            return null;
+                        case SHOW_WHEN_BIG_NUMBER:
+                            max = min; // strict mode requires a sign for longer numbers
+                            break;
+                        default:
+                            max = Math.min(max, 9);
+                    }
+                    reserved[i] = step.getReserved();
+                }
+                if ((field != YEAR) && (max > 2)) {
+                    return null;
+                }
+                minDigits[i] = min;
+                maxDigits[i] = max;
+            } else if (processor instanceof FractionProcessor) {
+                FractionProcessor fp = (FractionProcessor) processor;
+                if (!fp.isFixedWidth() || (fp.getElement() != PlainTime.NANO_OF_SECOND)) {
+                    return null;
+                }
+                field = NANO;
+                minDigits[i] = fp.getMinDigits();
+                maxDigits[i] = fp.getMinDigits();
+            } else {
+                return null;
+            }
+
+            if (found[field] || (minDigits[i] == 0) || (minDigits[i] > maxDigits[i])) {
+                return null; // duplicate elements require consistency checks
+            }
+
+            found[field] = true;
+            fields[i] = field;
+        }
+
+        if (!found[YEAR] || !found[MONTH] || !found[DAY]) {
+            return null;
+        } else if (type == TYPE_DATE) {
+            if (found[HOUR] || found[MINUTE] || found[SECOND] || found[NANO]) {
+                return null;
+            }
+        } else if (!found[HOUR] || !found[MINUTE] || (found[NANO] && !found[SECOND])) {
+            return null;
+        }
+
+        boolean trailing = attributes.get(Attributes.TRAILING_CHARACTERS, Boolean.FALSE).booleanValue();
+        return new FixedLayoutParser<>(type, offset, trailing, fields, minDigits, maxDigits, reserved, literals);
+
+    }
+
+    /**
+     * <p>Interprets the whole text. </p>
+     *
+     * @param   text    text to be parsed
+     * @return  parsed result or {@code null} if the generic engine shall be used instead
+     */
+    T parse(CharSequence text) {
+
+        return this.parse(text, 0, text.length());
+
+    }
+
+    /**
+     * <p>Interprets the text within given range. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   start   start index (inclusive)
+     * @param   end     end index (exclusive)
+     * @return  parsed result or {@code null} if the generic engine shall be used instead
+     */
+    T parse(
+        CharSequence text,
+        int start,
+        int end
+    ) {
+
+        int pos = start;
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+
+        for (int i = 0, n = this.fields.length; i < n; i++) {
+            int field = this.fields[i];
+
+            if (field == LITERAL) {
+                pos = this.literals[i].match(text, pos);
+                if ((pos == -1) || (pos > end)) {
+                    return null;
+                }
+                continue;
+            }
+
+            int min = this.minDigits[i];
+            int last;
+
+            if (min == this.maxDigits[i]) {
+                last = pos + min;
+                if (last > end) {
+                    return null;
+                }
+            } else {
+                last = pos;
+                while ((last < end) && isDigit(text.charAt(last))) {
+                    last++;
+                }
+                last -= this.reserved[i];
+                int count = last - pos;
+                if ((count < min) || (count > this.maxDigits[i])) {
+                    return null;
+                }
+            }
+
+            int value = 0;
+
+            while (pos < last) {
+                int digit = text.charAt(pos) - '0';
+                if ((digit < 0) || (digit > 9)) {
+                    return null;
+                }
+                value = value * 10 + digit;
+                pos++;
+            }
+
+            switch (field) {
+                case YEAR:
+                    year = value;
+                    break;
+                case MONTH:
+                    month = value;
+                    break;
+                case DAY:
+                    day = value;
+                    break;
+                case HOUR:
+                    hour = value;
+                    break;
+                case MINUTE:
+                    minute = value;
+                    break;
+                case SECOND:
+                    second = value;
+                    break;
+                default:
+                    nano = value * POWERS_OF_TEN[9 - min];
+            }
+        }
+
+        if (
+            ((pos < end) && !this.trailing)
+            || !GregorianMath.isValid(year, month, day)
+            || (hour > 23)
+            || (minute > 59)
+            || (second > 59)
+        ) {
+            return null; // let the generic engine decide about leniency, leap seconds or error messages
+        }
+
+        PlainDate date = PlainDate.of(year, month, day);
+        Object result;
+
+        switch (this.type) {
+            case TYPE_DATE:
+                result = date;
+                break;
+            case TYPE_TIMESTAMP:
+                result = PlainTimestamp.of(date, PlainTime.of(hour, minute, second, nano));
+                break;
+            default:
+                result = PlainTimestamp.of(date, PlainTime.of(hour, minute, second, nano)).at(this.offset);
+        }
+
+        return cast(result);
+
+    }
+
+    private static int getField(ChronoElement<?> element) {
+
+        if (element == PlainDate.YEAR) {
+            return YEAR;
+        } else if ((element == PlainDate.MONTH_AS_NUMBER) || (element == PlainDate.MONTH_OF_YEAR)) {
+            return MONTH;
+        } else if (element == PlainDate.DAY_OF_MONTH) {
+            return DAY;
+        } else if (element == PlainTime.DIGITAL_HOUR_OF_DAY) {
+            return HOUR;
+        } else if (element == PlainTime.MINUTE_OF_HOUR) {
+            return MINUTE;
+        } else if (element == PlainTime.SECOND_OF_MINUTE) {
+            return SECOND;
+        } else {
+            return LITERAL;
+        }
+
+    }
+
+    private static boolean hasAsciiDigits(AttributeQuery attributes) {
+
+        return (
+            (attributes.get(Attributes.NUMBER_SYSTEM, NumberSystem.ARABIC) == NumberSystem.ARABIC)
+            && (attributes.get(Attributes.ZERO_DIGIT, Character.valueOf('0')).charValue() == '0')
+            && (attributes.get(Attributes.PROTECTED_CHARACTERS, 0) == 0)
+        );
+
+    }
+
+    private static boolean isDigit(char c) {
+
+        return ((c >= '0') && (c <= '9'));
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object obj) {
+
+        return (T) obj;
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatScratch.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+
+/**
+ * <p>Recyclable working structures of a {@code ChronoFormatter.Session}. </p>
+ *
+ * <p>Instances are confined to one thread. During parsing, the scratch object is temporarily
+ * taken away from the parse log such that nested formatters working on the same log just
+ * allocate their own structures. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class FormatScratch {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Deque<ParsedValues> spareValues = new ArrayDeque<>();
+    private final Deque<StringBuilder> spareBuilders = new ArrayDeque<>();
+
+    private final Deque<ParsedValues> valueStack = new ArrayDeque<>();
+    private final Deque<StringBuilder> builderStack = new ArrayDeque<>();
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields a cleared instance of parsed values, recycled if possible. </p>
+     *
+     * @param   expectedCountOfElements     How many elements to be expected?
+     * @param   indexable                   Are only indexable elements used?
+     * @return  ParsedValues
+     */
+    ParsedValues pollValues(
+        int expectedCountOfElements,
+        boolean indexable
+    ) {
+
+        ParsedValues values = this.spareValues.poll();
+
+        if ((values == null) || (values.isIndexed() != indexable)) {
+            return new ParsedValues(expectedCountOfElements, indexable);
+        }
+
+        values.clear();
+        return values;
+
+    }
+
+    /**
+     * <p>Gives parsed values back for later reuse. </p>
+     *
+     * @param   values      parsed values which are no longer referenced elsewhere
+     */
+    void recycle(ParsedValues values) {
+
+        this.spareValues.push(values);
+
+    }
+
+    /**
+     * <p>Yields an empty string builder, recycled if possible. </p>
+     *
+     * @return  StringBuilder
+     */
+    StringBuilder pollBuilder() {
+
+        StringBuilder sb = this.spareBuilders.poll();
+
+        if (sb == null) {
+            return new StringBuilder();
+        }
+
+        sb.setLength(0);
+        return sb;
+
+    }
+
+    /**
+     * <p>Gives a string builder back for later reuse. </p>
+     *
+     * @param   sb      string builder which is no longer referenced elsewhere
+     */
+    void recycle(StringBuilder sb) {
+
+        this.spareBuilders.push(sb);
+
+    }
+
+    /**
+     * <p>Yields the empty stack for optional sections during parsing. </p>
+     *
+     * @return  Deque
+     */
+    Deque<ParsedValues> getValueStack() {
+
+        this.valueStack.clear();
+        return this.valueStack;
+
+    }
+
+    /**
+     * <p>Yields the empty stack for or-blocks during printing. </p>
+     *
+     * @return  Deque
+     */
+    Deque<StringBuilder> getBuilderStack() {
+
+        this.builderStack.clear();
+        return this.builderStack;
+
+    }
+
+}
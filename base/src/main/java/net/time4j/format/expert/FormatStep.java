@@ -383,6 +383,43 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>Liefert die Anzahl der f&uuml;r nachfolgende Schritte reservierten Ziffern. </p>
+     *
+     * @return  int
+     * @since   5.10
+     */
+    int getReserved() {
+
+        return this.reserved;
+
+    }
+
+    /**
+     * <p>Gibt es F&uuml;llzeichen links oder rechts? </p>
+     *
+     * @return  boolean
+     * @since   5.10
+     */
+    boolean isPadded() {
+
+        return ((this.padLeft != 0) || (this.padRight != 0));
+
+    }
+
+    /**
+     * <p>Liefert die vollst&auml;ndigen Attribute, die nach dem <i>build</i> mit
+     * {@link #quickPath(ChronoFormatter)} ermittelt wurden. </p>
+     *
+     * @return  global and sectional attributes or {@code null} if not yet built
+     * @since   5.10
+     */
+    AttributeQuery getQuickPathAttributes() {
+
+        return this.fullAttrs;
+
+    }
+
     /**
      * <p>Liegt ein fraktional oder dezimal formatiertes Element vor? </p>
      *
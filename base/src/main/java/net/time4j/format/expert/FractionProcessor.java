@@ -488,6 +488,31 @@ final class FractionProcessor
 
     }
 
+    /**
+     * <p>Wird das Element immer mit einer festen Anzahl von Ziffern ohne
+     * Dezimaltrennzeichen verarbeitet? </p>
+     *
+     * @return  boolean
+     * @since   5.10
+     */
+    boolean isFixedWidth() {
+
+        return this.fixedWidth;
+
+    }
+
+    /**
+     * <p>Liefert die minimale Anzahl von Ziffern. </p>
+     *
+     * @return  int
+     * @since   5.10
+     */
+    int getMinDigits() {
+
+        return this.minDigits;
+
+    }
+
     private boolean hasDecimalSeparator() {
 
         return (this.decimalSeparator != null);
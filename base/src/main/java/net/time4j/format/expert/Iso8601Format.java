@@ -56,6 +56,9 @@ import static net.time4j.PlainTime.*;
  * <p>Note: Most produced formatters ignore any format attribute change. As exception case, timezone
  * attributes are recognized by {@code BASIC_DATE_TIME_OFFSET} or {@code EXTENDED_DATE_TIME_OFFSET}. </p>
  *
+ * <p>For high-volume output of calendar dates, timestamps or moments without intermediate objects,
+ * see {@link Iso8601Printer}. </p>
+ *
  * @author  Meno Hochschild
  */
 /*[deutsch]
@@ -71,13 +74,16 @@ import static net.time4j.PlainTime.*;
  * die Formatierer {@code BASIC_DATE_TIME_OFFSET} und {@code EXTENDED_DATE_TIME_OFFSET} ausnahmsweise
  * zeitzonenbezogene Attribute verarbeiten. </p>
  *
+ * <p>F&uuml;r Massenausgaben von Kalenderdaten, Zeitstempeln oder Momenten ohne Zwischenobjekte
+ * siehe {@link Iso8601Printer}. </p>
+ *
  * @author  Meno Hochschild
  */
 public class Iso8601Format {
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final IsoDecimalStyle DEFAULT_ISO_DECIMAL_STYLE = (
+    static final IsoDecimalStyle DEFAULT_ISO_DECIMAL_STYLE = (
         Boolean.getBoolean("net.time4j.format.iso.decimal.dot")
             ? IsoDecimalStyle.DOT
             : IsoDecimalStyle.COMMA);
@@ -0,0 +1,649 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (Iso8601Printer.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.tz.ZonalOffset;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Prints calendar dates, timestamps and moments in the calendar formats of
+ * {@link Iso8601Format} directly into character arrays, byte buffers or appendables. </p>
+ *
+ * <p>The output is identical to the output of the corresponding formatters, for example
+ * {@code EXTENDED.print(moment, offset, buffer, pos)} yields the same characters as
+ * {@code Iso8601Format.EXTENDED_DATE_TIME_OFFSET.withTimezone(offset).format(moment)}.
+ * However, this class does not need any intermediate objects and is therefore suitable
+ * for high-volume output like logging. All printed characters are ASCII, so byte buffers
+ * receive one byte per character. </p>
+ *
+ * <p>Instances are immutable and can be shared between threads. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ * @see     Iso8601Format#EXTENDED_CALENDAR_DATE
+ * @see     Iso8601Format#EXTENDED_DATE_TIME
+ * @see     Iso8601Format#EXTENDED_DATE_TIME_OFFSET
+ */
+/*[deutsch]
+ * <p>Gibt Kalenderdaten, Zeitstempel und Momente in den Kalenderformaten von
+ * {@link Iso8601Format} direkt in Zeichen-Arrays, Byte-Puffer oder {@code Appendable}s aus. </p>
+ *
+ * <p>Die Ausgabe ist mit der Ausgabe der entsprechenden Formatierer identisch, zum Beispiel
+ * liefert {@code EXTENDED.print(moment, offset, buffer, pos)} dieselben Zeichen wie
+ * {@code Iso8601Format.EXTENDED_DATE_TIME_OFFSET.withTimezone(offset).format(moment)}.
+ * Allerdings ben&ouml;tigt diese Klasse keine Zwischenobjekte und eignet sich deshalb
+ * f&uuml;r Massenausgaben wie Protokollierung. Alle ausgegebenen Zeichen sind ASCII, so
+ * da&szlig; Byte-Puffer ein Byte pro Zeichen erhalten. </p>
+ *
+ * <p>Instanzen sind unver&auml;nderlich und k&ouml;nnen von mehreren Threads gemeinsam
+ * genutzt werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ * @see     Iso8601Format#EXTENDED_CALENDAR_DATE
+ * @see     Iso8601Format#EXTENDED_DATE_TIME
+ * @see     Iso8601Format#EXTENDED_DATE_TIME_OFFSET
+ */
+public final class Iso8601Printer {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>Maximum count of characters printed by any method of this class (41). </p>
+     */
+    /*[deutsch]
+     * <p>Maximale Anzahl der Zeichen, die eine Methode dieser Klasse ausgibt (41). </p>
+     */
+    public static final int MAX_LENGTH = 41;
+
+    /**
+     * <p>Prints like {@code BASIC_CALENDAR_DATE}, {@code BASIC_DATE_TIME} or
+     * {@code BASIC_DATE_TIME_OFFSET} in {@link Iso8601Format}. </p>
+     */
+    /*[deutsch]
+     * <p>Gibt wie {@code BASIC_CALENDAR_DATE}, {@code BASIC_DATE_TIME} oder
+     * {@code BASIC_DATE_TIME_OFFSET} in {@link Iso8601Format} aus. </p>
+     */
+    public static final Iso8601Printer BASIC =
+        new Iso8601Printer(false, Iso8601Format.DEFAULT_ISO_DECIMAL_STYLE);
+
+    /**
+     * <p>Prints like {@code EXTENDED_CALENDAR_DATE}, {@code EXTENDED_DATE_TIME} or
+     * {@code EXTENDED_DATE_TIME_OFFSET} in {@link Iso8601Format}. </p>
+     */
+    /*[deutsch]
+     * <p>Gibt wie {@code EXTENDED_CALENDAR_DATE}, {@code EXTENDED_DATE_TIME} oder
+     * {@code EXTENDED_DATE_TIME_OFFSET} in {@link Iso8601Format} aus. </p>
+     */
+    public static final Iso8601Printer EXTENDED =
+        new Iso8601Printer(true, Iso8601Format.DEFAULT_ISO_DECIMAL_STYLE);
+
+    private static final long MJD_OFFSET = 40587; // 1970-01-01 as modified julian date
+
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final boolean extended;
+    private final char decimalSeparator;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private Iso8601Printer(
+        boolean extended,
+        IsoDecimalStyle decimalStyle
+    ) {
+        super();
+
+        this.extended = extended;
+
+        switch (decimalStyle) {
+            case COMMA:
+                this.decimalSeparator = ',';
+                break;
+            case DOT:
+                this.decimalSeparator = '.';
+                break;
+            default:
+                throw new UnsupportedOperationException(decimalStyle.name());
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Obtains a printer for given format variant and decimal style. </p>
+     *
+     * @param   extended        extended or basic format?
+     * @param   decimalStyle    iso-compatible decimal style
+     * @return  printer
+     */
+    /*[deutsch]
+     * <p>Liefert einen Drucker f&uuml;r die angegebene Formatvariante und den Dezimalstil. </p>
+     *
+     * @param   extended        extended or basic format?
+     * @param   decimalStyle    iso-compatible decimal style
+     * @return  printer
+     */
+    public static Iso8601Printer of(
+        boolean extended,
+        IsoDecimalStyle decimalStyle
+    ) {
+
+        if (decimalStyle == Iso8601Format.DEFAULT_ISO_DECIMAL_STYLE) {
+            return (extended ? EXTENDED : BASIC);
+        }
+
+        return new Iso8601Printer(extended, decimalStyle);
+
+    }
+
+    /**
+     * <p>Prints given calendar date into a character array. </p>
+     *
+     * @param   date        calendar date to be printed
+     * @param   buffer      target array
+     * @param   pos         start index in target array
+     * @return  index after last printed character
+     * @throws  ArrayIndexOutOfBoundsException if the target array is too small
+     */
+    /*[deutsch]
+     * <p>Gibt das angegebene Kalenderdatum in ein Zeichen-Array aus. </p>
+     *
+     * @param   date        calendar date to be printed
+     * @param   buffer      target array
+     * @param   pos         start index in target array
+     * @return  index after last printed character
+     * @throws  ArrayIndexOutOfBoundsException if the target array is too small
+     */
+    public int print(
+        PlainDate date,
+        char[] buffer,
+        int pos
+    ) {
+
+        return this.printDate(date.getYear(), date.getMonth(), date.getDayOfMonth(), buffer, pos);
+
+    }
+
+    /**
+     * <p>Prints given timestamp into a character array. </p>
+     *
+     * @param   tsp         local timestamp to be printed
+     * @param   buffer      target array
+     * @param   pos         start index in target array
+     * @return  index after last printed character
+     * @throws  ArrayIndexOutOfBoundsException if the target array is too small
+     */
+    /*[deutsch]
+     * <p>Gibt den angegebenen Zeitstempel in ein Zeichen-Array aus. </p>
+     *
+     * @param   tsp         local timestamp to be printed
+     * @param   buffer      target array
+     * @param   pos         start index in target array
+     * @return  index after last printed character
+     * @throws  ArrayIndexOutOfBoundsException if the target array is too small
+     */
+    public int print(
+        PlainTimestamp tsp,
+        char[] buffer,
+        int pos
+    ) {
+
+        pos = this.printDate(tsp.getYear(), tsp.getMonth(), tsp.getDayOfMonth(), buffer, pos);
+        buffer[pos++] = 'T';
+        return this.printTime(tsp.getHour(), tsp.getMinute(), tsp.getSecond(), tsp.getNanosecond(), buffer, pos);
+
+    }
+
+    /**
+     * <p>Prints given moment with given timezone offset into a character array. </p>
+     *
+     * @param   moment      global timestamp to be printed
+     * @param   offset      timezone offset
+     * @param   buffer      target array
+     * @param   pos         start index in target array
+     * @return  index after last printed character
+     * @throws  IllegalArgumentException if a leap second shall be printed with an offset not in full minutes
+     *          or if the local year is out of range
+     * @throws  ArrayIndexOutOfBoundsException if the target array is too small
+     */
+    /*[deutsch]
+     * <p>Gibt den angegebenen Moment mit dem angegebenen Zeitzonen-Offset in ein Zeichen-Array aus. </p>
+     *
+     * @param   moment      global timestamp to be printed
+     * @param   offset      timezone offset
+     * @param   buffer      target array
+     * @param   pos         start index in target array
+     * @return  index after last printed character
+     * @throws  IllegalArgumentException if a leap second shall be printed with an offset not in full minutes
+     *          or if the local year is out of range
+     * @throws  ArrayIndexOutOfBoundsException if the target array is too small
+     */
+    public int print(
+        Moment moment,
+        ZonalOffset offset,
+        char[] buffer,
+        int pos
+    ) {
+
+        int total = offset.getIntegralAmount();
+
+        if (offset.getFractionalAmount() < 0) {
+            total--; // fractional offsets are truncated like in timezones (floor-divide-algorithm)
+        }
+
+        boolean leapSecond = moment.isLeapSecond();
+
+        if (leapSecond && ((total % 60) != 0)) {
+            throw new IllegalArgumentException(
+                "Leap second can only be represented  with timezone-offset in full minutes: " + offset);
+        }
+
+        long localSeconds = moment.getPosixTime() + total;
+        int localNanos = moment.getNanosecond();
+
+        long packedDate = GregorianMath.toPackedDate(MathUtils.floorDivide(localSeconds, 86400) + MJD_OFFSET);
+        int secondOfDay = MathUtils.floorModulo(localSeconds, 86400);
+        int second = secondOfDay % 60;
+
+        if (leapSecond) {
+            second += 1; // posix time of a leap second refers to the previous second
+        }
+
+        pos =
+            this.printDate(
+                GregorianMath.readYear(packedDate),
+                GregorianMath.readMonth(packedDate),
+                GregorianMath.readDayOfMonth(packedDate),
+                buffer,
+                pos);
+        buffer[pos++] = 'T';
+        pos = this.printTime(secondOfDay / 3600, (secondOfDay / 60) % 60, second, localNanos, buffer, pos);
+        return this.printOffset(total, buffer, pos);
+
+    }
+
+    /**
+     * <p>Prints given calendar date into a byte buffer. </p>
+     *
+     * @param   date        calendar date to be printed
+     * @param   buffer      target buffer whose position will be advanced
+     * @return  count of printed bytes
+     * @throws  BufferOverflowException if the remaining space is too small (nothing is printed then)
+     */
+    /*[deutsch]
+     * <p>Gibt das angegebene Kalenderdatum in einen Byte-Puffer aus. </p>
+     *
+     * @param   date        calendar date to be printed
+     * @param   buffer      target buffer whose position will be advanced
+     * @return  count of printed bytes
+     * @throws  BufferOverflowException if the remaining space is too small (nothing is printed then)
+     */
+    public int print(
+        PlainDate date,
+        ByteBuffer buffer
+    ) {
+
+        char[] scratch = SCRATCH.get();
+        return transfer(scratch, this.print(date, scratch, 0), buffer);
+
+    }
+
+    /**
+     * <p>Prints given timestamp into a byte buffer. </p>
+     *
+     * @param   tsp         local timestamp to be printed
+     * @param   buffer      target buffer whose position will be advanced
+     * @return  count of printed bytes
+     * @throws  BufferOverflowException if the remaining space is too small (nothing is printed then)
+     */
+    /*[deutsch]
+     * <p>Gibt den angegebenen Zeitstempel in einen Byte-Puffer aus. </p>
+     *
+     * @param   tsp         local timestamp to be printed
+     * @param   buffer      target buffer whose position will be advanced
+     * @return  count of printed bytes
+     * @throws  BufferOverflowException if the remaining space is too small (nothing is printed then)
+     */
+    public int print(
+        PlainTimestamp tsp,
+        ByteBuffer buffer
+    ) {
+
+        char[] scratch = SCRATCH.get();
+        return transfer(scratch, this.print(tsp, scratch, 0), buffer);
+
+    }
+
+    /**
+     * <p>Prints given moment with given timezone offset into a byte buffer. </p>
+     *
+     * @param   moment      global timestamp to be printed
+     * @param   offset      timezone offset
+     * @param   buffer      target buffer whose position will be advanced
+     * @return  count of printed bytes
+     * @throws  IllegalArgumentException if a leap second shall be printed with an offset not in full minutes
+     *          or if the local year is out of range
+     * @throws  BufferOverflowException if the remaining space is too small (nothing is printed then)
+     */
+    /*[deutsch]
+     * <p>Gibt den angegebenen Moment mit dem angegebenen Zeitzonen-Offset in einen Byte-Puffer aus. </p>
+     *
+     * @param   moment      global timestamp to be printed
+     * @param   offset      timezone offset
+     * @param   buffer      target buffer whose position will be advanced
+     * @return  count of printed bytes
+     * @throws  IllegalArgumentException if a leap second shall be printed with an offset not in full minutes
+     *          or if the local year is out of range
+     * @throws  BufferOverflowException if the remaining space is too small (nothing is printed then)
+     */
+    public int print(
+        Moment moment,
+        ZonalOffset offset,
+        ByteBuffer buffer
+    ) {
+
+        char[] scratch = SCRATCH.get();
+        return transfer(scratch, this.print(moment, offset, scratch, 0), buffer);
+
+    }
+
+    /**
+     * <p>Prints given calendar date into an {@code Appendable}. </p>
+     *
+     * @param   date        calendar date to be printed
+     * @param   buffer      target buffer
+     * @return  count of printed characters
+     * @throws  IOException if writing to buffer fails
+     */
+    /*[deutsch]
+     * <p>Gibt das angegebene Kalenderdatum in ein {@code Appendable} aus. </p>
+     *
+     * @param   date        calendar date to be printed
+     * @param   buffer      target buffer
+     * @return  count of printed characters
+     * @throws  IOException if writing to buffer fails
+     */
+    public int print(
+        PlainDate date,
+        Appendable buffer
+    ) throws IOException {
+
+        char[] scratch = SCRATCH.get();
+        return transfer(scratch, this.print(date, scratch, 0), buffer);
+
+    }
+
+    /**
+     * <p>Prints given timestamp into an {@code Appendable}. </p>
+     *
+     * @param   tsp         local timestamp to be printed
+     * @param   buffer      target buffer
+     * @return  count of printed characters
+     * @throws  IOException if writing to buffer fails
+     */
+    /*[deutsch]
+     * <p>Gibt den angegebenen Zeitstempel in ein {@code Appendable} aus. </p>
+     *
+     * @param   tsp         local timestamp to be printed
+     * @param   buffer      target buffer
+     * @return  count of printed characters
+     * @throws  IOException if writing to buffer fails
+     */
+    public int print(
+        PlainTimestamp tsp,
+        Appendable buffer
+    ) throws IOException {
+
+        char[] scratch = SCRATCH.get();
+        return transfer(scratch, this.print(tsp, scratch, 0), buffer);
+
+    }
+
+    /**
+     * <p>Prints given moment with given timezone offset into an {@code Appendable}. </p>
+     *
+     * @param   moment      global timestamp to be printed
+     * @param   offset      timezone offset
+     * @param   buffer      target buffer
+     * @return  count of printed characters
+     * @throws  IllegalArgumentException if a leap second shall be printed with an offset not in full minutes
+     *          or if the local year is out of range
+     * @throws  IOException if writing to buffer fails
+     */
+    /*[deutsch]
+     * <p>Gibt den angegebenen Moment mit dem angegebenen Zeitzonen-Offset in ein {@code Appendable} aus. </p>
+     *
+     * @param   moment      global timestamp to be printed
+     * @param   offset      timezone offset
+     * @param   buffer      target buffer
+     * @return  count of printed characters
+     * @throws  IllegalArgumentException if a leap second shall be printed with an offset not in full minutes
+     *          or if the local year is out of range
+     * @throws  IOException if writing to buffer fails
+     */
+    public int print(
+        Moment moment,
+        ZonalOffset offset,
+        Appendable buffer
+    ) throws IOException {
+
+        char[] scratch = SCRATCH.get();
+        return transfer(scratch, this.print(moment, offset, scratch, 0), buffer);
+
+    }
+
+    /**
+     * <p>Is this printer using the extended format? </p>
+     *
+     * @return  {@code true} if extended else {@code false}
+     */
+    /*[deutsch]
+     * <p>Verwendet dieser Drucker das erweiterte Format? </p>
+     *
+     * @return  {@code true} if extended else {@code false}
+     */
+    public boolean isExtended() {
+
+        return this.extended;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "Iso8601Printer[extended=" + this.extended + ",decimal-separator=" + this.decimalSeparator + ']';
+
+    }
+
+    // equivalent to addInteger(YEAR, 4, 9, SHOW_WHEN_BIG_NUMBER) and two fixed-width fields
+    private int printDate(
+        int year,
+        int month,
+        int dayOfMonth,
+        char[] buffer,
+        int pos
+    ) {
+
+        int value = year;
+
+        if (year < 0) {
+            buffer[pos++] = '-';
+            value = -year;
+        } else if (year > 9999) {
+            buffer[pos++] = '+';
+        }
+
+        int digits = 4;
+
+        for (int limit = 10000; (digits < 9) && (value >= limit); limit *= 10) {
+            digits++;
+        }
+
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+
+        pos += digits;
+
+        if (this.extended) {
+            buffer[pos++] = '-';
+        }
+
+        pos = printTwoDigits(month, buffer, pos);
+
+        if (this.extended) {
+            buffer[pos++] = '-';
+        }
+
+        return printTwoDigits(dayOfMonth, buffer, pos);
+
+    }
+
+    // equivalent to HH[:mm[:ss[,SSSSSSSSS]]] where minutes are always printed
+    private int printTime(
+        int hour,
+        int minute,
+        int second,
+        int nanosecond,
+        char[] buffer,
+        int pos
+    ) {
+
+        pos = printTwoDigits(hour, buffer, pos);
+
+        if (this.extended) {
+            buffer[pos++] = ':';
+        }
+
+        pos = printTwoDigits(minute, buffer, pos);
+
+        if ((second | nanosecond) != 0) {
+            if (this.extended) {
+                buffer[pos++] = ':';
+            }
+
+            pos = printTwoDigits(second, buffer, pos);
+
+            if (nanosecond != 0) {
+                buffer[pos++] = this.decimalSeparator;
+                int digits = 9;
+
+                while ((nanosecond % 10) == 0) {
+                    nanosecond /= 10;
+                    digits--;
+                }
+
+                for (int i = pos + digits - 1; i >= pos; i--) {
+                    buffer[i] = (char) ('0' + (nanosecond % 10));
+                    nanosecond /= 10;
+                }
+
+                pos += digits;
+            }
+        }
+
+        return pos;
+
+    }
+
+    // equivalent to the offset printer in style MEDIUM with zero offset as Z
+    private int printOffset(
+        int total,
+        char[] buffer,
+        int pos
+    ) {
+
+        if (total == 0) {
+            buffer[pos++] = 'Z';
+            return pos;
+        }
+
+        buffer[pos++] = ((total < 0) ? '-' : '+');
+        int absValue = Math.abs(total);
+        pos = printTwoDigits(absValue / 3600, buffer, pos);
+
+        if (this.extended) {
+            buffer[pos++] = ':';
+        }
+
+        return printTwoDigits((absValue / 60) % 60, buffer, pos);
+
+    }
+
+    private static int printTwoDigits(
+        int value,
+        char[] buffer,
+        int pos
+    ) {
+
+        buffer[pos] = (char) ('0' + (value / 10));
+        buffer[pos + 1] = (char) ('0' + (value % 10));
+        return pos + 2;
+
+    }
+
+    private static int transfer(
+        char[] scratch,
+        int len,
+        ByteBuffer buffer
+    ) {
+
+        if (buffer.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+
+        for (int i = 0; i < len; i++) {
+            buffer.put((byte) scratch[i]);
+        }
+
+        return len;
+
+    }
+
+    private static int transfer(
+        char[] scratch,
+        int len,
+        Appendable buffer
+    ) throws IOException {
+
+        for (int i = 0; i < len; i++) {
+            buffer.append(scratch[i]);
+        }
+
+        return len;
+
+    }
+
+}
@@ -415,6 +415,58 @@ final class LiteralProcessor
 
     }
 
+    /**
+     * <p>Vergleicht den Text an der angegebenen Position mit diesem Literal
+     * so wie der Quick-Path-Modus von {@code parse()}, aber ohne Fehlermeldung. </p>
+     *
+     * <p>Nur f&uuml;r feste Literale ohne Attributbezug. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   offset      start position
+     * @return  position after literal or {@code -1} if not matching
+     * @since   5.10
+     */
+    int match(
+        CharSequence text,
+        int offset
+    ) {
+
+        if (offset >= text.length()) {
+            return -1;
+        }
+
+        char c = text.charAt(offset);
+
+        if (this.interpunctuationMode) {
+            return ((c == this.single) ? offset + 1 : -1);
+        } else if (this.multi == null) {
+            if (
+                (c == this.single)
+                || (c == this.alt)
+                || (this.caseInsensitive && (charEqualsIgnoreCase(c, this.single) || charEqualsIgnoreCase(c, this.alt)))
+            ) {
+                return offset + 1;
+            }
+            return -1;
+        }
+
+        int parsedLen = subSequenceEquals(text, offset, this.multi, this.caseInsensitive, this.rtl);
+        return ((parsedLen == -1) ? -1 : offset + parsedLen);
+
+    }
+
+    /**
+     * <p>Ist dieses Literal unabh&auml;ngig von Formatattributen? </p>
+     *
+     * @return  boolean
+     * @since   5.10
+     */
+    boolean isFixed() {
+
+        return (this.attribute == null);
+
+    }
+
     // count of leading digits
     int getPrefixedDigitArea() {
 
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (LookupProcessor.java) is part of project Time4J.
  *
@@ -56,6 +56,10 @@ final class LookupProcessor<V>
     private final int protectedLength;
     private final boolean caseInsensitive;
     private final Locale locale;
+    private final Object[] keys;
+    private final String[] upperTexts; // uppercased resources in the language of quick path
+    private final int[] lengths;
+    private final int maxLength;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -71,6 +75,10 @@ final class LookupProcessor<V>
         this.protectedLength = 0;
         this.caseInsensitive = true;
         this.locale = Locale.getDefault(Locale.Category.FORMAT);
+        this.keys = null;
+        this.upperTexts = null;
+        this.lengths = null;
+        this.maxLength = 0;
 
     }
 
@@ -91,6 +99,32 @@ final class LookupProcessor<V>
         this.caseInsensitive = caseInsensitive;
         this.locale = locale;
 
+        if (caseInsensitive) {
+            int n = resources.size();
+            Object[] k = new Object[n];
+            String[] u = new String[n];
+            int[] l = new int[n];
+            int max = 0;
+            int i = 0;
+            for (V value : resources.keySet()) {
+                String test = this.getString(value);
+                k[i] = value;
+                u[i] = test.toUpperCase(locale);
+                l[i] = test.length();
+                max = Math.max(max, test.length());
+                i++;
+            }
+            this.keys = k;
+            this.upperTexts = u;
+            this.lengths = l;
+            this.maxLength = max;
+        } else {
+            this.keys = null;
+            this.upperTexts = null;
+            this.lengths = null;
+            this.maxLength = 0;
+        }
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -202,6 +236,11 @@ final class LookupProcessor<V>
                 : attributes.get(Attributes.LANGUAGE, Locale.getDefault(Locale.Category.FORMAT)));
         int maxCount = len - start;
 
+        if (quickPath && (this.upperTexts != null)) {
+            this.parseUpper(text, status, parsedResult, start, maxCount);
+            return;
+        }
+
         for (V value : this.resources.keySet()) {
             String test = this.getString(value);
 
@@ -332,6 +371,40 @@ final class LookupProcessor<V>
 
     }
 
+    // single pass over precomputed uppercase resources, every input region is uppercased only once
+    private void parseUpper(
+        CharSequence text,
+        ParseLog status,
+        ParsedEntity<?> parsedResult,
+        int start,
+        int maxCount
+    ) {
+
+        String[] regions = new String[Math.min(maxCount, this.maxLength) + 1];
+
+        for (int i = 0; i < this.upperTexts.length; i++) {
+            int count = this.lengths[i];
+
+            if (count <= maxCount) {
+                String s = regions[count];
+
+                if (s == null) {
+                    s = text.subSequence(start, start + count).toString().toUpperCase(this.locale);
+                    regions[count] = s;
+                }
+
+                if (this.upperTexts[i].equals(s)) {
+                    parsedResult.put(this.element, this.keys[i]);
+                    status.setPosition(start + count);
+                    return;
+                }
+            }
+        }
+
+        status.setError(start, "Element value could not be parsed: " + this.element.name());
+
+    }
+
     private String getString(V value) {
 
         String test = this.resources.get(value);
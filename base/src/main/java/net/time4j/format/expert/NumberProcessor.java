@@ -780,6 +780,54 @@ class NumberProcessor<V>
 
     }
 
+    /**
+     * <p>Wird das Element immer mit einer festen Anzahl von Ziffern verarbeitet? </p>
+     *
+     * @return  boolean
+     * @since   5.10
+     */
+    boolean isFixedWidth() {
+
+        return this.fixedWidth;
+
+    }
+
+    /**
+     * <p>Liefert die minimale Anzahl von Ziffern. </p>
+     *
+     * @return  int
+     * @since   5.10
+     */
+    int getMinDigits() {
+
+        return this.minDigits;
+
+    }
+
+    /**
+     * <p>Liefert die maximale Anzahl von Ziffern. </p>
+     *
+     * @return  int
+     * @since   5.10
+     */
+    int getMaxDigits() {
+
+        return this.maxDigits;
+
+    }
+
+    /**
+     * <p>Liefert die Vorzeichenregel. </p>
+     *
+     * @return  SignPolicy
+     * @since   5.10
+     */
+    SignPolicy getSignPolicy() {
+
+        return this.signPolicy;
+
+    }
+
     private int getScale(NumberSystem numsys) {
 
         if (numsys.isDecimal()) {
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ParseLog.java) is part of project Time4J.
  *
@@ -54,6 +54,7 @@ public class ParseLog {
     private String errorMessage;
     private ChronoEntity<?> rawValues;
     private boolean warning;
+    private FormatScratch scratch;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -371,6 +372,33 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Entnimmt die wiederverwendbaren Arbeitsstrukturen einer Sitzung. </p>
+     *
+     * <p>Solange ein Aufrufer die Strukturen benutzt, liefern weitere (verschachtelte)
+     * Aufrufe mit diesem Log {@code null}. </p>
+     *
+     * @return  recyclable structures or {@code null}
+     */
+    FormatScratch takeScratch() {
+
+        FormatScratch fs = this.scratch;
+        this.scratch = null;
+        return fs;
+
+    }
+
+    /**
+     * <p>Hinterlegt die wiederverwendbaren Arbeitsstrukturen einer Sitzung. </p>
+     *
+     * @param   scratch     recyclable structures or {@code null}
+     */
+    void setScratch(FormatScratch scratch) {
+
+        this.scratch = scratch;
+
+    }
+
     /**
      * <p>L&ouml;scht eine eventuell vorhandene Fehlerinformation. </p>
      */
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ParsedValues.java) is part of project Time4J.
  *
@@ -27,6 +27,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoException;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -561,6 +562,38 @@ class ParsedValues
 
     }
 
+    // called by FormatScratch before reusing this instance in another parse process
+    void clear() {
+
+        if (this.keys == null) {
+            this.len = Integer.MIN_VALUE;
+            this.mask = Integer.MIN_VALUE;
+            this.threshold = Integer.MIN_VALUE;
+            this.count = Integer.MIN_VALUE;
+            for (int i = 0; i < 3; i++) {
+                this.ints[i] = Integer.MIN_VALUE;
+            }
+            this.map = null;
+        } else {
+            Arrays.fill(this.keys, null);
+            if (this.values != null) {
+                Arrays.fill(this.values, null);
+            }
+            this.count = 0;
+        }
+
+        this.duplicateKeysAllowed = false;
+        this.position = -1;
+
+    }
+
+    // used by FormatScratch in order to check if a recycled instance fits
+    boolean isIndexed() {
+
+        return (this.keys == null);
+
+    }
+
     private int getInt0(ChronoElement<?> element) {
 
         Object[] keys = this.keys;
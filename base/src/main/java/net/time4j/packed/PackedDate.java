@@ -0,0 +1,318 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PackedDate.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.packed;
+
+import net.time4j.PlainDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
+
+
+/**
+ * <p>Encodes calendar dates as count of days since the UNIX epoch [1970-01-01]. </p>
+ *
+ * <p>The whole range of {@code PlainDate} is supported. Packed dates can be compared
+ * as raw longs, and day arithmetic or the day of week work directly on the packed
+ * form. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Codiert Kalenderdaten als Anzahl der Tage seit der UNIX-Epoche [1970-01-01]. </p>
+ *
+ * <p>Der gesamte Wertebereich von {@code PlainDate} wird unterst&uuml;tzt. Gepackte
+ * Datumswerte k&ouml;nnen direkt als long-Werte verglichen werden, und Tagesarithmetik
+ * oder der Wochentag arbeiten direkt auf der gepackten Form. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class PackedDate {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // modifiziertes julianisches Datum von [1970-01-01]
+    private static final long MJD_OF_UNIX_EPOCH = 40587L;
+
+    /**
+     * Smallest packed date corresponding to [-999999999-01-01].
+     */
+    /*[deutsch]
+     * Kleinstes gepacktes Datum entsprechend [-999999999-01-01].
+     */
+    public static final long MIN =
+        GregorianMath.toMJD(GregorianMath.MIN_YEAR, 1, 1) - MJD_OF_UNIX_EPOCH;
+
+    /**
+     * Largest packed date corresponding to [+999999999-12-31].
+     */
+    /*[deutsch]
+     * Gr&ouml;&szlig;tes gepacktes Datum entsprechend [+999999999-12-31].
+     */
+    public static final long MAX =
+        GregorianMath.toMJD(GregorianMath.MAX_YEAR, 12, 31) - MJD_OF_UNIX_EPOCH;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PackedDate() {
+        // keine Instanzierung
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Packs given calendar date. </p>
+     *
+     * @param   date    calendar date to be packed
+     * @return  days since [1970-01-01]
+     */
+    /*[deutsch]
+     * <p>Packt das angegebene Kalenderdatum. </p>
+     *
+     * @param   date    calendar date to be packed
+     * @return  days since [1970-01-01]
+     */
+    public static long pack(PlainDate date) {
+
+        return GregorianMath.toMJD(date) - MJD_OF_UNIX_EPOCH;
+
+    }
+
+    /**
+     * <p>Packs given date components. </p>
+     *
+     * @param   year        proleptic iso year [(-999999999) - 999999999]
+     * @param   month       gregorian month (1-12)
+     * @param   dayOfMonth  day of month in range (1-31)
+     * @return  days since [1970-01-01]
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    /*[deutsch]
+     * <p>Packt die angegebenen Datumskomponenten. </p>
+     *
+     * @param   year        proleptic iso year [(-999999999) - 999999999]
+     * @param   month       gregorian month (1-12)
+     * @param   dayOfMonth  day of month in range (1-31)
+     * @return  days since [1970-01-01]
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    public static long of(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return GregorianMath.toMJD(year, month, dayOfMonth) - MJD_OF_UNIX_EPOCH;
+
+    }
+
+    /**
+     * <p>Unpacks given packed date. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  calendar date
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    /*[deutsch]
+     * <p>Entpackt das angegebene gepackte Datum. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  calendar date
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    public static PlainDate unpack(long packed) {
+
+        check(packed);
+        return PlainDate.of(packed, EpochDays.UNIX);
+
+    }
+
+    /**
+     * <p>Yields the proleptic iso year of given packed date. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  proleptic iso year
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das proleptische ISO-Jahr des angegebenen gepackten Datums. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  proleptic iso year
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    public static int getYear(long packed) {
+
+        return GregorianMath.readYear(toGregorian(packed));
+
+    }
+
+    /**
+     * <p>Yields the gregorian month of given packed date. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  gregorian month (1-12)
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den gregorianischen Monat des angegebenen gepackten Datums. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  gregorian month (1-12)
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    public static int getMonth(long packed) {
+
+        return GregorianMath.readMonth(toGregorian(packed));
+
+    }
+
+    /**
+     * <p>Yields the day of month of given packed date. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  day of month (1-31)
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Tag des Monats des angegebenen gepackten Datums. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  day of month (1-31)
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    public static int getDayOfMonth(long packed) {
+
+        return GregorianMath.readDayOfMonth(toGregorian(packed));
+
+    }
+
+    /**
+     * <p>Yields the day of week of given packed date without unpacking. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  day of week in range 1 (Monday) until 7 (Sunday)
+     * @see     net.time4j.Weekday#valueOf(int)
+     */
+    /*[deutsch]
+     * <p>Liefert den Wochentag des angegebenen gepackten Datums ohne Entpacken. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  day of week in range 1 (Monday) until 7 (Sunday)
+     * @see     net.time4j.Weekday#valueOf(int)
+     */
+    public static int getDayOfWeek(long packed) {
+
+        return (int) Math.floorMod(packed + 3, 7L) + 1; // [1970-01-01] = Thursday
+
+    }
+
+    /**
+     * <p>Adds given amount of days to a packed date without unpacking. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @param   days    count of days to be added (can be negative)
+     * @return  packed result
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    /*[deutsch]
+     * <p>Addiert die angegebene Anzahl von Tagen zu einem gepackten Datum ohne Entpacken. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @param   days    count of days to be added (can be negative)
+     * @return  packed result
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    public static long plusDays(
+        long packed,
+        long days
+    ) {
+
+        long result = packed + days;
+
+        if (((packed ^ result) & (days ^ result)) < 0) {
+            throw new IllegalArgumentException("Packed date out of range: " + packed + " + " + days);
+        }
+
+        check(result);
+        return result;
+
+    }
+
+    /**
+     * <p>Determines the count of days between two packed dates. </p>
+     *
+     * @param   start   packed start date
+     * @param   end     packed end date
+     * @return  count of days (negative if end is before start)
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Anzahl der Tage zwischen zwei gepackten Datumswerten. </p>
+     *
+     * @param   start   packed start date
+     * @param   end     packed end date
+     * @return  count of days (negative if end is before start)
+     */
+    public static long daysBetween(
+        long start,
+        long end
+    ) {
+
+        return end - start;
+
+    }
+
+    /**
+     * <p>Queries if given long is a valid packed date. </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  {@code true} if in range [MIN, MAX] else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ist der angegebene long-Wert ein g&uuml;ltiges gepacktes Datum? </p>
+     *
+     * @param   packed  days since [1970-01-01]
+     * @return  {@code true} if in range [MIN, MAX] else {@code false}
+     */
+    public static boolean isValid(long packed) {
+
+        return ((packed >= MIN) && (packed <= MAX));
+
+    }
+
+    static void check(long packed) {
+
+        if (!isValid(packed)) {
+            throw new IllegalArgumentException("Packed date out of range: " + packed);
+        }
+
+    }
+
+    private static long toGregorian(long packed) {
+
+        check(packed);
+        return GregorianMath.toPackedDate(packed + MJD_OF_UNIX_EPOCH);
+
+    }
+
+}
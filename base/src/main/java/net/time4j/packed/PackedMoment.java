@@ -0,0 +1,276 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PackedMoment.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.packed;
+
+import net.time4j.Moment;
+import net.time4j.SI;
+import net.time4j.scale.TimeScale;
+
+import static net.time4j.packed.PackedTime.NANOS_PER_SECOND;
+
+
+/**
+ * <p>Encodes moments as combination of POSIX seconds, a leap second flag and nanoseconds. </p>
+ *
+ * <p>The packed form is defined as {@code posix * 2,000,000,000 + (leap ? 1,000,000,000 : 0) + nano}
+ * so that a leap second sorts after the last regular second of its day. Packed moments can be compared
+ * as raw longs and are independent from the leap second table used when packing. The supported range
+ * covers the POSIX seconds [{@link #MIN_POSIX_TIME}, {@link #MAX_POSIX_TIME}] which corresponds to
+ * the years 1823 until 2116. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Codiert Momente als Kombination von POSIX-Sekunden, einem Schaltsekunden-Flag und
+ * Nanosekunden. </p>
+ *
+ * <p>Die gepackte Form ist als {@code posix * 2.000.000.000 + (leap ? 1.000.000.000 : 0) + nano}
+ * definiert, so da&szlig; eine Schaltsekunde nach der letzten regul&auml;ren Sekunde ihres Tages
+ * einsortiert wird. Gepackte Momente k&ouml;nnen direkt als long-Werte verglichen werden und
+ * sind von der beim Packen verwendeten Schaltsekundentabelle unabh&auml;ngig. Der unterst&uuml;tzte
+ * Bereich umfasst die POSIX-Sekunden [{@link #MIN_POSIX_TIME}, {@link #MAX_POSIX_TIME}], was den
+ * Jahren 1823 bis 2116 entspricht. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class PackedMoment {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long FACTOR = 2 * NANOS_PER_SECOND;
+    private static final long POSIX_1972 = 2 * 365 * 86400L;
+
+    /**
+     * Minimum of supported POSIX seconds.
+     */
+    /*[deutsch]
+     * Minimal unterst&uuml;tzte POSIX-Sekunden.
+     */
+    public static final long MIN_POSIX_TIME = Long.MIN_VALUE / FACTOR;
+
+    /**
+     * Maximum of supported POSIX seconds.
+     */
+    /*[deutsch]
+     * Maximal unterst&uuml;tzte POSIX-Sekunden.
+     */
+    public static final long MAX_POSIX_TIME = (Long.MAX_VALUE - FACTOR + 1) / FACTOR;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PackedMoment() {
+        // keine Instanzierung
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Packs given moment. </p>
+     *
+     * @param   moment  moment to be packed
+     * @return  packed moment
+     * @throws  IllegalArgumentException if the moment is out of packed range
+     */
+    /*[deutsch]
+     * <p>Packt den angegebenen Moment. </p>
+     *
+     * @param   moment  moment to be packed
+     * @return  packed moment
+     * @throws  IllegalArgumentException if the moment is out of packed range
+     */
+    public static long pack(Moment moment) {
+
+        return of(moment.getPosixTime(), moment.getNanosecond(), moment.isLeapSecond());
+
+    }
+
+    /**
+     * <p>Packs given moment components. </p>
+     *
+     * <p>Note: In case of a leap second, the POSIX seconds are the same as for the
+     * preceding second (usually at 23:59:59 UTC). </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since [1970-01-01T00:00Z]
+     * @param   nanosecond  nanosecond in the range {@code 0-999,999,999}
+     * @param   leapSecond  is there a leap second?
+     * @return  packed moment
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    /*[deutsch]
+     * <p>Packt die angegebenen Moment-Komponenten. </p>
+     *
+     * <p>Hinweis: Im Fall einer Schaltsekunde sind die POSIX-Sekunden dieselben wie
+     * f&uuml;r die vorangehende Sekunde (normalerweise um 23:59:59 UTC). </p>
+     *
+     * @param   posixTime   elapsed POSIX seconds since [1970-01-01T00:00Z]
+     * @param   nanosecond  nanosecond in the range {@code 0-999,999,999}
+     * @param   leapSecond  is there a leap second?
+     * @return  packed moment
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    public static long of(
+        long posixTime,
+        int nanosecond,
+        boolean leapSecond
+    ) {
+
+        if ((posixTime < MIN_POSIX_TIME) || (posixTime > MAX_POSIX_TIME)) {
+            throw new IllegalArgumentException("Out of range for packed moments: " + posixTime);
+        } else if ((nanosecond < 0) || (nanosecond >= NANOS_PER_SECOND)) {
+            throw new IllegalArgumentException("Nanosecond out of range: " + nanosecond);
+        }
+
+        return posixTime * FACTOR + (leapSecond ? NANOS_PER_SECOND : 0) + nanosecond;
+
+    }
+
+    /**
+     * <p>Unpacks given packed moment. </p>
+     *
+     * @param   packed  packed moment
+     * @return  moment
+     * @throws  IllegalArgumentException if a leap second was packed which is not known
+     *          by the current leap second table
+     */
+    /*[deutsch]
+     * <p>Entpackt den angegebenen gepackten Moment. </p>
+     *
+     * @param   packed  packed moment
+     * @return  moment
+     * @throws  IllegalArgumentException if a leap second was packed which is not known
+     *          by the current leap second table
+     */
+    public static Moment unpack(long packed) {
+
+        long posix = getPosixTime(packed);
+        Moment moment = Moment.of(posix, getNanosecond(packed), TimeScale.POSIX);
+
+        if (isLeapSecond(packed)) {
+            if (posix >= POSIX_1972) { // UTC-Arithmetik erst ab 1972 möglich
+                moment = moment.plus(1, SI.SECONDS);
+            }
+
+            if (!moment.isLeapSecond()) {
+                throw new IllegalArgumentException("Unknown leap second: " + packed);
+            }
+        }
+
+        return moment;
+
+    }
+
+    /**
+     * <p>Yields the POSIX seconds of given packed moment. </p>
+     *
+     * @param   packed  packed moment
+     * @return  elapsed POSIX seconds since [1970-01-01T00:00Z]
+     */
+    /*[deutsch]
+     * <p>Liefert die POSIX-Sekunden des angegebenen gepackten Moments. </p>
+     *
+     * @param   packed  packed moment
+     * @return  elapsed POSIX seconds since [1970-01-01T00:00Z]
+     */
+    public static long getPosixTime(long packed) {
+
+        return Math.floorDiv(packed, FACTOR);
+
+    }
+
+    /**
+     * <p>Yields the nanosecond of given packed moment. </p>
+     *
+     * @param   packed  packed moment
+     * @return  nanosecond in range 0-999,999,999
+     */
+    /*[deutsch]
+     * <p>Liefert die Nanosekunde des angegebenen gepackten Moments. </p>
+     *
+     * @param   packed  packed moment
+     * @return  nanosecond in range 0-999,999,999
+     */
+    public static int getNanosecond(long packed) {
+
+        return (int) (Math.floorMod(packed, FACTOR) % NANOS_PER_SECOND);
+
+    }
+
+    /**
+     * <p>Queries if given packed moment represents a leap second. </p>
+     *
+     * @param   packed  packed moment
+     * @return  {@code true} if the leap second flag is set else {@code false}
+     */
+    /*[deutsch]
+     * <p>Repr&auml;sentiert der angegebene gepackte Moment eine Schaltsekunde? </p>
+     *
+     * @param   packed  packed moment
+     * @return  {@code true} if the leap second flag is set else {@code false}
+     */
+    public static boolean isLeapSecond(long packed) {
+
+        return (Math.floorMod(packed, FACTOR) >= NANOS_PER_SECOND);
+
+    }
+
+    /**
+     * <p>Adds given amount of POSIX seconds to a packed moment without unpacking. </p>
+     *
+     * <p>Leap seconds are not counted. If the packed moment is a leap second then the
+     * result will be relative to the preceding regular second and not be a leap second. </p>
+     *
+     * @param   packed  packed moment
+     * @param   seconds POSIX seconds to be added (can be negative)
+     * @return  packed result
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    /*[deutsch]
+     * <p>Addiert die angegebene Anzahl von POSIX-Sekunden zu einem gepackten Moment ohne Entpacken. </p>
+     *
+     * <p>Schaltsekunden werden nicht gez&auml;hlt. Ist der gepackte Moment eine Schaltsekunde, dann
+     * bezieht sich das Ergebnis auf die vorangehende regul&auml;re Sekunde und ist keine
+     * Schaltsekunde. </p>
+     *
+     * @param   packed  packed moment
+     * @param   seconds POSIX seconds to be added (can be negative)
+     * @return  packed result
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    public static long plusPosixSeconds(
+        long packed,
+        long seconds
+    ) {
+
+        long posix = getPosixTime(packed);
+
+        if ((seconds < MIN_POSIX_TIME - posix) || (seconds > MAX_POSIX_TIME - posix)) {
+            throw new IllegalArgumentException("Packed moment out of range: " + packed + " + " + seconds + " s");
+        }
+
+        return of(posix + seconds, getNanosecond(packed), false);
+
+    }
+
+}
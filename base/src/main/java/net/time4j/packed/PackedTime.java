@@ -0,0 +1,273 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PackedTime.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.packed;
+
+import net.time4j.PlainTime;
+
+
+/**
+ * <p>Encodes wall times as nanoseconds since midnight at start of day. </p>
+ *
+ * <p>The packed range is [0, 86400000000000] where the maximum stands for the
+ * time 24:00. Packed wall times can be compared as raw longs. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Codiert Uhrzeiten als Nanosekunden seit Mitternacht zu Beginn des Tages. </p>
+ *
+ * <p>Der gepackte Wertebereich ist [0, 86400000000000], wobei das Maximum f&uuml;r
+ * die Uhrzeit 24:00 steht. Gepackte Uhrzeiten k&ouml;nnen direkt als long-Werte
+ * verglichen werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class PackedTime {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final long NANOS_PER_SECOND = 1_000_000_000L;
+    static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+    static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+    static final long NANOS_PER_DAY = 24 * NANOS_PER_HOUR;
+
+    /**
+     * Packed form of midnight at start of day (00:00).
+     */
+    /*[deutsch]
+     * Gepackte Form von Mitternacht zu Beginn des Tages (00:00).
+     */
+    public static final long MIN = 0L;
+
+    /**
+     * Packed form of midnight at end of day (24:00).
+     */
+    /*[deutsch]
+     * Gepackte Form von Mitternacht am Ende des Tages (24:00).
+     */
+    public static final long MAX = NANOS_PER_DAY;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PackedTime() {
+        // keine Instanzierung
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Packs given wall time. </p>
+     *
+     * @param   time    wall time to be packed
+     * @return  nanoseconds since midnight
+     */
+    /*[deutsch]
+     * <p>Packt die angegebene Uhrzeit. </p>
+     *
+     * @param   time    wall time to be packed
+     * @return  nanoseconds since midnight
+     */
+    public static long pack(PlainTime time) {
+
+        return (
+            time.getHour() * NANOS_PER_HOUR
+            + time.getMinute() * NANOS_PER_MINUTE
+            + time.getSecond() * NANOS_PER_SECOND
+            + time.getNanosecond()
+        );
+
+    }
+
+    /**
+     * <p>Packs given time components. </p>
+     *
+     * @param   hour        hour in the range {@code 0-23} or {@code 24} if all other parts are zero
+     * @param   minute      minute in the range {@code 0-59}
+     * @param   second      second in the range {@code 0-59}
+     * @param   nanosecond  nanosecond in the range {@code 0-999,999,999}
+     * @return  nanoseconds since midnight
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    /*[deutsch]
+     * <p>Packt die angegebenen Uhrzeitkomponenten. </p>
+     *
+     * @param   hour        hour in the range {@code 0-23} or {@code 24} if all other parts are zero
+     * @param   minute      minute in the range {@code 0-59}
+     * @param   second      second in the range {@code 0-59}
+     * @param   nanosecond  nanosecond in the range {@code 0-999,999,999}
+     * @return  nanoseconds since midnight
+     * @throws  IllegalArgumentException if any argument is out of range
+     */
+    public static long of(
+        int hour,
+        int minute,
+        int second,
+        int nanosecond
+    ) {
+
+        if (
+            (hour < 0) || (hour > 24)
+            || (minute < 0) || (minute > 59)
+            || (second < 0) || (second > 59)
+            || (nanosecond < 0) || (nanosecond >= NANOS_PER_SECOND)
+            || ((hour == 24) && ((minute | second | nanosecond) != 0))
+        ) {
+            throw new IllegalArgumentException(
+                "Time component out of range: " + hour + ":" + minute + ":" + second + "." + nanosecond);
+        }
+
+        return hour * NANOS_PER_HOUR + minute * NANOS_PER_MINUTE + second * NANOS_PER_SECOND + nanosecond;
+
+    }
+
+    /**
+     * <p>Unpacks given packed wall time. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  wall time
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    /*[deutsch]
+     * <p>Entpackt die angegebene gepackte Uhrzeit. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  wall time
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    public static PlainTime unpack(long packed) {
+
+        check(packed);
+
+        if (packed == MAX) {
+            return PlainTime.of(24);
+        }
+
+        return PlainTime.of(
+            (int) (packed / NANOS_PER_HOUR),
+            (int) ((packed / NANOS_PER_MINUTE) % 60),
+            (int) ((packed / NANOS_PER_SECOND) % 60),
+            (int) (packed % NANOS_PER_SECOND));
+
+    }
+
+    /**
+     * <p>Yields the hour of given packed wall time. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  hour in range 0-24
+     */
+    /*[deutsch]
+     * <p>Liefert die Stunde der angegebenen gepackten Uhrzeit. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  hour in range 0-24
+     */
+    public static int getHour(long packed) {
+
+        return (int) (packed / NANOS_PER_HOUR);
+
+    }
+
+    /**
+     * <p>Yields the minute of hour of given packed wall time. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  minute in range 0-59
+     */
+    /*[deutsch]
+     * <p>Liefert die Minute der angegebenen gepackten Uhrzeit. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  minute in range 0-59
+     */
+    public static int getMinute(long packed) {
+
+        return (int) ((packed / NANOS_PER_MINUTE) % 60);
+
+    }
+
+    /**
+     * <p>Yields the second of minute of given packed wall time. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  second in range 0-59
+     */
+    /*[deutsch]
+     * <p>Liefert die Sekunde der angegebenen gepackten Uhrzeit. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  second in range 0-59
+     */
+    public static int getSecond(long packed) {
+
+        return (int) ((packed / NANOS_PER_SECOND) % 60);
+
+    }
+
+    /**
+     * <p>Yields the nanosecond of second of given packed wall time. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  nanosecond in range 0-999,999,999
+     */
+    /*[deutsch]
+     * <p>Liefert die Nanosekunde der angegebenen gepackten Uhrzeit. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  nanosecond in range 0-999,999,999
+     */
+    public static int getNanosecond(long packed) {
+
+        return (int) (packed % NANOS_PER_SECOND);
+
+    }
+
+    /**
+     * <p>Queries if given long is a valid packed wall time. </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  {@code true} if in range [MIN, MAX] else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ist der angegebene long-Wert eine g&uuml;ltige gepackte Uhrzeit? </p>
+     *
+     * @param   packed  nanoseconds since midnight
+     * @return  {@code true} if in range [MIN, MAX] else {@code false}
+     */
+    public static boolean isValid(long packed) {
+
+        return ((packed >= MIN) && (packed <= MAX));
+
+    }
+
+    static void check(long packed) {
+
+        if (!isValid(packed)) {
+            throw new IllegalArgumentException("Packed time out of range: " + packed);
+        }
+
+    }
+
+}
@@ -0,0 +1,315 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PackedTimestamp.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.packed;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+
+import static net.time4j.packed.PackedTime.NANOS_PER_DAY;
+
+
+/**
+ * <p>Encodes local timestamps as nanoseconds since [1970-01-01T00:00]. </p>
+ *
+ * <p>A signed long with nanosecond precision can only cover the years from 1677 until 2262,
+ * more exactly the packed range [{@link #MIN}, {@link #MAX}]. Packed timestamps can be
+ * compared as raw longs. Day and nanosecond arithmetic as well as the day of week work
+ * directly on the packed form. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Codiert lokale Zeitstempel als Nanosekunden seit [1970-01-01T00:00]. </p>
+ *
+ * <p>Ein vorzeichenbehafteter long-Wert mit Nanosekundengenauigkeit kann nur die Jahre
+ * von 1677 bis 2262 abdecken, genauer den gepackten Bereich [{@link #MIN}, {@link #MAX}].
+ * Gepackte Zeitstempel k&ouml;nnen direkt als long-Werte verglichen werden. Tages- und
+ * Nanosekundenarithmetik sowie der Wochentag arbeiten direkt auf der gepackten Form. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class PackedTimestamp {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long MIN_DAYS = Long.MIN_VALUE / NANOS_PER_DAY;
+    private static final long MAX_DAYS = Long.MAX_VALUE / NANOS_PER_DAY - 1;
+
+    /**
+     * Smallest packed timestamp (at start of day [1677-09-22]).
+     */
+    /*[deutsch]
+     * Kleinster gepackter Zeitstempel (zu Beginn des Tages [1677-09-22]).
+     */
+    public static final long MIN = MIN_DAYS * NANOS_PER_DAY;
+
+    /**
+     * Largest packed timestamp (at end of day [2262-04-10]).
+     */
+    /*[deutsch]
+     * Gr&ouml;&szlig;ter gepackter Zeitstempel (am Ende des Tages [2262-04-10]).
+     */
+    public static final long MAX = MAX_DAYS * NANOS_PER_DAY + NANOS_PER_DAY - 1;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PackedTimestamp() {
+        // keine Instanzierung
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Packs given local timestamp. </p>
+     *
+     * @param   tsp     local timestamp to be packed
+     * @return  nanoseconds since [1970-01-01T00:00]
+     * @throws  IllegalArgumentException if the timestamp is out of packed range
+     */
+    /*[deutsch]
+     * <p>Packt den angegebenen lokalen Zeitstempel. </p>
+     *
+     * @param   tsp     local timestamp to be packed
+     * @return  nanoseconds since [1970-01-01T00:00]
+     * @throws  IllegalArgumentException if the timestamp is out of packed range
+     */
+    public static long pack(PlainTimestamp tsp) {
+
+        return of(PackedDate.pack(tsp.getCalendarDate()), PackedTime.pack(tsp.getWallTime()));
+
+    }
+
+    /**
+     * <p>Combines a packed date and a packed wall time. </p>
+     *
+     * <p>The packed wall time 24:00 will be normalized to the start of next day. </p>
+     *
+     * @param   packedDate  days since [1970-01-01]
+     * @param   packedTime  nanoseconds since midnight
+     * @return  nanoseconds since [1970-01-01T00:00]
+     * @throws  IllegalArgumentException if any argument is out of range
+     * @see     PackedDate
+     * @see     PackedTime
+     */
+    /*[deutsch]
+     * <p>Kombiniert ein gepacktes Datum und eine gepackte Uhrzeit. </p>
+     *
+     * <p>Die gepackte Uhrzeit 24:00 wird zum Beginn des n&auml;chsten Tages normalisiert. </p>
+     *
+     * @param   packedDate  days since [1970-01-01]
+     * @param   packedTime  nanoseconds since midnight
+     * @return  nanoseconds since [1970-01-01T00:00]
+     * @throws  IllegalArgumentException if any argument is out of range
+     * @see     PackedDate
+     * @see     PackedTime
+     */
+    public static long of(
+        long packedDate,
+        long packedTime
+    ) {
+
+        PackedTime.check(packedTime);
+
+        if (packedTime == PackedTime.MAX) {
+            packedDate = PackedDate.plusDays(packedDate, 1);
+            packedTime = 0;
+        }
+
+        if ((packedDate < MIN_DAYS) || (packedDate > MAX_DAYS)) {
+            throw new IllegalArgumentException("Out of range for packed timestamps: " + packedDate);
+        }
+
+        return packedDate * NANOS_PER_DAY + packedTime;
+
+    }
+
+    /**
+     * <p>Unpacks given packed timestamp. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  local timestamp
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    /*[deutsch]
+     * <p>Entpackt den angegebenen gepackten Zeitstempel. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  local timestamp
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    public static PlainTimestamp unpack(long packed) {
+
+        if (!isValid(packed)) {
+            throw new IllegalArgumentException("Packed timestamp out of range: " + packed);
+        }
+
+        PlainDate date = PackedDate.unpack(getPackedDate(packed));
+        PlainTime time = PackedTime.unpack(getPackedTime(packed));
+        return PlainTimestamp.of(date, time);
+
+    }
+
+    /**
+     * <p>Yields the date part of given packed timestamp. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  packed date (days since [1970-01-01])
+     * @see     PackedDate
+     */
+    /*[deutsch]
+     * <p>Liefert den Datumsteil des angegebenen gepackten Zeitstempels. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  packed date (days since [1970-01-01])
+     * @see     PackedDate
+     */
+    public static long getPackedDate(long packed) {
+
+        return Math.floorDiv(packed, NANOS_PER_DAY);
+
+    }
+
+    /**
+     * <p>Yields the wall time part of given packed timestamp. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  packed wall time (nanoseconds since midnight)
+     * @see     PackedTime
+     */
+    /*[deutsch]
+     * <p>Liefert den Uhrzeitteil des angegebenen gepackten Zeitstempels. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  packed wall time (nanoseconds since midnight)
+     * @see     PackedTime
+     */
+    public static long getPackedTime(long packed) {
+
+        return Math.floorMod(packed, NANOS_PER_DAY);
+
+    }
+
+    /**
+     * <p>Yields the day of week of given packed timestamp without unpacking. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  day of week in range 1 (Monday) until 7 (Sunday)
+     * @see     net.time4j.Weekday#valueOf(int)
+     */
+    /*[deutsch]
+     * <p>Liefert den Wochentag des angegebenen gepackten Zeitstempels ohne Entpacken. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  day of week in range 1 (Monday) until 7 (Sunday)
+     * @see     net.time4j.Weekday#valueOf(int)
+     */
+    public static int getDayOfWeek(long packed) {
+
+        return PackedDate.getDayOfWeek(getPackedDate(packed));
+
+    }
+
+    /**
+     * <p>Adds given amount of days to a packed timestamp without unpacking. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @param   days    count of days to be added (can be negative)
+     * @return  packed result
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    /*[deutsch]
+     * <p>Addiert die angegebene Anzahl von Tagen zu einem gepackten Zeitstempel ohne Entpacken. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @param   days    count of days to be added (can be negative)
+     * @return  packed result
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    public static long plusDays(
+        long packed,
+        long days
+    ) {
+
+        long date = getPackedDate(packed);
+
+        if ((days < MIN_DAYS - date) || (days > MAX_DAYS - date)) {
+            throw new IllegalArgumentException("Packed timestamp out of range: " + packed + " + " + days + " days");
+        }
+
+        return (date + days) * NANOS_PER_DAY + getPackedTime(packed);
+
+    }
+
+    /**
+     * <p>Adds given amount of nanoseconds to a packed timestamp. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @param   nanos   count of nanoseconds to be added (can be negative)
+     * @return  packed result
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    /*[deutsch]
+     * <p>Addiert die angegebene Anzahl von Nanosekunden zu einem gepackten Zeitstempel. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @param   nanos   count of nanoseconds to be added (can be negative)
+     * @return  packed result
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    public static long plusNanos(
+        long packed,
+        long nanos
+    ) {
+
+        long result = packed + nanos;
+
+        if ((((packed ^ result) & (nanos ^ result)) < 0) || (result < MIN) || (result > MAX)) {
+            throw new IllegalArgumentException("Packed timestamp out of range: " + packed + " + " + nanos + " ns");
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Queries if given long is a valid packed timestamp. </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  {@code true} if in range [MIN, MAX] else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ist der angegebene long-Wert ein g&uuml;ltiger gepackter Zeitstempel? </p>
+     *
+     * @param   packed  nanoseconds since [1970-01-01T00:00]
+     * @return  {@code true} if in range [MIN, MAX] else {@code false}
+     */
+    public static boolean isValid(long packed) {
+
+        return ((packed >= MIN) && (packed <= MAX));
+
+    }
+
+}
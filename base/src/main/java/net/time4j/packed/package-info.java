@@ -0,0 +1,17 @@
+/**
+ * <p>Packed primitive encodings of the basic types {@code PlainDate}, {@code PlainTime},
+ * {@code PlainTimestamp} and {@code Moment} as single {@code long}-values. </p>
+ *
+ * <p>All encodings preserve the natural order so that packed values can be compared as raw
+ * signed longs. They are suitable for primitive columns, off-heap stores or compact
+ * in-memory tables. </p>
+ */
+/*[deutsch]
+ * <p>Gepackte primitive Codierungen der Grundtypen {@code PlainDate}, {@code PlainTime},
+ * {@code PlainTimestamp} und {@code Moment} als einzelne {@code long}-Werte. </p>
+ *
+ * <p>Alle Codierungen erhalten die nat&uuml;rliche Ordnung, so da&szlig; gepackte Werte
+ * direkt als vorzeichenbehaftete long-Werte verglichen werden k&ouml;nnen. Sie eignen
+ * sich f&uuml;r primitive Spalten, Off-Heap-Speicher oder kompakte Tabellen. </p>
+ */
+package net.time4j.packed;
@@ -0,0 +1,520 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BusinessCalendar.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.ChronoFunction;
+import net.time4j.engine.ChronoOperator;
+
+
+/**
+ * <p>Represents a precomputed index of business days for a given range of years. </p>
+ *
+ * <p>An instance evaluates the underlying holiday model exactly once for every day in the year range
+ * and stores the result as one bitset per year together with prefix sums of business days. Within
+ * this range, queries like {@link #test(PlainDate)}, the count of business days or the operators
+ * {@link #nextBusinessDay()} and {@link #previousBusinessDay()} do not iterate day by day any longer
+ * but need constant or logarithmic time, and the same applies to the {@link #businessDays() unit}
+ * for adding or counting business days. Derived conditions like {@link #firstBusinessDayInMonth()}
+ * profit indirectly. Outside of the year range, this index delegates to the underlying model. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *     BusinessCalendar calendar = HolidayModel.ofSaturdayOrSunday().indexed(2000, 2099);
+ *     long count = PlainDate.of(2001, 1, 1).until(PlainDate.of(2090, 1, 1), calendar.businessDays());
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @see     HolidayModel#indexed(int, int)
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert einen vorberechneten Index von Arbeitstagen f&uuml;r einen Bereich von
+ * Jahren. </p>
+ *
+ * <p>Eine Instanz wertet das zugrundeliegende Feiertagsmodell genau einmal f&uuml;r jeden Tag im
+ * Jahresbereich aus und speichert das Ergebnis als ein Bitset pro Jahr zusammen mit Pr&auml;fixsummen
+ * von Arbeitstagen. Innerhalb dieses Bereichs iterieren Abfragen wie {@link #test(PlainDate)}, die
+ * Anzahl der Arbeitstage oder die Operatoren {@link #nextBusinessDay()} und {@link #previousBusinessDay()}
+ * nicht mehr Tag f&uuml;r Tag, sondern ben&ouml;tigen konstante oder logarithmische Zeit, und das gilt
+ * auch f&uuml;r die {@link #businessDays() Zeiteinheit} zum Addieren oder Z&auml;hlen von Arbeitstagen.
+ * Abgeleitete Bedingungen wie {@link #firstBusinessDayInMonth()} profitieren indirekt. Au&szlig;erhalb
+ * des Jahresbereichs delegiert dieser Index an das zugrundeliegende Modell. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *     BusinessCalendar calendar = HolidayModel.ofSaturdayOrSunday().indexed(2000, 2099);
+ *     long count = PlainDate.of(2001, 1, 1).until(PlainDate.of(2090, 1, 1), calendar.businessDays());
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @see     HolidayModel#indexed(int, int)
+ * @since   5.10
+ */
+public final class BusinessCalendar
+    implements HolidayModel {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAX_YEARS = 100000;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final HolidayModel model;
+    private final int minYear;
+    private final int maxYear;
+    private final long[][] bits; // set bit = business day, bit index = day-of-year - 1
+    private final long[] prefix; // count of business days before the year at given index
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BusinessCalendar(
+        HolidayModel model,
+        int minYear,
+        int maxYear
+    ) {
+        super();
+
+        int n = maxYear - minYear + 1;
+        long[][] bits = new long[n][];
+        long[] prefix = new long[n + 1];
+
+        for (int i = 0; i < n; i++) {
+            int year = minYear + i;
+            int len = PlainDate.of(year, 1).lengthOfYear();
+            long[] words = new long[(len + 63) >>> 6];
+            int count = 0;
+            for (int doy = 0; doy < len; doy++) {
+                if (!model.test(PlainDate.of(year, doy + 1))) {
+                    words[doy >>> 6] |= (1L << doy);
+                    count++;
+                }
+            }
+            bits[i] = words;
+            prefix[i + 1] = prefix[i] + count;
+        }
+
+        this.model = model;
+        this.minYear = minYear;
+        this.maxYear = maxYear;
+        this.bits = bits;
+        this.prefix = prefix;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new index of business days for given holiday model and range of years. </p>
+     *
+     * @param   model       the underlying holiday model which will be evaluated once per day
+     * @param   fromYear    first year of the index range (inclusive)
+     * @param   toYear      last year of the index range (inclusive)
+     * @return  new business calendar
+     * @throws  IllegalArgumentException if the year range is invalid or spans more than 100000 years
+     * @see     HolidayModel#indexed(int, int)
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Index von Arbeitstagen f&uuml;r das angegebene Feiertagsmodell und den
+     * angegebenen Jahresbereich. </p>
+     *
+     * @param   model       the underlying holiday model which will be evaluated once per day
+     * @param   fromYear    first year of the index range (inclusive)
+     * @param   toYear      last year of the index range (inclusive)
+     * @return  new business calendar
+     * @throws  IllegalArgumentException if the year range is invalid or spans more than 100000 years
+     * @see     HolidayModel#indexed(int, int)
+     */
+    public static BusinessCalendar of(
+        HolidayModel model,
+        int fromYear,
+        int toYear
+    ) {
+
+        if (model == null) {
+            throw new NullPointerException("Missing holiday model.");
+        }
+
+        checkYearRange(fromYear, toYear);
+        return new BusinessCalendar(model, fromYear, toYear);
+
+    }
+
+    /**
+     * <p>Yields the first year of the index range. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert das erste Jahr des Indexbereichs. </p>
+     *
+     * @return  int
+     */
+    public int getMinimumYear() {
+
+        return this.minYear;
+
+    }
+
+    /**
+     * <p>Yields the last year of the index range. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert das letzte Jahr des Indexbereichs. </p>
+     *
+     * @return  int
+     */
+    public int getMaximumYear() {
+
+        return this.maxYear;
+
+    }
+
+    @Override
+    public boolean test(PlainDate date) {
+
+        int year = date.getYear();
+
+        if ((year < this.minYear) || (year > this.maxYear)) {
+            return this.model.test(date);
+        }
+
+        int doy = date.getDayOfYear() - 1;
+        return ((this.bits[year - this.minYear][doy >>> 6] & (1L << doy)) == 0);
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> nextBusinessDay() {
+
+        return date -> this.shiftOrStep(date, 1);
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> nextOrSameBusinessDay() {
+
+        return date -> (this.test(date) ? this.shiftOrStep(date, 1) : date);
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> previousBusinessDay() {
+
+        return date -> this.shiftOrStep(date, -1);
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> previousOrSameBusinessDay() {
+
+        return date -> (this.test(date) ? this.shiftOrStep(date, -1) : date);
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, PlainDate> firstBusinessDay() {
+
+        return interval -> {
+            DateInterval di = finite(interval);
+            if (di == null) {
+                return null;
+            }
+            PlainDate start = di.getClosedFiniteStart();
+            PlainDate end = di.getClosedFiniteEnd();
+            PlainDate first = (this.test(start) ? this.shiftOrStep(start, 1) : start);
+            return (first.isAfter(end) ? null : first);
+        };
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, PlainDate> lastBusinessDay() {
+
+        return interval -> {
+            DateInterval di = finite(interval);
+            if (di == null) {
+                return null;
+            }
+            PlainDate start = di.getClosedFiniteStart();
+            PlainDate end = di.getClosedFiniteEnd();
+            PlainDate last = (this.test(end) ? this.shiftOrStep(end, -1) : end);
+            return (last.isBefore(start) ? null : last);
+        };
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfBusinessDays() {
+
+        return interval -> {
+            DateInterval di = finite(interval);
+            if (di == null) {
+                return Integer.valueOf(0);
+            }
+            PlainDate start = di.getClosedFiniteStart();
+            PlainDate end = di.getClosedFiniteEnd();
+            if (!this.covers(start) || !this.covers(end)) {
+                return HolidayModel.super.countOfBusinessDays().apply(interval);
+            }
+            return toInteger(this.rank(end) - this.rank(start) + (this.test(end) ? 0 : 1));
+        };
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfHolidays() {
+
+        return interval -> {
+            DateInterval di = finite(interval);
+            if (di == null) {
+                return Integer.valueOf(0);
+            }
+            PlainDate start = di.getClosedFiniteStart();
+            PlainDate end = di.getClosedFiniteEnd();
+            if (!this.covers(start) || !this.covers(end)) {
+                return HolidayModel.super.countOfHolidays().apply(interval);
+            }
+            long days = CalendarUnit.DAYS.between(start, end) + 1;
+            long business = this.rank(end) - this.rank(start) + (this.test(end) ? 0 : 1);
+            return toInteger(days - business);
+        };
+
+    }
+
+    /**
+     * <p>Returns itself because this instance is already indexed if the given range is covered,
+     * otherwise a new index for the underlying holiday model. </p>
+     *
+     * @param   fromYear    first year of the index range (inclusive)
+     * @param   toYear      last year of the index range (inclusive)
+     * @return  BusinessCalendar
+     */
+    /*[deutsch]
+     * <p>Liefert diese Instanz selbst, weil sie schon indiziert ist, wenn der angegebene Bereich
+     * abgedeckt ist, sonst einen neuen Index f&uuml;r das zugrundeliegende Feiertagsmodell. </p>
+     *
+     * @param   fromYear    first year of the index range (inclusive)
+     * @param   toYear      last year of the index range (inclusive)
+     * @return  BusinessCalendar
+     */
+    @Override
+    public BusinessCalendar indexed(
+        int fromYear,
+        int toYear
+    ) {
+
+        if ((fromYear >= this.minYear) && (toYear <= this.maxYear) && (fromYear <= toYear)) {
+            return this;
+        }
+
+        return BusinessCalendar.of(this.model, fromYear, toYear);
+
+    }
+
+    /**
+     * <p>Determines if given date is within the year range of this index. </p>
+     *
+     * @param   date    calendar date to be checked
+     * @return  boolean
+     */
+    boolean covers(PlainDate date) {
+
+        int year = date.getYear();
+        return ((year >= this.minYear) && (year <= this.maxYear));
+
+    }
+
+    /**
+     * <p>Shifts given date by given count of business days in the same way as repeated applications
+     * of {@link #nextBusinessDay()} or {@link #previousBusinessDay()} would do. </p>
+     *
+     * @param   date    the start date
+     * @param   amount  count of business days to be added
+     * @return  shifted date or {@code null} if either the date or the result is outside of the index
+     */
+    PlainDate shift(
+        PlainDate date,
+        long amount
+    ) {
+
+        if (!this.covers(date)) {
+            return null;
+        } else if (amount == 0) {
+            return date;
+        }
+
+        long k = this.rank(date);
+
+        if (amount > 0) {
+            k += (this.test(date) ? 0 : 1);
+            k += (amount - 1);
+        } else {
+            k += amount;
+        }
+
+        return (((k < 0) || (k >= this.prefix[this.prefix.length - 1])) ? null : this.select(k));
+
+    }
+
+    /**
+     * <p>Counts the business days after start until end inclusive (or reverse with negative sign). </p>
+     *
+     * <p>Both dates must be {@link #covers(PlainDate) covered} by this index. </p>
+     *
+     * @param   start   the start date
+     * @param   end     the end date
+     * @return  count of business days as defined by the {@link #businessDays() business day unit}
+     */
+    long between(
+        PlainDate start,
+        PlainDate end
+    ) {
+
+        long s = this.rank(start) + (this.test(start) ? 0 : 1);
+        long e = this.rank(end) + (this.test(end) ? 0 : 1);
+        return (e - s);
+
+    }
+
+    // count of business days in index before given covered date
+    private long rank(PlainDate date) {
+
+        int index = date.getYear() - this.minYear;
+        int doy = date.getDayOfYear() - 1;
+        long[] words = this.bits[index];
+        long count = this.prefix[index];
+
+        for (int w = 0, n = (doy >>> 6); w < n; w++) {
+            count += Long.bitCount(words[w]);
+        }
+
+        return count + Long.bitCount(words[doy >>> 6] & ((1L << doy) - 1));
+
+    }
+
+    // the business day at given zero-based position in index
+    private PlainDate select(long k) {
+
+        int low = 0;
+        int high = this.bits.length - 1;
+
+        while (low < high) { // search last year index with prefix <= k
+            int mid = (low + high + 1) >>> 1;
+            if (this.prefix[mid] <= k) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        long[] words = this.bits[low];
+        int r = (int) (k - this.prefix[low]);
+
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            int c = Long.bitCount(word);
+            if (r < c) {
+                for (int i = 0; i < r; i++) {
+                    word &= (word - 1);
+                }
+                return PlainDate.of(this.minYear + low, (w << 6) + Long.numberOfTrailingZeros(word) + 1);
+            }
+            r -= c;
+        }
+
+        throw new AssertionError("Inconsistent business day index.");
+
+    }
+
+    /**
+     * <p>Validates a year range for holiday tables. </p>
+     *
+     * @param   fromYear    first year of range (inclusive)
+     * @param   toYear      last year of range (inclusive)
+     * @throws  IllegalArgumentException if the year range is invalid or spans more than 100000 years
+     */
+    static void checkYearRange(
+        int fromYear,
+        int toYear
+    ) {
+
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("Year range is reversed: " + fromYear + " > " + toYear);
+        } else if ((long) toYear - fromYear >= MAX_YEARS) {
+            throw new IllegalArgumentException("Year range too large: " + fromYear + "-" + toYear);
+        }
+
+        PlainDate.of(fromYear, 1); // validation
+        PlainDate.of(toYear, 1);
+
+    }
+
+    private PlainDate shiftOrStep(
+        PlainDate date,
+        int amount
+    ) {
+
+        PlainDate result = this.shift(date, amount);
+
+        if (result == null) {
+            ChronoOperator<PlainDate> operator = (
+                (amount > 0)
+                ? HolidayModel.super.nextBusinessDay()
+                : HolidayModel.super.previousBusinessDay());
+            result = operator.apply(date);
+        }
+
+        return result;
+
+    }
+
+    private static DateInterval finite(ChronoInterval<PlainDate> interval) {
+
+        if (!interval.isFinite()) {
+            throw new ChronoException("Cannot query infinite intervals.");
+        } else if (interval.isEmpty()) {
+            return null;
+        }
+
+        return DateInterval.from(interval);
+
+    }
+
+    private static Integer toInteger(long count) {
+
+        if (count > Integer.MAX_VALUE) {
+            throw new ArithmeticException("Numerical overflow.");
+        }
+
+        return Integer.valueOf((int) count);
+
+    }
+
+}
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (BusinessDayUnit.java) is part of project Time4J.
  *
@@ -57,6 +57,12 @@ class BusinessDayUnit
                     PlainDate date,
                     long amount
                 ) {
+                    if (model instanceof BusinessCalendar) {
+                        PlainDate result = BusinessCalendar.class.cast(model).shift(date, amount);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
                     PlainDate shifted = date;
                     if (amount > 0) {
                         for (int i = 0; i < amount; i++) {
@@ -76,6 +82,11 @@ class BusinessDayUnit
                 ) {
                     if (start.isSimultaneous(end)) {
                         return 0L;
+                    } else if (model instanceof BusinessCalendar) {
+                        BusinessCalendar calendar = BusinessCalendar.class.cast(model);
+                        if (calendar.covers(start) && calendar.covers(end)) {
+                            return calendar.between(start, end);
+                        }
                     }
                     long count = 0;
                     boolean negative = start.isAfter(end);
@@ -0,0 +1,205 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CachedHolidayModel.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.range;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.ChronoOperator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * <p>Dekorierer, der die Ergebnisse eines Feiertagsmodells jahresweise in Bitsets speichert. </p>
+ *
+ * <p>Jedes Jahr wird erst bei der ersten Abfrage genau einmal ausgewertet. Gleichzeitige Auswertungen
+ * desselben Jahres in verschiedenen Threads sind harmlos, weil sie gleiche Ergebnisse liefern und nur
+ * das zuerst registrierte Bitset verwendet wird. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+final class CachedHolidayModel
+    implements HolidayModel {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final HolidayModel model;
+    private final int minYear;
+    private final int maxYear;
+    private final AtomicReferenceArray<long[]> years; // set bit = business day, bit index = day-of-year - 1
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    CachedHolidayModel(
+        HolidayModel model,
+        int minYear,
+        int maxYear
+    ) {
+        super();
+
+        BusinessCalendar.checkYearRange(minYear, maxYear);
+
+        this.model = model;
+        this.minYear = minYear;
+        this.maxYear = maxYear;
+        this.years = new AtomicReferenceArray<>(maxYear - minYear + 1);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public boolean test(PlainDate date) {
+
+        int year = date.getYear();
+
+        if ((year < this.minYear) || (year > this.maxYear)) {
+            return this.model.test(date);
+        }
+
+        int doy = date.getDayOfYear() - 1;
+        return ((this.getBits(year)[doy >>> 6] & (1L << doy)) == 0);
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> nextBusinessDay() {
+
+        return this::next;
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> nextOrSameBusinessDay() {
+
+        return date -> (this.test(date) ? this.next(date) : date);
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> previousBusinessDay() {
+
+        return this::previous;
+
+    }
+
+    @Override
+    public ChronoOperator<PlainDate> previousOrSameBusinessDay() {
+
+        return date -> (this.test(date) ? this.previous(date) : date);
+
+    }
+
+    @Override
+    public HolidayModel cached(
+        int fromYear,
+        int toYear
+    ) {
+
+        if ((fromYear >= this.minYear) && (toYear <= this.maxYear) && (fromYear <= toYear)) {
+            return this;
+        }
+
+        return new CachedHolidayModel(this.model, fromYear, toYear);
+
+    }
+
+    private PlainDate next(PlainDate date) {
+
+        int year = date.getYear();
+
+        if ((year >= this.minYear) && (year <= this.maxYear)) {
+            int from = date.getDayOfYear(); // bit index of following day
+
+            while (year <= this.maxYear) {
+                long[] words = this.getBits(year);
+                for (int w = (from >>> 6); w < words.length; w++) {
+                    long word = words[w] & (-1L << from);
+                    if (word != 0) {
+                        return PlainDate.of(year, (w << 6) + Long.numberOfTrailingZeros(word) + 1);
+                    }
+                    from = 0;
+                }
+                year++;
+                from = 0;
+            }
+
+            date = PlainDate.of(this.maxYear, 12, 31);
+        }
+
+        return HolidayModel.super.nextBusinessDay().apply(date);
+
+    }
+
+    private PlainDate previous(PlainDate date) {
+
+        int year = date.getYear();
+
+        if ((year >= this.minYear) && (year <= this.maxYear)) {
+            int from = date.getDayOfYear() - 2; // bit index of previous day
+
+            while (year >= this.minYear) {
+                long[] words = this.getBits(year);
+                for (int w = (from >>> 6); (from >= 0) && (w >= 0); w--) {
+                    long word = words[w] & (-1L >>> (63 - (from & 63)));
+                    if (word != 0) {
+                        return PlainDate.of(year, (w << 6) + (63 - Long.numberOfLeadingZeros(word)) + 1);
+                    }
+                    from = (w << 6) - 1;
+                }
+                year--;
+                if (year >= this.minYear) {
+                    from = PlainDate.of(year, 1).lengthOfYear() - 1;
+                }
+            }
+
+            date = PlainDate.of(this.minYear, 1, 1);
+        }
+
+        return HolidayModel.super.previousBusinessDay().apply(date);
+
+    }
+
+    private long[] getBits(int year) {
+
+        int index = year - this.minYear;
+        long[] words = this.years.get(index);
+
+        if (words == null) {
+            int len = PlainDate.of(year, 1).lengthOfYear();
+            words = new long[(len + 63) >>> 6];
+            for (int doy = 0; doy < len; doy++) {
+                if (!this.model.test(PlainDate.of(year, doy + 1))) {
+                    words[doy >>> 6] |= (1L << doy);
+                }
+            }
+            if (!this.years.compareAndSet(index, null, words)) {
+                words = this.years.get(index);
+            }
+        }
+
+        return words;
+
+    }
+
+}
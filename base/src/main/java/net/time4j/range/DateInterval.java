@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (DateInterval.java) is part of project Time4J.
  *
@@ -1199,7 +1199,9 @@ public final class DateInterval
      * <p>Creates a partitioning stream of timestamp intervals where every day of this interval is partitioned
      * according to given partitioning rule. </p>
      *
-     * <p>This method enables the easy construction of daily shop opening times or weekly work time schedules. </p>
+     * <p>This method enables the easy construction of daily shop opening times or weekly work time schedules.
+     * If given rule is a {@link DayPartitionSchedule} which covers this interval then the partitions will be
+     * taken directly from the compiled schedule without any evaluation per day. </p>
      *
      * @param   rule        day partition rule
      * @return  stream of timestamp intervals
@@ -1212,7 +1214,9 @@ public final class DateInterval
      * in einzelne Tagesabschnitte zerlegt. </p>
      *
      * <p>Hiermit k&ouml;nnen t&auml;gliche Laden&ouml;ffnungszeiten oder w&ouml;chentliche Arbeitszeitschemata
-     * auf einfache Weise erstellt werden. </p>
+     * auf einfache Weise erstellt werden. Wenn die angegebene Regel ein {@link DayPartitionSchedule} ist, das
+     * dieses Intervall abdeckt, werden die Tagesabschnitte direkt aus dem kompilierten Plan ohne Auswertung
+     * pro Tag entnommen. </p>
      *
      * @param   rule        day partition rule
      * @return  stream of timestamp intervals
@@ -1222,6 +1226,18 @@ public final class DateInterval
      */
     public Stream<TimestampInterval> streamPartitioned(DayPartitionRule rule) {
 
+        if (rule instanceof DayPartitionSchedule) {
+            DateInterval interval = this.toCanonical();
+            if (interval.isFinite() && !interval.isEmpty()) {
+                PlainDate d1 = interval.getClosedFiniteStart();
+                PlainDate d2 = interval.getClosedFiniteEnd();
+                DayPartitionSchedule schedule = DayPartitionSchedule.class.cast(rule);
+                if (schedule.covers(d1, d2)) {
+                    return schedule.streamPartitioned(d1, d2);
+                }
+            }
+        }
+
         return this.streamDaily().flatMap(
             date ->
                 rule.getPartitions(date).stream().map(
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (DayPartitionRule.java) is part of project Time4J.
  *
@@ -155,4 +155,34 @@ public interface DayPartitionRule {
         return false;
     }
 
+    /**
+     * <p>Compiles this rule for given finite date range. </p>
+     *
+     * <p>The compiled schedule evaluates this rule once per day of the range and then answers
+     * timestamp queries by binary search and streams partitions without any further rule
+     * evaluation. </p>
+     *
+     * @param   range   the finite range of calendar dates
+     * @return  compiled schedule
+     * @throws  IllegalArgumentException if the range is infinite or empty or not within the packed timestamp range
+     * @see     DayPartitionSchedule
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Kompiliert diese Regel f&uuml;r den angegebenen endlichen Datumsbereich. </p>
+     *
+     * <p>Der kompilierte Plan wertet diese Regel einmal pro Tag des Bereichs aus und beantwortet danach
+     * Abfragen zu Zeitstempeln mittels bin&auml;rer Suche und liefert Tagesabschnitte ohne weitere
+     * Regelauswertung. </p>
+     *
+     * @param   range   the finite range of calendar dates
+     * @return  compiled schedule
+     * @throws  IllegalArgumentException if the range is infinite or empty or not within the packed timestamp range
+     * @see     DayPartitionSchedule
+     * @since   5.10
+     */
+    default DayPartitionSchedule compile(DateInterval range) {
+        return DayPartitionSchedule.of(this, range);
+    }
+
 }
@@ -0,0 +1,473 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DayPartitionSchedule.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.range;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.packed.PackedDate;
+import net.time4j.packed.PackedTime;
+import net.time4j.packed.PackedTimestamp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * <p>Represents a day partition rule which is compiled for a finite range of calendar dates. </p>
+ *
+ * <p>The underlying rule is evaluated exactly once for every date of the range. Equal daily
+ * partitions are shared, and all partitions of the range are additionally sorted, merged to disjoint
+ * blocks (overlapping or abutting partitions form one block) and flattened into sorted arrays of packed
+ * timestamps (see {@link PackedTimestamp}). Hence the questions if a timestamp is inside any partition
+ * or when the next block of partitions starts can be answered by binary search in logarithmic time,
+ * and {@link DateInterval#streamPartitioned(DayPartitionRule)} streams the original partitions of a
+ * covered interval from the shared daily partitions without evaluating any rule per day.
+ * {@link TimestampInterval#streamPartitioned(DayPartitionRule)} profits, too. Dates outside of the
+ * compiled range are delegated to the underlying rule. </p>
+ *
+ * <p>Example for shop opening times: </p>
+ *
+ * <pre>
+ *     DayPartitionSchedule schedule =
+ *         new DayPartitionBuilder()
+ *             .addWeekdayRule(Weekday.MONDAY, Weekday.FRIDAY, ClockInterval.between(PlainTime.of(9), PlainTime.of(18)))
+ *             .build()
+ *             .compile(DateInterval.between(PlainDate.of(2020, 1, 1), PlainDate.of(2029, 12, 31)));
+ *     boolean open = schedule.matches(PlainTimestamp.of(2024, 3, 5, 10, 30)); // true
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @see     DayPartitionRule#compile(DateInterval)
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert eine Regel zur Zerlegung von Tagen, die f&uuml;r einen endlichen Bereich von
+ * Kalenderdaten kompiliert ist. </p>
+ *
+ * <p>Die zugrundeliegende Regel wird f&uuml;r jedes Datum des Bereichs genau einmal ausgewertet. Gleiche
+ * Tagesabschnitte werden gemeinsam genutzt, und alle Tagesabschnitte des Bereichs werden zus&auml;tzlich
+ * sortiert, zu disjunkten Bl&ouml;cken verschmolzen (sich &uuml;berlappende oder ber&uuml;hrende Abschnitte
+ * bilden einen Block) und in sortierte Arrays von gepackten Zeitstempeln abgeflacht (siehe
+ * {@link PackedTimestamp}). Daher k&ouml;nnen die Fragen, ob ein Zeitstempel in irgendeinem Tagesabschnitt
+ * liegt oder wann der n&auml;chste Block von Abschnitten beginnt, mittels bin&auml;rer Suche in
+ * logarithmischer Zeit beantwortet werden, und {@link DateInterval#streamPartitioned(DayPartitionRule)}
+ * liefert die urspr&uuml;nglichen Tagesabschnitte eines abgedeckten Intervalls aus den gemeinsam genutzten
+ * Tagesabschnitten, ohne irgendeine Regel pro Tag auszuwerten.
+ * {@link TimestampInterval#streamPartitioned(DayPartitionRule)} profitiert ebenfalls. Datumsangaben
+ * au&szlig;erhalb des kompilierten Bereichs werden an die zugrundeliegende Regel delegiert. </p>
+ *
+ * <p>Beispiel f&uuml;r Laden&ouml;ffnungszeiten: </p>
+ *
+ * <pre>
+ *     DayPartitionSchedule schedule =
+ *         new DayPartitionBuilder()
+ *             .addWeekdayRule(Weekday.MONDAY, Weekday.FRIDAY, ClockInterval.between(PlainTime.of(9), PlainTime.of(18)))
+ *             .build()
+ *             .compile(DateInterval.between(PlainDate.of(2020, 1, 1), PlainDate.of(2029, 12, 31)));
+ *     boolean open = schedule.matches(PlainTimestamp.of(2024, 3, 5, 10, 30)); // true
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @see     DayPartitionRule#compile(DateInterval)
+ * @since   5.10
+ */
+public final class DayPartitionSchedule
+    implements DayPartitionRule {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final DayPartitionRule rule;
+    private final DateInterval range;
+    private final long firstDay; // packed date
+    private final long lastDay; // packed date
+    private final List<List<ChronoInterval<PlainTime>>> patterns;
+    private final int[] dayPatterns; // index into patterns per day
+    private final long[] excluded; // bitset per day
+    private final long[] starts; // packed timestamps of merged blocks (inclusive)
+    private final long[] ends; // packed timestamps of merged blocks (exclusive)
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private DayPartitionSchedule(
+        DayPartitionRule rule,
+        DateInterval range
+    ) {
+        super();
+
+        PlainDate d1 = range.getClosedFiniteStart();
+        PlainDate d2 = range.getClosedFiniteEnd();
+        long first = PackedDate.pack(d1);
+        long last = PackedDate.pack(d2);
+
+        if (
+            (first < PackedTimestamp.getPackedDate(PackedTimestamp.MIN))
+            || (last >= PackedTimestamp.getPackedDate(PackedTimestamp.MAX))
+        ) {
+            throw new IllegalArgumentException("Date range out of packed timestamp range: " + range);
+        } else if (last - first >= Integer.MAX_VALUE - 64) {
+            throw new IllegalArgumentException("Date range too large: " + range);
+        }
+
+        int n = (int) (last - first + 1);
+        Map<List<ChronoInterval<PlainTime>>, Integer> indices = new HashMap<>();
+        List<List<ChronoInterval<PlainTime>>> patterns = new ArrayList<>();
+        int[] dayPatterns = new int[n];
+        long[] excluded = new long[(n + 63) >>> 6];
+        List<List<ChronoInterval<PlainTime>>> blocks = new ArrayList<>();
+        int count = 0;
+
+        for (int i = 0; i < n; i++) {
+            PlainDate date = PackedDate.unpack(first + i);
+            if (rule.isExcluded(date)) {
+                excluded[i >>> 6] |= (1L << i);
+            }
+            List<ChronoInterval<PlainTime>> partitions = rule.getPartitions(date);
+            Integer index = indices.get(partitions);
+            if (index == null) {
+                index = Integer.valueOf(patterns.size());
+                indices.put(partitions, index);
+                patterns.add(Collections.unmodifiableList(new ArrayList<>(partitions)));
+                blocks.add(toBlocks(partitions));
+            }
+            dayPatterns[i] = index.intValue();
+            count += blocks.get(index.intValue()).size();
+        }
+
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+
+        for (int i = 0, k = 0; i < n; i++) {
+            long day = first + i;
+            for (ChronoInterval<PlainTime> partition : blocks.get(dayPatterns[i])) {
+                starts[k] = PackedTimestamp.of(day, PackedTime.pack(partition.getStart().getTemporal()));
+                ends[k] = PackedTimestamp.of(day, PackedTime.pack(partition.getEnd().getTemporal()));
+                k++;
+            }
+        }
+
+        this.rule = rule;
+        this.range = DateInterval.between(d1, d2);
+        this.firstDay = first;
+        this.lastDay = last;
+        this.patterns = patterns;
+        this.dayPatterns = dayPatterns;
+        this.excluded = excluded;
+        this.starts = starts;
+        this.ends = ends;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Compiles given rule for given finite date range. </p>
+     *
+     * @param   rule    the day partition rule to be compiled
+     * @param   range   the finite range of calendar dates
+     * @return  new compiled schedule
+     * @throws  IllegalArgumentException if the range is infinite or empty or not within the packed timestamp range
+     * @see     DayPartitionRule#compile(DateInterval)
+     */
+    /*[deutsch]
+     * <p>Kompiliert die angegebene Regel f&uuml;r den angegebenen endlichen Datumsbereich. </p>
+     *
+     * @param   rule    the day partition rule to be compiled
+     * @param   range   the finite range of calendar dates
+     * @return  new compiled schedule
+     * @throws  IllegalArgumentException if the range is infinite or empty or not within the packed timestamp range
+     * @see     DayPartitionRule#compile(DateInterval)
+     */
+    public static DayPartitionSchedule of(
+        DayPartitionRule rule,
+        DateInterval range
+    ) {
+
+        if (rule == null) {
+            throw new NullPointerException("Missing day partition rule.");
+        } else if (!range.isFinite() || range.isEmpty()) {
+            throw new IllegalArgumentException("Date range must be finite and not empty: " + range);
+        }
+
+        return new DayPartitionSchedule(rule, range);
+
+    }
+
+    /**
+     * <p>Yields the compiled range of calendar dates. </p>
+     *
+     * @return  closed finite date interval
+     */
+    /*[deutsch]
+     * <p>Liefert den kompilierten Bereich von Kalenderdaten. </p>
+     *
+     * @return  closed finite date interval
+     */
+    public DateInterval getRange() {
+
+        return this.range;
+
+    }
+
+    @Override
+    public List<ChronoInterval<PlainTime>> getPartitions(PlainDate date) {
+
+        int index = this.indexOf(date);
+        return ((index < 0) ? this.rule.getPartitions(date) : this.patterns.get(this.dayPatterns[index]));
+
+    }
+
+    @Override
+    public boolean isExcluded(PlainDate date) {
+
+        int index = this.indexOf(date);
+        return ((index < 0) ? this.rule.isExcluded(date) : ((this.excluded[index >>> 6] & (1L << index)) != 0));
+
+    }
+
+    @Override
+    public boolean matches(PlainTimestamp timestamp) {
+
+        return this.findWindow(timestamp).isPresent();
+
+    }
+
+    @Override
+    public DayPartitionSchedule compile(DateInterval range) {
+
+        return (this.range.contains(range) ? this : DayPartitionSchedule.of(this.rule, range));
+
+    }
+
+    /**
+     * <p>Finds the block of merged partitions which contains given timestamp. </p>
+     *
+     * <p>Overlapping or abutting partitions of the same day are merged to one block. </p>
+     *
+     * @param   timestamp   the timestamp to be checked
+     * @return  the containing block as timestamp interval or an empty {@code Optional}
+     */
+    /*[deutsch]
+     * <p>Findet den Block von verschmolzenen Tagesabschnitten, der den angegebenen Zeitstempel
+     * enth&auml;lt. </p>
+     *
+     * <p>Sich &uuml;berlappende oder ber&uuml;hrende Tagesabschnitte desselben Tages werden zu einem
+     * Block verschmolzen. </p>
+     *
+     * @param   timestamp   the timestamp to be checked
+     * @return  the containing block as timestamp interval or an empty {@code Optional}
+     */
+    public Optional<TimestampInterval> findWindow(PlainTimestamp timestamp) {
+
+        PlainDate date = timestamp.getCalendarDate();
+
+        if (this.indexOf(date) < 0) {
+            for (ChronoInterval<PlainTime> partition : toBlocks(this.rule.getPartitions(date))) {
+                if (partition.contains(timestamp.getWallTime())) {
+                    return Optional.of(toInterval(date, partition));
+                }
+            }
+            return Optional.empty();
+        }
+
+        long t = PackedTimestamp.pack(timestamp);
+        int k = this.search(t) - 1; // last partition starting at or before t
+
+        if ((k >= 0) && (t < this.ends[k])) {
+            return Optional.of(this.getWindow(k));
+        }
+
+        return Optional.empty();
+
+    }
+
+    /**
+     * <p>Determines the start of the first block of merged partitions which is not before given
+     * timestamp. </p>
+     *
+     * <p>Dates outside of the compiled range are evaluated day by day using the underlying rule. The
+     * search ends at the maximum of the packed timestamp range. </p>
+     *
+     * @param   timestamp   the timestamp to be checked
+     * @return  the next start of any block or an empty {@code Optional} if there is none
+     * @throws  IllegalArgumentException if the timestamp is out of the packed timestamp range
+     */
+    /*[deutsch]
+     * <p>Bestimmt den Start des ersten Blocks von verschmolzenen Tagesabschnitten, der nicht vor dem
+     * angegebenen Zeitstempel liegt. </p>
+     *
+     * <p>Datumsangaben au&szlig;erhalb des kompilierten Bereichs werden Tag f&uuml;r Tag mit Hilfe der
+     * zugrundeliegenden Regel ausgewertet. Die Suche endet am Maximum des Bereichs der gepackten
+     * Zeitstempel. </p>
+     *
+     * @param   timestamp   the timestamp to be checked
+     * @return  the next start of any block or an empty {@code Optional} if there is none
+     * @throws  IllegalArgumentException if the timestamp is out of the packed timestamp range
+     */
+    public Optional<PlainTimestamp> nextOpening(PlainTimestamp timestamp) {
+
+        long t = PackedTimestamp.pack(timestamp);
+        long day = PackedTimestamp.getPackedDate(t);
+
+        if (day < this.firstDay) {
+            Optional<PlainTimestamp> opening = this.nextRuleOpening(timestamp, day, this.firstDay - 1);
+            if (opening.isPresent()) {
+                return opening;
+            }
+        }
+
+        if (day <= this.lastDay) {
+            int k = this.search(t);
+            if ((k > 0) && (this.starts[k - 1] == t)) {
+                k--;
+            }
+            while ((k < this.starts.length) && (this.starts[k] == this.ends[k])) {
+                k++; // skip empty partitions
+            }
+            if (k < this.starts.length) {
+                return Optional.of(PackedTimestamp.unpack(this.starts[k]));
+            }
+        }
+
+        return this.nextRuleOpening(
+            timestamp,
+            Math.max(day, this.lastDay + 1),
+            PackedTimestamp.getPackedDate(PackedTimestamp.MAX));
+
+    }
+
+    /**
+     * <p>Streams the partitions of all days of given covered closed date range without rule evaluation. </p>
+     *
+     * @param   d1  first date (inclusive)
+     * @param   d2  last date (inclusive)
+     * @return  stream of timestamp intervals
+     */
+    Stream<TimestampInterval> streamPartitioned(
+        PlainDate d1,
+        PlainDate d2
+    ) {
+
+        return IntStream.rangeClosed(this.indexOf(d1), this.indexOf(d2)).boxed().flatMap(
+            i -> {
+                PlainDate date = PackedDate.unpack(this.firstDay + i);
+                return this.patterns.get(this.dayPatterns[i]).stream().map(p -> toInterval(date, p));
+            }
+        );
+
+    }
+
+    /**
+     * <p>Determines if all days of given closed date range are within the compiled range. </p>
+     *
+     * @param   d1  first date (inclusive)
+     * @param   d2  last date (inclusive)
+     * @return  boolean
+     */
+    boolean covers(
+        PlainDate d1,
+        PlainDate d2
+    ) {
+
+        return ((this.indexOf(d1) >= 0) && (this.indexOf(d2) >= 0));
+
+    }
+
+    private int indexOf(PlainDate date) {
+
+        long day = PackedDate.pack(date);
+        return (((day < this.firstDay) || (day > this.lastDay)) ? -1 : (int) (day - this.firstDay));
+
+    }
+
+    // count of partitions starting at or before given packed timestamp
+    private int search(long t) {
+
+        int low = 0;
+        int high = this.starts.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.starts[mid] <= t) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+
+    }
+
+    // wertet die Regel Tag für Tag im geschlossenen Bereich der gepackten Datumsangaben aus
+    private Optional<PlainTimestamp> nextRuleOpening(
+        PlainTimestamp timestamp,
+        long fromDay,
+        long toDay
+    ) {
+
+        for (long day = fromDay; day <= toDay; day++) {
+            PlainDate date = PackedDate.unpack(day);
+            for (ChronoInterval<PlainTime> block : toBlocks(this.rule.getPartitions(date))) {
+                PlainTimestamp start = date.at(block.getStart().getTemporal());
+                if (!block.isEmpty() && !start.isBefore(timestamp)) {
+                    return Optional.of(start);
+                }
+            }
+        }
+
+        return Optional.empty();
+
+    }
+
+    private TimestampInterval getWindow(int k) {
+
+        return TimestampInterval.between(PackedTimestamp.unpack(this.starts[k]), PackedTimestamp.unpack(this.ends[k]));
+
+    }
+
+    // sortiert und verschmilzt überlappende oder sich berührende Tagesabschnitte
+    private static List<ChronoInterval<PlainTime>> toBlocks(List<ChronoInterval<PlainTime>> partitions) {
+
+        return IntervalCollection.onClockAxis().plus(partitions).withBlocks().getIntervals();
+
+    }
+
+    private static TimestampInterval toInterval(
+        PlainDate date,
+        ChronoInterval<PlainTime> partition
+    ) {
+
+        return TimestampInterval.between(
+            date.at(partition.getStart().getTemporal()),
+            date.at(partition.getEnd().getTemporal()));
+
+    }
+
+}
@@ -0,0 +1,609 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FlatIntervalTree.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.TimeLine;
+import net.time4j.packed.PackedDate;
+import net.time4j.packed.PackedMoment;
+import net.time4j.packed.PackedTimestamp;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+
+/**
+ * <p>Represents an immutable interval tree whose boundaries are flattened to primitive long arrays. </p>
+ *
+ * <p>All stored intervals are converted to half-open ranges of packed long keys (see the package
+ * {@code net.time4j.packed}) and sorted once by their start. The tree is implicit: the node of
+ * any index range is its middle element, and an additional array holds the maximum end of every
+ * subrange. Stabbing and overlap queries therefore only work on primitive arrays without pointer
+ * chasing or comparisons via a {@code TimeLine}. Empty intervals are never stored. The results
+ * and the visiting order are the same as for {@link IntervalTree}. </p>
+ *
+ * <p>Note: Finite boundaries of stored timestamp or moment intervals must be within the range of
+ * {@link PackedTimestamp} or {@link PackedMoment}. Search arguments are not restricted. </p>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the tree
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert einen unver&auml;nderlichen Intervallbaum, dessen Grenzen in primitive
+ * long-Arrays abgeflacht sind. </p>
+ *
+ * <p>Alle gespeicherten Intervalle werden in halboffene Bereiche von gepackten long-Schl&uuml;sseln
+ * umgewandelt (siehe das Paket {@code net.time4j.packed}) und einmal nach ihrem Start sortiert. Der
+ * Baum ist implizit: der Knoten eines Indexbereichs ist sein mittleres Element, und ein weiteres
+ * Array enth&auml;lt das maximale Ende jedes Teilbereichs. Punkt- und &Uuml;berlappungsabfragen
+ * arbeiten daher nur auf primitiven Arrays ohne Zeigerverfolgung oder Vergleiche mittels einer
+ * {@code TimeLine}. Leere Intervalle werden nie gespeichert. Die Ergebnisse und die
+ * Besuchsreihenfolge sind dieselben wie f&uuml;r {@link IntervalTree}. </p>
+ *
+ * <p>Hinweis: Endliche Grenzen gespeicherter Zeitstempel- oder Momentintervalle m&uuml;ssen im
+ * Wertebereich von {@link PackedTimestamp} oder {@link PackedMoment} liegen. Suchargumente sind
+ * nicht eingeschr&auml;nkt. </p>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the tree
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class FlatIntervalTree<T, I extends ChronoInterval<T>>
+    extends AbstractCollection<I> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long BELOW = Long.MIN_VALUE + 2;
+    private static final long ABOVE = Long.MAX_VALUE - 2;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final TimeLine<T> timeLine;
+    private final ToLongFunction<T> packer;
+    private final T minimum;
+    private final T maximum;
+
+    private final long[] starts; // inklusive
+    private final long[] ends; // exklusive
+    private final long[] maxEnds;
+    private final Object[] intervals;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private FlatIntervalTree(
+        Collection<I> intervals,
+        TimeLine<T> timeLine,
+        ToLongFunction<T> packer,
+        T minimum,
+        T maximum
+    ) {
+        super();
+
+        this.timeLine = timeLine;
+        this.packer = packer;
+        this.minimum = minimum;
+        this.maximum = maximum;
+
+        List<Entry> entries = new ArrayList<>(intervals.size());
+
+        for (I interval : intervals) {
+            if (!interval.isEmpty()) {
+                entries.add(new Entry(this.startKey(interval, true), this.endKey(interval, true), interval));
+            }
+        }
+
+        entries.sort(Comparator.comparingLong(e -> e.start)); // stabil
+        int n = entries.size();
+
+        this.starts = new long[n];
+        this.ends = new long[n];
+        this.maxEnds = new long[n];
+        this.intervals = new Object[n];
+
+        for (int i = 0; i < n; i++) {
+            Entry entry = entries.get(i);
+            this.starts[i] = entry.start;
+            this.ends[i] = entry.end;
+            this.intervals[i] = entry.interval;
+        }
+
+        this.augment(0, n - 1);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a flat interval tree on the date axis filled with given date intervals. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @param   intervals   collection of date intervals
+     * @return  new flat interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen flachen Intervallbaum auf der Datumsachse gef&uuml;llt mit den angegebenen
+     * Datumsintervallen. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @param   intervals   collection of date intervals
+     * @return  new flat interval tree
+     */
+    public static <I extends ChronoInterval<PlainDate>> FlatIntervalTree<PlainDate, I> onDateAxis(
+        Collection<I> intervals
+    ) {
+
+        return new FlatIntervalTree<>(
+            intervals,
+            PlainDate.axis(),
+            PackedDate::pack,
+            PlainDate.axis().getMinimum(),
+            PlainDate.axis().getMaximum());
+
+    }
+
+    /**
+     * <p>Creates a flat interval tree on the timestamp axis filled with given timestamp intervals. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @param   intervals   collection of timestamp intervals
+     * @return  new flat interval tree
+     * @throws  IllegalArgumentException if any finite boundary is out of the range of packed timestamps
+     * @see     PackedTimestamp#MIN
+     * @see     PackedTimestamp#MAX
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen flachen Intervallbaum auf der Zeitstempelachse gef&uuml;llt mit den angegebenen
+     * Zeitstempelintervallen. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @param   intervals   collection of timestamp intervals
+     * @return  new flat interval tree
+     * @throws  IllegalArgumentException if any finite boundary is out of the range of packed timestamps
+     * @see     PackedTimestamp#MIN
+     * @see     PackedTimestamp#MAX
+     */
+    public static <I extends ChronoInterval<PlainTimestamp>> FlatIntervalTree<PlainTimestamp, I> onTimestampAxis(
+        Collection<I> intervals
+    ) {
+
+        return new FlatIntervalTree<>(
+            intervals,
+            PlainTimestamp.axis(),
+            PackedTimestamp::pack,
+            PackedTimestamp.unpack(PackedTimestamp.MIN),
+            PackedTimestamp.unpack(PackedTimestamp.MAX));
+
+    }
+
+    /**
+     * <p>Creates a flat interval tree on the moment axis filled with given moment intervals. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @param   intervals   collection of moment intervals
+     * @return  new flat interval tree
+     * @throws  IllegalArgumentException if any finite boundary is out of the range of packed moments
+     * @see     PackedMoment#MIN_POSIX_TIME
+     * @see     PackedMoment#MAX_POSIX_TIME
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen flachen Intervallbaum auf dem Zeitstrahl gef&uuml;llt mit den angegebenen
+     * Momentintervallen. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @param   intervals   collection of moment intervals
+     * @return  new flat interval tree
+     * @throws  IllegalArgumentException if any finite boundary is out of the range of packed moments
+     * @see     PackedMoment#MIN_POSIX_TIME
+     * @see     PackedMoment#MAX_POSIX_TIME
+     */
+    public static <I extends ChronoInterval<Moment>> FlatIntervalTree<Moment, I> onMomentAxis(
+        Collection<I> intervals
+    ) {
+
+        return new FlatIntervalTree<>(
+            intervals,
+            Moment.axis(),
+            PackedMoment::pack,
+            PackedMoment.unpack(PackedMoment.of(PackedMoment.MIN_POSIX_TIME, 0, false)),
+            PackedMoment.unpack(PackedMoment.of(PackedMoment.MAX_POSIX_TIME, 999_999_999, false)));
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return (this.intervals.length == 0);
+
+    }
+
+    /**
+     * <p>Obtains an iterator over all stored intervals sorted by start. </p>
+     *
+     * @return  an {@code Iterator} which is read-only
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Iterator} &uuml;ber alle gespeicherten Intervalle sortiert nach dem Start. </p>
+     *
+     * @return  an {@code Iterator} which is read-only
+     */
+    @Override
+    public Iterator<I> iterator() {
+
+        List<I> list = cast(Arrays.asList(this.intervals));
+        return Collections.unmodifiableList(list).iterator();
+
+    }
+
+    @Override
+    public int size() {
+
+        return this.intervals.length;
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given point in time. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     */
+    public List<I> findIntersections(T timepoint) {
+
+        long key = this.key(timepoint);
+        List<I> found = new ArrayList<>();
+        this.collect(key, key + 1, 0, this.intervals.length - 1, found);
+        return Collections.unmodifiableList(found);
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given search interval. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     */
+    public List<I> findIntersections(ChronoInterval<T> interval) {
+
+        if (interval.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<I> found = new ArrayList<>();
+        long low = this.startKey(interval, false);
+        long high = this.endKey(interval, false);
+        this.collect(low, high, 0, this.intervals.length - 1, found);
+        return Collections.unmodifiableList(found);
+
+    }
+
+    /**
+     * <p>Counts all stored intervals which intersect given point in time without creating any list. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  count of stored intervals which contain given point in time
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt alle gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten, ohne
+     * eine Liste zu erzeugen. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  count of stored intervals which contain given point in time
+     */
+    public int countIntersections(T timepoint) {
+
+        long key = this.key(timepoint);
+        return this.count(key, key + 1, 0, this.intervals.length - 1);
+
+    }
+
+    /**
+     * <p>Queries if given interval is stored in this tree. </p>
+     *
+     * @param   interval    the interval to be checked
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob das angegebene Intervall in diesem Baum gespeichert ist. </p>
+     *
+     * @param   interval    the interval to be checked
+     * @return  boolean
+     */
+    public boolean contains(ChronoInterval<T> interval) {
+
+        if (interval.isEmpty()) {
+            return false;
+        }
+
+        long start = this.startKey(interval, false);
+        int index = lowerBound(this.starts, start);
+
+        for (int i = index, n = this.intervals.length; (i < n) && (this.starts[i] == start); i++) {
+            if (interval.equals(this.intervals[i])) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+    /**
+     * <p>Accepts given interval tree visitor. </p>
+     *
+     * <p>All intervals will be visited in ascending order, first sorted by start then
+     * in order of the original collection. </p>
+     *
+     * @param   visitor     the interval tree visitor
+     */
+    /*[deutsch]
+     * <p>Nimmt den angegebenen Baumbesucher an. </p>
+     *
+     * <p>Alle Intervalle werden in aufsteigender Reihenfolge besucht, zuerst sortiert nach dem Start,
+     * dann in der Reihenfolge der urspr&uuml;nglichen Collection. </p>
+     *
+     * @param   visitor     the interval tree visitor
+     */
+    public void accept(IntervalTree.Visitor<I> visitor) {
+
+        for (Object interval : this.intervals) {
+            I i = cast(interval);
+            if (visitor.visited(i)) {
+                return;
+            }
+        }
+
+    }
+
+    // sammelt alle Intervalle mit (start < high) und (end > low) im Indexbereich [lo, hi]
+    private void collect(
+        long low,
+        long high,
+        int lo,
+        int hi,
+        List<I> found
+    ) {
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (this.maxEnds[mid] <= low) {
+                return; // kein Intervall im Teilbereich endet nach dem Suchbeginn
+            }
+
+            this.collect(low, high, lo, mid - 1, found);
+
+            if (this.starts[mid] >= high) {
+                return; // alle weiteren Intervalle starten zu spät
+            }
+
+            if (this.ends[mid] > low) {
+                I interval = cast(this.intervals[mid]);
+                found.add(interval);
+            }
+
+            lo = mid + 1; // rechter Teilbereich ohne Rekursion
+        }
+
+    }
+
+    private int count(
+        long low,
+        long high,
+        int lo,
+        int hi
+    ) {
+
+        int result = 0;
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (this.maxEnds[mid] <= low) {
+                break;
+            }
+
+            result += this.count(low, high, lo, mid - 1);
+
+            if (this.starts[mid] >= high) {
+                break;
+            }
+
+            if (this.ends[mid] > low) {
+                result++;
+            }
+
+            lo = mid + 1;
+        }
+
+        return result;
+
+    }
+
+    // maximales Ende des Indexbereichs [lo, hi] am mittleren Index speichern
+    private long augment(
+        int lo,
+        int hi
+    ) {
+
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(this.ends[mid], Math.max(this.augment(lo, mid - 1), this.augment(mid + 1, hi)));
+        this.maxEnds[mid] = max;
+        return max;
+
+    }
+
+    // inklusiver Startschlüssel
+    private long startKey(
+        ChronoInterval<T> interval,
+        boolean stored
+    ) {
+
+        Boundary<T> start = interval.getStart();
+
+        if (start.isInfinite()) {
+            return Long.MIN_VALUE;
+        }
+
+        long key = (stored ? this.storedKey(start.getTemporal(), interval) : this.key(start.getTemporal()));
+        return (start.isOpen() ? key + 1 : key);
+
+    }
+
+    // exklusiver Endschlüssel
+    private long endKey(
+        ChronoInterval<T> interval,
+        boolean stored
+    ) {
+
+        Boundary<T> end = interval.getEnd();
+
+        if (end.isInfinite()) {
+            return Long.MAX_VALUE;
+        }
+
+        long key = (stored ? this.storedKey(end.getTemporal(), interval) : this.key(end.getTemporal()));
+        return (end.isClosed() ? key + 1 : key);
+
+    }
+
+    private long storedKey(
+        T temporal,
+        ChronoInterval<T> interval
+    ) {
+
+        if (this.isOutOfRange(temporal)) {
+            throw new IllegalArgumentException("Interval boundary out of packed range: " + interval);
+        }
+
+        return this.packer.applyAsLong(temporal);
+
+    }
+
+    // Suchargumente außerhalb des gepackten Bereichs werden hinter alle endlichen Schlüssel verschoben
+    private long key(T temporal) {
+
+        if (this.timeLine.compare(temporal, this.minimum) < 0) {
+            return BELOW;
+        } else if (this.timeLine.compare(temporal, this.maximum) > 0) {
+            return ABOVE;
+        }
+
+        return this.packer.applyAsLong(temporal);
+
+    }
+
+    private boolean isOutOfRange(T temporal) {
+
+        return (
+            (this.timeLine.compare(temporal, this.minimum) < 0)
+            || (this.timeLine.compare(temporal, this.maximum) > 0)
+        );
+
+    }
+
+    private static int lowerBound(
+        long[] array,
+        long key
+    ) {
+
+        int low = 0;
+        int high = array.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (array[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object obj) {
+
+        return (T) obj;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Entry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long start;
+        private final long end;
+        private final Object interval;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(
+            long start,
+            long end,
+            Object interval
+        ) {
+            super();
+
+            this.start = start;
+            this.end = end;
+            this.interval = interval;
+
+        }
+
+    }
+
+}
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (HolidayModel.java) is part of project Time4J.
  *
@@ -457,6 +457,80 @@ public interface HolidayModel
         return date -> !test(date) && (date.with(nextBusinessDay()).getMonth() != date.getMonth());
     }
 
+    /**
+     * <p>Creates a thread-safe decorator which caches the results of this model per year. </p>
+     *
+     * <p>Every year of given range is evaluated only once on first access and then stored as compact
+     * bitset. The methods {@link #test(PlainDate)}, {@link #nextBusinessDay()} and
+     * {@link #previousBusinessDay()} (and their or-same-variants) of the decorator are answered from
+     * these bitsets. Dates outside of given range are delegated to this model. Recommended for models
+     * which are expensive to evaluate, for example holidays depending on Easter or lunar calendars. </p>
+     *
+     * @param   fromYear    first year of the cached range (inclusive)
+     * @param   toYear      last year of the cached range (inclusive)
+     * @return  caching holiday model
+     * @throws  IllegalArgumentException if the year range is invalid or spans more than 100000 years
+     * @see     #indexed(int, int)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen thread-sicheren Dekorierer, der die Ergebnisse dieses Modells pro Jahr
+     * zwischenspeichert. </p>
+     *
+     * <p>Jedes Jahr des angegebenen Bereichs wird erst beim ersten Zugriff genau einmal ausgewertet
+     * und dann als kompaktes Bitset gespeichert. Die Methoden {@link #test(PlainDate)},
+     * {@link #nextBusinessDay()} und {@link #previousBusinessDay()} (und ihre or-same-Varianten) des
+     * Dekorierers werden aus diesen Bitsets beantwortet. Datumsangaben au&szlig;erhalb des Bereichs
+     * werden an dieses Modell delegiert. Empfohlen f&uuml;r Modelle, deren Auswertung teuer ist, zum
+     * Beispiel von Ostern oder Mondkalendern abh&auml;ngige Feiertage. </p>
+     *
+     * @param   fromYear    first year of the cached range (inclusive)
+     * @param   toYear      last year of the cached range (inclusive)
+     * @return  caching holiday model
+     * @throws  IllegalArgumentException if the year range is invalid or spans more than 100000 years
+     * @see     #indexed(int, int)
+     * @since   5.10
+     */
+    default HolidayModel cached(
+        int fromYear,
+        int toYear
+    ) {
+        return new CachedHolidayModel(this, fromYear, toYear);
+    }
+
+    /**
+     * <p>Creates a precomputed index of business days for given range of years. </p>
+     *
+     * <p>The index evaluates this model once per day in the year range so that the counting
+     * and shifting of business days inside this range does not iterate day by day. </p>
+     *
+     * @param   fromYear    first year of the index range (inclusive)
+     * @param   toYear      last year of the index range (inclusive)
+     * @return  BusinessCalendar
+     * @throws  IllegalArgumentException if the year range is invalid or spans more than 100000 years
+     * @see     BusinessCalendar#of(HolidayModel, int, int)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen vorberechneten Index von Arbeitstagen f&uuml;r den angegebenen Jahresbereich. </p>
+     *
+     * <p>Der Index wertet dieses Modell einmal pro Tag im Jahresbereich aus, so da&szlig; das Z&auml;hlen
+     * und Verschieben von Arbeitstagen innerhalb dieses Bereichs nicht Tag f&uuml;r Tag iteriert. </p>
+     *
+     * @param   fromYear    first year of the index range (inclusive)
+     * @param   toYear      last year of the index range (inclusive)
+     * @return  BusinessCalendar
+     * @throws  IllegalArgumentException if the year range is invalid or spans more than 100000 years
+     * @see     BusinessCalendar#of(HolidayModel, int, int)
+     * @since   5.10
+     */
+    default BusinessCalendar indexed(
+        int fromYear,
+        int toYear
+    ) {
+        return BusinessCalendar.of(this, fromYear, toYear);
+    }
+
     /**
      * <p>Creates a special time unit for the counting of business days. </p>
      *
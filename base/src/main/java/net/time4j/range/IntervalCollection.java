@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (IntervalCollection.java) is part of project Time4J.
  *
@@ -38,6 +38,7 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.TreeMap;
 
 
 /**
@@ -48,7 +49,8 @@ import java.util.NoSuchElementException;
  * {@code onXYZAxis()}-methods and then be filled with any count of
  * typed intervals via {@code plus(...)}-methods. All intervals are
  * stored with closed start if they have finite start. Empty intervals
- * are never stored. </p>
+ * are never stored. Large collections should rather be built
+ * incrementally by help of {@link #toBuilder()}. </p>
  *
  * @param   <T> generic type characterizing the associated time axis
  * @author  Meno Hochschild
@@ -69,7 +71,8 @@ import java.util.NoSuchElementException;
  * von typisierten Intervallen gef&uuml;llt werden - via {@code plus(...)}
  * -Methoden. Alle Intervalle werden so gespeichert, da&szlig; sie den
  * Start inklusive haben, wenn dieser endlich ist. Leere Intervalle werden
- * nie gespeichert. </p>
+ * nie gespeichert. Gro&szlig;e Intervallmengen sollten besser mit Hilfe
+ * von {@link #toBuilder()} schrittweise aufgebaut werden. </p>
  *
  * @param   <T> generic type characterizing the associated time axis
  * @author  Meno Hochschild
@@ -716,6 +719,40 @@ public abstract class IntervalCollection<T>
 
     }
 
+    /**
+     * <p>Creates a mutable builder which is initially filled with the intervals of this collection. </p>
+     *
+     * <p>The builder keeps its intervals in a sorted tree so that single intervals can be added or
+     * removed in logarithmic time. This is preferable to repeated calls of {@link #plus(ChronoInterval)}
+     * which always copy and sort the whole list of intervals. </p>
+     *
+     * @return  new builder which does not affect this instance
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen ver&auml;nderlichen Builder, der anfangs mit den Intervallen dieser
+     * Menge gef&uuml;llt ist. </p>
+     *
+     * <p>Der Builder h&auml;lt seine Intervalle in einem sortierten Baum, so da&szlig; einzelne
+     * Intervalle in logarithmischer Zeit hinzugef&uuml;gt oder entfernt werden k&ouml;nnen. Das
+     * ist wiederholten Aufrufen von {@link #plus(ChronoInterval)} vorzuziehen, die immer die
+     * ganze Intervall-Liste kopieren und sortieren. </p>
+     *
+     * @return  new builder which does not affect this instance
+     * @since   5.10
+     */
+    public Builder<T> toBuilder() {
+
+        Builder<T> builder = new Builder<>(this);
+
+        for (ChronoInterval<T> interval : this.intervals) {
+            builder.insert(interval);
+        }
+
+        return builder;
+
+    }
+
     /**
      * <p>Subtracts all timepoints of given interval from this interval collection. </p>
      *
@@ -1763,4 +1800,268 @@ public abstract class IntervalCollection<T>
 
     }
 
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Mutable builder for the incremental construction of an interval collection. </p>
+     *
+     * <p>Single intervals can be added or removed in logarithmic time. Intervals which are
+     * equal with respect to the comparator of the collection keep their insertion order,
+     * so that the result of {@link #build()} is the same as after the equivalent sequence
+     * of {@code plus(...)}-calls on an immutable collection. Note that {@code remove(...)}
+     * removes the given interval itself (not its timepoints). Instances are not
+     * thread-safe. </p>
+     *
+     * @param   <T> generic type characterizing the associated time axis
+     * @author  Meno Hochschild
+     * @since   5.10
+     * @see     IntervalCollection#toBuilder()
+     */
+    /*[deutsch]
+     * <p>Ver&auml;nderlicher Builder f&uuml;r den schrittweisen Aufbau einer Intervallmenge. </p>
+     *
+     * <p>Einzelne Intervalle k&ouml;nnen in logarithmischer Zeit hinzugef&uuml;gt oder entfernt
+     * werden. Intervalle, die bez&uuml;glich des Vergleichsobjekts der Intervallmenge gleich
+     * sind, behalten ihre Einf&uuml;gereihenfolge, so da&szlig; das Ergebnis von {@link #build()}
+     * dasselbe ist wie nach der entsprechenden Folge von {@code plus(...)}-Aufrufen auf einer
+     * unver&auml;nderlichen Intervallmenge. {@code remove(...)} entfernt dabei das angegebene
+     * Intervall selbst (nicht seine Zeitpunkte). Instanzen sind nicht thread-sicher. </p>
+     *
+     * @param   <T> generic type characterizing the associated time axis
+     * @author  Meno Hochschild
+     * @since   5.10
+     * @see     IntervalCollection#toBuilder()
+     */
+    public static final class Builder<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final IntervalCollection<T> template;
+        private final TreeMap<ChronoInterval<T>, Object> tree;
+        private int size;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Builder(IntervalCollection<T> template) {
+            super();
+
+            this.template = template;
+            this.tree = new TreeMap<>(template.getComparator());
+            this.size = 0;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Adds given interval. </p>
+         *
+         * <p>An empty interval will be ignored. </p>
+         *
+         * @param   interval    the new interval to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt das angegebene Intervall hinzu. </p>
+         *
+         * <p>Ein leeres Intervall wird ignoriert. </p>
+         *
+         * @param   interval    the new interval to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        public Builder<T> add(ChronoInterval<T> interval) {
+
+            if (!interval.isEmpty()) {
+                this.insert(this.template.adjust(interval));
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Adds all given intervals. </p>
+         *
+         * <p>Empty intervals will be ignored. </p>
+         *
+         * @param   intervals   the new intervals to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given collection contains a finite
+         *          interval with open start which cannot be adjusted to one with closed start
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt alle angegebenen Intervalle hinzu. </p>
+         *
+         * <p>Leere Intervalle werden ignoriert. </p>
+         *
+         * @param   intervals   the new intervals to be added
+         * @return  this instance for method chaining
+         * @throws  IllegalArgumentException if given collection contains a finite
+         *          interval with open start which cannot be adjusted to one with closed start
+         */
+        public Builder<T> addAll(Collection<? extends ChronoInterval<T>> intervals) {
+
+            for (ChronoInterval<T> interval : intervals) {
+                this.add(interval);
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Removes one occurrence of given interval if present. </p>
+         *
+         * <p>In contrast to {@link IntervalCollection#minus(ChronoInterval)}, this method does
+         * not subtract timepoints but only removes a previously added interval which is equal
+         * to the argument (after adjusting an open finite start to a closed one). </p>
+         *
+         * @param   interval    the interval to be removed
+         * @return  {@code true} if an interval was removed else {@code false}
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        /*[deutsch]
+         * <p>Entfernt ein Vorkommen des angegebenen Intervalls, wenn vorhanden. </p>
+         *
+         * <p>Im Unterschied zu {@link IntervalCollection#minus(ChronoInterval)} subtrahiert
+         * diese Methode keine Zeitpunkte, sondern entfernt nur ein vorher hinzugef&uuml;gtes
+         * Intervall, das gleich dem Argument ist (nach Anpassung eines offenen endlichen
+         * Starts zu einem geschlossenen Start). </p>
+         *
+         * @param   interval    the interval to be removed
+         * @return  {@code true} if an interval was removed else {@code false}
+         * @throws  IllegalArgumentException if given interval is finite and has
+         *          open start which cannot be adjusted to one with closed start
+         */
+        public boolean remove(ChronoInterval<T> interval) {
+
+            if (interval.isEmpty()) {
+                return false;
+            }
+
+            ChronoInterval<T> key = this.template.adjust(interval);
+            Object value = this.tree.get(key);
+
+            if (value == null) {
+                return false;
+            } else if (value instanceof Bucket) {
+                Bucket<T> bucket = cast(value);
+
+                if (!bucket.remove(key)) {
+                    return false;
+                } else if (bucket.size() == 1) {
+                    this.tree.put(key, bucket.get(0));
+                }
+            } else if (value.equals(key)) {
+                this.tree.remove(key);
+            } else {
+                return false;
+            }
+
+            this.size--;
+            return true;
+
+        }
+
+        /**
+         * <p>Yields the count of intervals currently held by this builder. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der aktuell in diesem Builder enthaltenen Intervalle. </p>
+         *
+         * @return  int
+         */
+        public int size() {
+
+            return this.size;
+
+        }
+
+        /**
+         * <p>Creates a new immutable interval collection from the current state of this builder. </p>
+         *
+         * <p>The builder can still be used after this call without affecting the result. </p>
+         *
+         * @return  new interval collection
+         */
+        /*[deutsch]
+         * <p>Erzeugt eine neue unver&auml;nderliche Intervallmenge aus dem aktuellen Zustand
+         * dieses Builders. </p>
+         *
+         * <p>Der Builder kann danach weiter benutzt werden, ohne das Ergebnis zu beeinflussen. </p>
+         *
+         * @return  new interval collection
+         */
+        public IntervalCollection<T> build() {
+
+            List<ChronoInterval<T>> list = new ArrayList<>(this.size);
+
+            for (Object value : this.tree.values()) {
+                if (value instanceof Bucket) {
+                    Bucket<T> bucket = cast(value);
+                    list.addAll(bucket);
+                } else {
+                    ChronoInterval<T> interval = cast(value);
+                    list.add(interval);
+                }
+            }
+
+            return this.template.create(list);
+
+        }
+
+        // Schlüssel ist bereits angepasst
+        private void insert(ChronoInterval<T> interval) {
+
+            Object value = this.tree.putIfAbsent(interval, interval);
+
+            if (value instanceof Bucket) {
+                Bucket<T> bucket = cast(value);
+                bucket.add(interval);
+            } else if (value != null) {
+                ChronoInterval<T> first = cast(value);
+                Bucket<T> bucket = new Bucket<>();
+                bucket.add(first);
+                bucket.add(interval);
+                this.tree.put(interval, bucket);
+            }
+
+            this.size++;
+
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T cast(Object obj) {
+
+            return (T) obj;
+
+        }
+
+    }
+
+    // Intervalle mit gleicher Sortierposition in Einfügereihenfolge
+    private static class Bucket<T>
+        extends ArrayList<ChronoInterval<T>> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long serialVersionUID = 1L;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Bucket() {
+            super(2);
+
+        }
+
+    }
+
 }
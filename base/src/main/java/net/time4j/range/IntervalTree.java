@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (IntervalTree.java) is part of project Time4J.
  *
@@ -44,6 +44,11 @@ import java.util.List;
  * in <a href="https://en.wikipedia.org/wiki/Interval_tree">Wikipedia</a>. Empty intervals
  * are never stored. An interval tree is also like a read-only collection of intervals. </p>
  *
+ * <p>The tree is bulk-loaded: all intervals are sorted once and then assembled to a
+ * perfectly balanced tree. For very large trees on the axes of {@code PlainDate},
+ * {@code PlainTimestamp} or {@code Moment}, the array-backed {@link FlatIntervalTree}
+ * is an alternative. </p>
+ *
  * @param   <T> the temporal type of time points in intervals
  * @param   <I> the type of intervals stored in the tree
  * @author  Meno Hochschild
@@ -58,6 +63,11 @@ import java.util.List;
  * Leere Intervalle werden nie gespeichert. Ein Intervallbaum verh&auml;lt sich auch
  * wie eine Nur-Lese-Collection von Intervallen. </p>
  *
+ * <p>Der Baum wird in einem Schritt geladen: alle Intervalle werden einmal sortiert und
+ * dann zu einem perfekt balancierten Baum zusammengesetzt. F&uuml;r sehr gro&szlig;e
+ * B&auml;ume auf den Zeitachsen von {@code PlainDate}, {@code PlainTimestamp} oder
+ * {@code Moment} ist der Array-basierte {@link FlatIntervalTree} eine Alternative. </p>
+ *
  * @param   <T> the temporal type of time points in intervals
  * @param   <I> the type of intervals stored in the tree
  * @author  Meno Hochschild
@@ -87,16 +97,19 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
             throw new NullPointerException("Missing timeline.");
         }
 
-        Node<T, I> r = null;
-        int count = 0;
+        // bulk construction: sort once by start (stable) and then build a balanced tree
+        List<I> sorted = new ArrayList<>(intervals.size());
 
         for (I interval : intervals) {
             if (!interval.isEmpty()) {
-                r = insert(r, interval, timeLine);
-                count = Math.incrementExact(count);
+                sorted.add(interval);
             }
         }
 
+        sorted.sort((i1, i2) -> compareAtStart(i1.getStart(), i2.getStart(), timeLine));
+        Node<T, I> r = build(sorted, 0, sorted.size() - 1, timeLine);
+        int count = sorted.size();
+
         this.root = r;
         this.size = count;
         this.timeLine = timeLine;
@@ -513,80 +526,26 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private static <T, I extends ChronoInterval<T>> Node<T, I> insert(
-        Node<T, I> node,
-        I interval,
+    private static <T, I extends ChronoInterval<T>> Node<T, I> build(
+        List<I> sorted,
+        int low,
+        int high,
         TimeLine<T> timeLine
     ) {
 
-        if (node == null) {
-            return new Node<>(interval);
-        }
-
-        if (compareAtStart(node.interval.getStart(), interval.getStart(), timeLine) > 0) {
-            node.left = insert(node.left, interval, timeLine);
-        } else {
-            node.right = insert(node.right, interval, timeLine);
+        if (low > high) {
+            return null;
         }
 
-        node.height = Math.max(getHeight(node.left), getHeight(node.right)) + 1;
+        int mid = (low + high) >>> 1;
+        Node<T, I> node = new Node<>(sorted.get(mid));
+        node.left = build(sorted, low, mid - 1, timeLine);
+        node.right = build(sorted, mid + 1, high, timeLine);
         node.max = findMax(node, timeLine);
-        int balance = getBalance(node);
-
-        if (balance < -1) {
-            if (getBalance(node.right) > 0) {
-                node.right = rightRotate(node.right, timeLine);
-            }
-            return leftRotate(node, timeLine);
-        } else if (balance > 1) {
-            if (getBalance(node.left) < 0) {
-                node.left = leftRotate(node.left, timeLine);
-            }
-            return rightRotate(node, timeLine);
-        }
-
         return node;
 
     }
 
-    private static <T, I extends ChronoInterval<T>> Node<T, I> leftRotate(
-        Node<T, I> n,
-        TimeLine<T> timeLine
-    ) {
-
-        Node<T, I> r = n.right;
-        n.right = r.left;
-        r.left = n;
-        n.height = Math.max(getHeight(n.left), getHeight(n.right)) + 1;
-        r.height = Math.max(getHeight(r.left), getHeight(r.right)) + 1;
-        n.max = findMax(n, timeLine);
-        r.max = findMax(r, timeLine);
-        return r;
-
-    }
-
-    private static <T, I extends ChronoInterval<T>> Node<T, I> rightRotate(
-        Node<T, I> n,
-        TimeLine<T> timeLine
-    ) {
-
-        Node<T, I> r = n.left;
-        n.left = r.right;
-        r.right = n;
-        n.height = Math.max(getHeight(n.left), getHeight(n.right)) + 1;
-        r.height = Math.max(getHeight(r.left), getHeight(r.right)) + 1;
-        n.max = findMax(n, timeLine);
-        r.max = findMax(r, timeLine);
-        return r;
-
-    }
-
-    private static int getHeight(Node<?, ?> node) {
-
-        return ((node == null) ? 0 : node.height);
-
-    }
-
     private static <T, I extends ChronoInterval<T>> Boundary<T> findMax(
         Node<T, I> n,
         TimeLine<T> timeLine
@@ -690,16 +649,6 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private static int getBalance(Node<?, ?> node) {
-
-        if (node == null) {
-            return 0;
-        }
-
-        return getHeight(node.left) - getHeight(node.right);
-
-    }
-
     private void findIntersections(
         T low, // inclusive if not null
         T high, // exclusive if not null
@@ -858,7 +807,6 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
         // tree organization
         Node<T, I> left = null;
         Node<T, I> right = null;
-        int height;
         Boundary<T> max;
 
         //~ Konstruktoren -------------------------------------------------
@@ -867,7 +815,6 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
             super();
 
             this.interval = interval;
-            this.height = 1;
             this.max = interval.getEnd();
 
         }
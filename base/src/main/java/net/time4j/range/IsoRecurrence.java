@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (IsoRecurrence.java) is part of project Time4J.
  *
@@ -21,12 +21,15 @@
 
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
 import net.time4j.Duration;
 import net.time4j.IsoDateUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.ZonalDateTime;
+import net.time4j.engine.TimeSpan;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.Iso8601Format;
 import net.time4j.tz.ZonalOffset;
@@ -36,6 +39,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -803,13 +807,56 @@ public class IsoRecurrence<I>
     @Override
     public Iterator<I> iterator() {
 
-        throw new AbstractMethodError();
+        return this.iterator(0);
+
+    }
+
+    /**
+     * <p>Obtains the recurrent interval at given position. </p>
+     *
+     * <p>The n-th interval is calculated directly by adding the n-fold duration to the reference
+     * timepoint if the duration consists either of fixed units only (days, weeks or clock units) or
+     * only of month-based calendar units applied to a day-of-month not after 28. Otherwise, for example
+     * for durations with special overflow behaviour like {@code CalendarUnit.MONTHS.keepingEndOfMonth()},
+     * the position is reached by stepwise addition in order to get exactly the same results as the
+     * iterator. </p>
+     *
+     * @param   n       zero-based index of recurrent interval
+     * @return  recurrent interval at given position
+     * @throws  IndexOutOfBoundsException if the index is negative or not smaller than the count
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Liefert das wiederkehrende Intervall an der angegebenen Position. </p>
+     *
+     * <p>Das n-te Intervall wird direkt durch die Addition der n-fachen Dauer zum Referenzzeitpunkt
+     * berechnet, wenn die Dauer entweder nur aus festen Einheiten (Tage, Wochen oder Uhrzeiteinheiten)
+     * oder nur aus monatsbasierten Kalendereinheiten bei einem Tag des Monats nicht nach 28 besteht.
+     * Sonst, zum Beispiel f&uuml;r Dauern mit speziellem &Uuml;berlaufverhalten wie
+     * {@code CalendarUnit.MONTHS.keepingEndOfMonth()}, wird die Position durch schrittweise Addition
+     * erreicht, um genau die gleichen Ergebnisse wie der Iterator zu liefern. </p>
+     *
+     * @param   n       zero-based index of recurrent interval
+     * @return  recurrent interval at given position
+     * @throws  IndexOutOfBoundsException if the index is negative or not smaller than the count
+     * @since   5.10
+     */
+    public I get(int n) {
+
+        if ((n < 0) || ((this.count != INFINITE) && (n >= this.count))) {
+            throw new IndexOutOfBoundsException("Index out of range: " + n + " (count=" + this.count + ")");
+        }
+
+        return this.iterator(n).next();
 
     }
 
     /**
      * <p>Obtains an ordered stream of recurrent intervals. </p>
      *
+     * <p>The stream of a finite recurrence is backed by a spliterator which splits by index ranges
+     * so that parallel streams can calculate every part independently (see also {@link #get(int)}). </p>
+     *
      * @return  Stream
      * @since   4.18
      * @see     Spliterator#DISTINCT
@@ -822,6 +869,10 @@ public class IsoRecurrence<I>
     /*[deutsch]
      * <p>Erzeugt einen geordneten {@code Stream} von wiederkehrenden Intervallen. </p>
      *
+     * <p>Der {@code Stream} einer endlichen Sequenz basiert auf einem {@code Spliterator}, der nach
+     * Indexbereichen teilt, so da&szlig; parallele {@code Stream}s jeden Teil unabh&auml;ngig berechnen
+     * k&ouml;nnen (siehe auch {@link #get(int)}). </p>
+     *
      * @return  Stream
      * @since   4.18
      * @see     Spliterator#DISTINCT
@@ -833,9 +884,15 @@ public class IsoRecurrence<I>
      */
     public Stream<I> intervalStream() {
 
-        long size = (this.isInfinite() ? Long.MAX_VALUE : this.getCount());
-        int characteristics = DISTINCT | IMMUTABLE | NONNULL | ORDERED | SIZED | SUBSIZED;
-        Spliterator<I> spliterator = Spliterators.spliterator(this.iterator(), size, characteristics);
+        Spliterator<I> spliterator;
+
+        if (this.isInfinite()) {
+            int characteristics = DISTINCT | IMMUTABLE | NONNULL | ORDERED | SIZED | SUBSIZED;
+            spliterator = Spliterators.spliterator(this.iterator(), Long.MAX_VALUE, characteristics);
+        } else {
+            spliterator = new IndexSpliterator<>(this, 0, this.getCount());
+        }
+
         return StreamSupport.stream(spliterator, false);
 
     }
@@ -846,6 +903,18 @@ public class IsoRecurrence<I>
 
     }
 
+    /**
+     * <p>Yields an iterator starting at given index. </p>
+     *
+     * @param   start   zero-based index of first interval to be delivered
+     * @return  Iterator
+     */
+    Iterator<I> iterator(int start) {
+
+        throw new AbstractMethodError();
+
+    }
+
     int getType() {
 
         return this.type;
@@ -887,6 +956,30 @@ public class IsoRecurrence<I>
 
     }
 
+    // can the n-th boundary be calculated by adding the n-fold duration without changing the result?
+    private static boolean isLinear(
+        Duration<?> duration,
+        int dayOfMonth
+    ) {
+
+        boolean fixed = false;
+        boolean monthBased = false;
+
+        for (TimeSpan.Item<?> item : duration.getTotalLength()) {
+            Object unit = item.getUnit();
+            if ((unit instanceof ClockUnit) || (unit == DAYS) || (unit == WEEKS)) {
+                fixed = true;
+            } else if (unit instanceof CalendarUnit) {
+                monthBased = true;
+            } else {
+                return false;
+            }
+        }
+
+        return (monthBased ? (!fixed && (dayOfMonth <= 28)) : true);
+
+    }
+
     private static boolean isExtendedFormat(String iso) {
 
         for (int i = 1, n = iso.length(); i < n; i++) {
@@ -933,15 +1026,19 @@ public class IsoRecurrence<I>
 
         //~ Instanzvariablen ----------------------------------------------
 
-        private int index = 0;
+        private int index;
         private R recurrence;
 
         //~ Konstruktoren -------------------------------------------------
 
-        ReadOnlyIterator(R recurrence) {
+        ReadOnlyIterator(
+            R recurrence,
+            int index
+        ) {
             super();
 
             this.recurrence = recurrence;
+            this.index = index;
 
         }
 
@@ -981,6 +1078,108 @@ public class IsoRecurrence<I>
 
     }
 
+    private static class IndexSpliterator<I>
+        implements Spliterator<I> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final IsoRecurrence<I> recurrence;
+        private final int fence;
+        private int index;
+        private Iterator<I> cursor;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        IndexSpliterator(
+            IsoRecurrence<I> recurrence,
+            int index,
+            int fence
+        ) {
+            super();
+
+            this.recurrence = recurrence;
+            this.index = index;
+            this.fence = fence;
+            this.cursor = null;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean tryAdvance(Consumer<? super I> action) {
+
+            if (action == null) {
+                throw new NullPointerException();
+            } else if (this.index >= this.fence) {
+                return false;
+            }
+
+            if (this.cursor == null) {
+                this.cursor = this.recurrence.iterator(this.index);
+            }
+
+            action.accept(this.cursor.next());
+            this.index++;
+            return true;
+
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super I> action) {
+
+            if (action == null) {
+                throw new NullPointerException();
+            } else if (this.index >= this.fence) {
+                return;
+            }
+
+            Iterator<I> iter = ((this.cursor == null) ? this.recurrence.iterator(this.index) : this.cursor);
+
+            while (this.index < this.fence) {
+                action.accept(iter.next());
+                this.index++;
+            }
+
+            this.cursor = iter;
+
+        }
+
+        @Override
+        public Spliterator<I> trySplit() {
+
+            int lo = this.index;
+            int mid = (lo + this.fence) >>> 1;
+
+            if (lo >= mid) {
+                return null;
+            }
+
+            // the prefix takes over the current cursor, the suffix will start with a new one at mid
+            IndexSpliterator<I> prefix = new IndexSpliterator<>(this.recurrence, lo, mid);
+            prefix.cursor = this.cursor;
+            this.index = mid;
+            this.cursor = null;
+            return prefix;
+
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return (this.fence - this.index);
+
+        }
+
+        @Override
+        public int characteristics() {
+
+            return DISTINCT | IMMUTABLE | NONNULL | ORDERED | SIZED | SUBSIZED;
+
+        }
+
+    }
+
     private static class RecurrentDateIntervals
         extends IsoRecurrence<DateInterval> {
 
@@ -990,6 +1189,7 @@ public class IsoRecurrence<I>
 
         private final PlainDate ref;
         private final Duration<? extends IsoDateUnit> duration;
+        private final boolean linear;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1003,6 +1203,7 @@ public class IsoRecurrence<I>
 
             this.ref = ref;
             this.duration = duration;
+            this.linear = isLinear(duration, ref.getDayOfMonth());
 
             if (!duration.isPositive()) {
                 throw new IllegalArgumentException("Duration must be positive: " + duration);
@@ -1013,9 +1214,9 @@ public class IsoRecurrence<I>
         //~ Methoden ----------------------------------------------------------
 
         @Override
-        public Iterator<DateInterval> iterator() {
-            return new ReadOnlyIterator<DateInterval, RecurrentDateIntervals>(this) {
-                private PlainDate current = RecurrentDateIntervals.this.ref;
+        Iterator<DateInterval> iterator(int start) {
+            return new ReadOnlyIterator<DateInterval, RecurrentDateIntervals>(this, start) {
+                private PlainDate current = RecurrentDateIntervals.this.boundary(start);
                 @Override
                 protected DateInterval nextInterval() {
                     PlainDate next;
@@ -1095,6 +1296,25 @@ public class IsoRecurrence<I>
 
         }
 
+        private PlainDate boundary(int n) {
+
+            if (n == 0) {
+                return this.ref;
+            } else if (this.linear) {
+                Duration<? extends IsoDateUnit> multiple = this.duration.multipliedBy(n);
+                return (this.isBackwards() ? this.ref.minus(multiple) : this.ref.plus(multiple));
+            }
+
+            PlainDate current = this.ref;
+
+            for (int i = 0; i < n; i++) {
+                current = (this.isBackwards() ? current.minus(this.duration) : current.plus(this.duration));
+            }
+
+            return current;
+
+        }
+
     }
 
     private static class RecurrentTimestampIntervals
@@ -1106,6 +1326,7 @@ public class IsoRecurrence<I>
 
         private final PlainTimestamp ref;
         private final Duration<?> duration;
+        private final boolean linear;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1119,6 +1340,7 @@ public class IsoRecurrence<I>
 
             this.ref = ref;
             this.duration = duration;
+            this.linear = isLinear(duration, ref.getCalendarDate().getDayOfMonth());
 
             if (!duration.isPositive()) {
                 throw new IllegalArgumentException("Duration must be positive: " + duration);
@@ -1129,9 +1351,9 @@ public class IsoRecurrence<I>
         //~ Methoden ----------------------------------------------------------
 
         @Override
-        public Iterator<TimestampInterval> iterator() {
-            return new ReadOnlyIterator<TimestampInterval, RecurrentTimestampIntervals>(this) {
-                private PlainTimestamp current = RecurrentTimestampIntervals.this.ref;
+        Iterator<TimestampInterval> iterator(int start) {
+            return new ReadOnlyIterator<TimestampInterval, RecurrentTimestampIntervals>(this, start) {
+                private PlainTimestamp current = RecurrentTimestampIntervals.this.boundary(start);
                 @Override
                 protected TimestampInterval nextInterval() {
                     PlainTimestamp next;
@@ -1211,6 +1433,25 @@ public class IsoRecurrence<I>
 
         }
 
+        private PlainTimestamp boundary(int n) {
+
+            if (n == 0) {
+                return this.ref;
+            } else if (this.linear) {
+                Duration<?> multiple = this.duration.multipliedBy(n);
+                return (this.isBackwards() ? this.ref.minus(multiple) : this.ref.plus(multiple));
+            }
+
+            PlainTimestamp current = this.ref;
+
+            for (int i = 0; i < n; i++) {
+                current = (this.isBackwards() ? current.minus(this.duration) : current.plus(this.duration));
+            }
+
+            return current;
+
+        }
+
     }
 
     private static class RecurrentMomentIntervals
@@ -1223,6 +1464,7 @@ public class IsoRecurrence<I>
         private final PlainTimestamp ref;
         private final ZonalOffset offset;
         private final Duration<?> duration;
+        private final boolean linear;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1238,6 +1480,7 @@ public class IsoRecurrence<I>
             this.ref = ref;
             this.offset = offset;
             this.duration = duration;
+            this.linear = isLinear(duration, ref.getCalendarDate().getDayOfMonth());
 
             if (!duration.isPositive()) {
                 throw new IllegalArgumentException("Duration must be positive: " + duration);
@@ -1250,9 +1493,9 @@ public class IsoRecurrence<I>
         //~ Methoden ----------------------------------------------------------
 
         @Override
-        public Iterator<MomentInterval> iterator() {
-            return new ReadOnlyIterator<MomentInterval, RecurrentMomentIntervals>(this) {
-                private PlainTimestamp current = RecurrentMomentIntervals.this.ref;
+        Iterator<MomentInterval> iterator(int start) {
+            return new ReadOnlyIterator<MomentInterval, RecurrentMomentIntervals>(this, start) {
+                private PlainTimestamp current = RecurrentMomentIntervals.this.boundary(start);
                 private ZonalOffset offset = RecurrentMomentIntervals.this.offset;
                 @Override
                 protected MomentInterval nextInterval() {
@@ -1343,6 +1586,25 @@ public class IsoRecurrence<I>
 
         }
 
+        private PlainTimestamp boundary(int n) {
+
+            if (n == 0) {
+                return this.ref;
+            } else if (this.linear) {
+                Duration<?> multiple = this.duration.multipliedBy(n);
+                return (this.isBackwards() ? this.ref.minus(multiple) : this.ref.plus(multiple));
+            }
+
+            PlainTimestamp current = this.ref;
+
+            for (int i = 0; i < n; i++) {
+                current = (this.isBackwards() ? current.minus(this.duration) : current.plus(this.duration));
+            }
+
+            return current;
+
+        }
+
         private String getOffsetAsString() {
 
             if ((this.offset.getIntegralAmount() == 0) && (this.offset.getFractionalAmount() == 0)) {
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (LeapSeconds.java) is part of project Time4J.
  *
@@ -188,7 +188,8 @@ public final class LeapSeconds
     private final LeapSecondProvider provider;
     private final List<ExtendedLSE> list;
     private final ExtendedLSE[] reverseFinal;
-    private volatile ExtendedLSE[] reverseVolatile;
+    private final LookupTable tableFinal;
+    private volatile LookupTable tableVolatile; // enthält auch die Ereignisse in absteigender Reihenfolge
     private final boolean supportsNegativeLS;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -220,8 +221,9 @@ public final class LeapSeconds
             this.provider = null;
             this.list = Collections.emptyList();
             this.reverseFinal = EMPTY_ARRAY;
-            this.reverseVolatile = EMPTY_ARRAY;
             this.supportsNegativeLS = false;
+            this.tableFinal = new LookupTable(EMPTY_ARRAY, false);
+            this.tableVolatile = this.tableFinal;
         } else {
             SortedSet<ExtendedLSE> sortedLS = new TreeSet<>(this);
 
@@ -248,7 +250,6 @@ public final class LeapSeconds
             }
 
             this.reverseFinal = this.initReverse();
-            this.reverseVolatile = this.reverseFinal;
             this.provider = loaded;
 
             if (FINAL_UTC_LEAPSECONDS) {
@@ -267,6 +268,9 @@ public final class LeapSeconds
             } else {
                 this.supportsNegativeLS = true;
             }
+
+            this.tableFinal = new LookupTable(this.reverseFinal, this.supportsNegativeLS);
+            this.tableVolatile = this.tableFinal;
         }
 
     }
@@ -563,22 +567,9 @@ public final class LeapSeconds
 
         // Schaltsekundenereignisse gibt es erst seit Juni 1972
         if (year >= 1972) {
-
-            ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-            for (int i = 0; i < events.length; i++) {
-                ExtendedLSE event = events[i];
-                GregorianDate lsDate = event.getDate();
-
-                // Ist es der Umstellungstag?
-                if (
-                    (year == lsDate.getYear())
-                    && (date.getMonth() == lsDate.getMonth())
-                    && (date.getDayOfMonth() == lsDate.getDayOfMonth())
-                ) {
-                    return event.getShift();
-                }
-            }
+            // Ist es der Umstellungstag? (letzte Sekunde des Tages ohne Schaltsekunden)
+            long raw = toPosix(date) + (1 - 2 * 365) * 86400 - 1;
+            return this.getTable().getShiftOfDay(raw);
         }
 
         return 0;
@@ -609,22 +600,7 @@ public final class LeapSeconds
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc > lse.utc()) {
-                return 0;
-            } else {
-                long start = lse.utc() - lse.getShift();
-                if (utc > start) { // Schaltbereich
-                    return (int) (utc - start);
-                }
-            }
-        }
-
-        return 0;
+        return this.getTable().getShift(utc);
 
     }
 
@@ -647,20 +623,7 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        LeapSecondEvent result = null;
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc >= lse.utc()) {
-                break;
-            } else {
-                result = lse;
-            }
-        }
-
-        return result;
+        return this.getTable().getNextEvent(utc);
 
     }
 
@@ -700,19 +663,101 @@ public final class LeapSeconds
             return epochTime;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        return this.getTable().enhance(epochTime);
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+    }
 
-            if (lse.raw() < epochTime) {
-                return Math.addExact(epochTime, lse.utc() - lse.raw());
-            }
+    /**
+     * <p>Converts all given UNIX-timestamps to UTC-timestamps including leap seconds. </p>
+     *
+     * <p>This bulk variant is equivalent to calling {@link #enhance(long)} for every
+     * element but avoids any repeated lookup overhead. Source and target may be the
+     * same array. </p>
+     *
+     * @param   unixTimes   elapsed times in seconds relative to UNIX epoch
+     *                      [1970-01-01T00:00:00Z] without leap seconds
+     * @param   target      array which will be filled with elapsed SI-seconds relative to UTC epoch
+     *                      [1972-01-01T00:00:00Z] including leap seconds
+     * @throws  IllegalArgumentException if the target array is shorter than the source array
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #enhance(long)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Wandelt alle angegebenen UNIX-Zeitstempel in UTC-Zeitstempel mit Schaltsekunden um. </p>
+     *
+     * <p>Diese Massenvariante ist &auml;quivalent zum Aufruf von {@link #enhance(long)} f&uuml;r
+     * jedes Element, vermeidet aber wiederholten Suchaufwand. Quelle und Ziel d&uuml;rfen
+     * dasselbe Array sein. </p>
+     *
+     * @param   unixTimes   elapsed times in seconds relative to UNIX epoch
+     *                      [1970-01-01T00:00:00Z] without leap seconds
+     * @param   target      array which will be filled with elapsed SI-seconds relative to UTC epoch
+     *                      [1972-01-01T00:00:00Z] including leap seconds
+     * @throws  IllegalArgumentException if the target array is shorter than the source array
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #enhance(long)
+     * @since   5.10
+     */
+    public void enhance(
+        long[] unixTimes,
+        long[] target
+    ) {
+
+        checkBulk(unixTimes, target);
+        LookupTable table = this.getTable();
+
+        for (int i = 0; i < unixTimes.length; i++) {
+            long epochTime = unixTimes[i] - UNIX_OFFSET;
+            target[i] = ((epochTime < 0) ? epochTime : table.enhance(epochTime));
         }
 
-        return epochTime;
+    }
+
+    /**
+     * <p>Converts all given UTC-timestamps to UNIX-timestamps without leap seconds. </p>
+     *
+     * <p>This bulk variant is equivalent to calling {@link #strip(long)} for every
+     * element but avoids any repeated lookup overhead. Source and target may be the
+     * same array. </p>
+     *
+     * @param   utcs        elapsed SI-seconds relative to UTC epoch
+     *                      [1972-01-01T00:00:00Z] including leap seconds
+     * @param   target      array which will be filled with elapsed times in seconds relative
+     *                      to UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @throws  IllegalArgumentException if the target array is shorter than the source array
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #strip(long)
+     * @since   5.10
+     */
+    /*[deutsch]
+     * <p>Wandelt alle angegebenen UTC-Zeitstempel in UNIX-Zeitstempel ohne Schaltsekunden um. </p>
+     *
+     * <p>Diese Massenvariante ist &auml;quivalent zum Aufruf von {@link #strip(long)} f&uuml;r
+     * jedes Element, vermeidet aber wiederholten Suchaufwand. Quelle und Ziel d&uuml;rfen
+     * dasselbe Array sein. </p>
+     *
+     * @param   utcs        elapsed SI-seconds relative to UTC epoch
+     *                      [1972-01-01T00:00:00Z] including leap seconds
+     * @param   target      array which will be filled with elapsed times in seconds relative
+     *                      to UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @throws  IllegalArgumentException if the target array is shorter than the source array
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #strip(long)
+     * @since   5.10
+     */
+    public void strip(
+        long[] utcs,
+        long[] target
+    ) {
+
+        checkBulk(utcs, target);
+        LookupTable table = this.getTable();
+
+        for (int i = 0; i < utcs.length; i++) {
+            long utc = utcs[i];
+            target[i] = ((utc <= 0) ? utc : table.strip(utc)) + UNIX_OFFSET;
+        }
 
     }
 
@@ -749,24 +794,7 @@ public final class LeapSeconds
             return utc + UNIX_OFFSET;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-            ) {
-                utc = Math.addExact(utc, lse.raw() - lse.utc());
-                break;
-            }
-        }
-
-        return utc + UNIX_OFFSET;
+        return this.getTable().strip(utc) + UNIX_OFFSET;
 
     }
 
@@ -794,19 +822,7 @@ public final class LeapSeconds
             return false;
         }
 
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
-
-            if (comp == utc) {
-                return (events[i].getShift() == 1);
-            } else if (comp < utc) {
-                break;
-            }
-        }
-
-        return false;
+        return this.getTable().isPositiveLS(utc);
 
     }
 
@@ -955,7 +971,7 @@ public final class LeapSeconds
                 throw new IllegalStateException("Leap seconds not activated.");
             }
 
-            ExtendedLSE last = this.reverseVolatile[0];
+            ExtendedLSE last = this.tableVolatile.reverse[0];
             GregorianDate date = last.getDate();
             boolean ok = false;
 
@@ -980,7 +996,8 @@ public final class LeapSeconds
             GregorianDate newDate =
                 this.provider.getDateOfEvent(year, month, dayOfMonth);
             this.list.add(createLSE(newDate, shift, last));
-            this.reverseVolatile = this.initReverse();
+            // Ereignisse und Tabelle gemeinsam mit nur einem volatile-Schreibzugriff veröffentlichen
+            this.tableVolatile = new LookupTable(this.initReverse(), this.supportsNegativeLS);
         }
 
     }
@@ -991,7 +1008,30 @@ public final class LeapSeconds
         if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
             return this.reverseFinal;
         } else {
-            return this.reverseVolatile;
+            return this.tableVolatile.reverse;
+        }
+
+    }
+
+    // Nachschlagetabelle passend zu getEventsInDescendingOrder()
+    private LookupTable getTable() {
+
+        if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
+            return this.tableFinal;
+        } else {
+            return this.tableVolatile;
+        }
+
+    }
+
+    private static void checkBulk(
+        long[] source,
+        long[] target
+    ) {
+
+        if (target.length < source.length) {
+            throw new IllegalArgumentException(
+                "Target array shorter than source: " + target.length + " < " + source.length);
         }
 
     }
@@ -1065,6 +1105,190 @@ public final class LeapSeconds
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Unver&auml;nderliche Nachschlagetabelle der Schaltsekundenereignisse in
+     * aufsteigender Reihenfolge. </p>
+     *
+     * <p>Die Zeitachse ist in F&auml;cher zu 2^24 Sekunden (ca. 194 Tage) geteilt, so
+     * da&szlig; jedes Fach h&ouml;chstens zwei Ereignisse enth&auml;lt (Schaltsekunden
+     * liegen mindestens ein halbes Jahr auseinander). Jede Suche ist damit ein Feldzugriff
+     * plus maximal zwei Vergleiche. </p>
+     *
+     * <p>Die Tabelle enth&auml;lt auch das Feld der Ereignisse in absteigender Reihenfolge,
+     * damit beide zusammen mit einem einzigen volatile-Schreibzugriff ver&ouml;ffentlicht
+     * werden. </p>
+     */
+    private static final class LookupTable {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int SHIFT = 24;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ExtendedLSE[] reverse; // absteigende Reihenfolge
+        private final ExtendedLSE[] events;
+        private final long[] raws;
+        private final long[] utcs;
+        private final long[] diffs; // utc - raw
+        private final int[] shifts;
+        private final long[] stripKeys;
+        private final int[] rawIndex;
+        private final int[] utcIndex;
+        private final int[] stripIndex;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        LookupTable(
+            ExtendedLSE[] reverse,
+            boolean snls
+        ) {
+            super();
+
+            int n = reverse.length;
+            this.reverse = reverse;
+            this.events = new ExtendedLSE[n];
+            this.raws = new long[n];
+            this.utcs = new long[n];
+            this.diffs = new long[n];
+            this.shifts = new int[n];
+            this.stripKeys = new long[n];
+
+            for (int i = 0; i < n; i++) {
+                ExtendedLSE lse = reverse[n - 1 - i];
+                this.events[i] = lse;
+                this.raws[i] = lse.raw();
+                this.utcs[i] = lse.utc();
+                this.diffs[i] = lse.utc() - lse.raw();
+                this.shifts[i] = lse.getShift();
+                this.stripKeys[i] = (
+                    (snls && (lse.getShift() < 0))
+                    ? lse.utc()
+                    : lse.utc() - lse.getShift());
+            }
+
+            this.rawIndex = buildIndex(this.raws);
+            this.utcIndex = buildIndex(this.utcs);
+            this.stripIndex = buildIndex(this.stripKeys);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        long enhance(long epochTime) {
+
+            int k = countBefore(this.raws, this.rawIndex, epochTime);
+            return ((k == 0) ? epochTime : Math.addExact(epochTime, this.diffs[k - 1]));
+
+        }
+
+        long strip(long utc) {
+
+            int k = countBefore(this.stripKeys, this.stripIndex, utc);
+            return ((k == 0) ? utc : Math.addExact(utc, -this.diffs[k - 1]));
+
+        }
+
+        int getShift(long utc) {
+
+            int k = countBefore(this.utcs, this.utcIndex, utc); // first event with utc >= given value
+
+            if (k < this.utcs.length) {
+                long start = this.utcs[k] - this.shifts[k];
+                if (utc > start) { // Schaltbereich
+                    return (int) (utc - start);
+                }
+            }
+
+            return 0;
+
+        }
+
+        int getShiftOfDay(long raw) {
+
+            int k = countBefore(this.raws, this.rawIndex, raw);
+            return (((k < this.raws.length) && (this.raws[k] == raw)) ? this.shifts[k] : 0);
+
+        }
+
+        boolean isPositiveLS(long utc) {
+
+            int k = countBefore(this.utcs, this.utcIndex, utc);
+            return ((k < this.utcs.length) && (this.utcs[k] == utc) && (this.shifts[k] == 1));
+
+        }
+
+        LeapSecondEvent getNextEvent(long utc) {
+
+            int k = countBefore(this.utcs, this.utcIndex, utc);
+
+            if ((k < this.utcs.length) && (this.utcs[k] == utc)) {
+                k++;
+            }
+
+            return ((k < this.utcs.length) ? this.events[k] : null);
+
+        }
+
+        // index[b] = count of keys before the start of bucket b (relative to bucket of first key)
+        private static int[] buildIndex(long[] keys) {
+
+            int n = keys.length;
+
+            if (n == 0) {
+                return new int[0];
+            }
+
+            long first = keys[0] >> SHIFT;
+            int count = (int) ((keys[n - 1] >> SHIFT) - first + 1);
+            int[] index = new int[count];
+            int i = 0;
+
+            for (int b = 0; b < count; b++) {
+                long start = (first + b) << SHIFT;
+                while (keys[i] < start) {
+                    i++;
+                }
+                index[b] = i;
+            }
+
+            return index;
+
+        }
+
+        // count of keys strictly smaller than given value
+        private static int countBefore(
+            long[] keys,
+            int[] index,
+            long value
+        ) {
+
+            int n = keys.length;
+
+            if (n == 0) {
+                return 0;
+            }
+
+            long b = (value >> SHIFT) - (keys[0] >> SHIFT);
+
+            if (b < 0) {
+                return 0;
+            } else if (b >= index.length) {
+                return n;
+            }
+
+            int i = index[(int) b];
+
+            while ((i < n) && (keys[i] < value)) {
+                i++;
+            }
+
+            return i;
+
+        }
+
+    }
+
     private static class SimpleLeapSecondEvent
         implements ExtendedLSE, Serializable {
 
@@ -0,0 +1,352 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BatchConverter.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.base.UnixTime;
+
+import java.util.Optional;
+
+
+/**
+ * <p>Converts columns of POSIX timestamps to local timestamps in one timezone
+ * and writes the results into primitive arrays. </p>
+ *
+ * <p>In contrast to {@code Moment.of(...).toZonalTimestamp(tzid)}, no temporal objects
+ * are created per element. The transition history is only consulted when a timestamp
+ * leaves the offset interval of the previous element, so sorted input walks the history
+ * exactly once. Calendar dates are written in the binary format of
+ * {@link GregorianMath#toPackedDate(long)} and can be decoded by
+ * {@link GregorianMath#readYear(long)}, {@link GregorianMath#readMonth(long)} and
+ * {@link GregorianMath#readDayOfMonth(long)}. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *     long[] posix = ...;
+ *     long[] dates = new long[posix.length];
+ *     int[] secondsOfDay = new int[posix.length];
+ *     int[] offsets = new int[posix.length];
+ *     BatchConverter.of(Timezone.of(&quot;Europe/Berlin&quot;)).toLocal(posix, dates, secondsOfDay, offsets);
+ * </pre>
+ *
+ * <p>Instances are immutable and can be shared between threads. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+/*[deutsch]
+ * <p>Konvertiert Spalten von POSIX-Zeitstempeln zu lokalen Zeitstempeln in einer
+ * Zeitzone und schreibt die Ergebnisse in primitive Arrays. </p>
+ *
+ * <p>Im Unterschied zu {@code Moment.of(...).toZonalTimestamp(tzid)} werden keine
+ * Zeitobjekte pro Element erzeugt. Die &Uuml;bergangshistorie wird nur befragt, wenn
+ * ein Zeitstempel das Verschiebungsintervall des vorherigen Elements verl&auml;&szlig;t,
+ * so da&szlig; sortierte Eingaben die Historie genau einmal durchlaufen. Kalenderdaten
+ * werden im Bin&auml;rformat von {@link GregorianMath#toPackedDate(long)} geschrieben und
+ * k&ouml;nnen mit {@link GregorianMath#readYear(long)}, {@link GregorianMath#readMonth(long)}
+ * und {@link GregorianMath#readDayOfMonth(long)} dekodiert werden. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *     long[] posix = ...;
+ *     long[] dates = new long[posix.length];
+ *     int[] secondsOfDay = new int[posix.length];
+ *     int[] offsets = new int[posix.length];
+ *     BatchConverter.of(Timezone.of(&quot;Europe/Berlin&quot;)).toLocal(posix, dates, secondsOfDay, offsets);
+ * </pre>
+ *
+ * <p>Instanzen sind unver&auml;nderlich und k&ouml;nnen von mehreren Threads gemeinsam
+ * genutzt werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ */
+public final class BatchConverter {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1_000_000_000;
+    private static final long MJD_OFFSET = 40587; // 1970-01-01 as modified julian date
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Timezone tz;
+    private final ZonalOffset fixedOffset; // null if not fixed
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BatchConverter(Timezone tz) {
+        super();
+
+        this.tz = tz;
+        this.fixedOffset = (tz.isFixed() ? tz.getOffset(new Cursor()) : null);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new batch converter for given timezone. </p>
+     *
+     * @param   tz      timezone the local timestamps refer to
+     * @return  new instance
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Massenkonvertierer f&uuml;r die angegebene Zeitzone. </p>
+     *
+     * @param   tz      timezone the local timestamps refer to
+     * @return  new instance
+     */
+    public static BatchConverter of(Timezone tz) {
+
+        if (tz == null) {
+            throw new NullPointerException("Missing timezone.");
+        }
+
+        return new BatchConverter(tz);
+
+    }
+
+    /**
+     * <p>Yields the timezone of this converter. </p>
+     *
+     * @return  Timezone
+     */
+    /*[deutsch]
+     * <p>Liefert die Zeitzone dieses Konvertierers. </p>
+     *
+     * @return  Timezone
+     */
+    public Timezone getTimezone() {
+
+        return this.tz;
+
+    }
+
+    /**
+     * <p>Converts given POSIX seconds to local dates, seconds of day and offsets. </p>
+     *
+     * <p>Fractional offsets (only possible for longitudinal fixed offsets) are not truncated,
+     * instead the local time is floored to full seconds. For negative fractional offsets, the
+     * local time is hence one second earlier than with a truncated offset. Use
+     * {@link #toLocal(long[], int[], long[], int[], int[], int[])} if the nanoseconds of the
+     * POSIX instants are relevant. </p>
+     *
+     * @param   posixSeconds    elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   packedDates     target array for local dates in format of {@code GregorianMath.toPackedDate()}
+     * @param   secondsOfDay    target array for local seconds of day (0-86399)
+     * @param   offsets         target array for total offsets in seconds (optional, maybe {@code null})
+     * @throws  IllegalArgumentException if any target array is shorter than the source array
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen POSIX-Sekunden zu lokalen Kalenderdaten, Sekunden
+     * des Tages und Verschiebungen. </p>
+     *
+     * <p>Fraktionale Verschiebungen (nur bei longitudinalen festen Verschiebungen m&ouml;glich)
+     * werden nicht abgeschnitten, stattdessen wird die lokale Zeit auf volle Sekunden abgerundet.
+     * Bei negativen fraktionalen Verschiebungen liegt die lokale Zeit deshalb eine Sekunde vor
+     * dem Ergebnis mit abgeschnittener Verschiebung. Wenn die Nanosekunden der POSIX-Zeitpunkte
+     * relevant sind, ist {@link #toLocal(long[], int[], long[], int[], int[], int[])} zu verwenden. </p>
+     *
+     * @param   posixSeconds    elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   packedDates     target array for local dates in format of {@code GregorianMath.toPackedDate()}
+     * @param   secondsOfDay    target array for local seconds of day (0-86399)
+     * @param   offsets         target array for total offsets in seconds (optional, maybe {@code null})
+     * @throws  IllegalArgumentException if any target array is shorter than the source array
+     */
+    public void toLocal(
+        long[] posixSeconds,
+        long[] packedDates,
+        int[] secondsOfDay,
+        int[] offsets
+    ) {
+
+        this.toLocal(posixSeconds, null, packedDates, secondsOfDay, null, offsets);
+
+    }
+
+    /**
+     * <p>Converts given POSIX seconds and nanoseconds to local dates, seconds of day,
+     * nanoseconds and offsets. </p>
+     *
+     * @param   posixSeconds    elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   nanos           nanoseconds of the POSIX seconds (optional, maybe {@code null})
+     * @param   packedDates     target array for local dates in format of {@code GregorianMath.toPackedDate()}
+     * @param   secondsOfDay    target array for local seconds of day (0-86399)
+     * @param   nanosOfSecond   target array for local nanoseconds (optional, maybe {@code null})
+     * @param   offsets         target array for integral total offsets in seconds (optional, maybe {@code null})
+     * @throws  IllegalArgumentException if any target array is shorter than the source array
+     *          or if any nanosecond is out of range {@code 0-999999999}
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen POSIX-Sekunden und Nanosekunden zu lokalen
+     * Kalenderdaten, Sekunden des Tages, Nanosekunden und Verschiebungen. </p>
+     *
+     * @param   posixSeconds    elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   nanos           nanoseconds of the POSIX seconds (optional, maybe {@code null})
+     * @param   packedDates     target array for local dates in format of {@code GregorianMath.toPackedDate()}
+     * @param   secondsOfDay    target array for local seconds of day (0-86399)
+     * @param   nanosOfSecond   target array for local nanoseconds (optional, maybe {@code null})
+     * @param   offsets         target array for integral total offsets in seconds (optional, maybe {@code null})
+     * @throws  IllegalArgumentException if any target array is shorter than the source array
+     *          or if any nanosecond is out of range {@code 0-999999999}
+     */
+    public void toLocal(
+        long[] posixSeconds,
+        int[] nanos,
+        long[] packedDates,
+        int[] secondsOfDay,
+        int[] nanosOfSecond,
+        int[] offsets
+    ) {
+
+        int n = posixSeconds.length;
+        check(n, (nanos == null) ? n : nanos.length);
+        check(n, packedDates.length);
+        check(n, secondsOfDay.length);
+        check(n, (nanosOfSecond == null) ? n : nanosOfSecond.length);
+        check(n, (offsets == null) ? n : offsets.length);
+
+        TransitionHistory history = (this.fixedOffset == null) ? this.tz.getHistory() : null;
+        Cursor cursor = new Cursor();
+        int fraction = ((this.fixedOffset == null) ? 0 : this.fixedOffset.getFractionalAmount());
+        int offset = ((this.fixedOffset == null) ? 0 : this.fixedOffset.getIntegralAmount());
+        long validFrom = Long.MAX_VALUE; // empty interval forces initial lookup
+        long validUntil = Long.MIN_VALUE;
+        long lastDay = Long.MIN_VALUE;
+        long lastPackedDate = 0;
+
+        if (this.fixedOffset != null) {
+            validFrom = Long.MIN_VALUE;
+            validUntil = Long.MAX_VALUE;
+        }
+
+        for (int i = 0; i < n; i++) {
+            long posix = posixSeconds[i];
+            int nano = 0;
+
+            if (nanos != null) {
+                nano = nanos[i];
+                if ((nano < 0) || (nano >= MRD)) {
+                    throw new IllegalArgumentException("Nanosecond out of range: " + nano);
+                }
+            }
+
+            if ((posix < validFrom) || (posix >= validUntil)) {
+                cursor.posix = posix;
+
+                if (history == null) { // no public history (platform timezone)
+                    ZonalOffset zo = this.tz.getOffset(cursor);
+                    offset = zo.getIntegralAmount();
+                    fraction = zo.getFractionalAmount();
+                    validFrom = posix;
+                    validUntil = posix + 1; // no caching possible
+                } else {
+                    Optional<ZonalTransition> start = history.findStartTransition(cursor);
+                    Optional<ZonalTransition> next = history.findNextTransition(cursor);
+                    offset = (
+                        start.isPresent()
+                        ? start.get().getTotalOffset()
+                        : history.getInitialOffset().getIntegralAmount());
+                    validFrom = (start.isPresent() ? start.get().getPosixTime() : Long.MIN_VALUE);
+                    validUntil = (next.isPresent() ? next.get().getPosixTime() : Long.MAX_VALUE);
+                }
+            }
+
+            long local = Math.addExact(posix, offset);
+
+            if (fraction != 0) {
+                nano += fraction;
+                if (nano < 0) {
+                    nano += MRD;
+                    local--;
+                } else if (nano >= MRD) {
+                    nano -= MRD;
+                    local++;
+                }
+            }
+
+            long day = MathUtils.floorDivide(local, 86400);
+
+            if (day != lastDay) {
+                lastPackedDate = GregorianMath.toPackedDate(day + MJD_OFFSET);
+                lastDay = day;
+            }
+
+            packedDates[i] = lastPackedDate;
+            secondsOfDay[i] = MathUtils.floorModulo(local, 86400);
+
+            if (nanosOfSecond != null) {
+                nanosOfSecond[i] = nano;
+            }
+
+            if (offsets != null) {
+                offsets[i] = offset;
+            }
+        }
+
+    }
+
+    private static void check(
+        int expected,
+        int actual
+    ) {
+
+        if (actual < expected) {
+            throw new IllegalArgumentException(
+                "Array too short: " + actual + " < " + expected);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // wiederverwendbarer Zeitpunkt für Abfragen der Historie
+    private static class Cursor
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long posix;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+
+            return this.posix;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return 0;
+
+        }
+
+    }
+
+}
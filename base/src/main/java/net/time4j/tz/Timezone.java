@@ -29,8 +29,6 @@ import net.time4j.tz.threeten.JdkZoneProviderSPI;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,13 +36,15 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
@@ -176,7 +176,8 @@ public abstract class Timezone
     private static volatile ZonalKeys zonalKeys;
     private static volatile Timezone currentSystemTZ = null;
     private static volatile boolean cacheActive = true;
-    private static int softLimit = 11;
+    private static volatile int minimumCacheSize = 10;
+    private static volatile int maximumCacheSize = 1024;
 
     private static final String NAME_JUT = "java.util.TimeZone";
     private static final String NAME_TZDB = "TZDB";
@@ -186,9 +187,12 @@ public abstract class Timezone
     private static final Map<String, TZID> ETCETERA;
     private static final ZoneModelProvider PLATFORM_PROVIDER;
     private static final ZoneModelProvider DEFAULT_PROVIDER;
-    private static final ConcurrentMap<String, NamedReference> CACHE;
-    private static final ReferenceQueue<Timezone> QUEUE;
-    private static final LinkedList<Timezone> LAST_USED;
+    private static final ConcurrentMap<String, CacheEntry> CACHE;
+    private static final AtomicLong CACHE_CLOCK;
+    private static final AtomicBoolean CACHE_EVICTING;
+    private static final LongAdder CACHE_HITS;
+    private static final LongAdder CACHE_MISSES;
+    private static final LongAdder CACHE_EVICTIONS;
     private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
 
     /**
@@ -201,8 +205,11 @@ public abstract class Timezone
     static {
         CACHE = new ConcurrentHashMap<>();
         PROVIDERS = new ConcurrentHashMap<>();
-        QUEUE = new ReferenceQueue<>();
-        LAST_USED = new LinkedList<>(); // strong references
+        CACHE_CLOCK = new AtomicLong();
+        CACHE_EVICTING = new AtomicBoolean();
+        CACHE_HITS = new LongAdder();
+        CACHE_MISSES = new LongAdder();
+        CACHE_EVICTIONS = new LongAdder();
 
         List<Class<? extends TZID>> areas;
 
@@ -1478,20 +1485,21 @@ public abstract class Timezone
         boolean wantsException
     ) {
 
-        // Suche im Cache
-        Timezone tz = null;
-        NamedReference sref = CACHE.get(zoneID);
+        // Suche im Cache (ohne Sperre, Zeitstempel nur bei Bedarf aktualisieren)
+        CacheEntry entry = CACHE.get(zoneID);
 
-        if (sref != null) {
-            tz = sref.get();
-            if (tz == null) {
-                CACHE.remove(sref.tzid);
+        if (entry != null) {
+            long now = CACHE_CLOCK.get();
+            if (entry.stamp != now) {
+                entry.stamp = now;
             }
+            CACHE_HITS.increment();
+            return entry.tz;
+        } else if (cacheActive) {
+            CACHE_MISSES.increment();
         }
 
-        if (tz != null) {
-            return tz;
-        }
+        Timezone tz = null;
 
         // ZoneModelProvider auflösen
         String providerName = "";
@@ -1597,26 +1605,14 @@ public abstract class Timezone
 
         // bei Bedarf im Cache speichern
         if (cacheActive) {
-            NamedReference oldRef =
-                CACHE.putIfAbsent(
-                    zoneID,
-                    new NamedReference(tz, QUEUE)
-                );
-
-            if (oldRef == null) {
-                synchronized (Timezone.class) {
-                    LAST_USED.addFirst(tz);
+            CacheEntry oldEntry = CACHE.putIfAbsent(zoneID, new CacheEntry(tz, CACHE_CLOCK.incrementAndGet()));
 
-                    while (LAST_USED.size() >= softLimit) {
-                        LAST_USED.removeLast();
-                    }
+            if (oldEntry == null) {
+                if (CACHE.size() > maximumCacheSize) {
+                    evict();
                 }
             } else {
-                Timezone oldZone = oldRef.get();
-
-                if (oldZone != null) {
-                    tz = oldZone;
-                }
+                tz = oldEntry.tz;
             }
         }
 
@@ -1624,6 +1620,37 @@ public abstract class Timezone
 
     }
 
+    // entfernt die am längsten nicht benutzten Einträge, höchstens ein Thread gleichzeitig
+    private static void evict() {
+
+        if (!CACHE_EVICTING.compareAndSet(false, true)) {
+            return; // ein anderer Thread räumt bereits auf
+        }
+
+        try {
+            int max = maximumCacheSize;
+            int target = Math.max(minimumCacheSize, max - (max >> 4)); // batch eviction amortizes the scan
+            List<Map.Entry<String, CacheEntry>> entries = new ArrayList<>(CACHE.entrySet());
+            int n = entries.size() - target;
+
+            if (n <= 0) {
+                return;
+            }
+
+            entries.sort(Comparator.comparingLong(e -> e.getValue().stamp));
+
+            for (int i = 0; i < n; i++) {
+                Map.Entry<String, CacheEntry> e = entries.get(i);
+                if (CACHE.remove(e.getKey(), e.getValue())) {
+                    CACHE_EVICTIONS.increment();
+                }
+            }
+        } finally {
+            CACHE_EVICTING.set(false);
+        }
+
+    }
+
     private static Timezone getZoneByAlias(
         ZoneModelProvider provider,
         TZID tzid,
@@ -1791,10 +1818,19 @@ public abstract class Timezone
     /**
      * <p>Offers some static methods for the configuration of the
      * timezone cache. </p>
+     *
+     * <p>The cache is size-bounded and evicts the least recently used timezones
+     * without any global lock. Hits, misses and evictions are counted and can be
+     * queried for monitoring purposes. </p>
      */
     /*[deutsch]
      * <p>Bietet statische Methoden zum Konfigurieren des
      * Zeitzonendatenpuffers. </p>
+     *
+     * <p>Der Puffer ist in der Gr&ouml;&szlig;e beschr&auml;nkt und verdr&auml;ngt die
+     * am l&auml;ngsten nicht benutzten Zeitzonen ohne globale Sperre. Treffer, Fehlschl&auml;ge
+     * und Verdr&auml;ngungen werden gez&auml;hlt und k&ouml;nnen zur &Uuml;berwachung
+     * abgefragt werden. </p>
      */
     public static class Cache {
 
@@ -1822,11 +1858,6 @@ public abstract class Timezone
          */
         public static void refresh() {
 
-            synchronized (Timezone.class) {
-                while (QUEUE.poll() != null) {}
-                LAST_USED.clear();
-            }
-
             zonalKeys = new ZonalKeys();
             CACHE.clear();
 
@@ -1867,12 +1898,20 @@ public abstract class Timezone
         /**
          * <p>Updates the size of the internal timezone cache. </p>
          *
+         * <p>The cache will never shrink below given size by eviction. If the
+         * {@link #setMaximumCacheSize(int) maximum size} is smaller then it will
+         * be raised to the new minimum size. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
          */
         /*[deutsch]
          * <p>Konfiguriert die Gr&ouml;&szlig;e des internen Cache neu. </p>
          *
+         * <p>Der Cache wird durch Verdr&auml;ngung nie unter die angegebene Gr&ouml;&szlig;e
+         * verkleinert. Ist die {@link #setMaximumCacheSize(int) maximale Gr&ouml;&szlig;e}
+         * kleiner, wird sie auf die neue minimale Gr&ouml;&szlig;e angehoben. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
          */
@@ -1883,40 +1922,172 @@ public abstract class Timezone
                     "Negative timezone cache size: " + minimumCacheSize);
             }
 
-            NamedReference ref;
+            Timezone.minimumCacheSize = minimumCacheSize;
 
-            while ((ref = (NamedReference) QUEUE.poll()) != null) {
-                CACHE.remove(ref.tzid);
+            if (maximumCacheSize < minimumCacheSize) {
+                maximumCacheSize = minimumCacheSize;
             }
 
-            synchronized (Timezone.class) {
-                softLimit = minimumCacheSize + 1;
-                int n = LAST_USED.size() - minimumCacheSize;
+        }
 
-                for (int i = 0; i < n; i++) {
-                    LAST_USED.removeLast();
-                }
+        /**
+         * <p>Updates the maximum count of timezones held in the internal cache. </p>
+         *
+         * <p>If the cache exceeds this size then the least recently used timezones
+         * will be evicted. The default value is {@code 1024}. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is smaller than the minimum cache size
+         * @see     #setMinimumCacheSize(int)
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Legt die maximale Anzahl der im internen Cache gehaltenen Zeitzonen fest. </p>
+         *
+         * <p>&Uuml;berschreitet der Cache diese Gr&ouml;&szlig;e, werden die am l&auml;ngsten
+         * nicht benutzten Zeitzonen verdr&auml;ngt. Der Standardwert ist {@code 1024}. </p>
+         *
+         * @param   maximumCacheSize    new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is smaller than the minimum cache size
+         * @see     #setMinimumCacheSize(int)
+         * @since   5.10
+         */
+        public static void setMaximumCacheSize(int maximumCacheSize) {
+
+            if (maximumCacheSize < Timezone.minimumCacheSize) {
+                throw new IllegalArgumentException(
+                    "Maximum timezone cache size smaller than minimum: " + maximumCacheSize);
+            }
+
+            Timezone.maximumCacheSize = maximumCacheSize;
+
+            if (CACHE.size() > maximumCacheSize) {
+                evict();
             }
 
         }
 
+        /**
+         * <p>Yields the current count of cached timezones. </p>
+         *
+         * @return  int
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der gepufferten Zeitzonen. </p>
+         *
+         * @return  int
+         * @since   5.10
+         */
+        public static int getSize() {
+
+            return CACHE.size();
+
+        }
+
+        /**
+         * <p>Yields the count of lookups which could be answered by the cache. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Abfragen, die vom Cache beantwortet werden konnten. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getHitCount() {
+
+            return CACHE_HITS.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of lookups which required the timezone to be loaded
+         * while the cache was active. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Abfragen, die bei aktivem Cache ein Laden der
+         * Zeitzone erforderten. </p>
+         *
+         * @return  long
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getMissCount() {
+
+            return CACHE_MISSES.sum();
+
+        }
+
+        /**
+         * <p>Yields the count of timezones evicted from the cache due to its size limit. </p>
+         *
+         * @return  long
+         * @see     #setMaximumCacheSize(int)
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der wegen der Gr&ouml;&szlig;enbeschr&auml;nkung aus dem
+         * Cache verdr&auml;ngten Zeitzonen. </p>
+         *
+         * @return  long
+         * @see     #setMaximumCacheSize(int)
+         * @see     #resetStatistics()
+         * @since   5.10
+         */
+        public static long getEvictionCount() {
+
+            return CACHE_EVICTIONS.sum();
+
+        }
+
+        /**
+         * <p>Sets the hit, miss and eviction counters back to zero. </p>
+         *
+         * @since   5.10
+         */
+        /*[deutsch]
+         * <p>Setzt die Z&auml;hler f&uuml;r Treffer, Fehlschl&auml;ge und Verdr&auml;ngungen
+         * auf null zur&uuml;ck. </p>
+         *
+         * @since   5.10
+         */
+        public static void resetStatistics() {
+
+            CACHE_HITS.reset();
+            CACHE_MISSES.reset();
+            CACHE_EVICTIONS.reset();
+
+        }
+
     }
 
-    private static class NamedReference
-        extends SoftReference<Timezone> {
+    private static class CacheEntry {
 
         //~ Instanzvariablen ----------------------------------------------
 
-        private final String tzid;
+        private final Timezone tz;
+        private volatile long stamp;
 
         //~ Konstruktoren -------------------------------------------------
 
-        NamedReference(
+        CacheEntry(
             Timezone tz,
-            ReferenceQueue<Timezone> queue
+            long stamp
         ) {
-            super(tz, queue);
-            this.tzid = tz.getID().canonical();
+            super();
+
+            this.tz = tz;
+            this.stamp = stamp;
 
         }
 
@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ArrayTransitionModel.java) is part of project Time4J.
  *
@@ -54,12 +54,20 @@ final class ArrayTransitionModel
 
     private static final long serialVersionUID = -5264909488983076587L;
 
+    // Breite eines Index-Fachs in Sekunden als Zweierpotenz (2^25 s = ca. 388 Tage)
+    private static final int BUCKET_SHIFT = 25;
+
+    // Obergrenze der Anzahl der Index-Fächer (sonst nur binäre Suche)
+    private static final int MAX_BUCKETS = 1 << 16;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private transient final ZonalTransition[] transitions;
     private transient final boolean negativeDST;
 
     // Cache
+    private transient final TransitionIndex posixIndex;
+    private transient final TransitionIndex localIndex;
     private transient final List<ZonalTransition> stdTransitions;
     private transient int hash = 0;
 
@@ -103,9 +111,22 @@ final class ArrayTransitionModel
 
         this.transitions = tmp;
 
+        // build lookup indices
+        long[] posixTimes = new long[n];
+        long[] localTimes = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = tmp[i];
+            posixTimes[i] = zt.getPosixTime();
+            localTimes[i] = zt.getPosixTime() + Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+        }
+
+        this.posixIndex = new TransitionIndex(posixTimes);
+        this.localIndex = new TransitionIndex(localTimes);
+
         // fill standard transition cache
         long end = TransitionModel.getFutureMoment(1);
-        this.stdTransitions = getTransitions(this.transitions, 0L, end);
+        this.stdTransitions = getTransitions(this.transitions, this.posixIndex, 0L, end);
 
     }
 
@@ -122,7 +143,7 @@ final class ArrayTransitionModel
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = this.posixIndex.search(ut.getPosixTime());
 
         return (
             (index == 0)
@@ -144,7 +165,7 @@ final class ArrayTransitionModel
     @Override
     public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = this.posixIndex.search(ut.getPosixTime());
 
         return (
             (index == this.transitions.length)
@@ -178,6 +199,7 @@ final class ArrayTransitionModel
 
         return getTransitions(
             this.transitions,
+            this.posixIndex,
             startInclusive.getPosixTime(),
             endExclusive.getPosixTime());
 
@@ -256,7 +278,7 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = this.localIndex.search(localSecs);
 
         if (index == this.transitions.length) {
             return (
@@ -299,7 +321,7 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = this.localIndex.search(localSecs);
 
         if (index == this.transitions.length) {
             if (ruleModel == null) {
@@ -344,6 +366,14 @@ final class ArrayTransitionModel
 
     }
 
+    // Called by CompositeTransitionModel and MappedZoneRepository
+    List<ZonalTransition> copyTransitions(int size) {
+
+        int n = Math.min(size, this.transitions.length);
+        return new ArrayList<>(Arrays.asList(this.transitions).subList(0, n));
+
+    }
+
     // Called by CompositeTransitionModel
     ZonalTransition getLastTransition() {
 
@@ -435,6 +465,7 @@ final class ArrayTransitionModel
 
     private static List<ZonalTransition> getTransitions(
         ZonalTransition[] transitions,
+        TransitionIndex index,
         long startInclusive,
         long endExclusive
     ) {
@@ -443,8 +474,8 @@ final class ArrayTransitionModel
             throw new IllegalArgumentException("Start after end.");
         }
 
-        int i1 = search(startInclusive, transitions);
-        int i2 = search(endExclusive, transitions);
+        int i1 = index.search(startInclusive);
+        int i2 = index.search(endExclusive);
 
         if (i2 == 0) {
             return Collections.emptyList();
@@ -470,54 +501,6 @@ final class ArrayTransitionModel
 
     }
 
-    // returns index of first transition after posixTime
-    private static int search(
-        long posixTime,
-        ZonalTransition[] transitions
-    ) {
-
-        int low = 0;
-        int high = transitions.length - 1;
-
-        while (low <= high) {
-            int middle = (low + high) / 2;
-
-            if (transitions[middle].getPosixTime() <= posixTime) {
-                low = middle + 1;
-            } else {
-                high = middle - 1;
-            }
-        }
-
-        return low;
-
-    }
-
-    // returns index of first transition after local date and time
-    private static int searchLocal(
-        long localSecs,
-        ZonalTransition[] transitions
-    ) {
-
-        int low = 0;
-        int high = transitions.length - 1;
-
-        while (low <= high) {
-            int middle = (low + high) / 2;
-            ZonalTransition zt = transitions[middle];
-            int offset = Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
-
-            if (zt.getPosixTime() + offset <= localSecs) {
-                low = middle + 1;
-            } else {
-                high = middle - 1;
-            }
-        }
-
-        return low;
-
-    }
-
     /**
      * @serialData  Uses a specialized serialisation form as proxy. The format
      *              is bit-compressed. The first byte contains the type id
@@ -547,4 +530,101 @@ final class ArrayTransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Sucht &Uuml;berg&auml;nge in einem sortierten Feld von Sekunden-Schl&uuml;sseln. </p>
+     *
+     * <p>Die Zeitachse wird in F&auml;cher der Breite 2^25 Sekunden geteilt. Jedes Fach
+     * speichert den Index des ersten &Uuml;bergangs ab seinem Beginn, so da&szlig; eine
+     * Suche nur noch die wenigen &Uuml;berg&auml;nge innerhalb eines Fachs linear pr&uuml;ft.
+     * Bei extrem gro&szlig;en Zeitspannen wird auf bin&auml;re Suche ausgewichen. </p>
+     */
+    private static final class TransitionIndex {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long[] keys;
+        private final long base;
+        private final int[] buckets; // null if only binary search is possible
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TransitionIndex(long[] keys) {
+            super();
+
+            this.keys = keys;
+
+            int n = keys.length;
+            long first = keys[0] >> BUCKET_SHIFT;
+            long last = keys[n - 1] >> BUCKET_SHIFT;
+
+            if (last - first + 1 > MAX_BUCKETS) {
+                this.base = 0;
+                this.buckets = null;
+            } else {
+                int count = (int) (last - first + 1);
+                int[] buckets = new int[count + 1];
+                int i = 0;
+
+                for (int b = 0; b <= count; b++) {
+                    long start = (first + b) << BUCKET_SHIFT;
+                    while ((i < n) && (keys[i] < start)) {
+                        i++;
+                    }
+                    buckets[b] = i;
+                }
+
+                this.base = first;
+                this.buckets = buckets;
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // returns index of first transition whose key is after given value
+        int search(long value) {
+
+            long[] keys = this.keys;
+            int[] buckets = this.buckets;
+
+            if (buckets != null) {
+                long b = (value >> BUCKET_SHIFT) - this.base;
+
+                if (b < 0) {
+                    return 0;
+                } else if (b >= buckets.length - 1) {
+                    return keys.length;
+                }
+
+                int i = buckets[(int) b];
+                int end = buckets[(int) b + 1];
+
+                while ((i < end) && (keys[i] <= value)) {
+                    i++;
+                }
+
+                return i;
+            }
+
+            int low = 0;
+            int high = keys.length - 1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+
+                if (keys[middle] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            return low;
+
+        }
+
+    }
+
 }
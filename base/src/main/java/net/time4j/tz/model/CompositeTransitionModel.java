@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2021 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (CompositeTransitionModel.java) is part of project Time4J.
  *
@@ -237,6 +237,17 @@ final class CompositeTransitionModel
 
     }
 
+    /**
+     * <p>Benutzt im Zonenarchiv. </p>
+     *
+     * @return  list of explicit transitions without those derived from rules
+     */
+    List<ZonalTransition> getArrayTransitions() {
+
+        return this.arrayModel.copyTransitions(this.size);
+
+    }
+
     /**
      * <p>Benutzt in der Serialisierung. </p>
      *
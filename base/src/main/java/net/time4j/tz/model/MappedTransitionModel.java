@@ -0,0 +1,554 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MappedTransitionModel.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.model;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.UnixTime;
+import net.time4j.base.WallTime;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * <p>&Uuml;bergangsmodell, das seine &Uuml;berg&auml;nge erst bei Bedarf aus einem
+ * (typischerweise speicherabgebildeten) Puffer liest. </p>
+ *
+ * <p>Jeder &Uuml;bergang belegt einen Datensatz fester L&auml;nge (POSIX-Zeit, vorheriger
+ * Versatz, neuer Versatz und DST-Anteil). Gesucht wird bin&auml;r direkt im Puffer, so
+ * da&szlig; nur die tats&auml;chlich abgefragten {@code ZonalTransition}-Objekte entstehen.
+ * Eventuell vorhandene Sommerzeitregeln f&uuml;r die Zukunft werden erst beim ersten
+ * Zugriff nach dem letzten &Uuml;bergang deserialisiert. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.10
+ * @serial      include
+ */
+final class MappedTransitionModel
+    extends TransitionModel {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /** L&auml;nge eines &Uuml;bergangsdatensatzes in Bytes. */
+    static final int RECORD_SIZE = 20;
+
+    private static final long serialVersionUID = -3125887960573106146L;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private transient final ByteBuffer records;
+    private transient final int count;
+    private transient final ByteBuffer ruleData; // null if there are no rules
+
+    // Cache
+    private transient volatile RuleBasedTransitionModel ruleModel = null;
+    private transient volatile List<ZonalTransition> stdTransitions = null;
+    private transient int negativeDST = -1;
+    private transient int hash = 0;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine Sicht auf die angegebenen Datens&auml;tze. </p>
+     *
+     * @param   records     buffer with transition records starting at index zero
+     * @param   count       count of transition records (at least one)
+     * @param   ruleData    serialized daylight saving rules or {@code null}
+     */
+    MappedTransitionModel(
+        ByteBuffer records,
+        int count,
+        ByteBuffer ruleData
+    ) {
+        super();
+
+        if (count <= 0) {
+            throw new IllegalArgumentException("Missing timezone transitions.");
+        } else if (records.capacity() < count * RECORD_SIZE) {
+            throw new IllegalArgumentException("Truncated transition records.");
+        }
+
+        this.records = records;
+        this.count = count;
+        this.ruleData = ruleData;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public ZonalOffset getInitialOffset() {
+
+        return ZonalOffset.ofTotalSeconds(this.getPreviousOffset(0));
+
+    }
+
+    @Override
+    public ZonalTransition getStartTransition(UnixTime ut) {
+
+        long posixTime = ut.getPosixTime();
+
+        if ((this.ruleData != null) && (posixTime >= this.getPosixTime(this.count - 1))) {
+            ZonalTransition result = this.getRuleModel().getStartTransition(ut);
+            return ((result == null) ? this.getTransition(this.count - 1) : result);
+        }
+
+        int index = this.searchPosix(posixTime);
+
+        return (
+            (index == 0)
+            ? null
+            : this.getTransition(index - 1));
+
+    }
+
+    @Override
+    public ZonalTransition getConflictTransition(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
+        int index = this.searchLocal(localSecs);
+
+        if (index == this.count) {
+            return (
+                (this.ruleData == null)
+                ? null
+                : this.getRuleModel().getConflictTransition(localDate, localSecs));
+        }
+
+        long posixTime = this.getPosixTime(index);
+        int previous = this.getPreviousOffset(index);
+        int total = this.getTotalOffset(index);
+
+        if (total > previous) {
+            if (posixTime + previous <= localSecs) {
+                return this.getTransition(index); // gap
+            }
+        } else if (total < previous) {
+            if (posixTime + total <= localSecs) {
+                return this.getTransition(index); // overlap
+            }
+        }
+
+        return null;
+
+    }
+
+    @Override
+    public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
+
+        int index = this.searchPosix(ut.getPosixTime());
+
+        if (index < this.count) {
+            return Optional.of(this.getTransition(index));
+        } else if (this.ruleData == null) {
+            return Optional.empty();
+        } else {
+            return this.getRuleModel().findNextTransition(ut);
+        }
+
+    }
+
+    @Override
+    public List<ZonalOffset> getValidOffsets(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
+        int index = this.searchLocal(localSecs);
+
+        if (index == this.count) {
+            if (this.ruleData == null) {
+                return TransitionModel.toList(this.getTotalOffset(this.count - 1));
+            } else {
+                return this.getRuleModel().getValidOffsets(localDate, localSecs);
+            }
+        }
+
+        long posixTime = this.getPosixTime(index);
+        int previous = this.getPreviousOffset(index);
+        int total = this.getTotalOffset(index);
+
+        if (total > previous) {
+            if (posixTime + previous <= localSecs) {
+                return Collections.emptyList(); // gap
+            }
+        } else if (total < previous) {
+            if (posixTime + total <= localSecs) {
+                return TransitionModel.toList(total, previous); // overlap
+            }
+        }
+
+        return TransitionModel.toList(previous);
+
+    }
+
+    @Override
+    public List<ZonalTransition> getStdTransitions() {
+
+        List<ZonalTransition> result = this.stdTransitions;
+
+        if (result == null) {
+            result = this.getTransitions(0L, TransitionModel.getFutureMoment(1));
+            this.stdTransitions = result;
+        }
+
+        return result;
+
+    }
+
+    @Override
+    public List<ZonalTransition> getTransitions(
+        UnixTime startInclusive,
+        UnixTime endExclusive
+    ) {
+
+        return this.getTransitions(startInclusive.getPosixTime(), endExclusive.getPosixTime());
+
+    }
+
+    @Override
+    public void dump(Appendable buffer) throws IOException {
+
+        for (int i = 0; i < this.count; i++) {
+            TransitionModel.dump(this.getTransition(i), buffer);
+        }
+
+        if (this.ruleData != null) {
+            this.getRuleModel().dump(buffer);
+        }
+
+    }
+
+    @Override
+    public boolean hasNegativeDST() {
+
+        int n = this.negativeDST;
+
+        if (n == -1) {
+            n = 0;
+            for (int i = 0; i < this.count; i++) {
+                if (this.getExtraOffset(i) < 0) {
+                    n = 1;
+                    break;
+                }
+            }
+            if ((n == 0) && (this.ruleData != null) && this.getRuleModel().hasNegativeDST()) {
+                n = 1;
+            }
+            this.negativeDST = n;
+        }
+
+        return (n == 1);
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof MappedTransitionModel) {
+            MappedTransitionModel that = (MappedTransitionModel) obj;
+            if (this.count != that.count) {
+                return false;
+            }
+            for (int i = 0, n = this.count * RECORD_SIZE; i < n; i++) {
+                if (this.records.get(i) != that.records.get(i)) {
+                    return false;
+                }
+            }
+            if (this.ruleData == null) {
+                return (that.ruleData == null);
+            } else {
+                return ((that.ruleData != null) && this.getRules().equals(that.getRules()));
+            }
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        int h = this.hash;
+
+        if (h == 0) {
+            for (int i = 0; i < this.count; i++) {
+                h = 31 * h + this.getTransition(i).hashCode();
+            }
+            if (this.ruleData != null) {
+                h += (37 * this.getRules().hashCode());
+            }
+            this.hash = h;
+        }
+
+        return h;
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(32);
+        sb.append(this.getClass().getName());
+        sb.append("[transition-count=");
+        sb.append(this.count);
+        sb.append(",hash=");
+        sb.append(this.hashCode());
+        if (this.ruleData != null) {
+            sb.append(",last-rules=");
+            sb.append(this.getRules());
+        }
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Liefert die explizit gespeicherten &Uuml;berg&auml;nge. </p>
+     *
+     * @return  new mutable list of transitions
+     */
+    List<ZonalTransition> copyTransitions() {
+
+        List<ZonalTransition> transitions = new ArrayList<>(this.count);
+
+        for (int i = 0; i < this.count; i++) {
+            transitions.add(this.getTransition(i));
+        }
+
+        return transitions;
+
+    }
+
+    /**
+     * <p>Liefert die Sommerzeitregeln f&uuml;r die Zeit nach dem letzten &Uuml;bergang. </p>
+     *
+     * @return  list of daylight saving rules (maybe empty)
+     */
+    List<DaylightSavingRule> getRules() {
+
+        return (
+            (this.ruleData == null)
+            ? Collections.emptyList()
+            : this.getRuleModel().getRules());
+
+    }
+
+    /**
+     * <p>Deserialisiert die angegebenen Regeldaten. </p>
+     *
+     * @param   ruleData    buffer with data written by {@code SPX.writeRules()}
+     * @return  list of daylight saving rules
+     * @throws  IllegalStateException if the data are broken
+     */
+    static List<DaylightSavingRule> readRules(ByteBuffer ruleData) {
+
+        ByteBuffer bb = ruleData.duplicate();
+        byte[] bytes = new byte[bb.remaining()];
+        bb.get(bytes);
+
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return SPX.readRules(ois);
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new IllegalStateException("Broken daylight saving rules in zone repository.", ex);
+        }
+
+    }
+
+    private RuleBasedTransitionModel getRuleModel() {
+
+        RuleBasedTransitionModel model = this.ruleModel;
+
+        if (model == null) {
+            model = new RuleBasedTransitionModel(this.getTransition(this.count - 1), readRules(this.ruleData), false);
+            this.ruleModel = model;
+        }
+
+        return model;
+
+    }
+
+    private List<ZonalTransition> getTransitions(
+        long startInclusive,
+        long endExclusive
+    ) {
+
+        if (startInclusive > endExclusive) {
+            throw new IllegalArgumentException("Start after end.");
+        }
+
+        int i1 = this.searchPosix(startInclusive);
+        int i2 = this.searchPosix(endExclusive);
+        List<ZonalTransition> result = new ArrayList<>();
+
+        if (i2 > 0) {
+            if ((i1 > 0) && (this.getPosixTime(i1 - 1) == startInclusive)) {
+                i1--;
+            }
+
+            i2--;
+
+            if (this.getPosixTime(i2) == endExclusive) {
+                i2--;
+            }
+
+            for (int i = i1; i <= i2; i++) {
+                result.add(this.getTransition(i));
+            }
+        }
+
+        if (this.ruleData != null) {
+            result.addAll(
+                RuleBasedTransitionModel.getTransitions(
+                    this.getTransition(this.count - 1),
+                    this.getRuleModel().getRules(),
+                    startInclusive,
+                    endExclusive));
+        }
+
+        return (result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result));
+
+    }
+
+    // returns index of first transition whose posix time is after given value
+    private int searchPosix(long value) {
+
+        int low = 0;
+        int high = this.count - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (this.getPosixTime(middle) <= value) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    // returns index of first transition whose local time (later offset) is after given value
+    private int searchLocal(long value) {
+
+        int low = 0;
+        int high = this.count - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long local =
+                this.getPosixTime(middle) + Math.max(this.getTotalOffset(middle), this.getPreviousOffset(middle));
+
+            if (local <= value) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    private ZonalTransition getTransition(int index) {
+
+        int pos = index * RECORD_SIZE;
+
+        return new ZonalTransition(
+            this.records.getLong(pos),
+            this.records.getInt(pos + 8),
+            this.records.getInt(pos + 12),
+            this.records.getInt(pos + 16));
+
+    }
+
+    private long getPosixTime(int index) {
+
+        return this.records.getLong(index * RECORD_SIZE);
+
+    }
+
+    private int getPreviousOffset(int index) {
+
+        return this.records.getInt(index * RECORD_SIZE + 8);
+
+    }
+
+    private int getTotalOffset(int index) {
+
+        return this.records.getInt(index * RECORD_SIZE + 12);
+
+    }
+
+    private int getExtraOffset(int index) {
+
+        return this.records.getInt(index * RECORD_SIZE + 16);
+
+    }
+
+    /**
+     * @serialData  Uses the serialization form of an equivalent array-based or composite
+     *              transition model so that the mapped buffer is not needed for deserialization.
+     *
+     * @return  replacement object in serialization graph
+     */
+    private Object writeReplace() {
+
+        return TransitionModel.of(
+            this.getInitialOffset(),
+            this.copyTransitions(),
+            new ArrayList<>(this.getRules()),
+            false,
+            false);
+
+    }
+
+    /**
+     * @serialData  Blocks because a serialization proxy is required.
+     * @param       in      object input stream
+     * @throws      InvalidObjectException (always)
+     */
+    private void readObject(ObjectInputStream in)
+        throws IOException {
+
+        throw new InvalidObjectException("Serialization proxy required.");
+
+    }
+
+}
@@ -0,0 +1,554 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MappedZoneRepository.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import net.time4j.tz.ZoneModelProvider;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+
+/**
+ * <p>Timezone repository stored in a single binary file which is mapped into memory. </p>
+ *
+ * <p>The file contains a header with name and version of the original zone data, the alias table
+ * and an offset index per zone identifier. Loading a zone does not deserialize any object
+ * graph. Instead the returned {@code TransitionHistory} is a lightweight view which reads the
+ * transitions on demand by binary search directly from the mapped buffer. The pages of the
+ * mapped file are shared by the operating system between all processes which open the same
+ * file. </p>
+ *
+ * <p>A repository file can be created from any other {@code ZoneModelProvider} whose histories
+ * were built by {@link TransitionModel}, for example the default provider: </p>
+ *
+ * <pre>
+ *  ZoneModelProvider source = ...;
+ *  MappedZoneRepository.write(source, Paths.get(&quot;/opt/tz/zones.tzm&quot;));
+ *  MappedZoneRepository repository = MappedZoneRepository.open(Paths.get(&quot;/opt/tz/zones.tzm&quot;));
+ *  TransitionHistory history = repository.load(&quot;Europe/Berlin&quot;);
+ * </pre>
+ *
+ * <p>If the system property &quot;net.time4j.tz.repository.mapped&quot; is set to the path of
+ * such a file then Time4J uses it automatically as default zone provider provided that its
+ * name is &quot;TZDB&quot;. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ * @see     net.time4j.tz.spi.MappedZoneProviderSPI
+ */
+/*[deutsch]
+ * <p>Zeitzonenarchiv in einer einzigen Bin&auml;rdatei, die in den Speicher abgebildet wird. </p>
+ *
+ * <p>Die Datei enth&auml;lt einen Kopf mit Name und Version der urspr&uuml;nglichen Zonendaten,
+ * die Alias-Tabelle und einen Positionsindex je Zonenkennung. Das Laden einer Zone deserialisiert
+ * keinen Objektgraphen. Stattdessen ist die gelieferte {@code TransitionHistory} eine leichtgewichtige
+ * Sicht, die die &Uuml;berg&auml;nge bei Bedarf per bin&auml;rer Suche direkt aus dem abgebildeten
+ * Puffer liest. Die Seiten der Datei werden vom Betriebssystem zwischen allen Prozessen geteilt,
+ * die dieselbe Datei &ouml;ffnen. </p>
+ *
+ * <p>Eine Archivdatei kann aus jedem anderen {@code ZoneModelProvider} erzeugt werden, dessen
+ * Historien mit Hilfe von {@link TransitionModel} erstellt wurden, zum Beispiel aus dem
+ * Standard-Provider: </p>
+ *
+ * <pre>
+ *  ZoneModelProvider source = ...;
+ *  MappedZoneRepository.write(source, Paths.get(&quot;/opt/tz/zones.tzm&quot;));
+ *  MappedZoneRepository repository = MappedZoneRepository.open(Paths.get(&quot;/opt/tz/zones.tzm&quot;));
+ *  TransitionHistory history = repository.load(&quot;Europe/Berlin&quot;);
+ * </pre>
+ *
+ * <p>Wenn die System-Property &quot;net.time4j.tz.repository.mapped&quot; auf den Pfad einer
+ * solchen Datei gesetzt ist, verwendet Time4J sie automatisch als Standard-Zonen-Provider,
+ * vorausgesetzt, ihr Name ist &quot;TZDB&quot;. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ * @see     net.time4j.tz.spi.MappedZoneProviderSPI
+ */
+public final class MappedZoneRepository
+    implements ZoneModelProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAGIC = 0x545A4D31; // "TZM1"
+
+    private static final int EMPTY_TYPE = 0;
+    private static final int ARRAY_TYPE = 1;
+    private static final int COMPOSITE_TYPE = 2;
+    private static final int RULE_BASED_TYPE = 3;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ByteBuffer buffer;
+    private final String location;
+    private final String name;
+    private final String version;
+    private final Map<String, String> aliases;
+    private final Map<String, Integer> index;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MappedZoneRepository(
+        ByteBuffer buffer,
+        String location
+    ) {
+        super();
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalStateException("Not a mapped zone repository: " + location);
+            }
+
+            this.name = readString(buffer);
+            this.version = readString(buffer);
+
+            int n = buffer.getInt();
+            Map<String, String> aliasMap = new HashMap<>(n * 2);
+
+            for (int i = 0; i < n; i++) {
+                String alias = readString(buffer);
+                aliasMap.put(alias, readString(buffer));
+            }
+
+            n = buffer.getInt();
+            Map<String, Integer> indexMap = new HashMap<>(n * 2);
+
+            for (int i = 0; i < n; i++) {
+                String zoneID = readString(buffer);
+                indexMap.put(zoneID, Integer.valueOf(buffer.getInt()));
+            }
+
+            this.buffer = buffer;
+            this.location = location;
+            this.aliases = Collections.unmodifiableMap(aliasMap);
+            this.index = Collections.unmodifiableMap(indexMap);
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalStateException("Truncated zone repository: " + location, ex);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Maps given repository file read-only into memory. </p>
+     *
+     * <p>Only the header with the alias table and the zone index is read immediately. </p>
+     *
+     * @param   file    path to a file created by {@link #write(ZoneModelProvider, Path)}
+     * @return  new repository
+     * @throws  IOException if the file cannot be read
+     * @throws  IllegalStateException if the file is not a valid zone repository
+     */
+    /*[deutsch]
+     * <p>Bildet die angegebene Archivdatei schreibgesch&uuml;tzt in den Speicher ab. </p>
+     *
+     * <p>Nur der Kopf mit der Alias-Tabelle und dem Zonenindex wird sofort gelesen. </p>
+     *
+     * @param   file    path to a file created by {@link #write(ZoneModelProvider, Path)}
+     * @return  new repository
+     * @throws  IOException if the file cannot be read
+     * @throws  IllegalStateException if the file is not a valid zone repository
+     */
+    public static MappedZoneRepository open(Path file) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedZoneRepository(buffer, file.toString());
+        }
+
+    }
+
+    /**
+     * <p>Creates a repository from given buffer content (for example a byte array which is not mapped). </p>
+     *
+     * @param   buffer      buffer whose remaining bytes have the format of a repository file
+     * @return  new repository
+     * @throws  IllegalStateException if the buffer is not a valid zone repository
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein Archiv aus dem angegebenen Pufferinhalt (zum Beispiel einem nicht abgebildeten
+     * Byte-Array). </p>
+     *
+     * @param   buffer      buffer whose remaining bytes have the format of a repository file
+     * @return  new repository
+     * @throws  IllegalStateException if the buffer is not a valid zone repository
+     */
+    public static MappedZoneRepository of(ByteBuffer buffer) {
+
+        return new MappedZoneRepository(buffer.slice(), "");
+
+    }
+
+    /**
+     * <p>Writes all zones and aliases of given provider into a new repository file. </p>
+     *
+     * @param   source      zone provider whose data shall be stored
+     * @param   file        target file (will be overwritten if it already exists)
+     * @throws  IOException if writing fails
+     * @throws  IllegalArgumentException if a zone history was not created by {@code TransitionModel}
+     */
+    /*[deutsch]
+     * <p>Schreibt alle Zonen und Aliasnamen des angegebenen Providers in eine neue Archivdatei. </p>
+     *
+     * @param   source      zone provider whose data shall be stored
+     * @param   file        target file (will be overwritten if it already exists)
+     * @throws  IOException if writing fails
+     * @throws  IllegalArgumentException if a zone history was not created by {@code TransitionModel}
+     */
+    public static void write(
+        ZoneModelProvider source,
+        Path file
+    ) throws IOException {
+
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(source, os);
+        }
+
+    }
+
+    /**
+     * <p>Writes all zones and aliases of given provider in the format of a repository file. </p>
+     *
+     * @param   source      zone provider whose data shall be stored
+     * @param   os          target stream (will not be closed)
+     * @throws  IOException if writing fails
+     * @throws  IllegalArgumentException if a zone history was not created by {@code TransitionModel}
+     */
+    /*[deutsch]
+     * <p>Schreibt alle Zonen und Aliasnamen des angegebenen Providers im Format einer Archivdatei. </p>
+     *
+     * @param   source      zone provider whose data shall be stored
+     * @param   os          target stream (will not be closed)
+     * @throws  IOException if writing fails
+     * @throws  IllegalArgumentException if a zone history was not created by {@code TransitionModel}
+     */
+    public static void write(
+        ZoneModelProvider source,
+        OutputStream os
+    ) throws IOException {
+
+        Map<String, byte[]> zones = new TreeMap<>();
+
+        for (String zoneID : source.getAvailableIDs()) {
+            TransitionHistory history = source.load(zoneID);
+            if (history != null) {
+                zones.put(zoneID, encode(zoneID, history));
+            }
+        }
+
+        Map<String, String> aliases = new TreeMap<>(source.getAliases());
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(header);
+
+        dos.writeInt(MAGIC);
+        writeString(dos, source.getName());
+        writeString(dos, source.getVersion());
+        dos.writeInt(aliases.size());
+
+        for (Map.Entry<String, String> entry : aliases.entrySet()) {
+            writeString(dos, entry.getKey());
+            writeString(dos, entry.getValue());
+        }
+
+        dos.writeInt(zones.size());
+        int indexSize = 0;
+
+        for (String zoneID : zones.keySet()) {
+            indexSize += (2 + zoneID.getBytes(StandardCharsets.UTF_8).length + 4);
+        }
+
+        int position = dos.size() + indexSize;
+
+        for (Map.Entry<String, byte[]> entry : zones.entrySet()) {
+            writeString(dos, entry.getKey());
+            dos.writeInt(position);
+            position += entry.getValue().length;
+        }
+
+        for (byte[] data : zones.values()) {
+            dos.write(data);
+        }
+
+        dos.flush();
+        header.writeTo(os);
+        os.flush();
+
+    }
+
+    @Override
+    public Set<String> getAvailableIDs() {
+
+        return this.index.keySet();
+
+    }
+
+    @Override
+    public Map<String, String> getAliases() {
+
+        return this.aliases;
+
+    }
+
+    /**
+     * <p>Yields a view on the stored zone data. </p>
+     *
+     * <p>Transitions are read lazily from the mapped buffer. Zones without any transitions or with
+     * only daylight saving rules are directly created because they do not contain any array. </p>
+     *
+     * @param   zoneID      timezone id (i.e. &quot;Europe/London&quot;)
+     * @return  timezone history or {@code null} if there are no data
+     * @throws  IllegalStateException if the repository is broken
+     */
+    /*[deutsch]
+     * <p>Liefert eine Sicht auf die gespeicherten Zonendaten. </p>
+     *
+     * <p>&Uuml;berg&auml;nge werden bei Bedarf aus dem abgebildeten Puffer gelesen. Zonen ohne
+     * &Uuml;berg&auml;nge oder nur mit Sommerzeitregeln werden direkt erzeugt, weil sie kein
+     * Feld enthalten. </p>
+     *
+     * @param   zoneID      timezone id (i.e. &quot;Europe/London&quot;)
+     * @return  timezone history or {@code null} if there are no data
+     * @throws  IllegalStateException if the repository is broken
+     */
+    @Override
+    public TransitionHistory load(String zoneID) {
+
+        Integer position = this.index.get(zoneID);
+
+        if (position == null) {
+            return null;
+        }
+
+        try {
+            ByteBuffer bb = this.buffer.duplicate();
+            bb.position(position.intValue());
+            int type = bb.get();
+
+            if (type == EMPTY_TYPE) {
+                return new EmptyTransitionModel(ZonalOffset.ofTotalSeconds(bb.getInt()));
+            }
+
+            int count = bb.getInt();
+            int ruleLength = bb.getInt();
+            int start = bb.position();
+            int ruleStart = start + count * MappedTransitionModel.RECORD_SIZE;
+
+            bb.limit(ruleStart);
+            ByteBuffer records = bb.slice();
+            ByteBuffer ruleData = null;
+
+            if (ruleLength > 0) {
+                bb.limit(ruleStart + ruleLength);
+                bb.position(ruleStart);
+                ruleData = bb.slice();
+            }
+
+            switch (type) {
+                case ARRAY_TYPE:
+                case COMPOSITE_TYPE:
+                    return new MappedTransitionModel(records, count, ruleData);
+                case RULE_BASED_TYPE:
+                    ZonalTransition initial =
+                        new ZonalTransition(records.getLong(0), records.getInt(8), records.getInt(12), records.getInt(16));
+                    return new RuleBasedTransitionModel(initial, MappedTransitionModel.readRules(ruleData), false);
+                default:
+                    throw new IllegalStateException("Unknown zone type " + type + " of: " + zoneID);
+            }
+        } catch (RuntimeException ex) {
+            if (ex instanceof IllegalStateException) {
+                throw ex;
+            }
+            throw new IllegalStateException("Broken zone data of: " + zoneID, ex);
+        }
+
+    }
+
+    @Override
+    public String getFallback() {
+
+        return "";
+
+    }
+
+    @Override
+    public String getName() {
+
+        return this.name;
+
+    }
+
+    @Override
+    public String getLocation() {
+
+        return this.location;
+
+    }
+
+    @Override
+    public String getVersion() {
+
+        return this.version;
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        return "MappedZoneRepository[name=" + this.name + ",version=" + this.version
+            + ",location=" + this.location + ",zones=" + this.index.size() + "]";
+
+    }
+
+    private static byte[] encode(
+        String zoneID,
+        TransitionHistory history
+    ) throws IOException {
+
+        int type;
+        List<ZonalTransition> transitions;
+        List<DaylightSavingRule> rules;
+
+        if (history instanceof EmptyTransitionModel) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream(5);
+            DataOutputStream dos = new DataOutputStream(baos);
+            dos.writeByte(EMPTY_TYPE);
+            dos.writeInt(history.getInitialOffset().getIntegralAmount());
+            dos.flush();
+            return baos.toByteArray();
+        } else if (history instanceof ArrayTransitionModel) {
+            type = ARRAY_TYPE;
+            transitions = ((ArrayTransitionModel) history).copyTransitions(Integer.MAX_VALUE);
+            rules = Collections.emptyList();
+        } else if (history instanceof CompositeTransitionModel) {
+            CompositeTransitionModel model = (CompositeTransitionModel) history;
+            type = COMPOSITE_TYPE;
+            transitions = model.getArrayTransitions();
+            rules = model.getRules();
+        } else if (history instanceof MappedTransitionModel) {
+            MappedTransitionModel model = (MappedTransitionModel) history;
+            rules = model.getRules();
+            type = (rules.isEmpty() ? ARRAY_TYPE : COMPOSITE_TYPE);
+            transitions = model.copyTransitions();
+        } else if (history instanceof RuleBasedTransitionModel) {
+            RuleBasedTransitionModel model = (RuleBasedTransitionModel) history;
+            ZonalTransition initial = model.getInitialTransition();
+            if (initial.getPosixTime() == Moment.axis().getMinimum().getPosixTime()) {
+                // model was created by standard offset only
+                initial = new ZonalTransition(Long.MIN_VALUE, initial.getPreviousOffset(), initial.getTotalOffset(), 0);
+            }
+            type = RULE_BASED_TYPE;
+            transitions = Collections.singletonList(initial);
+            rules = model.getRules();
+        } else {
+            throw new IllegalArgumentException(
+                "Unsupported transition history of zone " + zoneID + ": " + history.getClass().getName());
+        }
+
+        byte[] ruleData = new byte[0];
+
+        if (!rules.isEmpty()) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                SPX.writeRules(new ArrayList<>(rules), oos);
+            }
+            ruleData = baos.toByteArray();
+        }
+
+        ByteArrayOutputStream baos =
+            new ByteArrayOutputStream(9 + transitions.size() * MappedTransitionModel.RECORD_SIZE + ruleData.length);
+        DataOutputStream dos = new DataOutputStream(baos);
+        dos.writeByte(type);
+        dos.writeInt(transitions.size());
+        dos.writeInt(ruleData.length);
+
+        for (ZonalTransition zt : transitions) {
+            dos.writeLong(zt.getPosixTime());
+            dos.writeInt(zt.getPreviousOffset());
+            dos.writeInt(zt.getTotalOffset());
+            dos.writeInt(zt.getExtraOffset());
+        }
+
+        dos.write(ruleData);
+        dos.flush();
+        return baos.toByteArray();
+
+    }
+
+    private static void writeString(
+        DataOutputStream dos,
+        String s
+    ) throws IOException {
+
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("String too long: " + s);
+        }
+
+        dos.writeShort(bytes.length);
+        dos.write(bytes);
+
+    }
+
+    private static String readString(ByteBuffer buffer) {
+
+        int len = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[len];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+
+    }
+
+}
@@ -40,8 +40,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
 /**
@@ -56,13 +55,15 @@ final class RuleBasedTransitionModel
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final int LAST_CACHED_YEAR;
+    private static final int FIRST_WINDOW_YEAR;
+    private static final int WINDOW_SIZE;
+    private static final int OUTLIER_SLOTS = 64; // power of two
 
     static {
-        long ly = TransitionModel.getFutureMoment(100);
-        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(ly, EpochDays.UNIX);
-        LAST_CACHED_YEAR =
-            GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
+        long fy = TransitionModel.getFutureMoment(-100);
+        long ly = TransitionModel.getFutureMoment(200);
+        FIRST_WINDOW_YEAR = toYear(fy);
+        WINDOW_SIZE = toYear(ly) - FIRST_WINDOW_YEAR + 1;
     }
 
     private static final long serialVersionUID = 2456700806862862287L;
@@ -72,7 +73,9 @@ final class RuleBasedTransitionModel
     private transient final ZonalTransition initial;
     private transient final List<DaylightSavingRule> rules;
 
-    private transient final ConcurrentMap<Integer, List<ZonalTransition>> tCache = new ConcurrentHashMap<>();
+    // year-indexed cache for the hot range, direct-mapped cache for other years
+    private transient volatile AtomicReferenceArray<List<ZonalTransition>> tWindow = null;
+    private transient volatile AtomicReferenceArray<YearTransitions> tOutliers = null;
     private transient final List<ZonalTransition> stdTransitions;
     private transient final boolean gregorian;
 
@@ -568,8 +571,32 @@ final class RuleBasedTransitionModel
 
     private List<ZonalTransition> getTransitions(int year) {
 
-        Integer key = Integer.valueOf(year);
-        List<ZonalTransition> transitions = this.tCache.get(key);
+        List<ZonalTransition> transitions = null;
+        int index = year - FIRST_WINDOW_YEAR;
+        boolean inWindow = ((index >= 0) && (index < WINDOW_SIZE));
+        AtomicReferenceArray<List<ZonalTransition>> window = null;
+        AtomicReferenceArray<YearTransitions> outliers = null;
+
+        if (this.gregorian) {
+            if (inWindow) {
+                window = this.tWindow;
+                if (window == null) {
+                    window = new AtomicReferenceArray<>(WINDOW_SIZE);
+                    this.tWindow = window; // benign race: at worst some transitions are computed twice
+                }
+                transitions = window.get(index);
+            } else {
+                outliers = this.tOutliers;
+                if (outliers == null) {
+                    outliers = new AtomicReferenceArray<>(OUTLIER_SLOTS);
+                    this.tOutliers = outliers;
+                }
+                YearTransitions yt = outliers.get(year & (OUTLIER_SLOTS - 1));
+                if ((yt != null) && (yt.year == year)) {
+                    transitions = yt.transitions;
+                }
+            }
+        }
 
         if (transitions == null) {
             List<ZonalTransition> list = new ArrayList<>();
@@ -590,15 +617,10 @@ final class RuleBasedTransitionModel
 
             transitions = Collections.unmodifiableList(list);
 
-            if (
-                (year <= LAST_CACHED_YEAR)
-                && this.gregorian
-            ) {
-                List<ZonalTransition> old =
-                    this.tCache.putIfAbsent(key, transitions);
-                if (old != null) {
-                    transitions = old;
-                }
+            if (window != null) {
+                window.lazySet(index, transitions);
+            } else if (outliers != null) {
+                outliers.lazySet(year & (OUTLIER_SLOTS - 1), new YearTransitions(year, transitions));
             }
         }
 
@@ -606,6 +628,13 @@ final class RuleBasedTransitionModel
 
     }
 
+    private static int toYear(long posixTime) {
+
+        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(MathUtils.floorDivide(posixTime, 86400), EpochDays.UNIX);
+        return GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
+
+    }
+
     private static int getYear(
         DaylightSavingRule rule,
         long localSecs
@@ -647,4 +676,28 @@ final class RuleBasedTransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class YearTransitions {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int year;
+        private final List<ZonalTransition> transitions;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        YearTransitions(
+            int year,
+            List<ZonalTransition> transitions
+        ) {
+            super();
+
+            this.year = year;
+            this.transitions = transitions;
+
+        }
+
+    }
+
 }
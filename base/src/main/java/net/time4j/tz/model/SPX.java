@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (SPX.java) is part of project Time4J.
  *
@@ -307,7 +307,7 @@ final class SPX
 
     }
 
-    private static void writeRules(
+    static void writeRules(
         List<DaylightSavingRule> rules,
         ObjectOutput out
     ) throws IOException {
@@ -334,7 +334,7 @@ final class SPX
 
     }
 
-    private static List<DaylightSavingRule> readRules(ObjectInput in)
+    static List<DaylightSavingRule> readRules(ObjectInput in)
         throws IOException, ClassNotFoundException {
 
         int n = in.readByte();
@@ -0,0 +1,129 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MappedZoneProviderSPI.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.spi;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.model.MappedZoneRepository;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * <p>SPI-implementation which activates a memory-mapped zone repository configured by the
+ * system property &quot;net.time4j.tz.repository.mapped&quot;. </p>
+ *
+ * <p>Without this property (or if the file cannot be read) the name of this provider is empty
+ * so that it will be ignored. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.10
+ * @see     MappedZoneRepository
+ */
+public class MappedZoneProviderSPI
+    implements ZoneModelProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final String PROPERTY_KEY = "net.time4j.tz.repository.mapped";
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final MappedZoneRepository repository;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    public MappedZoneProviderSPI() {
+        super();
+
+        MappedZoneRepository mzr = null;
+        String path = System.getProperty(PROPERTY_KEY);
+
+        if ((path != null) && !path.isEmpty()) {
+            try {
+                mzr = MappedZoneRepository.open(Paths.get(path));
+            } catch (IOException | RuntimeException ex) {
+                System.err.println("Warning: Loading of mapped zone repository " + path + " failed.");
+                ex.printStackTrace(System.err);
+            }
+        }
+
+        this.repository = mzr;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public Set<String> getAvailableIDs() {
+
+        return ((this.repository == null) ? Collections.emptySet() : this.repository.getAvailableIDs());
+
+    }
+
+    @Override
+    public Map<String, String> getAliases() {
+
+        return ((this.repository == null) ? Collections.emptyMap() : this.repository.getAliases());
+
+    }
+
+    @Override
+    public TransitionHistory load(String zoneID) {
+
+        return ((this.repository == null) ? null : this.repository.load(zoneID));
+
+    }
+
+    @Override
+    public String getFallback() {
+
+        return "";
+
+    }
+
+    @Override
+    public String getName() {
+
+        return ((this.repository == null) ? "" : this.repository.getName());
+
+    }
+
+    @Override
+    public String getLocation() {
+
+        return ((this.repository == null) ? "" : this.repository.getLocation());
+
+    }
+
+    @Override
+    public String getVersion() {
+
+        return ((this.repository == null) ? "" : this.repository.getVersion());
+
+    }
+
+}
@@ -1,6 +1,9 @@
 package net.time4j;
 
+import net.time4j.engine.DerivedRuleTest;
+import net.time4j.engine.ElementSlotTest;
 import net.time4j.format.NumberSuite;
+import net.time4j.packed.PackedTest;
 import net.time4j.scale.ScaleSuite;
 import net.time4j.tz.ZoneSuite;
 
@@ -18,11 +21,16 @@ import org.junit.runners.Suite.SuiteClasses;
         CompareZonalDateTimeTest.class,
         ComponentElementTest.class,
         DateSuite.class,
+        DerivedRuleTest.class,
         DurationSuite.class,
+        ElementSlotTest.class,
+        MachineTimeStatisticsTest.class,
         MachineTimeTest.class,
         MinMaxTest.class,
         NumberSuite.class,
         OperatorSuite.class,
+        PackedTest.class,
+        ResourcePreloaderTest.class,
         ScaleSuite.class,
         SerializationTest.class,
         SystemClockTest.class,
@@ -1520,4 +1520,42 @@ public class DurationBasicsTest {
             is(expected));
     }
 
+    @Test
+    public void compactSummingAndNormalizing() {
+        Duration<ClockUnit> sum = Duration.ofZero();
+        for (int i = 0; i < 1000; i++) {
+            sum = sum.plus(Duration.ofClockUnits(1, 59, 59)).plus(250, MILLIS);
+        }
+        assertThat(sum.getPartialAmount(HOURS), is(1000L));
+        assertThat(sum.getPartialAmount(MINUTES), is(59000L));
+        assertThat(sum.getPartialAmount(SECONDS), is(59000L));
+        assertThat(sum.getPartialAmount(MILLIS), is(250000L));
+        assertThat(sum.getPartialAmount(NANOS), is(250_000_000_000L));
+        assertThat(sum.contains(MICROS), is(true));
+        assertThat(
+            sum.with(Duration.STD_CLOCK_PERIOD),
+            is(Duration.ofClockUnits(1999, 47, 30)));
+        assertThat(
+            sum.multipliedBy(-2).with(Duration.STD_CLOCK_PERIOD),
+            is(Duration.ofClockUnits(3999, 35, 0).inverse()));
+    }
+
+    @Test
+    public void compactSameAsItemBased() {
+        Duration<CalendarUnit> compact =
+            Duration.ofCalendarUnits(1, 14, 0).plus(3, WEEKS).with(Duration.STD_CALENDAR_PERIOD).inverse();
+        Duration<CalendarUnit> built = Duration.ofNegative().years(2).months(2).days(21).build().toCalendarPeriod();
+        assertThat(compact, is(built));
+        assertThat(compact.hashCode(), is(built.hashCode()));
+        assertThat(
+            compact.abs().hashCode(),
+            is(new ArrayList<>(compact.getTotalLength()).hashCode()));
+        assertThat(compact.toString(), is("-P2Y2M21D"));
+        assertThat(compact.plus(-2, YEARS).plus(1, DAYS).toString(), is("-P4Y2M20D"));
+        assertThat(compact.plus(21, DAYS).plus(2, MONTHS).toString(), is("-P2Y"));
+        assertThat(compact.plus(compact.inverse()).isEmpty(), is(true));
+        assertThat(compact.contains(WEEKS), is(false));
+        assertThat(compact.getPartialAmount(CalendarUnit.weekBasedYears()), is(0L));
+    }
+
 }
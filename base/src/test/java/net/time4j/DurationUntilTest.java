@@ -5,8 +5,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Random;
 
 import static net.time4j.CalendarUnit.*;
 import static org.hamcrest.CoreMatchers.is;
@@ -270,4 +272,47 @@ public class DurationUntilTest {
         assertThat(d2.minus(duration), is(d1)); // third invariance
     }
 
+    @Test
+    public void fastMetricsSameAsGenericMetrics() {
+        TimeMetric<CalendarUnit, Duration<CalendarUnit>> ymd =
+            Duration.in(Arrays.asList(DAYS, MONTHS, YEARS)); // generic path
+        TimeMetric<ClockUnit, Duration<ClockUnit>> clock =
+            Duration.in(Arrays.asList(ClockUnit.NANOS, ClockUnit.SECONDS, ClockUnit.MINUTES, ClockUnit.HOURS));
+        Random random = new Random(12345);
+
+        for (int i = 0; i < 20000; i++) {
+            PlainDate d1 = PlainDate.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            PlainDate d2 = PlainDate.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1);
+            d2 = d2.with(PlainDate.DAY_OF_MONTH, 1 + random.nextInt(d2.lengthOfMonth()));
+            PlainTime t1 = PlainTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(3));
+            PlainTime t2 = PlainTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(3));
+            PlainTimestamp ts1 = d1.at(t1);
+            PlainTimestamp ts2 = d2.at(t2);
+
+            assertThat(Duration.inYearsMonthsDays().between(d1, d2), is(ymd.between(d1, d2)));
+            assertThat(Duration.inYearsMonthsDays().between(ts1, ts2), is(ymd.between(ts1, ts2)));
+            assertThat(Duration.inClockUnits().between(ts1, ts2), is(clock.between(ts1, ts2)));
+            assertThat(Duration.inClockUnits().between(t1, t2), is(clock.between(t1, t2)));
+            assertThat(Duration.in(DAYS).between(d1, d2), is(Duration.of(DAYS.between(d1, d2), DAYS)));
+            assertThat(Duration.in(DAYS).between(ts1, ts2), is(Duration.of(ts1.until(ts2, DAYS), DAYS)));
+        }
+    }
+
+    @Test
+    public void fastMetricsAtMonthEnd() {
+        PlainTimestamp ts1 = PlainTimestamp.of(2013, 1, 31, 12, 0);
+        assertThat(
+            Duration.inYearsMonthsDays().between(ts1, PlainTimestamp.of(2013, 2, 28, 11, 59)),
+            is(Duration.ofCalendarUnits(0, 0, 27)));
+        assertThat(
+            Duration.inYearsMonthsDays().between(ts1, PlainTimestamp.of(2013, 2, 28, 12, 0)),
+            is(Duration.ofCalendarUnits(0, 0, 28)));
+        assertThat(
+            Duration.inYearsMonthsDays().between(PlainTimestamp.of(2014, 2, 28, 12, 0), ts1),
+            is(Duration.ofCalendarUnits(1, 0, 28).inverse()));
+        assertThat(
+            Duration.inClockUnits().between(PlainTime.of(23, 59, 59, 1), PlainTime.midnightAtEndOfDay()),
+            is(Duration.ofClockUnits(0, 0, 0).plus(999_999_999, ClockUnit.NANOS)));
+    }
+
 }
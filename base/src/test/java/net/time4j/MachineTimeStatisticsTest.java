@@ -0,0 +1,146 @@
+package net.time4j;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MachineTimeStatisticsTest {
+
+    @Test
+    public void basicStatistics() {
+        List<MachineTime<TimeUnit>> list =
+            Arrays.asList(
+                MachineTime.of(1, TimeUnit.SECONDS),
+                MachineTime.of(2, TimeUnit.SECONDS),
+                MachineTime.of(6, TimeUnit.SECONDS));
+        MachineTimeStatistics<TimeUnit> stats = list.stream().collect(MachineTime.summarizingPosix());
+        assertThat(stats.getCount(), is(3L));
+        assertThat(stats.isEmpty(), is(false));
+        assertThat(stats.getSum(), is(MachineTime.ofPosixSeconds(9)));
+        assertThat(stats.getMinimum(), is(MachineTime.ofPosixSeconds(1)));
+        assertThat(stats.getMaximum(), is(MachineTime.ofPosixSeconds(6)));
+        assertThat(stats.getMean(), is(MachineTime.ofPosixSeconds(3)));
+        assertThat(Math.abs(stats.getVariance() - 14.0 / 3) < 1E-12, is(true));
+        assertThat(stats.getStandardDeviation(), is(MachineTime.ofPosixUnits(2, 160_246_899)));
+        assertThat(stats.getPercentile(0.0), is(stats.getMinimum()));
+        assertThat(stats.getPercentile(100.0), is(stats.getMaximum()));
+        assertThat(
+            stats.toString(),
+            is("MachineTimeStatistics[count=3,sum=9s [POSIX],min=1s [POSIX],max=6s [POSIX],mean=3s [POSIX]]"));
+    }
+
+    @Test
+    public void meanRoundedToNanos() {
+        MachineTimeStatistics<SI> stats =
+            Arrays.asList(MachineTime.of(1, SI.NANOSECONDS), MachineTime.of(0, SI.NANOSECONDS), MachineTime.of(0, SI.SECONDS))
+                .stream().collect(MachineTime.summarizingReal());
+        assertThat(stats.getMean(), is(MachineTime.ofSIUnits(0, 0)));
+        assertThat(stats.getSum(), is(MachineTime.ofSIUnits(0, 1)));
+        assertThat(stats.getMinimum().getScale(), is(net.time4j.scale.TimeScale.UTC));
+    }
+
+    @Test
+    public void percentilesWithinRelativeError() {
+        Random random = new Random(1234);
+        List<MachineTime<TimeUnit>> list = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            long nanos = (long) Math.exp(random.nextDouble() * 25); // 1ns until about 72s
+            list.add(MachineTime.of((i % 17 == 0) ? -nanos : nanos, TimeUnit.NANOSECONDS));
+        }
+        list.add(MachineTime.of(0, TimeUnit.SECONDS));
+
+        MachineTimeStatistics<TimeUnit> stats = list.stream().collect(MachineTime.summarizingPosix());
+        List<MachineTime<TimeUnit>> sorted = new ArrayList<>(list);
+        Collections.sort(sorted);
+
+        for (double p : new double[] {1.0, 5.0, 25.0, 50.0, 75.0, 90.0, 99.0, 99.9}) {
+            int rank = (int) Math.ceil(p / 100 * sorted.size());
+            double exact = toNanos(sorted.get(rank - 1));
+            double estimated = toNanos(stats.getPercentile(p));
+            assertThat(
+                "p=" + p + ", exact=" + exact + ", estimated=" + estimated,
+                Math.abs(estimated - exact) <= Math.abs(exact) * 0.01 + 1,
+                is(true));
+        }
+    }
+
+    @Test
+    public void parallelSameAsSequential() {
+        Random random = new Random(5678);
+        List<MachineTime<TimeUnit>> list = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            list.add(MachineTime.ofPosixUnits(random.nextInt(100), random.nextInt(1_000_000_000)));
+        }
+
+        MachineTimeStatistics<TimeUnit> seq = list.stream().collect(MachineTime.summarizingPosix());
+        MachineTimeStatistics<TimeUnit> par = list.parallelStream().collect(MachineTime.summarizingPosix());
+
+        assertThat(par.getCount(), is(seq.getCount()));
+        assertThat(par.getSum(), is(seq.getSum()));
+        assertThat(par.getSum(), is(list.stream().reduce(MachineTime.ofPosixSeconds(0), MachineTime::plus)));
+        assertThat(par.getMinimum(), is(seq.getMinimum()));
+        assertThat(par.getMaximum(), is(seq.getMaximum()));
+        assertThat(par.getMean(), is(seq.getMean()));
+        assertThat(Math.abs(par.getVariance() - seq.getVariance()) < 1E-9, is(true));
+        for (double p = 0.0; p <= 100.0; p += 12.5) {
+            assertThat(par.getPercentile(p), is(seq.getPercentile(p)));
+        }
+        assertThat(list.parallelStream().collect(MachineTime.summingUpPosix()), is(seq.getSum()));
+    }
+
+    @Test
+    public void emptyStatistics() {
+        MachineTimeStatistics<TimeUnit> stats =
+            Collections.<MachineTime<TimeUnit>>emptyList().stream().collect(MachineTime.summarizingPosix());
+        assertThat(stats.getCount(), is(0L));
+        assertThat(stats.isEmpty(), is(true));
+        assertThat(stats.getSum().isEmpty(), is(true));
+        assertThat(stats.toString(), is("MachineTimeStatistics[count=0,sum=0s [POSIX]]"));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void emptyStatisticsWithoutMean() {
+        Collections.<MachineTime<TimeUnit>>emptyList().stream().collect(MachineTime.summarizingPosix()).getMean();
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void percentileOutOfRange() {
+        Collections.singletonList(MachineTime.of(1, TimeUnit.SECONDS))
+            .stream().collect(MachineTime.summarizingPosix()).getPercentile(100.5);
+    }
+
+    @Test
+    public void summingUpWithTemporaryOverflow() {
+        List<MachineTime<TimeUnit>> list =
+            Arrays.asList(
+                MachineTime.ofPosixUnits(Long.MAX_VALUE, 0),
+                MachineTime.ofPosixUnits(1, 999_999_999),
+                MachineTime.ofPosixUnits(-10, 0));
+        assertThat(
+            list.stream().collect(MachineTime.summingUpPosix()),
+            is(MachineTime.ofPosixUnits(Long.MAX_VALUE - 8, -1)));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void summingUpWithFinalOverflow() {
+        Arrays.asList(MachineTime.ofPosixUnits(Long.MAX_VALUE, 0), MachineTime.ofPosixUnits(1, 0))
+            .stream().collect(MachineTime.summingUpPosix());
+    }
+
+    private static double toNanos(MachineTime<?> mt) {
+        return mt.getSeconds() * 1E9 + mt.getFraction();
+    }
+
+}
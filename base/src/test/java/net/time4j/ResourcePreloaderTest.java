@@ -0,0 +1,72 @@
+package net.time4j;
+
+import net.time4j.format.CalendarText;
+import net.time4j.format.OutputContext;
+import net.time4j.format.TextWidth;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ResourcePreloaderTest {
+
+    @Test
+    public void localesOnly() {
+        Map<String, MachineTime<TimeUnit>> report =
+            ResourcePreloader.ofLocales(Locale.GERMANY, Locale.US, new Locale("ar"), Locale.JAPANESE).run();
+        assertThat(
+            report.keySet().toArray(),
+            is(
+                new Object[] {
+                    ResourcePreloader.CALENDAR_TEXT,
+                    ResourcePreloader.FORMAT_PATTERNS,
+                    ResourcePreloader.PLURAL_RULES,
+                    ResourcePreloader.UNIT_PATTERNS,
+                    ResourcePreloader.WEEKMODEL
+                }));
+        for (MachineTime<TimeUnit> mt : report.values()) {
+            assertThat(mt.isNegative(), is(false));
+        }
+    }
+
+    @Test
+    public void localesWithCalendarTypesAndZones() {
+        Map<String, MachineTime<TimeUnit>> report =
+            ResourcePreloader.ofLocales(Arrays.asList(Locale.FRANCE, Locale.ITALY))
+                .withCalendarTypes(CalendarText.ISO_CALENDAR_TYPE, "islamic-umalqura", "chinese")
+                .withZones("Europe/Paris", "Asia/Tokyo", "UTC")
+                .run();
+        assertThat(report.size(), is(7));
+        assertThat(report.containsKey(ResourcePreloader.TIMEZONE), is(true));
+        assertThat(report.containsKey(ResourcePreloader.ZONE_NAMES), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void unknownZone() {
+        ResourcePreloader.ofLocales(Locale.ENGLISH).withZones("Unknown/Zone").run();
+    }
+
+    @Test(expected=NullPointerException.class)
+    public void nullLocale() {
+        ResourcePreloader.ofLocales(Locale.ENGLISH, null);
+    }
+
+    @Test
+    public void parsingAfterPreload() throws ParseException {
+        ResourcePreloader.ofLocales(new Locale("tr")).run();
+        assertThat(
+            Month.parse("Mayıs", new Locale("tr"), TextWidth.WIDE, OutputContext.FORMAT),
+            is(Month.MAY));
+    }
+
+}
@@ -21,6 +21,7 @@ import org.junit.runners.Suite.SuiteClasses;
         CopticMiscellaneousTest.class,
         CopticOperatorTest.class,
         DiyanetDataTest.class,
+        EastAsianTableTest.class,
         DiyanetRangeTest.class,
         EraNameTest.class,
         EthiopianCalendarTest.class,
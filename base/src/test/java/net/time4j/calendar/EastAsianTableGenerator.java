@@ -0,0 +1,178 @@
+package net.time4j.calendar;
+
+import net.time4j.engine.CalendarEra;
+import net.time4j.tz.ZonalOffset;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+
+/**
+ * <p>Generates the lunisolar year tables {@code data/chinese.data}, {@code data/korean.data} and
+ * {@code data/vietnamese.data} from the astronomical calculations of {@code EastAsianCS}. </p>
+ *
+ * <p>Usage (from the base module with test classpath): {@code java net.time4j.calendar.EastAsianTableGenerator
+ * [target-directory]} where the target directory defaults to {@code src/main/resources/data}. The format is
+ * documented in {@code EastAsianTable}. </p>
+ */
+public class EastAsianTableGenerator {
+
+    static final int LAST_CYCLE = 94;
+    static final int LAST_YEAR_OF_CYCLE = 56;
+
+    public static void main(String[] args) throws IOException {
+        File dir = new File((args.length == 0) ? "src/main/resources/data" : args[0]);
+        write(new File(dir, "chinese.data"), generate(ChineseCalendar.ofNewYear(2000).getCalendarSystem(), 72, 22));
+        write(new File(dir, "korean.data"), generate(KoreanCalendar.ofNewYear(2000).getCalendarSystem(), 72, 22));
+        write(new File(dir, "vietnamese.data"), generate(VietnameseCalendar.ofTet(2000).getCalendarSystem(), 75, 10));
+    }
+
+    /**
+     * <p>Computes the table for given calendar system astronomically, starting with given first year and
+     * ending with the year 94/56 (last year before 3000-01-27). </p>
+     *
+     * @param   calsys      calendar system whose table (if any) will be ignored
+     * @param   cycle       cycle of first year
+     * @param   yearOfCycle year of cycle of first year
+     * @return  binary table content
+     * @throws  IllegalStateException if the astronomical calculations are inconsistent
+     */
+    static <D extends EastAsianCalendar<?, D>> byte[] generate(
+        EastAsianCS<D> calsys,
+        int cycle,
+        int yearOfCycle
+    ) {
+        EastAsianCS<D> astro = new Astronomical<>(calsys);
+        int first = (cycle - 1) * 60 + yearOfCycle;
+        int last = (LAST_CYCLE - 1) * 60 + LAST_YEAR_OF_CYCLE;
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            long ny = astro.newYear(cycle, yearOfCycle);
+            out.writeInt(first);
+            out.writeInt(last - first + 1);
+            out.writeLong(ny);
+
+            for (int y = first; y <= last; y++) {
+                int c = (y - 1) / 60 + 1;
+                int yoc = y - (c - 1) * 60;
+                int nextCycle = y / 60 + 1;
+                long nyNext = astro.newYear(nextCycle, y + 1 - (nextCycle - 1) * 60);
+                int lm = astro.getLeapMonth(c, yoc);
+                int bits = 0;
+                int count = 0;
+
+                for (long m = ny; m < nyNext; count++) {
+                    long n = astro.newMoonOnOrAfter(m + 1);
+                    D d = astro.transform(m);
+                    EastAsianMonth expected = month(lm, count);
+                    if (
+                        !d.getMonth().equals(expected) || (d.getDayOfMonth() != 1)
+                        || (d.getCycle() != c) || (d.getYear().getNumber() != yoc)
+                    ) {
+                        throw new IllegalStateException("Inconsistent month start in year " + y + ": " + d);
+                    } else if (n - m == 30) {
+                        bits |= (1 << count);
+                    } else if (n - m != 29) {
+                        throw new IllegalStateException("Invalid length of month in year " + y + ": " + (n - m));
+                    }
+                    m = n;
+                    if (m > nyNext) {
+                        throw new IllegalStateException("New year is not a new moon: " + y);
+                    }
+                }
+
+                if (count != ((lm == 0) ? 12 : 13)) {
+                    throw new IllegalStateException("Invalid count of months in year " + y + ": " + count);
+                }
+
+                out.writeByte(lm);
+                out.writeShort(bits);
+                ny = nyNext;
+            }
+        } catch (IOException ioe) {
+            throw new IllegalStateException(ioe);
+        }
+
+        return baos.toByteArray();
+    }
+
+    // month with given ordinal index (zero-based) in a year with given leap month (zero if none)
+    static EastAsianMonth month(
+        int leapMonth,
+        int ordinal
+    ) {
+        if ((leapMonth == 0) || (ordinal < leapMonth)) {
+            return EastAsianMonth.valueOf(ordinal + 1);
+        } else if (ordinal == leapMonth) {
+            return EastAsianMonth.valueOf(leapMonth).withLeap();
+        } else {
+            return EastAsianMonth.valueOf(ordinal);
+        }
+    }
+
+    private static void write(
+        File file,
+        byte[] data
+    ) throws IOException {
+        try (OutputStream os = new FileOutputStream(file)) {
+            os.write(data);
+        }
+        System.out.println(file + ": " + data.length + " bytes");
+    }
+
+    // calendar system which ignores any precomputed table
+    static class Astronomical<D extends EastAsianCalendar<?, D>>
+        extends EastAsianCS<D> {
+
+        private final EastAsianCS<D> delegate;
+
+        Astronomical(EastAsianCS<D> delegate) {
+            super();
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<CalendarEra> getEras() {
+            return this.delegate.getEras();
+        }
+
+        @Override
+        public long getMinimumSinceUTC() {
+            return this.delegate.getMinimumSinceUTC();
+        }
+
+        @Override
+        D create(
+            int cycle,
+            int yearOfCycle,
+            EastAsianMonth eam,
+            int dayOfMonth,
+            long utcDays
+        ) {
+            return this.delegate.create(cycle, yearOfCycle, eam, dayOfMonth, utcDays);
+        }
+
+        @Override
+        ZonalOffset getOffset(long utcDays) {
+            return this.delegate.getOffset(utcDays);
+        }
+
+        @Override
+        int[] getLeapMonths() {
+            return this.delegate.getLeapMonths();
+        }
+
+        @Override
+        EastAsianTable getTable() {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package net.time4j.calendar;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EastAsianTableTest {
+
+    @Test
+    public void tablesAvailable() {
+        assertThat(ChineseCalendar.ofNewYear(2000).getCalendarSystem().getTable(), notNullValue());
+        assertThat(KoreanCalendar.ofNewYear(2000).getCalendarSystem().getTable(), notNullValue());
+        assertThat(VietnameseCalendar.ofTet(2000).getCalendarSystem().getTable(), notNullValue());
+    }
+
+    @Test
+    public void chineseSameAsAstronomical() {
+        check(ChineseCalendar.ofNewYear(2000).getCalendarSystem(), 72, 22);
+    }
+
+    @Test
+    public void koreanSameAsAstronomical() {
+        check(KoreanCalendar.ofNewYear(2000).getCalendarSystem(), 72, 22);
+    }
+
+    @Test
+    public void vietnameseSameAsAstronomical() {
+        check(VietnameseCalendar.ofTet(2000).getCalendarSystem(), 75, 10);
+    }
+
+    @Test
+    public void generatorReproducesResources() throws IOException {
+        assertThat(
+            EastAsianTableGenerator.generate(ChineseCalendar.ofNewYear(2000).getCalendarSystem(), 72, 22),
+            is(resource("chinese")));
+        assertThat(
+            EastAsianTableGenerator.generate(KoreanCalendar.ofNewYear(2000).getCalendarSystem(), 72, 22),
+            is(resource("korean")));
+        assertThat(
+            EastAsianTableGenerator.generate(VietnameseCalendar.ofTet(2000).getCalendarSystem(), 75, 10),
+            is(resource("vietnamese")));
+    }
+
+    // checks new year, leap month and month lengths of every year in the table
+    private static <D extends EastAsianCalendar<?, D>> void check(
+        EastAsianCS<D> tabled,
+        int cycle,
+        int yearOfCycle
+    ) {
+        EastAsianCS<D> astro = new EastAsianTableGenerator.Astronomical<>(tabled);
+        int last = (EastAsianTableGenerator.LAST_CYCLE - 1) * 60 + EastAsianTableGenerator.LAST_YEAR_OF_CYCLE;
+        long ny = astro.newYear(cycle, yearOfCycle);
+
+        for (int y = (cycle - 1) * 60 + yearOfCycle; y <= last; y++) {
+            int c = (y - 1) / 60 + 1;
+            int yoc = y - (c - 1) * 60;
+            String year = c + "/" + yoc;
+            assertThat(year, tabled.newYear(c, yoc), is(ny));
+            int lm = astro.getLeapMonth(c, yoc);
+            long m = ny;
+
+            for (int i = 0, n = ((lm == 0) ? 12 : 13); i < n; i++) {
+                EastAsianMonth month = EastAsianTableGenerator.month(lm, i);
+                long next = astro.newMoonOnOrAfter(m + 1);
+                assertThat(year + "/" + month, tabled.transform(m), is(astro.transform(m)));
+                assertThat(year + "/" + month, tabled.transform(c, yoc, month, 1), is(m));
+                assertThat(year + "/" + month, tabled.isValid(c, yoc, month, 30), is(next - m == 30));
+                m = next;
+            }
+
+            int nextCycle = y / 60 + 1;
+            ny = astro.newYear(nextCycle, y + 1 - (nextCycle - 1) * 60);
+            assertThat(year, m, is(ny));
+        }
+
+        for (long utcDays : new long[] {tabled.getMinimumSinceUTC(), tabled.getMaximumSinceUTC()}) {
+            assertThat(tabled.transform(utcDays), is(astro.transform(utcDays)));
+        }
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream is = EastAsianTable.class.getClassLoader().getResourceAsStream("data/" + name + ".data")) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = is.read(buffer)) != -1) {
+                baos.write(buffer, 0, n);
+            }
+            return baos.toByteArray();
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package net.time4j.engine;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.Weekmodel;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class DerivedRuleTest {
+
+    @Test
+    public void derivedRuleIsMemoized() {
+        Chronology<PlainDate> chronology = PlainDate.axis();
+        ChronoElement<Integer> element = Weekmodel.of(Locale.US).weekOfYear();
+        ElementRule<PlainDate, Integer> rule = chronology.getRule(element);
+        assertThat(chronology.getRule(element), sameInstance(rule));
+        assertThat(PlainDate.of(2026, 10, 17).get(element), is(42));
+    }
+
+    @Test
+    public void derivedRuleIsSharedByEqualElementsOnlyIfIdentical() {
+        Chronology<PlainTimestamp> chronology = PlainTimestamp.axis();
+        ElementRule<PlainTimestamp, Integer> r1 = chronology.getRule(Weekmodel.ISO.weekOfYear());
+        ElementRule<PlainTimestamp, Integer> r2 = chronology.getRule(Weekmodel.ISO.weekOfMonth());
+        assertThat(r1 == r2, is(false));
+        assertThat(chronology.getRule(Weekmodel.ISO.weekOfYear()), sameInstance(r1));
+    }
+
+    @Test
+    public void derivedRuleIsMemoizedBeyondCacheLimit() {
+        Chronology<PlainDate> chronology = PlainDate.axis();
+        PlainDate date = PlainDate.of(2026, 10, 17);
+        for (int i = 0; i < 1000; i++) {
+            ChronoElement<Integer> element = Weekmodel.of(Weekday.SUNDAY, 1).weekOfYear();
+            ElementRule<PlainDate, Integer> rule = chronology.getRule(element);
+            assertThat(chronology.getRule(element), sameInstance(rule));
+            assertThat(date.get(element), is(42));
+        }
+    }
+
+    @Test
+    public void vetoSurvivesSupportQuery() {
+        Chronology<Moment> chronology = Moment.axis();
+        ChronoElement<Integer> element = Weekmodel.ISO.weekOfYear();
+        boolean supported = chronology.isSupported(element);
+        for (int i = 0; i < 2; i++) {
+            try {
+                chronology.getRule(element);
+                fail("Veto expected for local element on global type.");
+            } catch (RuleNotFoundException rnfe) {
+                // ok
+            }
+        }
+        assertThat(chronology.isSupported(element), is(supported));
+    }
+
+    @Test(expected=RuleNotFoundException.class)
+    public void unsupportedElement() {
+        PlainDate.axis().getRule(Moment.PRECISION);
+    }
+
+}
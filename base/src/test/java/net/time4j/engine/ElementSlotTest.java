@@ -0,0 +1,83 @@
+package net.time4j.engine;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ElementSlotTest {
+
+    @Test
+    public void slotRulesEqualRegisteredRules() {
+        checkAllRegistered(PlainDate.axis());
+        checkAllRegistered(PlainTime.axis());
+        checkAllRegistered(PlainTimestamp.axis());
+        checkAllRegistered(Moment.axis());
+    }
+
+    @Test
+    public void sharedElementHasRulePerChronology() {
+        ElementRule<PlainDate, Integer> r1 = PlainDate.axis().getRule(PlainDate.YEAR);
+        ElementRule<PlainTimestamp, Integer> r2 = PlainTimestamp.axis().getRule(PlainDate.YEAR);
+        assertThat(((Object) r1) == r2, is(false));
+        assertThat(PlainTimestamp.of(2026, 10, 17, 12, 0).getInt(PlainDate.YEAR), is(2026));
+        assertThat(PlainDate.of(2026, 10, 17).getInt(PlainDate.DAY_OF_YEAR), is(290));
+    }
+
+    @Test
+    public void integerRules() {
+        assertThat(PlainDate.axis().getIntegerRule(PlainDate.YEAR), notNullValue());
+        assertThat(PlainDate.axis().getIntegerRule(PlainTime.DIGITAL_HOUR_OF_DAY), nullValue());
+        assertThat(PlainTime.axis().getIntegerRule(PlainTime.DIGITAL_HOUR_OF_DAY), notNullValue());
+    }
+
+    @Test
+    public void unregisteredElement() {
+        assertThat(PlainDate.axis().isRegistered(PlainTime.DIGITAL_HOUR_OF_DAY), is(false));
+        assertThat(PlainDate.of(2026, 10, 17).contains(PlainTime.DIGITAL_HOUR_OF_DAY), is(false));
+        assertThat(PlainDate.of(2026, 10, 17).getInt(PlainTime.DIGITAL_HOUR_OF_DAY), is(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void deserializedElement() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(PlainDate.MONTH_AS_NUMBER);
+        }
+        Object ser;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            ser = ois.readObject();
+        }
+        @SuppressWarnings("unchecked")
+        ChronoElement<Integer> element = (ChronoElement<Integer>) ser;
+        assertThat(PlainDate.axis().isRegistered(element), is(true));
+        assertThat(PlainDate.of(2026, 10, 17).getInt(element), is(10));
+    }
+
+    private static <T> void checkAllRegistered(Chronology<T> chronology) {
+        for (ChronoElement<?> element : chronology.getRegisteredElements()) {
+            assertThat(element.name(), chronology.isRegistered(element), is(true));
+            Object rule = chronology.getRule(element);
+            assertThat(element.name(), rule, notNullValue());
+            assertThat(element.name(), chronology.getRule(element), sameInstance(rule));
+        }
+    }
+
+}
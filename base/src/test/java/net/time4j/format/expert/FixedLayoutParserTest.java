@@ -0,0 +1,164 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.Attributes;
+import net.time4j.format.Leniency;
+import net.time4j.format.NumberSystem;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class FixedLayoutParserTest {
+
+    private static final String[] INPUTS = {
+        "", "2", "2017", "20170102", "2017-01-02", "02.01.2017", "2.1.2017", "12345-01-02", "-2017-01-02",
+        "+2017-01-02", "2017-13-02", "2017-02-29", "2016-02-29", "2017-1-2", "2017-01-02T", "2017-01-02T12:30",
+        "2017-01-02T24:00", "2017-01-02T23:59:60", "2017-01-02T23:59:59.123", "2017-01-02T23:59:59.1234",
+        "2017-01-02T23:59:59,123", "2017-01-02t23:59:59.123", "2017-01-02T23:59:59.12", "20170102235959",
+        "201701022359590", "0000101022359", "020170102235959", "2017010223595", "2017-01-02 23:59:59",
+        "2017-01-02T23:59:59.123Z", "2017-01-0x"
+    };
+
+    @Test
+    public void compiledForFixedLayouts() {
+        assertThat(timestamp("uuuuMMddHHmmss").getFixedLayoutParser(), notNullValue());
+        assertThat(timestamp("uuuu-MM-dd'T'HH:mm:ss.SSS").getFixedLayoutParser(), notNullValue());
+        assertThat(date("dd.MM.uuuu").getFixedLayoutParser(), notNullValue());
+        assertThat(Iso8601Format.EXTENDED_CALENDAR_DATE.getFixedLayoutParser(), notNullValue());
+        assertThat(
+            ChronoFormatter.ofMomentPattern("uuuuMMddHHmmss", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC)
+                .getFixedLayoutParser(),
+            notNullValue());
+    }
+
+    @Test
+    public void notCompiledForOtherLayouts() {
+        assertThat(date("d. MMMM uuuu").getFixedLayoutParser(), nullValue());
+        assertThat(date("uuuu-MM-dd[ EEE]").getFixedLayoutParser(), nullValue());
+        assertThat(date("uuuu-MM").withDefault(PlainDate.DAY_OF_MONTH, 1).getFixedLayoutParser(), nullValue());
+        assertThat(date("yy-MM-dd").getFixedLayoutParser(), nullValue());
+        assertThat(date("uuuu-MM-dd").with(Attributes.NUMBER_SYSTEM, NumberSystem.ARABIC_INDIC).getFixedLayoutParser(), nullValue());
+        assertThat(timestamp("uuuu-MM-dd HH").getFixedLayoutParser(), nullValue());
+        assertThat(timestamp("uuuu-MM-dd hh:mm a").getFixedLayoutParser(), nullValue());
+        assertThat(
+            ChronoFormatter.ofMomentPattern("uuuuMMddHHmmssX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC)
+                .getFixedLayoutParser(),
+            nullValue());
+        assertThat(Iso8601Format.EXTENDED_DATE_TIME.getFixedLayoutParser(), nullValue());
+    }
+
+    @Test
+    public void sameResultsAsGenericEngine() {
+        String[] datePatterns = {"uuuuMMdd", "uuuu-MM-dd", "dd.MM.uuuu", "d.M.uuuu"};
+        String[] timestampPatterns = {
+            "uuuuMMddHHmmss", "uuuu-MM-dd'T'HH:mm:ss.SSS", "uuuu-MM-dd'T'HH:mm", "uuuu-MM-dd HH:mm:ss"
+        };
+        for (Leniency leniency : Leniency.values()) {
+            for (String pattern : datePatterns) {
+                ChronoFormatter<PlainDate> f = date(pattern).with(leniency);
+                assertThat(f.getFixedLayoutParser(), notNullValue());
+                for (String input : INPUTS) {
+                    check(f, input);
+                }
+            }
+            for (String pattern : timestampPatterns) {
+                ChronoFormatter<PlainTimestamp> f = timestamp(pattern).with(leniency);
+                assertThat(f.getFixedLayoutParser(), notNullValue());
+                for (String input : INPUTS) {
+                    check(f, input);
+                }
+            }
+        }
+        for (String input : INPUTS) {
+            check(Iso8601Format.BASIC_CALENDAR_DATE, input);
+            check(Iso8601Format.EXTENDED_CALENDAR_DATE, input);
+        }
+    }
+
+    @Test
+    public void randomTimestamps() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f = timestamp("uuuu-MM-dd'T'HH:mm:ss.SSS");
+        ChronoFormatter<Moment> m =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT,
+                ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 5, 30));
+        Random random = new Random(4711);
+        for (int i = 0; i < 1000; i++) {
+            PlainTimestamp tsp =
+                PlainTimestamp.of(1 + random.nextInt(9999), 1 + random.nextInt(12), 1 + random.nextInt(28), 0, 0)
+                    .plus(random.nextInt(86400_000), ClockUnit.MILLIS);
+            String text = f.format(tsp);
+            assertThat(f.parse(text), is(tsp));
+            assertThat(m.getFixedLayoutParser().parse(text), is(m.parse(text, new ParseLog())));
+            assertThat(f.getFixedLayoutParser().parse(text), is(tsp));
+        }
+    }
+
+    @Test
+    public void trailingCharacters() throws ParseException {
+        ChronoFormatter<PlainDate> f = date("uuuu-MM-dd").with(Attributes.TRAILING_CHARACTERS, true);
+        assertThat(f.getFixedLayoutParser().parse("2017-01-02xyz"), is(PlainDate.of(2017, 1, 2)));
+        assertThat(f.parse("2017-01-02xyz"), is(PlainDate.of(2017, 1, 2)));
+        assertThat(date("uuuu-MM-dd").getFixedLayoutParser().parse("2017-01-02xyz"), nullValue());
+    }
+
+    @Test(expected=ParseException.class)
+    public void fallbackForInvalidDate() throws ParseException {
+        date("uuuu-MM-dd").with(Leniency.STRICT).parse("2017-02-29");
+    }
+
+    private static <T> void check(
+        ChronoFormatter<T> f,
+        String input
+    ) {
+        T expected;
+        try {
+            ParseLog plog = new ParseLog();
+            expected = f.parse(input, plog);
+            if (
+                (plog.getPosition() < input.length())
+                && !f.getAttributes().get(Attributes.TRAILING_CHARACTERS, Boolean.FALSE).booleanValue()
+            ) {
+                expected = null;
+            }
+        } catch (IndexOutOfBoundsException ex) {
+            expected = null;
+        }
+        T fast = f.getFixedLayoutParser().parse(input);
+        if (fast != null) {
+            assertThat(f.getPattern() + " => " + input, fast, is(expected));
+        }
+        T result;
+        try {
+            result = f.parse(input);
+        } catch (ParseException | IndexOutOfBoundsException ex) {
+            result = null;
+        }
+        assertThat(f.getPattern() + " => " + input, result, is(expected));
+    }
+
+    private static ChronoFormatter<PlainDate> date(String pattern) {
+        return ChronoFormatter.ofDatePattern(pattern, PatternType.CLDR, Locale.ROOT);
+    }
+
+    private static ChronoFormatter<PlainTimestamp> timestamp(String pattern) {
+        return ChronoFormatter.ofTimestampPattern(pattern, PatternType.CLDR, Locale.ROOT);
+    }
+
+}
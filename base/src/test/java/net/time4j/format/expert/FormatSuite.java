@@ -16,8 +16,10 @@ import org.junit.runners.Suite.SuiteClasses;
         DefaultValueTest.class,
         DozenalNumberTest.class,
         DuplicateElementTest.class,
+        FixedLayoutParserTest.class,
         FractionTest.class,
         Iso8601FormatTest.class,
+        Iso8601PrinterTest.class,
         LiteralWithBidisTest.class,
         LiteralWithDigitsTest.class,
         MiscellaneousTest.class,
@@ -28,6 +30,7 @@ import org.junit.runners.Suite.SuiteClasses;
         OrFormatTest.class,
         OrdinalTest.class,
         ParsingTextOverflowTest.class,
+        SessionTest.class,
         SkipUnknownTest.class,
         StyleProcessorTest.class,
         ThreetenFormatTest.class,
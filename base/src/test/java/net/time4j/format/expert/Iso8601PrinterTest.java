@@ -0,0 +1,191 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class Iso8601PrinterTest {
+
+    private static final ZonalOffset[] OFFSETS = {
+        ZonalOffset.UTC,
+        ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2),
+        ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 2, 30),
+        ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 14, 0),
+        ZonalOffset.ofTotalSeconds(3601),
+        ZonalOffset.ofTotalSeconds(-59),
+        ZonalOffset.ofTotalSeconds(0, -500_000_000),
+        ZonalOffset.ofTotalSeconds(7200, 250_000_000)
+    };
+
+    @Test
+    public void printDate() {
+        PlainDate[] dates = {
+            PlainDate.of(2012, 2, 29),
+            PlainDate.of(0, 1, 2),
+            PlainDate.of(-5, 12, 31),
+            PlainDate.of(12345, 6, 7),
+            PlainDate.of(-12345, 6, 7),
+            PlainDate.axis().getMinimum(),
+            PlainDate.axis().getMaximum()
+        };
+        for (PlainDate date : dates) {
+            assertThat(print(Iso8601Printer.BASIC, date), is(Iso8601Format.BASIC_CALENDAR_DATE.format(date)));
+            assertThat(print(Iso8601Printer.EXTENDED, date), is(Iso8601Format.EXTENDED_CALENDAR_DATE.format(date)));
+        }
+        assertThat(print(Iso8601Printer.EXTENDED, PlainDate.of(12345, 6, 7)), is("+12345-06-07"));
+    }
+
+    @Test
+    public void printTimestamp() {
+        Random random = new Random(4711);
+        for (int i = 0; i < 1000; i++) {
+            PlainTimestamp tsp = randomTimestamp(random);
+            assertThat(print(Iso8601Printer.BASIC, tsp), is(Iso8601Format.BASIC_DATE_TIME.format(tsp)));
+            assertThat(print(Iso8601Printer.EXTENDED, tsp), is(Iso8601Format.EXTENDED_DATE_TIME.format(tsp)));
+        }
+        assertThat(
+            print(Iso8601Printer.EXTENDED, PlainTimestamp.of(2016, 2, 29, 17, 45)),
+            is("2016-02-29T17:45"));
+        assertThat(
+            print(Iso8601Printer.of(true, IsoDecimalStyle.DOT), PlainTimestamp.of(2016, 2, 29, 17, 45).plus(120, ClockUnit.MILLIS)),
+            is("2016-02-29T17:45:00.12"));
+    }
+
+    @Test
+    public void printMoment() {
+        Random random = new Random(4711);
+        for (int i = 0; i < 1000; i++) {
+            Moment moment = randomTimestamp(random).atUTC();
+            for (ZonalOffset offset : OFFSETS) {
+                assertThat(
+                    print(Iso8601Printer.BASIC, moment, offset),
+                    is(Iso8601Format.BASIC_DATE_TIME_OFFSET.withTimezone(offset).format(moment)));
+                assertThat(
+                    print(Iso8601Printer.EXTENDED, moment, offset),
+                    is(Iso8601Format.EXTENDED_DATE_TIME_OFFSET.withTimezone(offset).format(moment)));
+            }
+        }
+    }
+
+    @Test
+    public void printLeapSecond() {
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS).plus(5, SI.NANOSECONDS);
+        assertThat(ls.isLeapSecond(), is(true));
+        ZonalOffset offset = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2);
+        assertThat(print(Iso8601Printer.EXTENDED, ls, offset), is("2017-01-01T01:59:60,000000005+02:00"));
+        assertThat(
+            print(Iso8601Printer.EXTENDED, ls, offset),
+            is(Iso8601Format.EXTENDED_DATE_TIME_OFFSET.withTimezone(offset).format(ls)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void printLeapSecondWithOffsetSeconds() {
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        print(Iso8601Printer.EXTENDED, ls, ZonalOffset.ofTotalSeconds(3601));
+    }
+
+    @Test
+    public void printIntoByteBuffer() {
+        Moment moment = PlainTimestamp.of(1974, 11, 7, 18, 35, 20).plus(63949502, ClockUnit.NANOS).atUTC();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(100);
+        buffer.put((byte) '[');
+        ZonalOffset offset = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2);
+        int n = Iso8601Printer.EXTENDED.print(moment, offset, buffer);
+        assertThat(n, is(35));
+        assertThat(buffer.position(), is(36));
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertThat(new String(bytes, StandardCharsets.US_ASCII), is("[1974-11-07T20:35:20,063949502+02:00"));
+    }
+
+    @Test
+    public void printIntoByteBufferOverflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(9);
+        try {
+            Iso8601Printer.EXTENDED.print(PlainDate.of(2012, 2, 29), buffer);
+            throw new AssertionError("Missing overflow.");
+        } catch (BufferOverflowException ex) {
+            assertThat(buffer.position(), is(0));
+        }
+    }
+
+    @Test
+    public void printIntoCharArray() {
+        char[] buffer = new char[Iso8601Printer.MAX_LENGTH + 2];
+        buffer[0] = '[';
+        Moment moment = PlainDate.axis().getMinimum().atStartOfDay().plus(1, ClockUnit.NANOS).at(
+            ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 18, 0));
+        int end = Iso8601Printer.EXTENDED.print(moment, ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 18, 0), buffer, 1);
+        buffer[end++] = ']';
+        assertThat(end, is(Iso8601Printer.MAX_LENGTH + 2));
+        assertThat(new String(buffer), is("[-999999999-01-01T00:00:00,000000001-18:00]"));
+    }
+
+    private static String print(
+        Iso8601Printer printer,
+        PlainDate date
+    ) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            assertThat(printer.print(date, sb), is(sb.length()));
+        } catch (java.io.IOException ex) {
+            throw new AssertionError(ex);
+        }
+        return sb.toString();
+    }
+
+    private static String print(
+        Iso8601Printer printer,
+        PlainTimestamp tsp
+    ) {
+        char[] buffer = new char[Iso8601Printer.MAX_LENGTH];
+        int end = printer.print(tsp, buffer, 0);
+        return new String(buffer, 0, end);
+    }
+
+    private static String print(
+        Iso8601Printer printer,
+        Moment moment,
+        ZonalOffset offset
+    ) {
+        ByteBuffer buffer = ByteBuffer.allocate(Iso8601Printer.MAX_LENGTH);
+        int n = printer.print(moment, offset, buffer);
+        assertThat(buffer.position(), is(n));
+        return new String(buffer.array(), 0, n, StandardCharsets.US_ASCII);
+    }
+
+    private static PlainTimestamp randomTimestamp(Random random) {
+        PlainTimestamp tsp =
+            PlainTimestamp.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28), 0, 0)
+                .plus(random.nextInt(86400), ClockUnit.SECONDS);
+        switch (random.nextInt(4)) {
+            case 0:
+                return tsp.with(net.time4j.PlainTime.SECOND_OF_MINUTE, 0);
+            case 1:
+                return tsp;
+            case 2:
+                return tsp.plus(random.nextInt(1000) * 1_000_000, ClockUnit.NANOS);
+            default:
+                return tsp.plus(random.nextInt(1_000_000_000), ClockUnit.NANOS);
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class SessionTest {
+
+    private static final List<String> INPUTS =
+        Arrays.asList(
+            "2017-01-02", "2017-01-02T12:30", "2017-01-02T12:30:45,123Z", "2017-01-02T12:30:45.123+01:00",
+            "20170102T1230Z", "2017-002", "2017-W01-1", "2017-01-02 Mon", "2017-01-02 Monday", "2017-13-02",
+            "2017-01-02T24:00", "Mon, 2 Jan 2017 12:30:45 GMT", "2 Jan 2017 12:30 +0100", "2017-01-02 xyz",
+            "2017-01-02[Tue]", "2017-01-02[Mon]", "2017-01-0x", "x"
+        );
+
+    @Test
+    public void parseLikeFormatter() {
+        check(Iso8601Format.EXTENDED_CALENDAR_DATE);
+        check(Iso8601Format.EXTENDED_DATE);
+        check(Iso8601Format.EXTENDED_DATE_TIME);
+        check(Iso8601Format.EXTENDED_DATE_TIME_OFFSET);
+        check(Iso8601Format.BASIC_DATE_TIME_OFFSET);
+        check(ChronoFormatter.RFC_1123);
+        check(ChronoFormatter.ofDatePattern("uuuu-MM-dd[ EEE][ EEEE]", PatternType.CLDR, Locale.ENGLISH));
+        check(ChronoFormatter.ofDatePattern("uuuu-MM-dd[[EEE]]", PatternType.CLDR, Locale.ENGLISH));
+        check(ChronoFormatter.ofDatePattern("uuuu-MM-dd|uuuu-DDD", PatternType.CLDR, Locale.ROOT));
+        check(
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm[:ss[,SSS]]XXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC));
+    }
+
+    @Test
+    public void parseRegion() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter.Session<PlainTimestamp> session = f.newSession();
+        String line = "id=17;2026-10-17 14:45;OK";
+        assertThat(session.parse(line, 6, 22), is(PlainTimestamp.of(2026, 10, 17, 14, 45)));
+        assertThat(
+            ChronoFormatter.RFC_1123.newSession().parse("[Mon, 2 Jan 2017 12:30:45 GMT]", 1, 29),
+            is(PlainTimestamp.of(2017, 1, 2, 12, 30, 45).atUTC()));
+        assertThat(
+            Iso8601Format.EXTENDED_DATE.newSession().parse("x2017-W01-1y", 1, 11),
+            is(PlainDate.of(2017, 1, 2)));
+    }
+
+    @Test
+    public void parseRegionWithTrailingCharacters() {
+        ChronoFormatter.Session<PlainDate> session =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd[ EEE]", PatternType.CLDR, Locale.ENGLISH).newSession();
+        try {
+            session.parse("#2017-01-02 Mon#", 1, 13);
+            fail("Trailing characters not detected.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(11));
+        }
+    }
+
+    @Test
+    public void parseErrorOffsetRelativeToWholeText() {
+        ChronoFormatter.Session<PlainDate> session = Iso8601Format.EXTENDED_CALENDAR_DATE.newSession();
+        try {
+            session.parse("abc2017-0x-02", 3, 13);
+            fail("Invalid month not detected.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(8));
+        }
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void parseInvalidRegion() throws ParseException {
+        Iso8601Format.EXTENDED_CALENDAR_DATE.newSession().parse("2017-01-02", 2, 11);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void parseEmptyRegion() throws ParseException {
+        Iso8601Format.EXTENDED_CALENDAR_DATE.newSession().parse("2017-01-02", 3, 3);
+    }
+
+    @Test
+    public void formatLikeFormatter() {
+        ChronoFormatter<PlainTime> f =
+            ChronoFormatter.ofTimePattern("HH:mm:ss|HH:mm", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter.Session<PlainTime> session = f.newSession();
+        ChronoFormatter.Session<Moment> rfc = ChronoFormatter.RFC_1123.newSession();
+
+        for (int i = 0; i < 3; i++) {
+            PlainTime time = PlainTime.of(17, 45, 30);
+            assertThat(session.format(time), is(f.format(time)));
+            Moment moment = PlainTimestamp.of(2017, 1, 2 + i, 12, 30).atUTC();
+            assertThat(rfc.format(moment), is(ChronoFormatter.RFC_1123.format(moment)));
+        }
+    }
+
+    private static <T> void check(ChronoFormatter<T> f) {
+        ChronoFormatter.Session<T> session = f.newSession();
+
+        for (int round = 0; round < 2; round++) {
+            for (String input : INPUTS) {
+                String expected;
+                try {
+                    expected = String.valueOf(f.parse(input));
+                } catch (ParseException pe) {
+                    expected = "error: " + pe.getMessage() + " at " + pe.getErrorOffset();
+                }
+                String actual;
+                try {
+                    actual = String.valueOf(session.parse(input));
+                } catch (ParseException pe) {
+                    actual = "error: " + pe.getMessage() + " at " + pe.getErrorOffset();
+                }
+                assertThat(f.getPattern() + " => " + input, actual, is(expected));
+
+                if (expected.startsWith("error: ")) {
+                    expected = "error at " + expected.substring(expected.lastIndexOf(' ') + 1);
+                }
+                String region = "  " + input + "!";
+                try {
+                    actual = String.valueOf(session.parse(region, 2, region.length() - 1));
+                } catch (ParseException pe) {
+                    actual = "error at " + (pe.getErrorOffset() - 2);
+                }
+                assertThat(f.getPattern() + " => region " + input, actual, is(expected));
+            }
+        }
+    }
+
+}
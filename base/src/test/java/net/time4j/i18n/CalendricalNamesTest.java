@@ -13,6 +13,7 @@ import net.time4j.format.Attributes;
 import net.time4j.format.CalendarText;
 import net.time4j.format.Leniency;
 import net.time4j.format.OutputContext;
+import net.time4j.format.TextAccessor;
 import net.time4j.format.TextProvider;
 import net.time4j.format.TextWidth;
 import net.time4j.format.expert.ChronoFormatter;
@@ -26,6 +27,7 @@ import java.text.DateFormatSymbols;
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 
@@ -47,6 +49,77 @@ public class CalendricalNamesTest {
             is(Month.SEPTEMBER));
     }
 
+    @Test
+    public void parseMonthsInManyLocales() {
+        String[] languages = {
+            "ar", "bg", "cs", "da", "de", "el", "en", "es", "et", "fa", "fi", "fr", "he", "hi", "hr", "hu", "id",
+            "it", "ja", "ko", "lt", "lv", "ms", "nb", "nl", "pl", "pt", "ro", "ru", "sk", "sl", "sr", "sv", "th",
+            "tr", "uk", "vi", "zh", "kab", "ast"
+        };
+        TextWidth[] widths = {TextWidth.WIDE, TextWidth.ABBREVIATED, TextWidth.SHORT};
+
+        for (String language : languages) {
+            CalendarText instance = CalendarText.getInstance("iso8601", new Locale(language));
+            for (TextWidth tw : widths) {
+                for (OutputContext oc : OutputContext.values()) {
+                    TextAccessor accessor = instance.getStdMonths(tw, oc);
+                    List<String> forms = accessor.getTextForms();
+                    for (Month month : Month.values()) {
+                        String text = "x" + swapAsciiCase(accessor.print(month)) + " 2020";
+                        int expected = -1;
+                        for (int i = 0; i < 12; i++) {
+                            if (text.regionMatches(true, 1, forms.get(i), 0, forms.get(i).length())) {
+                                expected = i;
+                                break;
+                            }
+                        }
+                        ParsePosition pp = new ParsePosition(1);
+                        Month result = accessor.parse(text, pp, Month.class);
+                        String msg = language + "/" + tw + "/" + oc + "/" + month;
+                        if (expected == -1) {
+                            assertThat(msg, result, nullValue());
+                            assertThat(msg, pp.getErrorIndex(), is(1));
+                        } else {
+                            assertThat(msg, result, is(Month.values()[expected]));
+                            assertThat(msg, pp.getIndex(), is(1 + forms.get(expected).length()));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static String swapAsciiCase(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (char c : s.toCharArray()) {
+            if (c >= 'a' && c <= 'z') {
+                c = (char) (c - 'a' + 'A');
+            } else if (c >= 'A' && c <= 'Z') {
+                c = (char) (c - 'A' + 'a');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void parseMonthsStrict() {
+        TextAccessor accessor =
+            CalendarText.getInstance("iso8601", Locale.FRENCH).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("juillet", pp, Month.class, Leniency.STRICT), is(Month.JULY));
+        assertThat(pp.getIndex(), is(7));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("JUILLET", pp, Month.class, Leniency.STRICT), nullValue());
+        assertThat(pp.getErrorIndex(), is(0));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("JUILLET", pp, Month.class, Leniency.SMART), is(Month.JULY));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("juil", pp, Month.class, Leniency.SMART), nullValue());
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("juil", pp, Month.class, Leniency.LAX), is(Month.JULY));
+    }
+
     @Test
     public void getInstance_Chronology_Locale() {
         Chronology<PlainTime> chronology = Chronology.lookup(PlainTime.class);
@@ -0,0 +1,175 @@
+package net.time4j.packed;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.Weekday;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PackedTest {
+
+    @Test
+    public void dateRoundTrip() {
+        Random random = new Random(17);
+        for (int i = 0; i < 10000; i++) {
+            PlainDate date = PlainDate.of(random.nextInt(1000000) - 400000, net.time4j.engine.EpochDays.UNIX);
+            long packed = PackedDate.pack(date);
+            assertThat(PackedDate.unpack(packed), is(date));
+            assertThat(PackedDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth()), is(packed));
+            assertThat(PackedDate.getYear(packed), is(date.getYear()));
+            assertThat(PackedDate.getMonth(packed), is(date.getMonth()));
+            assertThat(PackedDate.getDayOfMonth(packed), is(date.getDayOfMonth()));
+            assertThat(Weekday.valueOf(PackedDate.getDayOfWeek(packed)), is(date.getDayOfWeek()));
+            assertThat(PackedDate.unpack(PackedDate.plusDays(packed, 100)), is(date.plus(100, net.time4j.CalendarUnit.DAYS)));
+        }
+    }
+
+    @Test
+    public void dateRange() {
+        assertThat(PackedDate.unpack(PackedDate.MIN), is(PlainDate.axis().getMinimum()));
+        assertThat(PackedDate.unpack(PackedDate.MAX), is(PlainDate.axis().getMaximum()));
+        assertThat(PackedDate.pack(PlainDate.of(1970, 1, 1)), is(0L));
+        assertThat(PackedDate.isValid(PackedDate.MAX + 1), is(false));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void dateOverflow() {
+        PackedDate.plusDays(PackedDate.MAX, 1);
+    }
+
+    @Test
+    public void dateOrder() {
+        long d1 = PackedDate.of(-5, 12, 31);
+        long d2 = PackedDate.of(2026, 10, 17);
+        long d3 = PackedDate.of(2026, 10, 18);
+        assertThat(d1 < d2, is(true));
+        assertThat(d2 < d3, is(true));
+        assertThat(PackedDate.daysBetween(d2, d3), is(1L));
+    }
+
+    @Test
+    public void timeRoundTrip() {
+        Random random = new Random(31);
+        for (int i = 0; i < 10000; i++) {
+            PlainTime time =
+                PlainTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000000000));
+            long packed = PackedTime.pack(time);
+            assertThat(packed, is(time.get(PlainTime.NANO_OF_DAY)));
+            assertThat(PackedTime.unpack(packed), is(time));
+            assertThat(PackedTime.getHour(packed), is(time.getHour()));
+            assertThat(PackedTime.getMinute(packed), is(time.getMinute()));
+            assertThat(PackedTime.getSecond(packed), is(time.getSecond()));
+            assertThat(PackedTime.getNanosecond(packed), is(time.getNanosecond()));
+            assertThat(PackedTime.of(time.getHour(), time.getMinute(), time.getSecond(), time.getNanosecond()), is(packed));
+        }
+        assertThat(PackedTime.unpack(PackedTime.MAX), is(PlainTime.of(24)));
+        assertThat(PackedTime.of(24, 0, 0, 0), is(PackedTime.MAX));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void timeInvalid() {
+        PackedTime.of(24, 0, 0, 1);
+    }
+
+    @Test
+    public void timestampRoundTrip() {
+        Random random = new Random(47);
+        for (int i = 0; i < 10000; i++) {
+            long nanos = (random.nextLong() >> 1);
+            PlainTimestamp tsp = PackedTimestamp.unpack(nanos);
+            assertThat(PackedTimestamp.pack(tsp), is(nanos));
+            assertThat(Weekday.valueOf(PackedTimestamp.getDayOfWeek(nanos)), is(tsp.getCalendarDate().getDayOfWeek()));
+            assertThat(
+                PackedTimestamp.unpack(PackedTimestamp.plusDays(nanos, -3)),
+                is(tsp.minus(3, net.time4j.CalendarUnit.DAYS)));
+            assertThat(
+                PackedTimestamp.unpack(PackedTimestamp.plusNanos(nanos, 86_400_000_000_001L)),
+                is(tsp.plus(86_400_000_000_001L, net.time4j.ClockUnit.NANOS)));
+        }
+    }
+
+    @Test
+    public void timestampRange() {
+        assertThat(PackedTimestamp.unpack(PackedTimestamp.MIN), is(PlainTimestamp.of(1677, 9, 22, 0, 0)));
+        assertThat(
+            PackedTimestamp.unpack(PackedTimestamp.MAX),
+            is(PlainTimestamp.of(PlainDate.of(2262, 4, 10), PlainTime.of(23, 59, 59, 999999999))));
+        assertThat(
+            PackedTimestamp.of(PackedDate.of(2026, 10, 17), PackedTime.MAX),
+            is(PackedTimestamp.pack(PlainTimestamp.of(2026, 10, 18, 0, 0))));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void timestampOutOfRange() {
+        PackedTimestamp.pack(PlainTimestamp.of(2263, 1, 1, 0, 0));
+    }
+
+    @Test
+    public void momentRoundTrip() {
+        Random random = new Random(53);
+        for (int i = 0; i < 10000; i++) {
+            Moment moment = Moment.of(random.nextInt() * 2L, random.nextInt(1000000000), TimeScale.POSIX);
+            long packed = PackedMoment.pack(moment);
+            assertThat(PackedMoment.unpack(packed), is(moment));
+            assertThat(PackedMoment.getPosixTime(packed), is(moment.getPosixTime()));
+            assertThat(PackedMoment.getNanosecond(packed), is(moment.getNanosecond()));
+            assertThat(PackedMoment.isLeapSecond(packed), is(false));
+            assertThat(
+                PackedMoment.unpack(PackedMoment.plusPosixSeconds(packed, -7)),
+                is(Moment.of(moment.getPosixTime() - 7, moment.getNanosecond(), TimeScale.POSIX)));
+        }
+    }
+
+    @Test
+    public void momentLeapSecond() {
+        Moment before = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(123, SI.NANOSECONDS);
+        Moment leap = before.plus(1, SI.SECONDS);
+        Moment after = leap.plus(1, SI.SECONDS);
+        assertThat(leap.isLeapSecond(), is(true));
+
+        long p1 = PackedMoment.pack(before);
+        long p2 = PackedMoment.pack(leap);
+        long p3 = PackedMoment.pack(after);
+        assertThat(p1 < p2, is(true));
+        assertThat(p2 < p3, is(true));
+        assertThat(PackedMoment.isLeapSecond(p2), is(true));
+        assertThat(PackedMoment.getPosixTime(p2), is(before.getPosixTime()));
+        assertThat(PackedMoment.getNanosecond(p2), is(123));
+        assertThat(PackedMoment.unpack(p2), is(leap));
+        assertThat(PackedMoment.unpack(p3), is(after));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void momentUnknownLeapSecond() {
+        PackedMoment.unpack(PackedMoment.of(0, 0, true));
+    }
+
+    @Test
+    public void momentRange() {
+        assertThat(
+            Moment.of(PackedMoment.MIN_POSIX_TIME, TimeScale.POSIX).toZonalTimestamp(net.time4j.tz.ZonalOffset.UTC).getYear(),
+            is(1823));
+        assertThat(
+            Moment.of(PackedMoment.MAX_POSIX_TIME, TimeScale.POSIX).toZonalTimestamp(net.time4j.tz.ZonalOffset.UTC).getYear(),
+            is(2116));
+        long min = PackedMoment.of(PackedMoment.MIN_POSIX_TIME, 0, false);
+        long max = PackedMoment.of(PackedMoment.MAX_POSIX_TIME, 999999999, true);
+        assertThat(PackedMoment.getPosixTime(min), is(PackedMoment.MIN_POSIX_TIME));
+        assertThat(PackedMoment.getPosixTime(max), is(PackedMoment.MAX_POSIX_TIME));
+        assertThat(PackedMoment.getNanosecond(max), is(999999999));
+        assertThat(PackedMoment.isLeapSecond(max), is(true));
+    }
+
+}
@@ -0,0 +1,99 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BusinessCalendarTest {
+
+    private static final HolidayModel MODEL =
+        date -> HolidayModel.ofSaturdayOrSunday().test(date)
+            || ((date.getMonth() == 12) && (date.getDayOfMonth() >= 24) && (date.getDayOfMonth() <= 26))
+            || ((date.getMonth() == 1) && (date.getDayOfMonth() == 1));
+
+    private static final BusinessCalendar CALENDAR = MODEL.indexed(2000, 2030);
+
+    @Test
+    public void yearRange() {
+        assertThat(CALENDAR.getMinimumYear(), is(2000));
+        assertThat(CALENDAR.getMaximumYear(), is(2030));
+        assertThat(CALENDAR.indexed(2010, 2020), sameInstance(CALENDAR));
+        assertThat(CALENDAR.indexed(1990, 2020).getMinimumYear(), is(1990));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void reversedYearRange() {
+        MODEL.indexed(2030, 2000);
+    }
+
+    @Test
+    public void sameAsModel() {
+        for (PlainDate date = PlainDate.of(1999, 12, 1); date.getYear() < 2032; date = date.plus(1, CalendarUnit.DAYS)) {
+            assertThat(CALENDAR.test(date), is(MODEL.test(date)));
+            assertThat(date.with(CALENDAR.nextBusinessDay()), is(date.with(MODEL.nextBusinessDay())));
+            assertThat(date.with(CALENDAR.previousBusinessDay()), is(date.with(MODEL.previousBusinessDay())));
+            assertThat(date.with(CALENDAR.nextOrSameBusinessDay()), is(date.with(MODEL.nextOrSameBusinessDay())));
+            assertThat(
+                date.with(CALENDAR.previousOrSameBusinessDay()),
+                is(date.with(MODEL.previousOrSameBusinessDay())));
+            assertThat(
+                date.matches(CALENDAR.firstBusinessDayInMonth()),
+                is(date.matches(MODEL.firstBusinessDayInMonth())));
+            assertThat(
+                date.matches(CALENDAR.lastBusinessDayInMonth()),
+                is(date.matches(MODEL.lastBusinessDayInMonth())));
+        }
+    }
+
+    @Test
+    public void businessDayUnit() {
+        Random random = new Random(17);
+        PlainDate base = PlainDate.of(1999, 6, 1);
+        for (int i = 0; i < 2000; i++) {
+            PlainDate start = base.plus(random.nextInt(12000), CalendarUnit.DAYS);
+            PlainDate end = base.plus(random.nextInt(12000), CalendarUnit.DAYS);
+            assertThat(
+                start.until(end, CALENDAR.businessDays()),
+                is(start.until(end, MODEL.businessDays())));
+            long amount = random.nextInt(801) - 400;
+            assertThat(
+                start.plus(amount, CALENDAR.businessDays()),
+                is(start.plus(amount, MODEL.businessDays())));
+        }
+        PlainTimestamp tsp1 = PlainTimestamp.of(2017, 4, 28, 17, 0);
+        PlainTimestamp tsp2 = PlainTimestamp.of(2017, 5, 8, 9, 0);
+        assertThat(tsp1.until(tsp2, CALENDAR.businessDays()), is(5L));
+        assertThat(tsp1.plus(5, CALENDAR.businessDays()), is(PlainTimestamp.of(2017, 5, 5, 17, 0)));
+    }
+
+    @Test
+    public void intervalFunctions() {
+        Random random = new Random(4711);
+        PlainDate base = PlainDate.of(1999, 6, 1);
+        for (int i = 0; i < 2000; i++) {
+            PlainDate start = base.plus(random.nextInt(12000), CalendarUnit.DAYS);
+            DateInterval interval = DateInterval.between(start, start.plus(random.nextInt(20), CalendarUnit.DAYS));
+            assertThat(interval.get(CALENDAR.firstBusinessDay()), is(interval.get(MODEL.firstBusinessDay())));
+            assertThat(interval.get(CALENDAR.lastBusinessDay()), is(interval.get(MODEL.lastBusinessDay())));
+            assertThat(interval.get(CALENDAR.countOfBusinessDays()), is(interval.get(MODEL.countOfBusinessDays())));
+            assertThat(interval.get(CALENDAR.countOfHolidays()), is(interval.get(MODEL.countOfHolidays())));
+        }
+        DateInterval christmas = DateInterval.between(PlainDate.of(2010, 12, 24), PlainDate.of(2010, 12, 26));
+        assertThat(christmas.get(CALENDAR.firstBusinessDay()), nullValue());
+        assertThat(christmas.get(CALENDAR.countOfHolidays()), is(3));
+        assertThat(CalendarYear.of(2020).get(CALENDAR.countOfBusinessDays()), is(259));
+    }
+
+}
@@ -403,4 +403,142 @@ public class DayPartitionTest {
         //        Event: 3 => 2:00
     }
 
+    @Test
+    public void compiledSchedule() {
+        DayPartitionRule rule =
+            new DayPartitionBuilder((date) -> !date.equals(PlainDate.of(2016, 9, 2)))
+                .addExclusion(Collections.singleton(PlainDate.of(2016, 8, 27)))
+                .addWeekdayRule(MONDAY, FRIDAY, ClockInterval.between(PlainTime.of(9, 0), PlainTime.of(12, 30)))
+                .addWeekdayRule(MONDAY, FRIDAY, ClockInterval.between(PlainTime.of(14, 0), PlainTime.of(19, 0)))
+                .addWeekdayRule(SATURDAY, ClockInterval.between(PlainTime.of(10, 0), PlainTime.midnightAtEndOfDay()))
+                .addSpecialRule(
+                    PlainDate.of(2016, 8, 31),
+                    ClockInterval.between(PlainTime.of(0, 0), PlainTime.of(3, 0)))
+                .build();
+        DateInterval range = DateInterval.between(PlainDate.of(2016, 8, 1), PlainDate.of(2016, 9, 30));
+        DayPartitionSchedule schedule = rule.compile(range);
+        assertThat(schedule.getRange(), is(range));
+        assertThat(schedule.compile(DateInterval.between(PlainDate.of(2016, 8, 5), PlainDate.of(2016, 8, 9))), is(schedule));
+
+        DateInterval outer = DateInterval.between(PlainDate.of(2016, 7, 25), PlainDate.of(2016, 10, 5));
+        assertThat(
+            outer.streamPartitioned(schedule).collect(Collectors.toList()),
+            is(outer.streamPartitioned(rule).collect(Collectors.toList())));
+        DateInterval inner = DateInterval.between(PlainDate.of(2016, 8, 26), PlainDate.of(2016, 9, 3));
+        assertThat(
+            inner.streamPartitioned(schedule).collect(Collectors.toList()),
+            is(inner.streamPartitioned(rule).collect(Collectors.toList())));
+        TimestampInterval ti =
+            TimestampInterval.between(PlainTimestamp.of(2016, 8, 26, 11, 0), PlainTimestamp.of(2016, 9, 5, 15, 0));
+        assertThat(
+            ti.streamPartitioned(schedule).collect(Collectors.toList()),
+            is(ti.streamPartitioned(rule).collect(Collectors.toList())));
+
+        PlainTimestamp tsp = PlainTimestamp.of(2016, 7, 30, 0, 0);
+        PlainTimestamp end = PlainTimestamp.of(2016, 10, 3, 0, 0);
+        while (tsp.isBefore(end)) {
+            PlainDate date = tsp.getCalendarDate();
+            assertThat(schedule.getPartitions(date), is(rule.getPartitions(date)));
+            assertThat(schedule.isExcluded(date), is(rule.isExcluded(date)));
+            assertThat(tsp.toString(), schedule.matches(tsp), is(rule.matches(tsp)));
+            assertThat(schedule.findWindow(tsp).isPresent(), is(rule.matches(tsp)));
+            tsp = tsp.plus(15, ClockUnit.MINUTES);
+        }
+
+        assertThat(
+            schedule.findWindow(PlainTimestamp.of(2016, 8, 29, 15, 0)).get(),
+            is(TimestampInterval.between(PlainTimestamp.of(2016, 8, 29, 14, 0), PlainTimestamp.of(2016, 8, 29, 19, 0))));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2016, 8, 26, 20, 0)).get(),
+            is(PlainTimestamp.of(2016, 8, 29, 9, 0))); // skips excluded saturday
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2016, 8, 29, 9, 0)).get(),
+            is(PlainTimestamp.of(2016, 8, 29, 9, 0)));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2016, 8, 30, 20, 0)).get(),
+            is(PlainTimestamp.of(2016, 8, 31, 0, 0)));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2016, 1, 1, 0, 0)).get(),
+            is(PlainTimestamp.of(2016, 1, 1, 9, 0))); // before range delegated to rule
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2016, 7, 29, 20, 0)).get(),
+            is(PlainTimestamp.of(2016, 7, 30, 10, 0)));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2016, 9, 30, 20, 0)).get(),
+            is(PlainTimestamp.of(2016, 10, 1, 10, 0))); // after last block continued by rule
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2016, 10, 3, 13, 0)).get(),
+            is(PlainTimestamp.of(2016, 10, 3, 14, 0)));
+    }
+
+    @Test
+    public void nextOpeningOutsideOfCompiledRange() {
+        List<ChronoInterval<PlainTime>> partitions =
+            Collections.singletonList(ClockInterval.between(PlainTime.of(9), PlainTime.of(17)));
+        DayPartitionRule rule =
+            date -> (
+                ((date.getYear() == 2020) && ((date.getMonth() == 1) || (date.getMonth() == 3)))
+                ? partitions
+                : Collections.emptyList());
+        DayPartitionSchedule schedule =
+            rule.compile(DateInterval.between(PlainDate.of(2020, 2, 1), PlainDate.of(2020, 2, 29)));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2019, 12, 31, 12, 0)).get(),
+            is(PlainTimestamp.of(2020, 1, 1, 9, 0)));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2020, 1, 31, 9, 0)).get(),
+            is(PlainTimestamp.of(2020, 1, 31, 9, 0)));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2020, 1, 31, 18, 0)).get(),
+            is(PlainTimestamp.of(2020, 3, 1, 9, 0)));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2020, 2, 10, 0, 0)).get(),
+            is(PlainTimestamp.of(2020, 3, 1, 9, 0)));
+        assertThat(schedule.nextOpening(PlainTimestamp.of(2020, 4, 1, 0, 0)).isPresent(), is(false));
+    }
+
+    @Test
+    public void compileOverlappingUnorderedPartitions() {
+        List<ChronoInterval<PlainTime>> partitions = new ArrayList<>();
+        partitions.add(ClockInterval.between(PlainTime.of(20), PlainTime.of(22)));
+        partitions.add(ClockInterval.between(PlainTime.of(8), PlainTime.of(18)));
+        partitions.add(ClockInterval.between(PlainTime.of(9), PlainTime.of(10)));
+        partitions.add(ClockInterval.between(PlainTime.of(17), PlainTime.of(19)));
+        DayPartitionRule rule = date -> partitions;
+        DateInterval range = DateInterval.between(PlainDate.of(2024, 1, 1), PlainDate.of(2024, 1, 31));
+        DayPartitionSchedule schedule = rule.compile(range);
+
+        PlainTimestamp tsp = PlainTimestamp.of(2023, 12, 30, 0, 0);
+        PlainTimestamp end = PlainTimestamp.of(2024, 2, 2, 0, 0);
+        while (tsp.isBefore(end)) {
+            assertThat(tsp.toString(), schedule.matches(tsp), is(rule.matches(tsp)));
+            tsp = tsp.plus(30, ClockUnit.MINUTES);
+        }
+
+        assertThat(schedule.matches(PlainTimestamp.of(2024, 1, 10, 12, 0)), is(true));
+        assertThat(
+            schedule.findWindow(PlainTimestamp.of(2024, 1, 10, 12, 0)).get(),
+            is(TimestampInterval.between(PlainTimestamp.of(2024, 1, 10, 8, 0), PlainTimestamp.of(2024, 1, 10, 19, 0))));
+        assertThat(
+            schedule.findWindow(PlainTimestamp.of(2024, 2, 10, 9, 30)).get(),
+            is(TimestampInterval.between(PlainTimestamp.of(2024, 2, 10, 8, 0), PlainTimestamp.of(2024, 2, 10, 19, 0))));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2024, 1, 10, 19, 0)).get(),
+            is(PlainTimestamp.of(2024, 1, 10, 20, 0)));
+        assertThat(
+            schedule.nextOpening(PlainTimestamp.of(2024, 1, 10, 21, 0)).get(),
+            is(PlainTimestamp.of(2024, 1, 11, 8, 0)));
+        assertThat(schedule.getPartitions(PlainDate.of(2024, 1, 10)), is(partitions));
+        assertThat(
+            range.streamPartitioned(schedule).collect(Collectors.toList()),
+            is(range.streamPartitioned(rule).collect(Collectors.toList())));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void compileInfiniteRange() {
+        DayPartitionRule rule =
+            new DayPartitionBuilder().addDailyRule(ClockInterval.between(PlainTime.of(9), PlainTime.of(17))).build();
+        rule.compile(DateInterval.since(PlainDate.of(2016, 1, 1)));
+    }
+
 }
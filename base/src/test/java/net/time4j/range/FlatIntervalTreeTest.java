@@ -0,0 +1,162 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class FlatIntervalTreeTest {
+
+    @Test
+    public void dateAxisLikeIntervalTree() {
+        Random random = new Random(7);
+        List<DateInterval> intervals = new ArrayList<>();
+        PlainDate base = PlainDate.of(2020, 1, 1);
+        for (int i = 0; i < 2000; i++) {
+            PlainDate start = base.plus(random.nextInt(1000), CalendarUnit.DAYS);
+            PlainDate end = start.plus(random.nextInt(30), CalendarUnit.DAYS);
+            intervals.add(vary(DateInterval.between(start, end), DateInterval.since(start), DateInterval.until(end), random));
+        }
+        IntervalTree<PlainDate, DateInterval> expected = IntervalTree.onDateAxis(intervals);
+        FlatIntervalTree<PlainDate, DateInterval> flat = FlatIntervalTree.onDateAxis(intervals);
+        assertThat(flat.size(), is(expected.size()));
+        assertThat(new ArrayList<>(flat), is(new ArrayList<>(expected)));
+
+        for (int i = 0; i < 500; i++) {
+            PlainDate p = base.plus(random.nextInt(1100) - 50, CalendarUnit.DAYS);
+            assertThat(flat.findIntersections(p), is(expected.findIntersections(p)));
+            assertThat(flat.countIntersections(p), is(expected.findIntersections(p).size()));
+            DateInterval query =
+                vary(DateInterval.between(p, p.plus(random.nextInt(10), CalendarUnit.DAYS)),
+                    DateInterval.since(p), DateInterval.until(p), random);
+            assertThat(flat.findIntersections(query), is(expected.findIntersections(query)));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            DateInterval interval = intervals.get(random.nextInt(intervals.size()));
+            assertThat(flat.contains(interval), is(expected.contains(interval)));
+        }
+        DateInterval absent = DateInterval.between(PlainDate.of(1900, 1, 1), PlainDate.of(1900, 1, 2));
+        assertThat(flat.contains(absent), is(false));
+        assertThat(flat.findIntersections(PlainDate.axis().getMaximum()), is(expected.findIntersections(PlainDate.axis().getMaximum())));
+    }
+
+    @Test
+    public void timestampAxisLikeIntervalTree() {
+        Random random = new Random(11);
+        List<TimestampInterval> intervals = new ArrayList<>();
+        PlainTimestamp base = PlainTimestamp.of(2020, 1, 1, 0, 0);
+        for (int i = 0; i < 2000; i++) {
+            PlainTimestamp start = base.plus(random.nextInt(100000), ClockUnit.SECONDS);
+            PlainTimestamp end = start.plus(random.nextInt(5000) + 1, ClockUnit.SECONDS);
+            intervals.add(
+                vary(TimestampInterval.between(start, end), TimestampInterval.since(start), TimestampInterval.until(end), random));
+        }
+        IntervalTree<PlainTimestamp, TimestampInterval> expected = IntervalTree.onTimestampAxis(intervals);
+        FlatIntervalTree<PlainTimestamp, TimestampInterval> flat = FlatIntervalTree.onTimestampAxis(intervals);
+        assertThat(new ArrayList<>(flat), is(new ArrayList<>(expected)));
+
+        for (int i = 0; i < 500; i++) {
+            PlainTimestamp p = base.plus(random.nextInt(110000) - 5000, ClockUnit.SECONDS);
+            assertThat(flat.findIntersections(p), is(expected.findIntersections(p)));
+            TimestampInterval query =
+                vary(TimestampInterval.between(p, p.plus(random.nextInt(100) + 1, ClockUnit.SECONDS)),
+                    TimestampInterval.since(p), TimestampInterval.until(p), random);
+            assertThat(flat.findIntersections(query), is(expected.findIntersections(query)));
+        }
+
+        PlainTimestamp far = PlainTimestamp.of(3000, 1, 1, 0, 0);
+        assertThat(flat.findIntersections(far), is(expected.findIntersections(far)));
+        TimestampInterval farQuery = TimestampInterval.since(far).withOpenStart();
+        assertThat(flat.findIntersections(farQuery), is(expected.findIntersections(farQuery)));
+        PlainTimestamp early = PlainTimestamp.of(1000, 1, 1, 0, 0);
+        assertThat(flat.findIntersections(early), is(expected.findIntersections(early)));
+        TimestampInterval earlyQuery = TimestampInterval.until(early);
+        assertThat(flat.findIntersections(earlyQuery), is(expected.findIntersections(earlyQuery)));
+    }
+
+    @Test
+    public void momentAxisWithLeapSecond() {
+        Moment leap = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        MomentInterval before = MomentInterval.between(leap.minus(10, SI.SECONDS), leap);
+        MomentInterval within = MomentInterval.between(leap, leap.plus(1, SI.SECONDS));
+        MomentInterval after = MomentInterval.since(leap.plus(1, SI.SECONDS));
+        MomentInterval closed = MomentInterval.between(leap.minus(10, SI.SECONDS), leap.minus(1, SI.NANOSECONDS)).withClosedEnd();
+        List<MomentInterval> intervals = Arrays.asList(after, within, before, closed);
+        IntervalTree<Moment, MomentInterval> expected = IntervalTree.onMomentAxis(intervals);
+        FlatIntervalTree<Moment, MomentInterval> flat = FlatIntervalTree.onMomentAxis(intervals);
+        assertThat(new ArrayList<>(flat), is(new ArrayList<>(expected)));
+
+        for (long delta = -3; delta <= 3; delta++) {
+            Moment p = leap.plus(delta * 500_000_000, SI.NANOSECONDS);
+            assertThat(flat.findIntersections(p), is(expected.findIntersections(p)));
+        }
+        Moment m = Moment.of(0, TimeScale.POSIX);
+        assertThat(flat.findIntersections(m), is(expected.findIntersections(m)));
+        assertThat(flat.contains(within), is(true));
+    }
+
+    @Test
+    public void visitor() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+        DateInterval i3 = DateInterval.between(PlainDate.of(2014, 6, 15), PlainDate.of(2014, 6, 30));
+        FlatIntervalTree<PlainDate, DateInterval> tree = FlatIntervalTree.onDateAxis(Arrays.asList(i3, i1, i2));
+        List<DateInterval> visited = new ArrayList<>();
+        tree.accept(interval -> !visited.add(interval) || (interval == i2));
+        assertThat(visited, is(Arrays.asList(i1, i2)));
+    }
+
+    @Test
+    public void emptyTree() {
+        FlatIntervalTree<PlainDate, DateInterval> tree =
+            FlatIntervalTree.onDateAxis(
+                Arrays.asList(DateInterval.atomic(PlainDate.of(2014, 2, 28)).withOpenEnd()));
+        assertThat(tree.isEmpty(), is(true));
+        assertThat(tree.findIntersections(PlainDate.of(2014, 2, 28)).isEmpty(), is(true));
+        assertThat(tree.countIntersections(PlainDate.of(2014, 2, 28)), is(0));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void timestampOutOfPackedRange() {
+        FlatIntervalTree.onTimestampAxis(
+            Arrays.asList(TimestampInterval.since(PlainTimestamp.of(2300, 1, 1, 0, 0))));
+    }
+
+    private static <I extends IsoInterval<?, I>> I vary(
+        I between,
+        I since,
+        I until,
+        Random random
+    ) {
+        switch (random.nextInt(8)) {
+            case 0:
+                return since;
+            case 1:
+                return until;
+            case 2:
+                return between.withOpenEnd();
+            case 3:
+                return between.withOpenStart();
+            default:
+                return between;
+        }
+    }
+
+}
@@ -10,6 +10,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -269,4 +270,52 @@ public class HolidayTest {
         assertThat(hm.isBusinessDay(PlainDate.of(2017, 2, 4)), is(false));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void cachedSameAsModel() {
+        AtomicInteger calls = new AtomicInteger();
+        HolidayModel model =
+            date -> {
+                calls.incrementAndGet();
+                return HolidayModel.ofSaturdayOrSunday().test(date)
+                    || ((date.getMonth() == 1) && (date.getDayOfMonth() <= 2))
+                    || ((date.getMonth() == 12) && (date.getDayOfMonth() >= 30));
+            };
+        HolidayModel cached = model.cached(2015, 2020);
+        for (PlainDate date = PlainDate.of(2014, 12, 1); date.getYear() < 2022; date = date.plus(1, CalendarUnit.DAYS)) {
+            assertThat(cached.test(date), is(model.test(date)));
+            assertThat(date.with(cached.nextBusinessDay()), is(date.with(model.nextBusinessDay())));
+            assertThat(date.with(cached.previousBusinessDay()), is(date.with(model.previousBusinessDay())));
+            assertThat(date.with(cached.nextOrSameBusinessDay()), is(date.with(model.nextOrSameBusinessDay())));
+            assertThat(
+                date.with(cached.previousOrSameBusinessDay()),
+                is(date.with(model.previousOrSameBusinessDay())));
+        }
+        HolidayModel fresh = model.cached(2015, 2020);
+        calls.set(0);
+        for (int i = 0; i < 3; i++) {
+            fresh.test(PlainDate.of(2016, 5, 1));
+            fresh.test(PlainDate.of(2016, 12, 31));
+        }
+        assertThat(calls.get(), is(366));
+        assertThat(fresh.cached(2016, 2017), is(fresh));
+    }
+
+    @Test
+    public void cachedInParallel() {
+        HolidayModel model = HolidayModel.ofWeekend(Locale.ROOT);
+        HolidayModel cached = model.cached(1900, 2100);
+        long expected =
+            DateInterval.between(PlainDate.of(1900, 1, 1), PlainDate.of(2100, 12, 31)).streamDaily()
+                .filter(model::isBusinessDay).count();
+        long actual =
+            DateInterval.between(PlainDate.of(1900, 1, 1), PlainDate.of(2100, 12, 31)).streamDaily()
+                .parallel().filter(cached::isBusinessDay).count();
+        assertThat(actual, is(expected));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void cachedWithReversedYears() {
+        HolidayModel.ofSaturdayOrSunday().cached(2020, 2015);
+    }
+
+}
@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static net.time4j.ClockUnit.NANOS;
 import static org.hamcrest.CoreMatchers.is;
@@ -1284,4 +1285,60 @@ public class IntervalCollectionTest {
         assertThat(icoll.size(), is(2));
     }
 
+    @Test
+    public void builderSameAsPlus() {
+        Random random = new Random(1234);
+        IntervalCollection<PlainDate> expected = IntervalCollection.onDateAxis();
+        IntervalCollection.Builder<PlainDate> builder = IntervalCollection.onDateAxis().toBuilder();
+        PlainDate base = PlainDate.of(2020, 1, 1);
+        for (int i = 0; i < 500; i++) {
+            PlainDate start = base.plus(random.nextInt(200), net.time4j.CalendarUnit.DAYS);
+            DateInterval interval = DateInterval.between(start, start.plus(random.nextInt(5), net.time4j.CalendarUnit.DAYS));
+            if (random.nextBoolean()) {
+                interval = interval.withOpenEnd();
+            }
+            expected = expected.plus(interval);
+            builder.add(interval);
+        }
+        assertThat(builder.size(), is(expected.size()));
+        assertThat(builder.build().getIntervals(), is(expected.getIntervals()));
+        assertThat(builder.build(), is(expected));
+    }
+
+    @Test
+    public void builderRemove() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 6, 1)).withOpenEnd();
+        DateInterval i3 = DateInterval.between(PlainDate.of(2014, 4, 30), PlainDate.of(2014, 6, 1));
+        IntervalCollection.Builder<PlainDate> builder =
+            IntervalCollection.onDateAxis().plus(i3).toBuilder().add(i1).add(i2).add(i1);
+        assertThat(builder.build().getIntervals(), is(Arrays.asList(i1, i2, i1, i3)));
+        assertThat(builder.remove(i1), is(true));
+        assertThat(builder.build().getIntervals(), is(Arrays.asList(i2, i1, i3)));
+        assertThat(builder.remove(i2), is(true));
+        assertThat(builder.remove(i2), is(false));
+        assertThat(builder.remove(DateInterval.between(PlainDate.of(2014, 3, 1), PlainDate.of(2014, 3, 2))), is(false));
+        IntervalCollection<PlainDate> snapshot = builder.build();
+        assertThat(builder.remove(i3), is(true));
+        assertThat(builder.size(), is(1));
+        assertThat(snapshot.getIntervals(), is(Arrays.asList(i1, i3)));
+        assertThat(builder.build().getIntervals(), is(Collections.<ChronoInterval<PlainDate>>singletonList(i1)));
+    }
+
+    @Test
+    public void builderAdjustsOpenStartAndIgnoresEmpty() {
+        ClockInterval ci = ClockInterval.between(PlainTime.of(10), PlainTime.of(12));
+        IntervalCollection<PlainTime> icoll =
+            IntervalCollection.onClockAxis().toBuilder()
+                .add(ci.withOpenStart())
+                .add(ClockInterval.between(PlainTime.of(10), PlainTime.of(10)))
+                .addAll(Arrays.asList(ci, ci))
+                .build();
+        assertThat(icoll, is(IntervalCollection.onClockAxis().plus(ci.withOpenStart()).plus(ci).plus(ci)));
+        assertThat(icoll.size(), is(3));
+        IntervalCollection.Builder<PlainTime> builder = icoll.toBuilder();
+        assertThat(builder.remove(ci.withOpenStart()), is(true));
+        assertThat(builder.size(), is(2));
+    }
+
 }
@@ -416,4 +416,79 @@ public class IsoRecurrenceTest {
         assertThat(recurrence.intervalStream().parallel().collect(Collectors.toList()), is(expected));
     }
 
+    @Test
+    public void getByIndex() {
+        List<IsoRecurrence<?>> recurrences = new ArrayList<>();
+        recurrences.add(IsoRecurrence.of(50, PlainDate.of(2016, 1, 31), Duration.of(1, CalendarUnit.MONTHS)));
+        recurrences.add(IsoRecurrence.of(50, PlainDate.of(2016, 1, 15), Duration.of(1, CalendarUnit.MONTHS)));
+        recurrences.add(IsoRecurrence.of(50, Duration.of(10, CalendarUnit.DAYS), PlainDate.of(2016, 1, 31)));
+        recurrences.add(
+            IsoRecurrence.of(
+                50,
+                Duration.of(1, CalendarUnit.MONTHS.keepingEndOfMonth()),
+                PlainDate.of(2016, 4, 30)));
+        recurrences.add(
+            IsoRecurrence.of(
+                50,
+                PlainTimestamp.of(2016, 1, 27, 23, 0),
+                Duration.ofPositive().months(1).days(1).hours(2).build()));
+        recurrences.add(
+            IsoRecurrence.of(
+                50,
+                Duration.ofPositive().days(1).hours(7).build(),
+                PlainTimestamp.of(2016, 7, 1, 10, 15)));
+        recurrences.add(
+            IsoRecurrence.of(
+                50,
+                PlainTimestamp.of(2016, 7, 1, 10, 15).atUTC(),
+                Duration.ofPositive().years(1).months(2).build(),
+                ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2)));
+
+        for (IsoRecurrence<?> recurrence : recurrences) {
+            int n = 0;
+            for (Object interval : recurrence) {
+                assertThat(recurrence.toString(), recurrence.get(n), is(interval));
+                n++;
+            }
+            assertThat(n, is(50));
+        }
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getAfterEnd() {
+        IsoRecurrence.of(4, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS)).get(4);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getNegativeIndex() {
+        IsoRecurrence.of(4, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS)).withInfiniteCount().get(-1);
+    }
+
+    @Test
+    public void parallelIntervalStream() {
+        IsoRecurrence<TimestampInterval> recurrence =
+            IsoRecurrence.of(
+                10000,
+                PlainTimestamp.of(2016, 7, 1, 10, 15),
+                Duration.ofPositive().days(1).hours(12).build());
+        List<TimestampInterval> expected = new ArrayList<>();
+        for (TimestampInterval interval : recurrence) {
+            expected.add(interval);
+        }
+        assertThat(recurrence.intervalStream().parallel().collect(Collectors.toList()), is(expected));
+        assertThat(recurrence.intervalStream().parallel().count(), is(10000L));
+        assertThat(recurrence.intervalStream().skip(9999).findFirst().get(), is(recurrence.get(9999)));
+
+        IsoRecurrence<DateInterval> endOfMonth =
+            IsoRecurrence.of(
+                500,
+                Duration.of(1, CalendarUnit.MONTHS.keepingEndOfMonth()),
+                PlainDate.of(2016, 4, 30));
+        List<DateInterval> months = new ArrayList<>();
+        for (DateInterval interval : endOfMonth) {
+            months.add(interval);
+        }
+        assertThat(endOfMonth.intervalStream().parallel().collect(Collectors.toList()), is(months));
+    }
+
 }
@@ -14,6 +14,7 @@ import org.junit.runners.Suite.SuiteClasses;
         BasicClockRangeTest.class,
         BasicTimestampRangeTest.class,
         BoundaryTest.class,
+        BusinessCalendarTest.class,
         CalendarMonthTest.class,
         CalendarPeriodTest.class,
         CalendarQuarterTest.class,
@@ -23,6 +24,7 @@ import org.junit.runners.Suite.SuiteClasses;
         ComparatorTest.class,
         DateIntervalFormatTest.class,
         DayPartitionTest.class,
+        FlatIntervalTreeTest.class,
         HolidayTest.class,
         IntervalCollectionTest.class,
         IntervalTreeTest.class,
@@ -1,5 +1,6 @@
 package net.time4j.scale;
 
+import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
@@ -11,6 +12,7 @@ import org.junit.runners.JUnit4;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -128,6 +130,43 @@ public class LeapSecondTest {
         assertThat(instance.getShift(UTC_2012_06_30_LS - 1), is(0));
     }
 
+    @Test
+    public void enhanceAndStripBulk() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        List<Long> values = new ArrayList<>();
+        values.add(-UTC_OFFSET - 1L);
+        values.add(0L);
+        for (LeapSecondEvent lse : instance) {
+            long unix = PlainDate.of(lse.getDate().getYear(), lse.getDate().getMonth(), lse.getDate().getDayOfMonth())
+                .atStartOfDay().plus(1, CalendarUnit.DAYS).atUTC().getPosixTime();
+            for (int delta = -3; delta <= 3; delta++) {
+                values.add(unix + delta);
+            }
+        }
+        values.add(Long.valueOf(5000000000L));
+        long[] unixTimes = values.stream().mapToLong(Long::longValue).toArray();
+        long[] utcs = new long[unixTimes.length];
+        instance.enhance(unixTimes, utcs);
+        for (int i = 0; i < unixTimes.length; i++) {
+            assertThat(utcs[i], is(instance.enhance(unixTimes[i])));
+        }
+        long[] stripped = new long[utcs.length];
+        for (int i = 0; i < utcs.length; i++) {
+            utcs[i] += (i % 3) - 1; // also probe leap seconds themselves
+        }
+        instance.strip(utcs, stripped);
+        for (int i = 0; i < utcs.length; i++) {
+            assertThat(stripped[i], is(instance.strip(utcs[i])));
+        }
+        instance.enhance(unixTimes, unixTimes); // in place
+        assertThat(unixTimes[unixTimes.length - 1], is(instance.enhance(5000000000L)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void enhanceBulkWithShortTarget() {
+        LeapSeconds.getInstance().enhance(new long[2], new long[1]);
+    }
+
     @Test
     public void isPositiveLS() {
         LeapSeconds instance = LeapSeconds.getInstance();
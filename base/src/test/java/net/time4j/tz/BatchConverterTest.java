@@ -0,0 +1,145 @@
+package net.time4j.tz;
+
+import net.time4j.Moment;
+import net.time4j.Month;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.base.GregorianMath;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.model.DaylightSavingRule;
+import net.time4j.tz.model.GregorianTimezoneRule;
+import net.time4j.tz.model.OffsetIndicator;
+import net.time4j.tz.model.TransitionModel;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BatchConverterTest {
+
+    private static final long MIN = -2208988800L; // 1900-01-01
+    private static final long MAX = 4133980799L; // 2100-12-31
+
+    @Test
+    public void historizedZoneUnsorted() {
+        check(createZone(), randomPosix(false), null);
+    }
+
+    @Test
+    public void historizedZoneSorted() {
+        check(createZone(), randomPosix(true), randomNanos());
+    }
+
+    @Test
+    public void platformZone() {
+        check(Timezone.of("java.util.TimeZone~America/New_York"), randomPosix(true), null);
+    }
+
+    @Test
+    public void fractionalFixedOffset() {
+        Timezone tz = Timezone.of(ZonalOffset.atLongitude(new BigDecimal("-10.45")));
+        check(tz, randomPosix(false), randomNanos());
+    }
+
+    @Test
+    public void negativeFractionalOffsetFloorsLocalSecond() {
+        ZonalOffset offset = ZonalOffset.atLongitude(new BigDecimal("-0.0001")); // -0.024 seconds
+        long[] dates = new long[1];
+        int[] secondsOfDay = new int[1];
+        int[] offsets = new int[1];
+        BatchConverter.of(Timezone.of(offset)).toLocal(new long[] {0L}, dates, secondsOfDay, offsets);
+        assertThat(offset.getIntegralAmount(), is(0));
+        assertThat(offset.getFractionalAmount(), is(-24000000));
+        assertThat(GregorianMath.readYear(dates[0]), is(1969));
+        assertThat(GregorianMath.readMonth(dates[0]), is(12));
+        assertThat(GregorianMath.readDayOfMonth(dates[0]), is(31));
+        assertThat(secondsOfDay[0], is(86399));
+        assertThat(offsets[0], is(-1)); // floored, truncation would yield zero and 1970-01-01T00:00:00
+        PlainTimestamp tsp = Moment.UNIX_EPOCH.toZonalTimestamp(offset); // 23:59:59.976
+        assertThat(tsp.get(PlainTime.SECOND_OF_DAY), is(secondsOfDay[0]));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void targetTooShort() {
+        BatchConverter.of(Timezone.of(ZonalOffset.UTC)).toLocal(new long[2], new long[2], new int[1], null);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void nanosOutOfRange() {
+        BatchConverter.of(Timezone.of(ZonalOffset.UTC)).toLocal(
+            new long[1], new int[] {-1}, new long[1], new int[1], new int[1], null);
+    }
+
+    private static void check(
+        Timezone tz,
+        long[] posix,
+        int[] nanos
+    ) {
+        int n = posix.length;
+        long[] dates = new long[n];
+        int[] secondsOfDay = new int[n];
+        int[] nanosOfSecond = new int[n];
+        int[] offsets = new int[n];
+        BatchConverter.of(tz).toLocal(posix, nanos, dates, secondsOfDay, nanosOfSecond, offsets);
+
+        for (int i = 0; i < n; i++) {
+            Moment moment = Moment.of(posix[i], (nanos == null) ? 0 : nanos[i], TimeScale.POSIX);
+            ZonalOffset offset = tz.getOffset(moment);
+            PlainTimestamp expected = moment.toZonalTimestamp(offset);
+            assertThat(GregorianMath.readYear(dates[i]), is(expected.getYear()));
+            assertThat(GregorianMath.readMonth(dates[i]), is(expected.getMonth()));
+            assertThat(GregorianMath.readDayOfMonth(dates[i]), is(expected.getDayOfMonth()));
+            assertThat(secondsOfDay[i], is(expected.get(PlainTime.SECOND_OF_DAY)));
+            assertThat(nanosOfSecond[i], is(expected.getNanosecond()));
+            assertThat(offsets[i], is(offset.getIntegralAmount()));
+        }
+    }
+
+    private static Timezone createZone() {
+        ZonalOffset std = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1);
+        List<ZonalTransition> transitions = Arrays.asList(
+            new ZonalTransition(-1693706400L, 3600, 7200, 3600), // 1916-04-30
+            new ZonalTransition(-1680483600L, 7200, 3600, 0), // 1916-10-01
+            new ZonalTransition(-938905200L, 3600, 7200, 3600), // 1940-04-01
+            new ZonalTransition(-857257200L, 7200, 3600, 0)); // 1942-11-02
+        List<DaylightSavingRule> rules = Arrays.asList(
+            GregorianTimezoneRule.ofLastWeekday(
+                Month.MARCH, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 3600),
+            GregorianTimezoneRule.ofLastWeekday(
+                Month.OCTOBER, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 0));
+        return Timezone.of("Test/Batch", TransitionModel.of(std, transitions, rules));
+    }
+
+    private static long[] randomPosix(boolean sorted) {
+        Random random = new Random(4711L);
+        long[] values = new long[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = MIN + (long) (random.nextDouble() * (MAX - MIN));
+        }
+        if (sorted) {
+            Arrays.sort(values);
+        }
+        return values;
+    }
+
+    private static int[] randomNanos() {
+        Random random = new Random(815L);
+        int[] values = new int[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1_000_000_000);
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,84 @@
+package net.time4j.tz;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TimezoneCacheTest {
+
+    private static final String[] ZONES = {
+        "Europe/Berlin", "Europe/Paris", "Europe/London", "America/New_York", "America/Chicago",
+        "Asia/Tokyo", "Asia/Kolkata", "Australia/Sydney", "Africa/Cairo", "Pacific/Auckland"
+    };
+
+    @After
+    public void restore() {
+        Timezone.Cache.setMinimumCacheSize(10);
+        Timezone.Cache.setMaximumCacheSize(1024);
+        Timezone.Cache.refresh();
+    }
+
+    @Test
+    public void hitsAndMisses() {
+        Timezone.Cache.refresh();
+        Timezone.Cache.resetStatistics();
+        int size = Timezone.Cache.getSize(); // maybe including the system timezone
+        Timezone tz = Timezone.of("Europe/Berlin");
+        assertThat(Timezone.Cache.getMissCount(), is(1L));
+        assertThat(Timezone.Cache.getHitCount(), is(0L));
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(tz));
+        assertThat(Timezone.Cache.getMissCount(), is(1L));
+        assertThat(Timezone.Cache.getHitCount(), is(1L));
+        assertThat(Timezone.Cache.getSize(), is(size + 1));
+        Timezone.Cache.resetStatistics();
+        assertThat(Timezone.Cache.getHitCount(), is(0L));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        Timezone.Cache.refresh();
+        Timezone.Cache.setMinimumCacheSize(0);
+        Timezone.Cache.setMaximumCacheSize(4);
+        Timezone.Cache.resetStatistics();
+        Timezone berlin = Timezone.of(ZONES[0]);
+
+        for (int i = 1; i < ZONES.length; i++) {
+            assertThat(Timezone.of(ZONES[0]), sameInstance(berlin)); // keeps Berlin recently used
+            Timezone.of(ZONES[i]);
+            assertThat(Timezone.Cache.getSize() <= 4, is(true));
+        }
+
+        assertThat(Timezone.Cache.getEvictionCount() > 0, is(true));
+        long misses = Timezone.Cache.getMissCount();
+        assertThat(Timezone.of(ZONES[0]), sameInstance(berlin));
+        assertThat(Timezone.Cache.getMissCount(), is(misses));
+    }
+
+    @Test
+    public void minimumRaisesMaximum() {
+        Timezone.Cache.setMinimumCacheSize(0);
+        Timezone.Cache.setMaximumCacheSize(5);
+        Timezone.Cache.setMinimumCacheSize(8);
+        Timezone.Cache.refresh();
+
+        for (String zone : ZONES) {
+            Timezone.of(zone);
+        }
+
+        assertThat(Timezone.Cache.getSize(), is(8));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void maximumSmallerThanMinimum() {
+        Timezone.Cache.setMinimumCacheSize(20);
+        Timezone.Cache.setMaximumCacheSize(19);
+    }
+
+}
@@ -8,10 +8,12 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses(
     {
+        BatchConverterTest.class,
         DatelineBorderTest.class,
         OffsetTest.class,
         PlatformTimezoneTest.class,
         ProviderRegistrationTest.class,
+        TimezoneCacheTest.class,
         TZIDTest.class
     }
 )
@@ -16,9 +16,12 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -355,6 +358,76 @@ public class ArrayTransitionModelTest {
         assertThat(MODEL.isEmpty(), is(false));
     }
 
+    @Test
+    public void indexedSearchWithManyTransitions() {
+        checkIndexedSearch(buildSemiAnnualModel(-3786825600L, 500), -3800000000L, 5000000000L); // 1850-2100
+    }
+
+    @Test
+    public void binarySearchWithHugeTimeSpan() {
+        List<ZonalTransition> list = new ArrayList<>();
+        list.add(new ZonalTransition(-(1L << 50), 0, 3600, 0));
+        list.add(new ZonalTransition(1L << 50, 3600, 0, 0));
+        TransitionHistory model = new ArrayTransitionModel(list);
+        checkIndexedSearch(model, -(1L << 51), 1L << 51);
+    }
+
+    private static TransitionHistory buildSemiAnnualModel(
+        long start,
+        int count
+    ) {
+        List<ZonalTransition> list = new ArrayList<>(count);
+        int previous = 3600;
+        for (int i = 0; i < count; i++) {
+            boolean summer = ((i % 2) == 0);
+            int total = summer ? 7200 : 3600;
+            list.add(new ZonalTransition(start + i * 15778800L, previous, total, summer ? 3600 : 0));
+            previous = total;
+        }
+        return new ArrayTransitionModel(list);
+    }
+
+    private static void checkIndexedSearch(
+        TransitionHistory model,
+        long min,
+        long max
+    ) {
+        List<ZonalTransition> all = model.getTransitions(new UT(Long.MIN_VALUE / 2), new UT(Long.MAX_VALUE / 2));
+        Random random = new Random(12345L);
+
+        for (int k = 0; k < 20000; k++) {
+            long t = min + (long) (random.nextDouble() * (max - min));
+            if ((k % 10) == 0) { // exactly at or next to a transition
+                t = all.get(random.nextInt(all.size())).getPosixTime() + random.nextInt(3) - 1;
+            }
+
+            ZonalTransition expected = null;
+            for (ZonalTransition zt : all) {
+                if (zt.getPosixTime() <= t) {
+                    expected = zt;
+                }
+            }
+            assertThat(model.findStartTransition(new UT(t)).orElse(null), is(expected));
+
+            PlainTimestamp tsp = Moment.of(t, TimeScale.POSIX).toZonalTimestamp(ZonalOffset.UTC);
+            List<ZonalOffset> offsets = new ArrayList<>();
+            for (int total : new int[] {0, 3600, 7200}) {
+                Optional<ZonalTransition> start = model.findStartTransition(new UT(t - total));
+                int actual = start.isPresent() ? start.get().getTotalOffset() : model.getInitialOffset().getIntegralAmount();
+                if (actual == total) {
+                    offsets.add(ZonalOffset.ofTotalSeconds(total));
+                }
+            }
+            List<ZonalOffset> valid = model.getValidOffsets(tsp.getCalendarDate(), tsp.getWallTime());
+            assertThat(new ArrayList<>(valid), is(sorted(offsets)));
+        }
+    }
+
+    private static List<ZonalOffset> sorted(List<ZonalOffset> offsets) {
+        Collections.sort(offsets);
+        return offsets;
+    }
+
     // Hilfsklasse
     private static class UT implements UnixTime {
 
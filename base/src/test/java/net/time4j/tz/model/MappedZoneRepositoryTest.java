@@ -0,0 +1,229 @@
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.base.UnixTime;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MappedZoneRepositoryTest {
+
+    private static ZoneModelProvider source;
+    private static MappedZoneRepository repository;
+
+    @BeforeClass
+    public static void init() throws IOException {
+        source = new JdkZoneProviderSPI();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        MappedZoneRepository.write(source, baos);
+        repository = MappedZoneRepository.of(ByteBuffer.wrap(baos.toByteArray()));
+    }
+
+    @Test
+    public void header() {
+        assertThat(repository.getName(), is(source.getName()));
+        assertThat(repository.getVersion(), is(source.getVersion()));
+        assertThat(repository.getAliases(), is(source.getAliases()));
+        assertThat(repository.getAvailableIDs(), is(source.getAvailableIDs()));
+        assertThat(repository.getFallback(), is(""));
+        assertThat(repository.load("Unknown/Zone"), nullValue());
+    }
+
+    @Test
+    public void lazyView() {
+        assertThat(repository.load("Europe/Berlin"), instanceOf(MappedTransitionModel.class));
+        assertThat(repository.load("Asia/Kolkata"), instanceOf(MappedTransitionModel.class));
+    }
+
+    @Test
+    public void sameBehaviourAsSource() {
+        for (String zoneID : source.getAvailableIDs()) {
+            compare(zoneID, source.load(zoneID), repository.load(zoneID));
+        }
+    }
+
+    @Test
+    public void openMappedFile() throws IOException {
+        Path file = Files.createTempFile("time4j-zones", ".tzm");
+        try {
+            MappedZoneRepository.write(source, file);
+            MappedZoneRepository mapped = MappedZoneRepository.open(file);
+            assertThat(mapped.getLocation(), is(file.toString()));
+            for (String zoneID : Arrays.asList("Europe/Berlin", "America/New_York", "Australia/Sydney", "UTC")) {
+                compare(zoneID, source.load(zoneID), mapped.load(zoneID));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void rewriteMappedRepository() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        MappedZoneRepository.write(repository, baos);
+        MappedZoneRepository copy = MappedZoneRepository.of(ByteBuffer.wrap(baos.toByteArray()));
+        assertThat(copy.load("Europe/London"), is(repository.load("Europe/London")));
+        assertThat(copy.load("Europe/London").hashCode(), is(repository.load("Europe/London").hashCode()));
+    }
+
+    @Test
+    public void ruleBasedAndEmptyModels() throws IOException {
+        ZonalOffset std = ZonalOffset.ofHours(net.time4j.tz.OffsetSign.AHEAD_OF_UTC, 1);
+        List<DaylightSavingRule> rules =
+            Arrays.asList(
+                GregorianTimezoneRule.ofLastWeekday(
+                    net.time4j.Month.MARCH, net.time4j.Weekday.SUNDAY, 1 * 3600, OffsetIndicator.UTC_TIME, 3600),
+                GregorianTimezoneRule.ofLastWeekday(
+                    net.time4j.Month.OCTOBER, net.time4j.Weekday.SUNDAY, 1 * 3600, OffsetIndicator.UTC_TIME, 0));
+        TransitionHistory ruleBased = TransitionModel.of(std, rules);
+        TransitionHistory empty = TransitionModel.of(std, Collections.emptyList());
+        ZoneModelProvider custom = new CustomProvider(ruleBased, empty);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        MappedZoneRepository.write(custom, baos);
+        MappedZoneRepository copy = MappedZoneRepository.of(ByteBuffer.wrap(baos.toByteArray()));
+
+        assertThat(copy.load("Test/Rules"), is(ruleBased));
+        assertThat(copy.load("Test/Empty").isEmpty(), is(empty.isEmpty()));
+        assertThat(copy.load("Test/Empty").getInitialOffset(), is(empty.getInitialOffset()));
+        compare("Test/Rules", ruleBased, copy.load("Test/Rules"));
+    }
+
+    @Test
+    public void serialization() throws IOException, ClassNotFoundException {
+        for (String zoneID : Arrays.asList("Europe/Berlin", "Asia/Kolkata", "America/Sao_Paulo")) {
+            TransitionHistory history = repository.load(zoneID);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                oos.writeObject(history);
+            }
+            Object ser;
+            try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+                ser = ois.readObject();
+            }
+            assertThat(ser, is(source.load(zoneID)));
+        }
+    }
+
+    private static void compare(
+        String zoneID,
+        TransitionHistory expected,
+        TransitionHistory actual
+    ) {
+        assertThat(zoneID, actual.getInitialOffset(), is(expected.getInitialOffset()));
+        assertThat(zoneID, actual.isEmpty(), is(expected.isEmpty()));
+        assertThat(zoneID, actual.getStdTransitions(), is(expected.getStdTransitions()));
+        if (expected instanceof TransitionModel) {
+            assertThat(
+                zoneID,
+                ((TransitionModel) actual).hasNegativeDST(),
+                is(((TransitionModel) expected).hasNegativeDST()));
+        }
+
+        UnixTime start = Moment.of(-5000000000L, TimeScale.POSIX);
+        UnixTime end = Moment.of(6000000000L, TimeScale.POSIX);
+        List<ZonalTransition> all = expected.getTransitions(start, end);
+        assertThat(zoneID, actual.getTransitions(start, end), is(all));
+
+        for (ZonalTransition zt : all) {
+            for (long delta = -3601; delta <= 3601; delta += 1800) {
+                UnixTime ut = Moment.of(zt.getPosixTime() + delta, TimeScale.POSIX);
+                assertThat(zoneID, actual.getStartTransition(ut), is(expected.getStartTransition(ut)));
+                assertThat(zoneID, actual.findNextTransition(ut), is(expected.findNextTransition(ut)));
+                UnixTime ut2 = Moment.of(zt.getPosixTime() + delta + 86400 * 10, TimeScale.POSIX);
+                assertThat(zoneID, actual.getTransitions(ut, ut2), is(expected.getTransitions(ut, ut2)));
+                long local = zt.getPosixTime() + zt.getPreviousOffset() + delta;
+                PlainDate date = PlainDate.of(Math.floorDiv(local, 86400), net.time4j.engine.EpochDays.UNIX);
+                PlainTime time = PlainTime.midnightAtStartOfDay().plus(Math.floorMod(local, 86400), net.time4j.ClockUnit.SECONDS);
+                assertThat(zoneID, actual.getValidOffsets(date, time), is(expected.getValidOffsets(date, time)));
+                assertThat(zoneID, actual.getConflictTransition(date, time), is(expected.getConflictTransition(date, time)));
+            }
+        }
+
+        UnixTime ut = Moment.of(-10000000000L, TimeScale.POSIX);
+        assertThat(zoneID, actual.getStartTransition(ut), is(expected.getStartTransition(ut)));
+        assertThat(zoneID, actual.findNextTransition(ut), is(expected.findNextTransition(ut)));
+    }
+
+    private static class CustomProvider
+        implements ZoneModelProvider {
+
+        private final TransitionHistory ruleBased;
+        private final TransitionHistory empty;
+
+        CustomProvider(
+            TransitionHistory ruleBased,
+            TransitionHistory empty
+        ) {
+            this.ruleBased = ruleBased;
+            this.empty = empty;
+        }
+
+        @Override
+        public Set<String> getAvailableIDs() {
+            return new java.util.HashSet<>(Arrays.asList("Test/Rules", "Test/Empty"));
+        }
+
+        @Override
+        public Map<String, String> getAliases() {
+            return Collections.singletonMap("TR", "Test/Rules");
+        }
+
+        @Override
+        public TransitionHistory load(String zoneID) {
+            return (zoneID.equals("Test/Rules") ? this.ruleBased : this.empty);
+        }
+
+        @Override
+        public String getFallback() {
+            return "";
+        }
+
+        @Override
+        public String getName() {
+            return "TEST";
+        }
+
+        @Override
+        public String getLocation() {
+            return "";
+        }
+
+        @Override
+        public String getVersion() {
+            return "1";
+        }
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package net.time4j.tz.model;
 
+import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.Month;
 import net.time4j.PlainDate;
@@ -79,6 +80,25 @@ public class RulesOfEuropeanUnionTest {
         assertThat(MODEL.hasNegativeDST(), is(false));
     }
 
+    @Test
+    public void transitionsInDistantYears() {
+        // 1500 and 1564 share the same slot in the cache for years outside of the hot window
+        for (int year : new int[] {1500, 1564, 1500, 2500, 2564, 1996, 1996}) {
+            PlainTimestamp springTime =
+                PlainTimestamp.of(year, 3, 1, 1, 0).with(PlainDate.WEEKDAY_IN_MONTH.setToLast(Weekday.SUNDAY));
+            Moment spring = springTime.atUTC();
+            assertThat(
+                MODEL.getStartTransition(spring).getPosixTime(),
+                is(spring.getPosixTime()));
+            assertThat(
+                MODEL.getStartTransition(spring.minus(1, TimeUnit.SECONDS)).getTotalOffset(),
+                is(3600));
+            assertThat(
+                MODEL.getValidOffsets(springTime.getCalendarDate(), springTime.getWallTime().plus(90, ClockUnit.MINUTES)),
+                is(Collections.<ZonalOffset>emptyList()));
+        }
+    }
+
     @Test
     public void getStdTransitions() {
         ZonalTransition spring1970 = // here proleptic (historically after 1981)
@@ -6,6 +6,7 @@ import net.time4j.tz.model.CompositeTransitionModelTest;
 import net.time4j.tz.model.CustomZoneTest;
 import net.time4j.tz.model.DaylightSavingRuleTest;
 import net.time4j.tz.model.EireZoneTest;
+import net.time4j.tz.model.MappedZoneRepositoryTest;
 import net.time4j.tz.model.RulesLikeBerlin1947Test;
 import net.time4j.tz.model.RulesLikeDhaka2009Test;
 import net.time4j.tz.model.RulesOfEuropeanUnionTest;
@@ -31,6 +32,7 @@ import org.junit.runners.Suite.SuiteClasses;
         EireZoneTest.class,
         JdkZoneProviderTest.class,
         LocalizedGMTOffsetTest.class,
+        MappedZoneRepositoryTest.class,
         NegativeDayOfMonthPatternTest.class,
         PredefinedIDTest.class,
         RulesLikeBerlin1947Test.class,
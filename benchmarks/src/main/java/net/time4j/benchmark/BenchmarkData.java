@@ -0,0 +1,169 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BenchmarkData.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.SplittableRandom;
+
+
+/**
+ * <p>Generates reproducible datasets shared by all benchmarks. </p>
+ *
+ * <p>All random values are derived from a fixed seed so that results of different releases
+ * can be compared with each other. </p>
+ *
+ * @author  Meno Hochschild
+ */
+final class BenchmarkData {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Count of prepared values per dataset (a power of two for cheap index masking).
+     */
+    static final int SIZE = 1 << 12;
+
+    /**
+     * Mask for cycling through the datasets.
+     */
+    static final int MASK = SIZE - 1;
+
+    /**
+     * Some zone identifiers with very different transition histories.
+     */
+    static final String[] ZONES = {
+        "Europe/Berlin", "America/New_York", "America/Sao_Paulo", "Asia/Kolkata", "Asia/Tehran",
+        "Australia/Lord_Howe", "Pacific/Apia", "Pacific/Chatham", "Africa/Casablanca", "UTC"
+    };
+
+    private static final long SEED = 20140101L;
+
+    // 1900-01-01T00Z and 2100-12-31T23:59:59Z as POSIX seconds
+    private static final long MIN_POSIX = -2208988800L;
+    private static final long MAX_POSIX = 4133980799L;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BenchmarkData() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields random POSIX seconds in the range 1900-2100. </p>
+     *
+     * @return  array of random POSIX seconds
+     */
+    static long[] posixSeconds() {
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] values = new long[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextLong(MIN_POSIX, MAX_POSIX + 1);
+        }
+
+        return values;
+
+    }
+
+    /**
+     * <p>Yields random moments in the range 1900-2100 (without leap seconds). </p>
+     *
+     * @return  array of random moments
+     */
+    static Moment[] moments() {
+
+        long[] posix = posixSeconds();
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        Moment[] values = new Moment[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = Moment.of(posix[i], random.nextInt(1_000_000_000), TimeScale.POSIX);
+        }
+
+        return values;
+
+    }
+
+    /**
+     * <p>Yields random calendar dates in the range 1900-2100. </p>
+     *
+     * @return  array of random dates
+     */
+    static PlainDate[] dates() {
+
+        Moment[] moments = moments();
+        PlainDate[] values = new PlainDate[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = moments[i].toZonalTimestamp(ZonalOffset.UTC).getCalendarDate();
+        }
+
+        return values;
+
+    }
+
+    /**
+     * <p>Yields random local timestamps in the range 1900-2100. </p>
+     *
+     * @return  array of random timestamps
+     */
+    static PlainTimestamp[] timestamps() {
+
+        Moment[] moments = moments();
+        PlainTimestamp[] values = new PlainTimestamp[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = moments[i].toZonalTimestamp(ZonalOffset.UTC);
+        }
+
+        return values;
+
+    }
+
+    /**
+     * <p>Yields random year-month-day-triples in the range 1900-2100. </p>
+     *
+     * @return  array of packed triples in the form {@code [year, month, day]}
+     */
+    static int[][] yearMonthDays() {
+
+        PlainDate[] dates = dates();
+        int[][] values = new int[SIZE][];
+
+        for (int i = 0; i < SIZE; i++) {
+            PlainDate date = dates[i];
+            values[i] = new int[] {date.getYear(), date.getMonth(), date.getDayOfMonth()};
+        }
+
+        return values;
+
+    }
+
+}
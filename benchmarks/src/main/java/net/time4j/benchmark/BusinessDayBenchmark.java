@@ -0,0 +1,120 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BusinessDayBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.benchmark;
+
+import net.time4j.IsoDateUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.BusinessCalendar;
+import net.time4j.range.HolidayModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BusinessDayBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PlainDate[] dates;
+    private IsoDateUnit plainUnit;
+    private IsoDateUnit indexedUnit;
+    private HolidayModel weekend;
+    private HolidayModel cachedWeekend;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        HolidayModel model = HolidayModel.ofSaturdayOrSunday();
+        BusinessCalendar calendar = model.indexed(1900, 2100);
+        this.dates = BenchmarkData.dates();
+        this.plainUnit = model.businessDays();
+        this.indexedUnit = calendar.businessDays();
+        this.weekend = HolidayModel.ofWeekend(Locale.ROOT);
+        this.cachedWeekend = this.weekend.cached(1900, 2100);
+
+    }
+
+    @Benchmark
+    public long betweenStepwise() {
+
+        int i = this.index++;
+        return this.dates[i & BenchmarkData.MASK].until(this.dates[(i + 1) & BenchmarkData.MASK], this.plainUnit);
+
+    }
+
+    @Benchmark
+    public long betweenIndexed() {
+
+        int i = this.index++;
+        return this.dates[i & BenchmarkData.MASK].until(this.dates[(i + 1) & BenchmarkData.MASK], this.indexedUnit);
+
+    }
+
+    @Benchmark
+    public PlainDate addStepwise() {
+
+        return this.dates[this.index++ & BenchmarkData.MASK].plus(250, this.plainUnit);
+
+    }
+
+    @Benchmark
+    public PlainDate addIndexed() {
+
+        return this.dates[this.index++ & BenchmarkData.MASK].plus(250, this.indexedUnit);
+
+    }
+
+    @Benchmark
+    public boolean testWeekend() {
+
+        return this.weekend.test(this.dates[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public boolean testCachedWeekend() {
+
+        return this.cachedWeekend.test(this.dates[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+}
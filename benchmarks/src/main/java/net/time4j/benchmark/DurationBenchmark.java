@@ -0,0 +1,119 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DurationBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.TimeMetric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures duration metrics between random pairs of dates and timestamps. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DurationBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final TimeMetric<CalendarUnit, Duration<CalendarUnit>> DAYS_METRIC =
+        Duration.in(CalendarUnit.DAYS);
+    private static final TimeMetric<IsoUnit, Duration<IsoUnit>> MIXED_METRIC =
+        Duration.in(CalendarUnit.YEARS, CalendarUnit.MONTHS, CalendarUnit.DAYS, ClockUnit.HOURS, ClockUnit.MINUTES);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PlainDate[] dates;
+    private PlainTimestamp[] timestamps;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.dates = BenchmarkData.dates();
+        this.timestamps = BenchmarkData.timestamps();
+
+    }
+
+    @Benchmark
+    public Duration<CalendarUnit> yearsMonthsDays() {
+
+        int i = this.index++;
+        return Duration.inYearsMonthsDays().between(
+            this.dates[i & BenchmarkData.MASK],
+            this.dates[(i + 1) & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public Duration<CalendarUnit> days() {
+
+        int i = this.index++;
+        return DAYS_METRIC.between(this.dates[i & BenchmarkData.MASK], this.dates[(i + 1) & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public Duration<ClockUnit> clockUnits() {
+
+        int i = this.index++;
+        return Duration.inClockUnits().between(
+            this.timestamps[i & BenchmarkData.MASK],
+            this.timestamps[(i + 1) & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> mixedUnits() {
+
+        int i = this.index++;
+        return MIXED_METRIC.between(
+            this.timestamps[i & BenchmarkData.MASK],
+            this.timestamps[(i + 1) & BenchmarkData.MASK]);
+
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatterBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.Iso8601Format;
+import net.time4j.format.expert.Iso8601Printer;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures printing and parsing via {@code ChronoFormatter} for ISO-8601, fixed-width numeric
+ * and localized text patterns. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FormatterBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final ChronoFormatter<PlainTimestamp> FIXED_WIDTH =
+        ChronoFormatter.ofTimestampPattern("uuuuMMddHHmmss", PatternType.CLDR, Locale.ROOT);
+    private static final ChronoFormatter<PlainDate> LOCALIZED =
+        ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+    private static final ZonalOffset OFFSET = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2);
+    private static final ChronoFormatter<Moment> ISO_OFFSET =
+        Iso8601Format.EXTENDED_DATE_TIME_OFFSET.withTimezone(OFFSET);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PlainDate[] dates;
+    private PlainTimestamp[] timestamps;
+    private Moment[] moments;
+    private String[] isoDates;
+    private String[] fixedWidthTexts;
+    private String[] localizedTexts;
+    private String[] isoOffsetTexts;
+    private final char[] isoBuffer = new char[Iso8601Printer.MAX_LENGTH];
+    private final ChronoFormatter.Session<Moment> isoSession = ISO_OFFSET.newSession();
+    private final ChronoFormatter.Session<PlainDate> localizedSession = LOCALIZED.newSession();
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.dates = BenchmarkData.dates();
+        this.timestamps = BenchmarkData.timestamps();
+        this.moments = BenchmarkData.moments();
+
+        int n = BenchmarkData.SIZE;
+        this.isoDates = new String[n];
+        this.fixedWidthTexts = new String[n];
+        this.localizedTexts = new String[n];
+        this.isoOffsetTexts = new String[n];
+
+        for (int i = 0; i < n; i++) {
+            this.isoDates[i] = Iso8601Format.EXTENDED_CALENDAR_DATE.print(this.dates[i]);
+            this.fixedWidthTexts[i] = FIXED_WIDTH.print(this.timestamps[i]);
+            this.localizedTexts[i] = LOCALIZED.print(this.dates[i]);
+            this.isoOffsetTexts[i] = ISO_OFFSET.print(this.moments[i]);
+        }
+
+    }
+
+    @Benchmark
+    public String printIsoDate() {
+
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.print(this.dates[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public String printIsoMoment() {
+
+        return ISO_OFFSET.print(this.moments[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public int printIsoMomentIntoArray() {
+
+        return Iso8601Printer.EXTENDED.print(this.moments[this.index++ & BenchmarkData.MASK], OFFSET, this.isoBuffer, 0);
+
+    }
+
+    @Benchmark
+    public String printFixedWidth() {
+
+        return FIXED_WIDTH.print(this.timestamps[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public String printLocalized() {
+
+        return LOCALIZED.print(this.dates[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public PlainDate parseIsoDate() throws ParseException {
+
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.parse(this.isoDates[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public Moment parseIsoMoment() throws ParseException {
+
+        return ISO_OFFSET.parse(this.isoOffsetTexts[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public Moment parseIsoMomentInSession() throws ParseException {
+
+        return this.isoSession.parse(this.isoOffsetTexts[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseFixedWidth() throws ParseException {
+
+        return FIXED_WIDTH.parse(this.fixedWidthTexts[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public PlainDate parseLocalized() throws ParseException {
+
+        return LOCALIZED.parse(this.localizedTexts[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public PlainDate parseLocalizedInSession() throws ParseException {
+
+        return this.localizedSession.parse(this.localizedTexts[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalCollectionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.ChronoInterval;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IntervalCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the incremental construction and subtraction of interval collections. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IntervalCollectionBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"10", "100", "1000"})
+    public int count;
+
+    private List<ChronoInterval<PlainDate>> intervals;
+    private IntervalCollection<PlainDate> collection;
+    private DateInterval removal;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        SplittableRandom random = new SplittableRandom(this.count);
+        PlainDate[] dates = BenchmarkData.dates();
+        this.intervals = new ArrayList<>(this.count);
+
+        for (int i = 0; i < this.count; i++) {
+            PlainDate start = dates[random.nextInt(BenchmarkData.SIZE)];
+            this.intervals.add(DateInterval.between(start, start.plus(random.nextInt(1, 60), CalendarUnit.DAYS)));
+        }
+
+        this.collection = IntervalCollection.onDateAxis().plus(this.intervals);
+        this.removal = DateInterval.between(PlainDate.of(1950, 1, 1), PlainDate.of(2050, 12, 31));
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> plusOneByOne() {
+
+        IntervalCollection<PlainDate> result = IntervalCollection.onDateAxis();
+
+        for (ChronoInterval<PlainDate> interval : this.intervals) {
+            result = result.plus(interval);
+        }
+
+        return result;
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> builderOneByOne() {
+
+        IntervalCollection.Builder<PlainDate> builder = IntervalCollection.onDateAxis().toBuilder();
+
+        for (ChronoInterval<PlainDate> interval : this.intervals) {
+            builder.add(interval);
+        }
+
+        return builder.build();
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> plusAll() {
+
+        return IntervalCollection.onDateAxis().plus(this.intervals);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> minus() {
+
+        return this.collection.minus(this.removal);
+
+    }
+
+}
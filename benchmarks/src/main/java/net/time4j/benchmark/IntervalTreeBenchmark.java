@@ -0,0 +1,118 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalTreeBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.DateInterval;
+import net.time4j.range.FlatIntervalTree;
+import net.time4j.range.IntervalTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures construction and stabbing queries of pointer-based and flat interval trees. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IntervalTreeBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"1000", "100000"})
+    public int count;
+
+    private List<DateInterval> intervals;
+    private IntervalTree<PlainDate, DateInterval> tree;
+    private FlatIntervalTree<PlainDate, DateInterval> flatTree;
+    private PlainDate[] dates;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        SplittableRandom random = new SplittableRandom(this.count);
+        this.dates = BenchmarkData.dates();
+        this.intervals = new ArrayList<>(this.count);
+
+        for (int i = 0; i < this.count; i++) {
+            PlainDate start = this.dates[random.nextInt(BenchmarkData.SIZE)];
+            this.intervals.add(DateInterval.between(start, start.plus(random.nextInt(1, 60), CalendarUnit.DAYS)));
+        }
+
+        this.tree = IntervalTree.onDateAxis(this.intervals);
+        this.flatTree = FlatIntervalTree.onDateAxis(this.intervals);
+
+    }
+
+    @Benchmark
+    public IntervalTree<PlainDate, DateInterval> buildTree() {
+
+        return IntervalTree.onDateAxis(this.intervals);
+
+    }
+
+    @Benchmark
+    public FlatIntervalTree<PlainDate, DateInterval> buildFlatTree() {
+
+        return FlatIntervalTree.onDateAxis(this.intervals);
+
+    }
+
+    @Benchmark
+    public List<DateInterval> stabTree() {
+
+        return this.tree.findIntersections(this.dates[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+    @Benchmark
+    public List<DateInterval> stabFlatTree() {
+
+        return this.flatTree.findIntersections(this.dates[this.index++ & BenchmarkData.MASK]);
+
+    }
+
+}
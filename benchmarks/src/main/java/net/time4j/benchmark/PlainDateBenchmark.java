@@ -0,0 +1,113 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2026 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PlainDateBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.PlainDate;
+import net.time4j.Weekmodel;
+import net.time4j.engine.EpochDays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the construction of calendar dates via {@code PlainDate.of(...)} and the
+ * access to their elements. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PlainDateBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private int[][] ymd;
+    private long[] epochDays;
+    private PlainDate[] dates;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.ymd = BenchmarkData.yearMonthDays();
+        this.dates = BenchmarkData.dates();
+        this.epochDays = new long[this.dates.length];
+
+        for (int i = 0; i < this.dates.length; i++) {
+            this.epochDays[i] = this.dates[i].get(EpochDays.UTC).longValue();
+        }
+
+    }
+
+    @Benchmark
+    public PlainDate ofYearMonthDay() {
+
+        int[] values = this.ymd[this.index++ & BenchmarkData.MASK];
+        return PlainDate.of(values[0], values[1], values[2]);
+
+    }
+
+    @Benchmark
+    public PlainDate ofEpochDays() {
+
+        return PlainDate.of(this.epochDays[this.index++ & BenchmarkData.MASK], EpochDays.UTC);
+
+    }
+
+    @Benchmark
+    public int getIntDayOfYear() {
+
+        return this.dates[this.index++ & BenchmarkData.MASK].getInt(PlainDate.DAY_OF_YEAR);
+
+    }
+
+    @Benchmark
+    public Integer getMonthAsNumber() {
+
+        return this.dates[this.index++ & BenchmarkData.MASK].get(PlainDate.MONTH_AS_NUMBER);
+
+    }
+
+    @Benchmark
+    public Integer getWeekOfYear() {
+
+        return this.dates[this.index++ & BenchmarkData.MASK].get(Weekmodel.ISO.weekOfYear());
+
+    }
+
+}